@@ -3,12 +3,18 @@ package org.sejongisc.backend.admin.controller;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.sejongisc.backend.betting.dto.BetSettlementFailureResponse;
+import org.sejongisc.backend.betting.dto.BetSettlementSummary;
 import org.sejongisc.backend.betting.entity.Scope;
+import org.sejongisc.backend.betting.service.BetRoundSettlementService;
 import org.sejongisc.backend.betting.service.BettingService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.UUID;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/admin/bet-rounds")
@@ -19,6 +25,7 @@ import org.springframework.web.bind.annotation.*;
 public class AdminBettingController {
 
     private final BettingService bettingService;
+    private final BetRoundSettlementService betRoundSettlementService;
 
     @Operation(
         summary = "일일 베팅 라운드 수동 오픈",
@@ -121,18 +128,65 @@ public class AdminBettingController {
             - 현재 시각 기준으로 이미 닫혀 있고(`status = false`), 아직 정산되지 않았으며(`settleAt = null`), `lockAt <= now` 인 라운드를 정산합니다.
             - 최신 시세 데이터를 조회해 상승/하락/보합을 판정하고, 각 사용자 베팅 결과를 `WIN`/`LOSE`/`DRAW`로 처리합니다.
             - 무료 베팅 보상, 유료 베팅 보상, 보합 환불, 잔여 포인트 정리까지 함께 수행합니다.
-            - 성공 시 문자열 `"정산"`을 반환합니다.
+            - 라운드마다 별도 트랜잭션으로 병렬 정산하므로, 한 라운드가 실패해도 나머지 라운드의 정산은 유지됩니다.
+            - 실패한 라운드는 실패 횟수/사유가 기록되고 주기적으로 다시 정산됩니다. (최대 재시도 횟수 초과 시 단일 라운드 정산 API 로 수동 처리)
+
+            ## 반환값 (BetSettlementSummary)
+            - `settledRoundIds`: 정산 완료된 라운드 ID
+            - `failures`: 정산 실패한 라운드 ID와 사유
 
             ## 프론트 참고
             - 이 API를 호출해야 사용자 포인트와 베팅 결과가 실제 반영됩니다.
-            - 정산 대상이 없어도 에러 없이 성공 응답이 내려올 수 있습니다.
-            - 특정 라운드의 최신 시세 데이터가 없으면 그 라운드는 건너뛰고, 나머지 라운드만 계속 정산합니다.
+            - 정산 대상이 없어도 에러 없이 빈 결과가 내려옵니다.
+            - 최신 시세 데이터가 없는 라운드는 `PRICE_DATA_NOT_FOUND` 로 실패 처리됩니다.
             """
     )
     @PostMapping("/settle")
     @PreAuthorize("hasAnyRole('VICE_PRESIDENT', 'PRESIDENT', 'SYSTEM_ADMIN')")
-    public ResponseEntity<String> settleRounds() {
-        bettingService.settleUserBets();
-        return ResponseEntity.ok("정산");
+    public ResponseEntity<BetSettlementSummary> settleRounds() {
+        return ResponseEntity.ok(bettingService.settleUserBets());
+    }
+
+    @Operation(
+        summary = "단일 라운드 정산 실행",
+        description = """
+            ## 인증/권한
+            - 관리자 전용 API
+
+            ## 요청 파라미터
+            - `roundId` (path): 정산할 라운드 ID
+
+            ## 동작 설명
+            - 마감된 미정산 라운드 하나를 별도 트랜잭션으로 정산합니다.
+            - 자동 재시도 횟수를 초과한 실패 라운드도 정산할 수 있습니다.
+            - 실패 시 실패 횟수/사유가 기록되고 `failures` 에 사유가 담겨 반환됩니다.
+
+            ## 에러코드
+            - `BET_ROUND_NOT_FOUND`: 존재하지 않는 라운드
+            - `BET_ROUND_NOT_CLOSED`: 아직 마감되지 않은 라운드
+            - `BET_ROUND_ALREADY_SETTLED`: 이미 정산된 라운드
+            """
+    )
+    @PostMapping("/{roundId}/settle")
+    @PreAuthorize("hasAnyRole('VICE_PRESIDENT', 'PRESIDENT', 'SYSTEM_ADMIN')")
+    public ResponseEntity<BetSettlementSummary> settleRound(@PathVariable UUID roundId) {
+        return ResponseEntity.ok(betRoundSettlementService.settleRound(roundId));
+    }
+
+    @Operation(
+        summary = "정산 실패 라운드 조회",
+        description = """
+            ## 인증/권한
+            - 관리자 전용 API
+
+            ## 동작 설명
+            - 정산에 한 번 이상 실패했고 아직 정산되지 않은 라운드를 최근 실패 순으로 조회합니다.
+            - 실패 횟수(`settleAttempts`), 마지막 실패 사유(`settleError`)와 시각(`settleFailedAt`)을 함께 반환합니다.
+            """
+    )
+    @GetMapping("/settle-failures")
+    @PreAuthorize("hasAnyRole('VICE_PRESIDENT', 'PRESIDENT', 'SYSTEM_ADMIN')")
+    public ResponseEntity<List<BetSettlementFailureResponse>> getSettlementFailures() {
+        return ResponseEntity.ok(betRoundSettlementService.getFailures());
     }
 }
@@ -1,4 +1,60 @@
 package org.sejongisc.backend.admin.controller;
 
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.sejongisc.backend.point.dto.LedgerDriftResponse;
+import org.sejongisc.backend.point.dto.LedgerReconciliationSummary;
+import org.sejongisc.backend.point.service.LedgerReconciliationService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/points")
+@Tag(name = "00. 관리자 포인트 관리 API", description = "포인트 원장 대사 및 잔액 불일치 조회 API")
 public class AdminPointController {
+
+  private final LedgerReconciliationService ledgerReconciliationService;
+
+  @Operation(
+      summary = "포인트 원장 대사 실행",
+      description = """
+          ## 인증/권한
+          - 관리자 전용 API
+
+          ## 동작 설명
+          - 모든 포인트 계정의 잔액(`balance`)이 원장 분개 합계와 같은지 검증합니다.
+          - 계정별 마지막 체크포인트 이후 분개만 합산하며, 검증 후 체크포인트를 전진시킵니다.
+          - 매일 05:00 에 자동 실행되며, 이미 실행 중이면 409 를 반환합니다.
+          - 불일치가 있으면 관리자 대시보드 SSE 채널로 `ledgerDrift` 이벤트가 전송됩니다.
+
+          ## 반환값 (LedgerReconciliationSummary)
+          - `checkedAccounts`: 대사한 계정 수
+          - `failedAccounts`: 오류로 대사하지 못한 계정 수 (다음 실행에서 다시 대사)
+          - `totalDrift`: 불일치 금액 절댓값 합계
+          - `drifts`: 불일치 계정 ID, 차이(잔액 - 원장 합계), 확인 시각
+          """
+  )
+  @PostMapping("/reconcile")
+  @PreAuthorize("hasAnyRole('VICE_PRESIDENT', 'PRESIDENT', 'SYSTEM_ADMIN')")
+  public ResponseEntity<LedgerReconciliationSummary> reconcile() {
+    return ResponseEntity.ok(ledgerReconciliationService.reconcile());
+  }
+
+  @Operation(
+      summary = "잔액 불일치 계정 조회",
+      description = "마지막 원장 대사에서 잔액이 원장 분개 합계와 달랐던 계정을 최근 확인 순으로 반환합니다."
+  )
+  @GetMapping("/drifts")
+  @PreAuthorize("hasAnyRole('VICE_PRESIDENT', 'PRESIDENT', 'SYSTEM_ADMIN')")
+  public ResponseEntity<List<LedgerDriftResponse>> getDrifts() {
+    return ResponseEntity.ok(ledgerReconciliationService.getDrifts());
+  }
 }
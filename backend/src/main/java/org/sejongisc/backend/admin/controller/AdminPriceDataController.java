@@ -0,0 +1,68 @@
+package org.sejongisc.backend.admin.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+import lombok.RequiredArgsConstructor;
+import org.sejongisc.backend.stock.dto.PriceIngestionResponse;
+import org.sejongisc.backend.stock.service.PriceDataIngestionService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/price-data")
+@Tag(
+        name = "00. 관리자 시세 데이터 관리 API",
+        description = "시세 데이터 대량 적재 API 제공"
+)
+public class AdminPriceDataController {
+
+    private final PriceDataIngestionService priceDataIngestionService;
+
+    @Operation(
+        summary = "시세 CSV 대량 적재",
+        description = """
+            ## 인증/권한
+            - 관리자 전용 API
+
+            ## 요청 바디 (`text/csv`)
+            - 첫 줄은 헤더: `ticker,date,open,high,low,close,volume,adjusted_close`
+            - `date` 는 yyyy-MM-dd, 값이 없는 컬럼은 빈 칸으로 둡니다.
+            - 시세 내보내기(`/api/price-data/export`) CSV 를 그대로 업로드할 수 있습니다.
+            - `Content-Encoding: gzip` 으로 압축해 보낼 수 있습니다.
+
+            ## 동작 설명
+            - 요청 본문을 PostgreSQL `COPY` 로 임시 테이블에 스트리밍 적재한 뒤, `price_data` 에 upsert 합니다.
+            - 같은 (ticker, date)가 여러 번 포함되면 마지막 행이 반영됩니다.
+            - 하나의 트랜잭션으로 처리되며, 한 행이라도 형식이 잘못되면 전체가 반영되지 않습니다.
+            - 적재 후 해당 티커의 최신 시세 캐시를 무효화합니다.
+
+            ## 반환값 (`PriceIngestionResponse`)
+            - `copiedRows`: COPY 된 행 수
+            - `upsertedRows`: price_data 에 반영된 행 수 (중복 제외)
+            - `tickers`: 적재된 티커 목록
+            - `elapsedMs`, `rowsPerSecond`: 소요 시간 및 처리량
+
+            ## 에러코드
+            - **`INVALID_PRICE_INGEST_DATA`**: CSV 형식이 올바르지 않습니다.
+            """
+    )
+    @PostMapping(value = "/ingest", consumes = "text/csv")
+    @PreAuthorize("hasAnyRole('VICE_PRESIDENT', 'PRESIDENT', 'SYSTEM_ADMIN')")
+    public ResponseEntity<PriceIngestionResponse> ingest(HttpServletRequest request) throws IOException {
+        String contentEncoding = request.getHeader(HttpHeaders.CONTENT_ENCODING);
+        InputStream body = contentEncoding != null && contentEncoding.toLowerCase().contains("gzip")
+            ? new GZIPInputStream(request.getInputStream(), 64 * 1024)
+            : request.getInputStream();
+
+        try (body) {
+            return ResponseEntity.ok(priceDataIngestionService.ingest(body));
+        }
+    }
+}
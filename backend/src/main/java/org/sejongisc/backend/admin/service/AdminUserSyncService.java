@@ -7,6 +7,7 @@ import org.sejongisc.backend.admin.dto.UserExcelRow;
 import org.sejongisc.backend.admin.repository.AdminUserRepository;
 import org.sejongisc.backend.common.annotation.OptimisticRetry;
 import org.sejongisc.backend.point.dto.AccountEntry;
+import org.sejongisc.backend.point.dto.PointTransactionRequest;
 import org.sejongisc.backend.point.entity.Account;
 import org.sejongisc.backend.point.entity.AccountName;
 import org.sejongisc.backend.point.entity.TransactionReason;
@@ -18,8 +19,10 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 @Slf4j
 @Service
@@ -31,14 +34,16 @@ public class AdminUserSyncService {
     private final PointLedgerService pointLedgerService;
     private final AdminUserRepository adminUserRepository;
 
+    private static final long SIGNUP_REWARD_POINT = 100L;
+
     /**
      * 엑셀로부터 추출된 사용자 데이터를 DB와 동기화
      */
     @Transactional
     @OptimisticRetry
     public ExcelSyncResponse syncMemberData(List<UserExcelRow> excelRows) {
-        int createdCount = 0;
         int updatedCount = 0;
+        List<UUID> newUserIds = new ArrayList<>();
 
         // 기존 활동 인원 일괄 비활성화 (SYSTEM_ADMIN 제외)
         adminUserRepository.deactivateActiveUsers(
@@ -59,25 +64,40 @@ public class AdminUserSyncService {
             User savedUser = userRepository.save(user);
 
             if (isNew) {
-                createdCount++;
-                // 계정 생성 및 가입 포인트 지급
-                Account userAccount = accountService.createUserAccount(savedUser.getUserId());
-                pointLedgerService.processTransaction(
-                    TransactionReason.SIGNUP_REWARD,
-                    savedUser.getUserId(),
-                    AccountEntry.credit(accountService.getAccountByName(AccountName.SYSTEM_ISSUANCE), 100L),
-                    AccountEntry.debit(userAccount, 100L)
-                );
-                log.info("신규 사용자 자동 가입 및 포인트 지급 완료: {}", user.getStudentId());
+                newUserIds.add(savedUser.getUserId());
+                log.info("신규 사용자 자동 가입: {}", user.getStudentId());
             } else {
                 updatedCount++;
             }
         }
 
+        // 신규 사용자 계정 생성 및 가입 포인트 일괄 지급
+        grantSignupRewards(newUserIds);
+        int createdCount = newUserIds.size();
+
         log.info("엑셀 사용자 데이터 동기화 완료: 신규 등록={}, 갱신={}", createdCount, updatedCount);
         return new ExcelSyncResponse(createdCount, updatedCount);
     }
 
+    /**
+     * 신규 사용자 계정을 한 번에 생성하고 가입 포인트를 하나의 배치로 지급
+     */
+    private void grantSignupRewards(List<UUID> newUserIds) {
+        if (newUserIds.isEmpty()) {
+            return;
+        }
+        Account systemAccount = accountService.getAccountByName(AccountName.SYSTEM_ISSUANCE);
+        List<PointTransactionRequest> rewards = accountService.createUserAccounts(newUserIds).stream()
+            .map(userAccount -> PointTransactionRequest.of(
+                TransactionReason.SIGNUP_REWARD,
+                userAccount.getOwnerId(),
+                AccountEntry.credit(systemAccount, SIGNUP_REWARD_POINT),
+                AccountEntry.debit(userAccount, SIGNUP_REWARD_POINT)
+            ))
+            .toList();
+        pointLedgerService.processTransactions(rewards);
+    }
+
     /**
      * 엑셀 행 데이터를 유저 엔티티 필드에 매핑
      */
@@ -0,0 +1,60 @@
+package org.sejongisc.backend.backtest.service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.sejongisc.backend.common.exception.CustomException;
+import org.sejongisc.backend.common.exception.ErrorCode;
+import org.sejongisc.backend.stock.entity.PriceData;
+import org.sejongisc.backend.stock.infrastructure.ColumnarPriceStore;
+import org.sejongisc.backend.stock.infrastructure.PriceSlice;
+import org.sejongisc.backend.stock.repository.PriceDataRepository;
+import org.sejongisc.backend.stock.service.LatestPriceService;
+import org.springframework.stereotype.Component;
+import org.ta4j.core.BarSeries;
+
+/**
+ * 백테스트용 가격 시계열 로더
+ * - 로컬 컬럼형 스토어가 요청 구간을 모두 담고 있으면 매핑된 파일에서 바로 BarSeries 를 생성합니다.
+ * - 스토어가 비활성화되었거나 아직 동기화되지 않은 구간이면 price_data 를 조회합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BacktestPriceLoader {
+
+    private final ColumnarPriceStore columnarPriceStore;
+    private final PriceDataRepository priceDataRepository;
+    private final LatestPriceService latestPriceService;
+    private final Ta4jHelperService ta4jHelper;
+
+    public BarSeries loadBarSeries(String ticker, LocalDate startDate, LocalDate endDate) {
+        Optional<PriceSlice> slice = findInStore(ticker, startDate, endDate);
+        if (slice.isPresent()) {
+            log.debug("컬럼형 스토어에서 가격 데이터 로드. ticker={}, 데이터 개수: {}", ticker, slice.get().size());
+            return ta4jHelper.createBarSeries(slice.get());
+        }
+
+        List<PriceData> priceDataList = priceDataRepository.findByTickerAndDateBetweenOrderByDateAsc(
+            ticker, startDate, endDate);
+        log.debug("가격 데이터 로드 완료. 데이터 개수: {}", priceDataList.size());
+        if (priceDataList.isEmpty()) {
+            throw new CustomException(ErrorCode.PRICE_DATA_NOT_FOUND);
+        }
+        return ta4jHelper.createBarSeries(priceDataList);
+    }
+
+    private Optional<PriceSlice> findInStore(String ticker, LocalDate startDate, LocalDate endDate) {
+        if (!columnarPriceStore.isEnabled()) {
+            return Optional.empty();
+        }
+        // 종료일이 최신 적재일 이후라면 DB 에도 그 이후 데이터는 없으므로 최신 적재일까지만 확인
+        LocalDate effectiveEnd = latestPriceService.getLatestIngestedDate()
+            .filter(latest -> latest.isBefore(endDate))
+            .orElse(endDate);
+        return columnarPriceStore.slice(ticker, startDate, effectiveEnd)
+            .filter(s -> !s.isEmpty());
+    }
+}
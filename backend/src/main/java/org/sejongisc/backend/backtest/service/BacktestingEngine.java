@@ -11,10 +11,6 @@ import org.sejongisc.backend.backtest.entity.BacktestRunMetrics;
 import org.sejongisc.backend.backtest.entity.BacktestStatus;
 import org.sejongisc.backend.backtest.repository.BacktestRunMetricsRepository;
 import org.sejongisc.backend.backtest.repository.BacktestRunRepository;
-import org.sejongisc.backend.common.exception.CustomException;
-import org.sejongisc.backend.common.exception.ErrorCode;
-import org.sejongisc.backend.stock.entity.PriceData;
-import org.sejongisc.backend.stock.repository.PriceDataRepository;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -40,7 +36,7 @@ public class BacktestingEngine {
 
     private final BacktestRunRepository backtestRunRepository;
     private final BacktestRunMetricsRepository backtestRunMetricsRepository;
-    private final PriceDataRepository priceDataRepository;
+    private final BacktestPriceLoader backtestPriceLoader;
     private final Ta4jHelperService ta4jHelper;
     private final ObjectMapper objectMapper;
 
@@ -63,16 +59,9 @@ public class BacktestingEngine {
             String ticker = strategyDto.getTicker();
             log.debug("백테스팅 대상 티커: {}", ticker);
 
-            // 가격 데이터 로드
-            List<PriceData> priceDataList = priceDataRepository.findByTickerAndDateBetweenOrderByDateAsc(
+            // 가격 데이터 로드 및 Ta4j BarSeries 생성
+            BarSeries series = backtestPriceLoader.loadBarSeries(
                 ticker, backtestRun.getStartDate(), backtestRun.getEndDate());
-            log.debug("가격 데이터 로드 완료. 데이터 개수: {}", priceDataList.size());
-            if (priceDataList.isEmpty()) {
-                throw new CustomException(ErrorCode.PRICE_DATA_NOT_FOUND);
-            }
-
-            // Ta4j BarSeries 생성
-            BarSeries series = ta4jHelper.createBarSeries(priceDataList);
             Map<String, Indicator<Num>> indicatorCache = new HashMap<>();
             log.debug("BarSeries 생성 완료. 바 개수: {}", series.getBarCount());
 
@@ -6,6 +6,7 @@ import org.sejongisc.backend.backtest.dto.StrategyOperand;
 import org.sejongisc.backend.common.exception.CustomException;
 import org.sejongisc.backend.common.exception.ErrorCode;
 import org.sejongisc.backend.stock.entity.PriceData;
+import org.sejongisc.backend.stock.infrastructure.PriceSlice;
 import org.springframework.stereotype.Service;
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.BaseBarSeries;
@@ -38,14 +39,41 @@ import java.util.stream.Collectors;
 public class Ta4jHelperService {
     /**
      * PriceData 리스트를 ta4j의 BarSeries로 변환합니다.
+     * 컬럼형 스토어 경로와 같은 시계열이 되도록 OHLC 중 하나라도 비어 있는 일자는 건너뛰고, 거래량이 없으면 0으로 둡니다.
      */
     public BarSeries createBarSeries(List<PriceData> priceDataList) {
         // BarSeries 이름에 Ticker 추가
         BarSeries series = new BaseBarSeries(priceDataList.getFirst().getTicker());
         for (PriceData p : priceDataList) {
+            if (p.getOpen() == null || p.getHigh() == null || p.getLow() == null || p.getClosePrice() == null) {
+                continue;
+            }
             series.addBar(
                 p.getDate().atStartOfDay(ZoneId.of("Asia/Seoul")),      // 시작 시간을 한국 시간대로 설정
-                p.getOpen(), p.getHigh(), p.getLow(), p.getClosePrice(), p.getVolume()
+                p.getOpen(), p.getHigh(), p.getLow(), p.getClosePrice(), p.getVolume() == null ? 0L : p.getVolume()
+            );
+        }
+        return series;
+    }
+
+    /**
+     * 컬럼형 가격 스토어 구간(PriceSlice)을 BarSeries로 변환합니다.
+     * PriceData 객체를 만들지 않고 매핑된 파일에서 바로 읽으며, 가격이 비어 있는 일자는 건너뜁니다.
+     */
+    public BarSeries createBarSeries(PriceSlice slice) {
+        BarSeries series = new BaseBarSeries(slice.getTicker());
+        ZoneId zone = ZoneId.of("Asia/Seoul");
+        for (int i = 0; i < slice.size(); i++) {
+            double open = slice.open(i);
+            double high = slice.high(i);
+            double low = slice.low(i);
+            double close = slice.close(i);
+            if (Double.isNaN(open) || Double.isNaN(high) || Double.isNaN(low) || Double.isNaN(close)) {
+                continue;
+            }
+            series.addBar(
+                slice.date(i).atStartOfDay(zone),
+                open, high, low, close, Math.max(slice.volume(i), 0L)
             );
         }
         return series;
@@ -6,16 +6,27 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.sejongisc.backend.betting.dto.BetHistoryPage;
+import org.sejongisc.backend.betting.dto.BetRoundHistoryResponse;
 import org.sejongisc.backend.betting.dto.BetRoundResponse;
+import org.sejongisc.backend.betting.dto.LeaderboardEntry;
+import org.sejongisc.backend.betting.dto.LeaderboardPeriod;
+import org.sejongisc.backend.betting.dto.MyLeaderboardRankResponse;
 import org.sejongisc.backend.betting.dto.UserBetRequest;
-import org.sejongisc.backend.betting.entity.BetRound;
+import org.sejongisc.backend.betting.entity.BetStatus;
 import org.sejongisc.backend.betting.entity.Scope;
+import org.sejongisc.backend.betting.service.BetHistoryService;
+import org.sejongisc.backend.betting.service.BetLeaderboardService;
+import org.sejongisc.backend.betting.service.BetOddsStreamService;
 import org.sejongisc.backend.betting.service.BettingService;
+import org.sejongisc.backend.common.annotation.Idempotent;
 import org.sejongisc.backend.common.auth.dto.CustomUserDetails;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import org.sejongisc.backend.betting.dto.UserBetResponse;
 
 import java.util.List;
@@ -30,6 +41,9 @@ import java.util.UUID;
 public class BettingController {
 
     private final BettingService bettingService;
+    private final BetOddsStreamService betOddsStreamService;
+    private final BetLeaderboardService betLeaderboardService;
+    private final BetHistoryService betHistoryService;
 
     @Operation(
             summary = "오늘의 베팅 라운드 조회",
@@ -59,20 +73,49 @@ public class BettingController {
     }
 
 
+    @Operation(
+            summary = "라운드 실시간 배당 구독 (SSE)",
+            description = """
+            라운드의 상승/하락 참여 수, 포인트 합, 예상 배율을 SSE(`odds` 이벤트)로 실시간 수신합니다.
+            연결 즉시 현재 배당을 한 번 보내고, 이후 베팅/취소가 있을 때마다 짧은 주기(기본 300ms)로 모아 전송합니다.
+            라운드가 마감되면 `open = false` 인 마지막 이벤트를 보내고 연결을 종료합니다.
+            연결 유지를 위해 15초마다 `ping` 이벤트가 전송됩니다.
+            """,
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "구독 성공"),
+                    @ApiResponse(responseCode = "404", description = "존재하지 않는 라운드")
+            }
+    )
+    @GetMapping(value = "/bet-rounds/{roundId}/odds/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamOdds(
+            @Parameter(description = "라운드 ID", example = "3f57bcdc-7c4a-49a1-a1cb-0c2f8a5ef9ab")
+            @PathVariable UUID roundId) {
+        return ResponseEntity.ok(betOddsStreamService.subscribe(roundId));
+    }
+
     @Operation(
             summary = "전체 베팅 라운드 이력 조회",
             description = """
-            지금까지 생성된 모든 베팅 라운드 이력을 최신 정산일(`settleAt`) 기준으로 내림차순 정렬하여 반환합니다.
-            (필요 시 추후 정렬·검색 기능이 추가될 수 있습니다.)
+            베팅 라운드 이력을 정산 시각(`settleAt`, id) 내림차순으로 페이지 단위 조회합니다.
+            첫 페이지(`cursor` 미제공)에는 아직 정산되지 않은 라운드(진행 중/정산 대기)가 앞에 함께 포함되며,
+            이 라운드들은 매번 실시간으로 조회합니다. 정산된 라운드 페이지는 서버에 캐시됩니다.
+
+            요청 파라미터:
+            - `cursor` (optional): 이전 응답의 `nextCursor`. 미제공 시 첫 페이지
+            - `size` (optional, 기본 20, 최대 50): 정산된 라운드 페이지 크기
             """,
             responses = {
-                    @ApiResponse(responseCode = "200", description = "모든 베팅 라운드 조회 성공")
+                    @ApiResponse(responseCode = "200", description = "베팅 라운드 이력 조회 성공"),
+                    @ApiResponse(responseCode = "400", description = "유효하지 않은 커서")
             }
     )
     @GetMapping("/bet-rounds/history")
-    public ResponseEntity<List<BetRound>> getAllBetRounds() {
-        List<BetRound> betRounds = bettingService.getAllBetRounds();
-        return ResponseEntity.ok(betRounds);
+    public ResponseEntity<BetHistoryPage<BetRoundHistoryResponse>> getAllBetRounds(
+            @Parameter(description = "이전 응답의 nextCursor")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 50)", example = "20")
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(betHistoryService.getRoundHistory(cursor, size));
     }
 
     @Operation(
@@ -81,14 +124,19 @@ public class BettingController {
             현재 로그인된 사용자가 선택한 옵션(상승/하락 등)에 대해 베팅을 등록합니다.
             무료 베팅(`isFree = true`)인 경우 포인트 차감이 없으며,
             유료 베팅(`isFree = false`)일 경우 포인트가 차감되어 `PointHistory`에 기록됩니다.
+
+            `Idempotency-Key` 헤더(선택, 영문/숫자/`-`/`_` 64자 이내)를 보내면 10분 동안 같은 키의 재요청은
+            다시 처리하지 않고 처음 응답을 그대로 반환합니다. (`Idempotent-Replayed: true` 헤더 포함)
             """,
             responses = {
                     @ApiResponse(responseCode = "200", description = "베팅 등록 성공"),
                     @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
                     @ApiResponse(responseCode = "404", description = "존재하지 않는 라운드"),
-                    @ApiResponse(responseCode = "409", description = "중복 베팅, 베팅 시간 아님, 또는 포인트 부족")
+                    @ApiResponse(responseCode = "409", description = "중복 베팅, 베팅 시간 아님, 포인트 부족, 또는 같은 키의 요청이 처리 중"),
+                    @ApiResponse(responseCode = "422", description = "다른 요청에 사용된 Idempotency-Key")
             }
     )
+    @Idempotent
     @PostMapping("/user-bets")
     public ResponseEntity<UserBetResponse> postUserBet(
             @Parameter(hidden = true)
@@ -105,13 +153,17 @@ public class BettingController {
             자신이 등록한 베팅을 취소합니다.
             단, 해당 라운드의 `lockAt` 시간 이전까지만 취소 가능하며,
             포인트가 사용된 베팅의 경우 취소 시 포인트가 복원됩니다.
+
+            `Idempotency-Key` 헤더를 보내면 같은 키의 재요청은 다시 처리하지 않고 204 를 그대로 반환합니다.
             """,
             responses = {
                     @ApiResponse(responseCode = "204", description = "베팅 취소 성공"),
                     @ApiResponse(responseCode = "404", description = "해당 베팅이 존재하지 않음"),
-                    @ApiResponse(responseCode = "409", description = "라운드가 이미 마감되어 취소 불가")
+                    @ApiResponse(responseCode = "409", description = "라운드가 이미 마감되어 취소 불가, 또는 같은 키의 요청이 처리 중"),
+                    @ApiResponse(responseCode = "422", description = "다른 요청에 사용된 Idempotency-Key")
             }
     )
+    @Idempotent
     @DeleteMapping("/user-bets/{userBetId}")
     public ResponseEntity<Void> cancelUserBet(
             @Parameter(hidden = true)
@@ -126,19 +178,79 @@ public class BettingController {
     @Operation(
             summary = "내 베팅 이력 조회",
             description = """
-            로그인된 사용자의 모든 베팅 이력을 최신 라운드 순으로 조회합니다.
-            추후 특정 기간, 상태(진행중/정산완료) 등으로 필터링 기능이 추가될 수 있습니다.
+            로그인된 사용자의 베팅 이력을 라운드 정산 시각 내림차순으로 페이지 단위 조회합니다.
+            첫 페이지(`cursor` 미제공)에는 아직 정산되지 않은 라운드의 베팅이 앞에 함께 포함됩니다.
+            정산된 베팅은 변경되지 않으므로 서버에 캐시되며, 새 라운드 정산 시 첫 페이지만 갱신됩니다.
+
+            요청 파라미터:
+            - `scope` (optional): 라운드 주기 (`DAILY`, `WEEKLY`). 미제공 시 전체
+            - `status` (optional): 베팅 상태 (`ACTIVE`, `CLOSED`, `DELETED`, 쉼표로 여러 개). 미제공 시 전체
+            - `cursor` (optional): 이전 응답의 `nextCursor`. 미제공 시 첫 페이지 (같은 `scope`/`status`로 이어서 요청)
+            - `size` (optional, 기본 20, 최대 50): 정산된 베팅 페이지 크기
             """,
             responses = {
-                    @ApiResponse(responseCode = "200", description = "조회 성공")
+                    @ApiResponse(responseCode = "200", description = "조회 성공"),
+                    @ApiResponse(responseCode = "400", description = "유효하지 않은 커서")
             }
     )
     @GetMapping("/user-bets/history")
-    public ResponseEntity<List<UserBetResponse>> getAllUserBets(
+    public ResponseEntity<BetHistoryPage<UserBetResponse>> getAllUserBets(
             @Parameter(hidden = true)
-            @AuthenticationPrincipal CustomUserDetails principal) {
+            @AuthenticationPrincipal CustomUserDetails principal,
+            @Parameter(description = "라운드 주기", example = "DAILY")
+            @RequestParam(required = false) Scope scope,
+            @Parameter(description = "베팅 상태 (쉼표로 여러 개)", example = "ACTIVE,CLOSED")
+            @RequestParam(required = false) List<BetStatus> status,
+            @Parameter(description = "이전 응답의 nextCursor")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 50)", example = "20")
+            @RequestParam(defaultValue = "20") int size) {
+
+        return ResponseEntity.ok(betHistoryService.getMyBetHistory(principal.getUserId(), scope, status, cursor, size));
+    }
+
+    @Operation(
+            summary = "베팅 리더보드 조회",
+            description = """
+            정산된 베팅의 순수익(보상/환불 포인트 - 베팅 포인트) 기준 상위 사용자를 조회합니다.
+            기간은 라운드 정산일 기준이며, `ALL`(전체), `MONTHLY`(이번 달), `WEEKLY`(이번 주, 월요일 시작) 중 선택합니다.
+            본인 항목은 `me = true` 로 표시됩니다.
+            """,
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "조회 성공"),
+                    @ApiResponse(responseCode = "400", description = "유효하지 않은 리더보드 기간")
+            }
+    )
+    @GetMapping("/bet-leaderboard")
+    public ResponseEntity<List<LeaderboardEntry>> getLeaderboard(
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal CustomUserDetails principal,
+            @Parameter(description = "기간: ALL, MONTHLY, WEEKLY", example = "WEEKLY")
+            @RequestParam(defaultValue = "ALL") String period,
+            @Parameter(description = "조회 인원 (최대 100)", example = "20")
+            @RequestParam(defaultValue = "20") int size) {
+
+        return ResponseEntity.ok(betLeaderboardService.getTop(LeaderboardPeriod.from(period), size, principal.getUserId()));
+    }
+
+    @Operation(
+            summary = "내 베팅 리더보드 순위 조회",
+            description = """
+            로그인된 사용자의 리더보드 순위와 순수익을 조회합니다.
+            해당 기간에 정산된 베팅이 없으면 `rank`, `netPoints` 는 null 입니다.
+            """,
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "조회 성공"),
+                    @ApiResponse(responseCode = "400", description = "유효하지 않은 리더보드 기간")
+            }
+    )
+    @GetMapping("/bet-leaderboard/me")
+    public ResponseEntity<MyLeaderboardRankResponse> getMyLeaderboardRank(
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal CustomUserDetails principal,
+            @Parameter(description = "기간: ALL, MONTHLY, WEEKLY", example = "WEEKLY")
+            @RequestParam(defaultValue = "ALL") String period) {
 
-        List<UserBetResponse> userBets = bettingService.getAllMyBets(principal.getUserId());
-        return ResponseEntity.ok(userBets);
+        return ResponseEntity.ok(betLeaderboardService.getMyRank(LeaderboardPeriod.from(period), principal.getUserId()));
     }
 }
@@ -0,0 +1,33 @@
+package org.sejongisc.backend.betting.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+import org.sejongisc.backend.common.exception.CustomException;
+import org.sejongisc.backend.common.exception.ErrorCode;
+
+/**
+ * 베팅 이력 커서 (마지막으로 받은 항목의 라운드 정산 시각, id)
+ * - 클라이언트에는 "settleAt|id" 를 URL-safe Base64 로 인코딩한 문자열로 전달합니다.
+ */
+public record BetHistoryCursor(LocalDateTime settleAt, UUID id) {
+
+  public String encode() {
+    String raw = settleAt + "|" + id;
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static BetHistoryCursor decode(String cursor) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      int separator = raw.indexOf('|');
+      return new BetHistoryCursor(
+          LocalDateTime.parse(raw.substring(0, separator)),
+          UUID.fromString(raw.substring(separator + 1))
+      );
+    } catch (RuntimeException e) {
+      throw new CustomException(ErrorCode.INVALID_BET_HISTORY_CURSOR);
+    }
+  }
+}
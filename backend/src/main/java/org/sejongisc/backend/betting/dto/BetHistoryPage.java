@@ -0,0 +1,18 @@
+package org.sejongisc.backend.betting.dto;
+
+import java.util.List;
+
+/**
+ * 베팅 이력 페이지 (정산 시각 최신 순)
+ * - 첫 페이지에는 아직 정산되지 않은 항목(진행 중/마감 대기)이 앞에 함께 포함됩니다.
+ *
+ * @param items      이번 페이지 항목
+ * @param nextCursor 다음 페이지 요청 시 전달할 커서 (마지막 페이지면 null)
+ * @param hasNext    다음 페이지 존재 여부
+ */
+public record BetHistoryPage<T>(
+    List<T> items,
+    String nextCursor,
+    boolean hasNext
+) {
+}
@@ -0,0 +1,38 @@
+package org.sejongisc.backend.betting.dto;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import org.sejongisc.backend.betting.entity.BetOption;
+import org.sejongisc.backend.betting.entity.BetRound;
+
+/**
+ * 라운드 실시간 배당 (SSE odds 이벤트)
+ *
+ * @param upMultiplier   상승 적중 시 예상 배율 (전체 포인트 / 상승 포인트)
+ * @param downMultiplier 하락 적중 시 예상 배율 (전체 포인트 / 하락 포인트)
+ * @param open           베팅 가능 여부 (false 이면 마지막 이벤트)
+ */
+public record BetOddsResponse(
+    UUID roundId,
+    int upBetCount,
+    int downBetCount,
+    long upTotalPoints,
+    long downTotalPoints,
+    BigDecimal upMultiplier,
+    BigDecimal downMultiplier,
+    boolean open
+) {
+
+  public static BetOddsResponse from(BetRound round, BetRoundStats stats) {
+    return new BetOddsResponse(
+        round.getBetRoundID(),
+        stats.upBetCount(),
+        stats.downBetCount(),
+        stats.upTotalPoints(),
+        stats.downTotalPoints(),
+        stats.multiplier(BetOption.RISE),
+        stats.multiplier(BetOption.FALL),
+        round.isOpen()
+    );
+  }
+}
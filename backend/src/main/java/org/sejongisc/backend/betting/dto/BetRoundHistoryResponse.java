@@ -0,0 +1,55 @@
+package org.sejongisc.backend.betting.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.sejongisc.backend.betting.entity.BetOption;
+import org.sejongisc.backend.betting.entity.BetRound;
+import org.sejongisc.backend.betting.entity.Scope;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@Builder
+public class BetRoundHistoryResponse {
+    private UUID betRoundId;
+    private Scope scope;
+    private String title;
+    private String symbol;
+    private boolean status;
+    private LocalDateTime openAt;
+    private LocalDateTime lockAt;
+    private LocalDateTime settleAt;
+
+    // 정산 정보 (정산 전이면 null)
+    private BigDecimal previousClosePrice;
+    private BigDecimal settleClosePrice;
+    private BetOption resultOption;
+
+    // 통계 정보
+    private int upBetCount;
+    private int downBetCount;
+    private long upTotalPoints;
+    private long downTotalPoints;
+
+    public static BetRoundHistoryResponse from(BetRound round, BetRoundStats stats) {
+        return BetRoundHistoryResponse.builder()
+                .betRoundId(round.getBetRoundID())
+                .scope(round.getScope())
+                .title(round.getTitle())
+                .symbol(round.getSymbol())
+                .status(round.isStatus())
+                .openAt(round.getOpenAt())
+                .lockAt(round.getLockAt())
+                .settleAt(round.getSettleAt())
+                .previousClosePrice(round.getPreviousClosePrice())
+                .settleClosePrice(round.getSettleClosePrice())
+                .resultOption(round.getResultOption())
+                .upBetCount(stats.upBetCount())
+                .downBetCount(stats.downBetCount())
+                .upTotalPoints(stats.upTotalPoints())
+                .downTotalPoints(stats.downTotalPoints())
+                .build();
+    }
+}
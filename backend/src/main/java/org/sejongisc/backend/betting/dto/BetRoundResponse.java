@@ -29,7 +29,8 @@ public class BetRoundResponse {
     private BigDecimal expectedUpReward;
     private BigDecimal expectedDownReward;
 
-    public static BetRoundResponse from(BetRound round) {
+    // 통계는 실시간 값(Redis) 사용
+    public static BetRoundResponse from(BetRound round, BetRoundStats stats) {
         return BetRoundResponse.builder()
                 .betRoundId(round.getBetRoundID())
                 .title(round.getTitle())
@@ -37,13 +38,13 @@ public class BetRoundResponse {
                 .previousClosePrice(round.getPreviousClosePrice())
                 .openAt(round.getOpenAt())
                 .lockAt(round.getLockAt())
-                .upBetCount(round.getUpBetCount())
-                .downBetCount(round.getDownBetCount())
-                .upTotalPoints(round.getUpTotalPoints())
-                .downTotalPoints(round.getDownTotalPoints())
+                .upBetCount(stats.upBetCount())
+                .downBetCount(stats.downBetCount())
+                .upTotalPoints(stats.upTotalPoints())
+                .downTotalPoints(stats.downTotalPoints())
                 // 예상 배당률 계산 (소수점 등 로직은 기획에 맞춰 조정)
-                .expectedUpReward(round.getEstimatedRewardMultiplier(BetOption.RISE))
-                .expectedDownReward(round.getEstimatedRewardMultiplier(BetOption.FALL))
+                .expectedUpReward(stats.multiplier(BetOption.RISE))
+                .expectedDownReward(stats.multiplier(BetOption.FALL))
                 .build();
     }
-}
\ No newline at end of file
+}
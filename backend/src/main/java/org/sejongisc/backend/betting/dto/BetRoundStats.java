@@ -0,0 +1,54 @@
+package org.sejongisc.backend.betting.dto;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import org.sejongisc.backend.betting.entity.BetOption;
+import org.sejongisc.backend.betting.entity.BetRound;
+import org.sejongisc.backend.betting.entity.BetStatus;
+import org.sejongisc.backend.betting.entity.UserBet;
+
+/**
+ * 라운드 상승/하락 통계 (참여 수, 포인트 합)
+ */
+public record BetRoundStats(
+    int upBetCount,
+    long upTotalPoints,
+    int downBetCount,
+    long downTotalPoints
+) {
+
+  public static BetRoundStats of(BetRound round) {
+    return new BetRoundStats(
+        round.getUpBetCount(), round.getUpTotalPoints(), round.getDownBetCount(), round.getDownTotalPoints());
+  }
+
+  /**
+   * 활성(ACTIVE) 베팅만 집계
+   */
+  public static BetRoundStats fromBets(Collection<UserBet> bets) {
+    int upCount = 0;
+    long upPoints = 0;
+    int downCount = 0;
+    long downPoints = 0;
+    for (UserBet bet : bets) {
+      if (bet.getBetStatus() != BetStatus.ACTIVE) continue;
+      if (bet.getOption() == BetOption.RISE) {
+        upCount++;
+        upPoints += bet.getStakePoints();
+      } else {
+        downCount++;
+        downPoints += bet.getStakePoints();
+      }
+    }
+    return new BetRoundStats(upCount, upPoints, downCount, downPoints);
+  }
+
+  /**
+   * 예상 배당률 (전체 포인트 / 해당 옵션 포인트, 해당 옵션 포인트가 없으면 1.0)
+   */
+  public BigDecimal multiplier(BetOption option) {
+    long optionPool = option == BetOption.RISE ? upTotalPoints : downTotalPoints;
+    if (optionPool == 0) return BigDecimal.valueOf(1.0);
+    return BigDecimal.valueOf((double) (upTotalPoints + downTotalPoints) / optionPool);
+  }
+}
@@ -0,0 +1,28 @@
+package org.sejongisc.backend.betting.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.sejongisc.backend.betting.entity.BetRound;
+
+/**
+ * 정산 실패 라운드 (관리자 조회용)
+ */
+public record BetSettlementFailureResponse(
+    UUID betRoundId,
+    String title,
+    LocalDateTime lockAt,
+    int settleAttempts,
+    String settleError,
+    LocalDateTime settleFailedAt
+) {
+
+  public static BetSettlementFailureResponse from(BetRound round) {
+    return new BetSettlementFailureResponse(
+        round.getBetRoundID(),
+        round.getTitle(),
+        round.getLockAt(),
+        round.getSettleAttempts(),
+        round.getSettleError(),
+        round.getSettleFailedAt());
+  }
+}
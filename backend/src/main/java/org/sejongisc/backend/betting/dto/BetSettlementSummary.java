@@ -0,0 +1,19 @@
+package org.sejongisc.backend.betting.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 라운드 정산 실행 결과
+ *
+ * @param settledRoundIds 정산 완료된 라운드
+ * @param failures        정산 실패한 라운드와 사유 (다음 재시도 대상)
+ */
+public record BetSettlementSummary(
+    List<UUID> settledRoundIds,
+    List<Failure> failures
+) {
+
+  public record Failure(UUID roundId, String error) {
+  }
+}
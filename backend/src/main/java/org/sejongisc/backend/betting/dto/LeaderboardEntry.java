@@ -0,0 +1,17 @@
+package org.sejongisc.backend.betting.dto;
+
+/**
+ * 베팅 리더보드 항목
+ *
+ * @param rank      순위 (1부터)
+ * @param name      사용자 이름
+ * @param netPoints 순수익 포인트 (보상/환불 - 베팅 포인트)
+ * @param me        요청한 사용자 본인 여부
+ */
+public record LeaderboardEntry(
+    long rank,
+    String name,
+    long netPoints,
+    boolean me
+) {
+}
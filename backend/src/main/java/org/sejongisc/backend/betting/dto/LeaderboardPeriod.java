@@ -0,0 +1,62 @@
+package org.sejongisc.backend.betting.dto;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.IsoFields;
+import org.sejongisc.backend.common.exception.CustomException;
+import org.sejongisc.backend.common.exception.ErrorCode;
+
+/**
+ * 베팅 리더보드 집계 기간 (라운드 정산일 기준)
+ */
+public enum LeaderboardPeriod {
+  ALL,
+  MONTHLY,
+  WEEKLY;
+
+  public static LeaderboardPeriod from(String value) {
+    if (value == null) {
+      return ALL;
+    }
+    for (LeaderboardPeriod period : values()) {
+      if (period.name().equalsIgnoreCase(value.trim())) {
+        return period;
+      }
+    }
+    throw new CustomException(ErrorCode.INVALID_PERIOD);
+  }
+
+  /**
+   * date 가 속한 기간의 식별자 (예: ALL, MONTHLY:2026-10, WEEKLY:2026-W42)
+   */
+  public String bucket(LocalDate date) {
+    return switch (this) {
+      case ALL -> name();
+      case MONTHLY -> name() + ":" + date.getYear() + "-" + String.format("%02d", date.getMonthValue());
+      case WEEKLY -> name() + ":" + date.get(IsoFields.WEEK_BASED_YEAR)
+          + "-W" + String.format("%02d", date.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR));
+    };
+  }
+
+  /**
+   * date 가 속한 기간의 시작일 (ALL 은 null)
+   */
+  public LocalDate start(LocalDate date) {
+    return switch (this) {
+      case ALL -> null;
+      case MONTHLY -> date.withDayOfMonth(1);
+      case WEEKLY -> date.with(DayOfWeek.MONDAY);
+    };
+  }
+
+  /**
+   * date 가 속한 기간의 다음 기간 시작일 (ALL 은 null)
+   */
+  public LocalDate end(LocalDate date) {
+    return switch (this) {
+      case ALL -> null;
+      case MONTHLY -> start(date).plusMonths(1);
+      case WEEKLY -> start(date).plusWeeks(1);
+    };
+  }
+}
@@ -0,0 +1,16 @@
+package org.sejongisc.backend.betting.dto;
+
+/**
+ * 베팅 리더보드 내 순위
+ *
+ * @param rank         순위 (1부터, 정산된 베팅이 없으면 null)
+ * @param netPoints    순수익 포인트 (정산된 베팅이 없으면 null)
+ * @param participants 해당 기간 리더보드 인원
+ */
+public record MyLeaderboardRankResponse(
+    LeaderboardPeriod period,
+    Long rank,
+    Long netPoints,
+    long participants
+) {
+}
@@ -95,6 +95,18 @@ public class BetRound extends BasePostgresEntity {
     @Builder.Default
     private long downTotalPoints = 0;
 
+    @Column(nullable = false, columnDefinition = "integer default 0")
+    @Builder.Default
+    @Schema(description = "정산 실패 횟수")
+    private int settleAttempts = 0;
+
+    @Column(length = 500)
+    @Schema(description = "마지막 정산 실패 사유")
+    private String settleError;
+
+    @Schema(description = "마지막 정산 실패 시각")
+    private LocalDateTime settleFailedAt;
+
     // 라운드가 현재 진행 중인지 여부 반환
     public boolean isOpen() {
         return this.status;
@@ -132,6 +144,14 @@ public class BetRound extends BasePostgresEntity {
         return BigDecimal.valueOf((double) totalPool / optionPool);
     }
 
+    // 통계 일괄 반영 (마감 시 UserBet 기준 재집계 값)
+    public void applyStats(int upBetCount, long upTotalPoints, int downBetCount, long downTotalPoints) {
+        this.upBetCount = upBetCount;
+        this.upTotalPoints = upTotalPoints;
+        this.downBetCount = downBetCount;
+        this.downTotalPoints = downTotalPoints;
+    }
+
     // 베팅 가능한 상태인지 검증
     public void validate() {
         if (isClosed() || (lockAt != null && LocalDateTime.now().isAfter(lockAt))) {
@@ -153,6 +173,7 @@ public class BetRound extends BasePostgresEntity {
         this.settleClosePrice = finalPrice;
         this.resultOption = determineResult(finalPrice);
         this.settleAt = LocalDateTime.now();
+        this.settleError = null;
     }
 
     // 결과 판정 로직 - 이전 종가와 비교하여 상승/하락 결정
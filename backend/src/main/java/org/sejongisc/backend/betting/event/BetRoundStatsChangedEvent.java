@@ -0,0 +1,10 @@
+package org.sejongisc.backend.betting.event;
+
+import java.util.UUID;
+
+/**
+ * 라운드 상승/하락 통계(참여 수, 포인트 합) 변경 이벤트
+ * - 베팅 등록/취소 트랜잭션 커밋 후 실시간 배당 스트림에 반영됨
+ */
+public record BetRoundStatsChangedEvent(UUID roundId) {
+}
@@ -3,7 +3,10 @@ package org.sejongisc.backend.betting.repository;
 import org.springframework.data.repository.query.Param;
 import org.sejongisc.backend.betting.entity.BetRound;
 import org.sejongisc.backend.betting.entity.Scope;
+import org.springframework.data.domain.Limit;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
@@ -15,52 +18,77 @@ import java.util.UUID;
 public interface BetRoundRepository extends JpaRepository<BetRound, UUID> {
     Optional<BetRound> findTopByStatusTrueAndScopeOrderByOpenAtDesc(Scope type);
 
-    List<BetRound> findAllByOrderBySettleAtDesc();
-
-    List<BetRound> findByStatusTrueAndLockAtLessThanEqual(LocalDateTime now);
+    /**
+     * 아직 정산되지 않은 라운드 (진행 중 / 마감 후 정산 대기)
+     */
+    List<BetRound> findAllBySettleAtIsNullOrderByOpenAtDesc();
 
-    List<BetRound> findByStatusFalseAndSettleAtIsNullAndLockAtLessThanEqual(LocalDateTime now);
+    /**
+     * 정산된 라운드 최신 순 (keyset 페이지네이션 첫 페이지)
+     */
+    @Query(
+        "SELECT b FROM BetRound b WHERE b.settleAt IS NOT NULL " +
+        "ORDER BY b.settleAt DESC, b.betRoundID DESC")
+    List<BetRound> findSettled(Limit limit);
 
     /**
-     * 상승(UP) 통계 원자적 업데이트
-     * - flushAutomatically: 해당 메서드 호출 전 변경사항을 DB에 flush -> 데이터 유실 방지
-     * - clearAutomatically: 업데이트 후 1차 캐시를 비움 -> 조회 시 데이터 정합성 문제 방지
-     *      -> 이후 필요하다면 DB의 최신값 조회 필요
+     * 커서 (settleAt, id) 이전의 정산된 라운드
      */
-    @Modifying(flushAutomatically = true, clearAutomatically = true)
     @Query(
-        "UPDATE BetRound b " +
-        "SET b.upBetCount = b.upBetCount + 1, b.upTotalPoints = b.upTotalPoints + :points " +
-        "WHERE b.betRoundID = :id")
-    void incrementUpStats(@Param("id") UUID id, @Param("points") long points);
+        "SELECT b FROM BetRound b WHERE b.settleAt IS NOT NULL " +
+        "AND (b.settleAt < :settleAt OR (b.settleAt = :settleAt AND b.betRoundID < :id)) " +
+        "ORDER BY b.settleAt DESC, b.betRoundID DESC")
+    List<BetRound> findSettledBefore(@Param("settleAt") LocalDateTime settleAt, @Param("id") UUID id, Limit limit);
+
+    List<BetRound> findByStatusTrueAndLockAtLessThanEqual(LocalDateTime now);
 
     /**
-     * 하락(DOWN) 통계 원자적 업데이트
+     * 정산 대상 라운드 ID (마감됨, 미정산, 실패 횟수 minAttempts 이상 maxAttempts 미만)
      */
-    @Modifying(flushAutomatically = true, clearAutomatically = true)
     @Query(
-        "UPDATE BetRound b " +
-        "SET b.downBetCount = b.downBetCount + 1, b.downTotalPoints = b.downTotalPoints + :points " +
-        "WHERE b.betRoundID = :id")
-    void incrementDownStats(@Param("id") UUID id, @Param("points") long points);
+        "SELECT b.betRoundID FROM BetRound b " +
+        "WHERE b.status = false AND b.settleAt IS NULL AND b.lockAt <= :now " +
+        "AND b.settleAttempts >= :minAttempts AND b.settleAttempts < :maxAttempts " +
+        "ORDER BY b.lockAt")
+    List<UUID> findSettlementTargetIds(@Param("now") LocalDateTime now,
+                                       @Param("minAttempts") int minAttempts,
+                                       @Param("maxAttempts") int maxAttempts);
 
     /**
-     * 상승(UP) 통계 감소 (취소 시)
+     * 정산용 라운드 조회 (행 잠금으로 같은 라운드의 동시 정산 방지)
      */
-    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM BetRound b WHERE b.betRoundID = :id")
+    Optional<BetRound> findByIdForSettlement(@Param("id") UUID id);
+
+    /**
+     * 정산 실패 기록 (정산 트랜잭션이 롤백된 뒤 별도 트랜잭션에서 실행)
+     */
+    @Modifying
     @Query(
         "UPDATE BetRound b " +
-        "SET b.upBetCount = b.upBetCount - 1, b.upTotalPoints = b.upTotalPoints - :points " +
-        "WHERE b.betRoundID = :id")
-    void decrementUpStats(@Param("id") UUID id, @Param("points") long points);
+        "SET b.settleAttempts = b.settleAttempts + 1, b.settleError = :error, b.settleFailedAt = :failedAt " +
+        "WHERE b.betRoundID = :id AND b.settleAt IS NULL")
+    int recordSettleFailure(@Param("id") UUID id, @Param("error") String error, @Param("failedAt") LocalDateTime failedAt);
+
+    /**
+     * 정산 실패 라운드 (관리자 조회용)
+     */
+    List<BetRound> findAllBySettleAtIsNullAndSettleAttemptsGreaterThanOrderBySettleFailedAtDesc(int attempts);
+
+    List<BetRound> findAllByStatusTrue();
 
     /**
-     * 하락(DOWN) 통계 감소 (취소 시)
+     * 통계 일괄 반영 (Redis 에 누적된 실시간 통계를 주기적으로 기록)
+     * - clearAutomatically: 업데이트 후 1차 캐시를 비움 -> 조회 시 데이터 정합성 문제 방지
      */
     @Modifying(flushAutomatically = true, clearAutomatically = true)
     @Query(
         "UPDATE BetRound b " +
-        "SET b.downBetCount = b.downBetCount - 1, b.downTotalPoints = b.downTotalPoints - :points " +
+        "SET b.upBetCount = :upCount, b.upTotalPoints = :upPoints, " +
+        "b.downBetCount = :downCount, b.downTotalPoints = :downPoints " +
         "WHERE b.betRoundID = :id")
-    void decrementDownStats(@Param("id") UUID id, @Param("points") long points);
+    void updateStats(@Param("id") UUID id,
+                     @Param("upCount") int upCount, @Param("upPoints") long upPoints,
+                     @Param("downCount") int downCount, @Param("downPoints") long downPoints);
 }
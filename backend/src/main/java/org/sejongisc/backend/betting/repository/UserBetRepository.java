@@ -1,11 +1,17 @@
 package org.sejongisc.backend.betting.repository;
 
+import org.sejongisc.backend.betting.entity.BetOption;
 import org.sejongisc.backend.betting.entity.BetRound;
+import org.sejongisc.backend.betting.entity.BetStatus;
+import org.sejongisc.backend.betting.entity.Scope;
 import org.sejongisc.backend.betting.entity.UserBet;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -20,7 +26,81 @@ public interface UserBetRepository extends JpaRepository<UserBet, UUID> {
         "AND ub.userId = :userId")
     Optional<UserBet> findByUserBetIdAndUserIdWithRound(@Param("userBetId") UUID userBetId, @Param("userId") UUID userId);
 
-    List<UserBet> findAllByUserIdOrderByRound_SettleAtDesc(UUID userId);
+    /**
+     * 아직 정산되지 않은 라운드의 내 베팅 (라운드 주기 / 베팅 상태 필터)
+     */
+    @Query(
+        "SELECT ub FROM UserBet ub JOIN FETCH ub.round r " +
+        "WHERE ub.userId = :userId AND r.settleAt IS NULL " +
+        "AND r.scope IN :scopes AND ub.betStatus IN :statuses " +
+        "ORDER BY r.openAt DESC")
+    List<UserBet> findUnsettledByUserId(@Param("userId") UUID userId,
+                                        @Param("scopes") Collection<Scope> scopes,
+                                        @Param("statuses") Collection<BetStatus> statuses);
+
+    /**
+     * 정산된 라운드의 내 베팅 최신 순 (keyset 페이지네이션 첫 페이지, 라운드 주기 / 베팅 상태 필터)
+     */
+    @Query(
+        "SELECT ub FROM UserBet ub JOIN FETCH ub.round r " +
+        "WHERE ub.userId = :userId AND r.settleAt IS NOT NULL " +
+        "AND r.scope IN :scopes AND ub.betStatus IN :statuses " +
+        "ORDER BY r.settleAt DESC, ub.userBetId DESC")
+    List<UserBet> findSettledByUserId(@Param("userId") UUID userId,
+                                      @Param("scopes") Collection<Scope> scopes,
+                                      @Param("statuses") Collection<BetStatus> statuses,
+                                      Limit limit);
+
+    /**
+     * 커서 (settleAt, id) 이전의 정산된 라운드의 내 베팅
+     */
+    @Query(
+        "SELECT ub FROM UserBet ub JOIN FETCH ub.round r " +
+        "WHERE ub.userId = :userId AND r.settleAt IS NOT NULL " +
+        "AND r.scope IN :scopes AND ub.betStatus IN :statuses " +
+        "AND (r.settleAt < :settleAt OR (r.settleAt = :settleAt AND ub.userBetId < :id)) " +
+        "ORDER BY r.settleAt DESC, ub.userBetId DESC")
+    List<UserBet> findSettledByUserIdBefore(@Param("userId") UUID userId,
+                                            @Param("scopes") Collection<Scope> scopes,
+                                            @Param("statuses") Collection<BetStatus> statuses,
+                                            @Param("settleAt") LocalDateTime settleAt,
+                                            @Param("id") UUID id,
+                                            Limit limit);
 
     List<UserBet> findAllByRoundIn(List<BetRound> rounds);
+
+    /**
+     * 라운드의 옵션별 활성 베팅 수 / 포인트 합 (실시간 통계 재구성용)
+     */
+    @Query(
+        "SELECT ub.option AS option, COUNT(ub) AS betCount, COALESCE(SUM(ub.stakePoints), 0) AS totalPoints " +
+        "FROM UserBet ub " +
+        "WHERE ub.round.betRoundID = :roundId AND ub.betStatus = :status " +
+        "GROUP BY ub.option")
+    List<OptionStats> aggregateByOption(@Param("roundId") UUID roundId, @Param("status") BetStatus status);
+
+    /**
+     * 기간 내 정산된 베팅의 사용자별 순수익 (보상/환불 - 베팅 포인트), 리더보드 재구성용
+     * - from/to 가 null 이면 전체 기간
+     */
+    @Query(
+        "SELECT ub.userId AS userId, SUM(COALESCE(ub.payoutPoints, 0) - ub.stakePoints) AS netPoints " +
+        "FROM UserBet ub JOIN ub.round r " +
+        "WHERE ub.betStatus = :status AND r.settleAt IS NOT NULL " +
+        "AND (:from IS NULL OR r.settleAt >= :from) AND (:to IS NULL OR r.settleAt < :to) " +
+        "GROUP BY ub.userId")
+    List<UserNetPoints> sumNetPointsByUser(@Param("status") BetStatus status,
+                                           @Param("from") LocalDateTime from,
+                                           @Param("to") LocalDateTime to);
+
+    interface UserNetPoints {
+        UUID getUserId();
+        Long getNetPoints();
+    }
+
+    interface OptionStats {
+        BetOption getOption();
+        Long getBetCount();
+        Long getTotalPoints();
+    }
 }
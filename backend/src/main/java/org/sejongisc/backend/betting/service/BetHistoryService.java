@@ -0,0 +1,196 @@
+package org.sejongisc.backend.betting.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import org.sejongisc.backend.betting.dto.BetHistoryCursor;
+import org.sejongisc.backend.betting.dto.BetHistoryPage;
+import org.sejongisc.backend.betting.dto.BetRoundHistoryResponse;
+import org.sejongisc.backend.betting.dto.BetRoundStats;
+import org.sejongisc.backend.betting.dto.UserBetResponse;
+import org.sejongisc.backend.betting.entity.BetRound;
+import org.sejongisc.backend.betting.entity.BetStatus;
+import org.sejongisc.backend.betting.entity.Scope;
+import org.sejongisc.backend.betting.entity.UserBet;
+import org.sejongisc.backend.betting.repository.BetRoundRepository;
+import org.sejongisc.backend.betting.repository.UserBetRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 라운드 이력 / 내 베팅 이력 (정산 시각 기준 keyset 페이지네이션)
+ * - 정산된 라운드와 그 베팅은 더 이상 바뀌지 않으므로, 정산 구간의 페이지는 만료 없이 캐시합니다.
+ *   커서가 있는 페이지는 이후 정산(더 늦은 settleAt)의 영향을 받지 않고,
+ *   커서 없는 첫 페이지만 새 라운드가 정산될 때 비웁니다.
+ * - 아직 정산되지 않은 라운드(진행 중/정산 대기)는 첫 페이지 앞에 붙여 매번 실시간으로 조회합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class BetHistoryService {
+
+  private static final int MAX_PAGE_SIZE = 50;
+  private static final int MAX_CACHED_PAGES = 2000;
+
+  private final BetRoundRepository betRoundRepository;
+  private final UserBetRepository userBetRepository;
+  private final BetRoundStatsStore betRoundStatsStore;
+
+  private final Map<RoundPageKey, BetHistoryPage<BetRoundHistoryResponse>> roundPages = lru();
+  private final Map<UserBetPageKey, BetHistoryPage<UserBetResponse>> userBetPages = lru();
+  // 정산 시 증가: 정산 커밋 전에 읽은 첫 페이지가 비운 뒤에 다시 캐시되는 것을 방지
+  private final AtomicLong settledGeneration = new AtomicLong();
+
+  /**
+   * 전체 라운드 이력
+   */
+  @Transactional(readOnly = true)
+  public BetHistoryPage<BetRoundHistoryResponse> getRoundHistory(String cursor, int size) {
+    int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+    BetHistoryCursor decoded = decode(cursor);
+
+    RoundPageKey key = new RoundPageKey(decoded, pageSize);
+    long generation = settledGeneration.get();
+    BetHistoryPage<BetRoundHistoryResponse> settled = roundPages.get(key);
+    if (settled == null) {
+      List<BetRound> rows = decoded == null
+          ? betRoundRepository.findSettled(Limit.of(pageSize + 1))
+          : betRoundRepository.findSettledBefore(decoded.settleAt(), decoded.id(), Limit.of(pageSize + 1));
+      settled = toPage(rows, pageSize,
+          round -> BetRoundHistoryResponse.from(round, BetRoundStats.of(round)),
+          round -> new BetHistoryCursor(round.getSettleAt(), round.getBetRoundID()));
+      if (decoded != null || generation == settledGeneration.get()) {
+        roundPages.put(key, settled);
+      }
+    }
+    if (decoded != null) {
+      return settled;
+    }
+
+    // 정산 전 라운드: 진행 중이면 실시간 통계, 마감 후면 마감 시 확정된 통계
+    List<BetRoundHistoryResponse> live = betRoundRepository.findAllBySettleAtIsNullOrderByOpenAtDesc().stream()
+        .map(round -> BetRoundHistoryResponse.from(round,
+            round.isOpen() ? betRoundStatsStore.get(round.getBetRoundID()) : BetRoundStats.of(round)))
+        .toList();
+    return prepend(live, settled);
+  }
+
+  /**
+   * 내 베팅 이력
+   *
+   * @param scope    라운드 주기 (null 이면 전체)
+   * @param statuses 베팅 상태 (비어 있으면 전체)
+   */
+  @Transactional(readOnly = true)
+  public BetHistoryPage<UserBetResponse> getMyBetHistory(UUID userId, Scope scope, Collection<BetStatus> statuses,
+                                                         String cursor, int size) {
+    int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+    BetHistoryCursor decoded = decode(cursor);
+    Set<Scope> scopes = scope == null ? EnumSet.allOf(Scope.class) : EnumSet.of(scope);
+    Set<BetStatus> betStatuses = statuses == null || statuses.isEmpty()
+        ? EnumSet.allOf(BetStatus.class)
+        : EnumSet.copyOf(statuses);
+
+    UserBetPageKey key = new UserBetPageKey(userId, scopes, betStatuses, decoded, pageSize);
+    long generation = settledGeneration.get();
+    BetHistoryPage<UserBetResponse> settled = userBetPages.get(key);
+    if (settled == null) {
+      List<UserBet> rows = decoded == null
+          ? userBetRepository.findSettledByUserId(userId, scopes, betStatuses, Limit.of(pageSize + 1))
+          : userBetRepository.findSettledByUserIdBefore(userId, scopes, betStatuses,
+              decoded.settleAt(), decoded.id(), Limit.of(pageSize + 1));
+      settled = toPage(rows, pageSize,
+          UserBetResponse::from,
+          bet -> new BetHistoryCursor(bet.getRound().getSettleAt(), bet.getUserBetId()));
+      if (decoded != null || generation == settledGeneration.get()) {
+        userBetPages.put(key, settled);
+      }
+    }
+    if (decoded != null) {
+      return settled;
+    }
+
+    List<UserBetResponse> live = userBetRepository.findUnsettledByUserId(userId, scopes, betStatuses).stream()
+        .map(UserBetResponse::from)
+        .toList();
+    return prepend(live, settled);
+  }
+
+  /**
+   * 라운드 정산 커밋 후 첫 페이지 캐시 비움 (참여자는 취소한 베팅 포함)
+   */
+  public void evictNewestAfterCommit(Collection<UUID> participantIds) {
+    Set<UUID> userIds = Set.copyOf(participantIds);
+    Runnable evict = () -> {
+      settledGeneration.incrementAndGet();
+      synchronized (roundPages) {
+        roundPages.keySet().removeIf(key -> key.cursor() == null);
+      }
+      synchronized (userBetPages) {
+        userBetPages.keySet().removeIf(key -> key.cursor() == null && userIds.contains(key.userId()));
+      }
+    };
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          evict.run();
+        }
+      });
+    } else {
+      evict.run();
+    }
+  }
+
+  private static BetHistoryCursor decode(String cursor) {
+    return cursor == null || cursor.isBlank() ? null : BetHistoryCursor.decode(cursor);
+  }
+
+  // 다음 페이지 존재 여부 확인을 위해 1건 더 조회한 결과를 페이지로 변환
+  private static <E, T> BetHistoryPage<T> toPage(List<E> rows, int pageSize,
+                                                  Function<E, T> mapper,
+                                                  Function<E, BetHistoryCursor> cursorOf) {
+    boolean hasNext = rows.size() > pageSize;
+    List<E> pageRows = hasNext ? rows.subList(0, pageSize) : rows;
+    List<T> items = pageRows.stream().map(mapper).toList();
+    String nextCursor = hasNext ? cursorOf.apply(pageRows.getLast()).encode() : null;
+    return new BetHistoryPage<>(items, nextCursor, hasNext);
+  }
+
+  private static <T> BetHistoryPage<T> prepend(List<T> live, BetHistoryPage<T> settled) {
+    if (live.isEmpty()) {
+      return settled;
+    }
+    List<T> items = new ArrayList<>(live.size() + settled.items().size());
+    items.addAll(live);
+    items.addAll(settled.items());
+    return new BetHistoryPage<>(items, settled.nextCursor(), settled.hasNext());
+  }
+
+  private static <K, V> Map<K, V> lru() {
+    return Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+        return size() > MAX_CACHED_PAGES;
+      }
+    });
+  }
+
+  private record RoundPageKey(BetHistoryCursor cursor, int size) {
+  }
+
+  private record UserBetPageKey(UUID userId, Set<Scope> scopes, Set<BetStatus> statuses,
+                                BetHistoryCursor cursor, int size) {
+  }
+}
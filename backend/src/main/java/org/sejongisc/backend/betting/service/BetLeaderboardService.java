@@ -0,0 +1,230 @@
+package org.sejongisc.backend.betting.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.sejongisc.backend.betting.dto.LeaderboardEntry;
+import org.sejongisc.backend.betting.dto.LeaderboardPeriod;
+import org.sejongisc.backend.betting.dto.MyLeaderboardRankResponse;
+import org.sejongisc.backend.betting.entity.BetStatus;
+import org.sejongisc.backend.betting.entity.UserBet;
+import org.sejongisc.backend.betting.repository.UserBetRepository;
+import org.sejongisc.backend.common.redis.RedisKey;
+import org.sejongisc.backend.user.entity.User;
+import org.sejongisc.backend.user.repository.UserRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.RedisZSetCommands.ZAddArgs;
+import org.springframework.data.redis.connection.zset.DefaultTuple;
+import org.springframework.data.redis.connection.zset.Tuple;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 베팅 리더보드 (Redis sorted set)
+ * - 점수는 정산된 베팅의 순수익 (보상/환불 - 베팅 포인트), 라운드 정산일 기준으로 기간을 나눔
+ * - 정산 커밋 후 전체/월간/주간 키에 ZINCRBY 로 누적하므로, 조회 시 원장을 다시 집계하지 않음
+ * - 하루 한 번 (및 키가 없는 상태로 기동 시) 정산된 UserBet 기준으로 재구성해 누락/오차를 보정
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BetLeaderboardService {
+
+  private static final int MAX_SIZE = 100;
+  private static final long REBUILD_TEMP_TTL_SECONDS = 600;
+
+  private final RedisTemplate<String, Object> redisTemplate;
+  private final UserBetRepository userBetRepository;
+  private final UserRepository userRepository;
+
+  /**
+   * 라운드 정산 결과를 커밋 후 리더보드에 반영
+   */
+  public void recordAfterCommit(LocalDateTime settleAt, Collection<UserBet> settledBets) {
+    Map<UUID, Long> netByUser = netPointsByUser(settledBets);
+    if (netByUser.isEmpty()) return;
+
+    LocalDate date = settleAt.toLocalDate();
+    Runnable record = () -> increment(date, netByUser);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          record.run();
+        }
+      });
+    } else {
+      record.run();
+    }
+  }
+
+  /**
+   * 상위 size 명 조회
+   */
+  public List<LeaderboardEntry> getTop(LeaderboardPeriod period, int size, UUID me) {
+    int limit = Math.max(1, Math.min(size, MAX_SIZE));
+    Set<TypedTuple<Object>> tuples =
+        redisTemplate.opsForZSet().reverseRangeWithScores(key(period, LocalDate.now()), 0, limit - 1);
+    if (tuples == null || tuples.isEmpty()) return List.of();
+
+    List<UUID> userIds = tuples.stream()
+        .map(tuple -> UUID.fromString(String.valueOf(tuple.getValue())))
+        .toList();
+    Map<UUID, String> names = userRepository.findAllById(userIds).stream()
+        .collect(Collectors.toMap(User::getUserId, User::getName));
+
+    List<LeaderboardEntry> entries = new ArrayList<>(tuples.size());
+    long rank = 1;
+    for (TypedTuple<Object> tuple : tuples) {
+      UUID userId = UUID.fromString(String.valueOf(tuple.getValue()));
+      long score = tuple.getScore() == null ? 0 : tuple.getScore().longValue();
+      entries.add(new LeaderboardEntry(rank++, names.getOrDefault(userId, "알 수 없음"), score, userId.equals(me)));
+    }
+    return entries;
+  }
+
+  /**
+   * 내 순위 조회
+   */
+  public MyLeaderboardRankResponse getMyRank(LeaderboardPeriod period, UUID userId) {
+    String key = key(period, LocalDate.now());
+    String member = userId.toString();
+    Long rank = redisTemplate.opsForZSet().reverseRank(key, member);
+    Double score = redisTemplate.opsForZSet().score(key, member);
+    Long participants = redisTemplate.opsForZSet().zCard(key);
+    return new MyLeaderboardRankResponse(
+        period,
+        rank == null ? null : rank + 1,
+        score == null ? null : score.longValue(),
+        participants == null ? 0 : participants);
+  }
+
+  /**
+   * 키가 없는 상태로 기동된 경우 (Redis 초기화 등) 재구성
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void rebuildIfMissing() {
+    try {
+      if (!Boolean.TRUE.equals(redisTemplate.hasKey(key(LeaderboardPeriod.ALL, LocalDate.now())))) {
+        rebuildAll();
+      }
+    } catch (Exception e) {
+      log.warn("베팅 리더보드 초기 재구성 실패: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * 정산된 UserBet 기준으로 현재 기간의 리더보드를 재구성 (재구성마다 고유한 임시 키에 쓴 뒤 RENAME 으로 교체)
+   * - DB 집계 이후 RENAME 전에 커밋된 정산의 ZINCRBY 는 교체되는 기존 키에 반영되므로 다음 재구성까지 빠질 수 있음
+   *   (정산은 하루 몇 회뿐이라 재구성 시각과 겹칠 때만 발생하며, 다음 날 재구성에서 보정됨)
+   */
+  @Scheduled(cron = "${betting.leaderboard.rebuild-cron:0 30 4 * * *}", zone = "Asia/Seoul")
+  @Transactional(readOnly = true)
+  public void rebuildAll() {
+    LocalDate today = LocalDate.now();
+    for (LeaderboardPeriod period : LeaderboardPeriod.values()) {
+      rebuild(period, today);
+    }
+  }
+
+  private void rebuild(LeaderboardPeriod period, LocalDate date) {
+    LocalDate start = period.start(date);
+    LocalDate end = period.end(date);
+    List<UserBetRepository.UserNetPoints> rows = userBetRepository.sumNetPointsByUser(
+        BetStatus.CLOSED,
+        start == null ? null : start.atStartOfDay(),
+        end == null ? null : end.atStartOfDay());
+
+    String key = key(period, date);
+    // 기동 시 재구성과 정기 재구성이 겹쳐도 서로의 임시 키를 덮어쓰지 않도록 재구성마다 고유 키 사용
+    String tempKey = key + ":rebuild:" + UUID.randomUUID();
+    byte[] rawKey = raw(key);
+    byte[] rawTempKey = raw(tempKey);
+    long ttlSeconds = RedisKey.BET_LEADERBOARD.getTtl().toSeconds();
+    Set<Tuple> members = rows.stream()
+        .map(row -> (Tuple) new DefaultTuple(raw(row.getUserId().toString()), (double) row.getNetPoints()))
+        .collect(Collectors.toSet());
+
+    redisTemplate.execute((RedisCallback<Void>) connection -> {
+      if (members.isEmpty()) {
+        connection.keyCommands().del(rawKey);
+        return null;
+      }
+      // 전체 사용자를 ZADD 한 번으로 기록, 도중에 실패해도 임시 키가 남지 않도록 만료 설정
+      connection.zSetCommands().zAdd(rawTempKey, members, ZAddArgs.empty());
+      connection.keyCommands().expire(rawTempKey, REBUILD_TEMP_TTL_SECONDS);
+      connection.keyCommands().rename(rawTempKey, rawKey);
+      if (period == LeaderboardPeriod.ALL) {
+        connection.keyCommands().persist(rawKey);
+      } else {
+        connection.keyCommands().expire(rawKey, ttlSeconds);
+      }
+      return null;
+    });
+    log.info("베팅 리더보드 재구성: key={}, users={}", key, rows.size());
+  }
+
+  private void increment(LocalDate date, Map<UUID, Long> netByUser) {
+    try {
+      Map<LeaderboardPeriod, byte[]> keys = new EnumMap<>(LeaderboardPeriod.class);
+      for (LeaderboardPeriod period : LeaderboardPeriod.values()) {
+        keys.put(period, raw(key(period, date)));
+      }
+      long ttlSeconds = RedisKey.BET_LEADERBOARD.getTtl().toSeconds();
+
+      // 참여자 수만큼의 ZINCRBY 를 한 번의 왕복으로 전송
+      redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+        keys.forEach((period, rawKey) -> {
+          netByUser.forEach((userId, net) ->
+              connection.zSetCommands().zIncrBy(rawKey, net, raw(userId.toString())));
+          if (period != LeaderboardPeriod.ALL) {
+            connection.keyCommands().expire(rawKey, ttlSeconds);
+          }
+        });
+        return null;
+      });
+    } catch (Exception e) {
+      // 누락분은 일일 재구성으로 보정됨
+      log.warn("베팅 리더보드 반영 실패: date={}, users={}, {}", date, netByUser.size(), e.getMessage());
+    }
+  }
+
+  /**
+   * 정산 완료(CLOSED) 베팅의 사용자별 순수익
+   */
+  static Map<UUID, Long> netPointsByUser(Collection<UserBet> bets) {
+    Map<UUID, Long> netByUser = new HashMap<>();
+    for (UserBet bet : bets) {
+      if (bet.getBetStatus() != BetStatus.CLOSED) continue;
+      long payout = bet.getPayoutPoints() == null ? 0 : bet.getPayoutPoints();
+      netByUser.merge(bet.getUserId(), payout - bet.getStakePoints(), Long::sum);
+    }
+    return netByUser;
+  }
+
+  private static String key(LeaderboardPeriod period, LocalDate date) {
+    return RedisKey.BET_LEADERBOARD.getKey(period.bucket(date));
+  }
+
+  private static byte[] raw(String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+}
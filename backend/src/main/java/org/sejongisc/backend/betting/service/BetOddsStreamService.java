@@ -0,0 +1,161 @@
+package org.sejongisc.backend.betting.service;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.sejongisc.backend.betting.dto.BetOddsResponse;
+import org.sejongisc.backend.betting.entity.BetRound;
+import org.sejongisc.backend.betting.event.BetRoundStatsChangedEvent;
+import org.sejongisc.backend.betting.repository.BetRoundRepository;
+import org.sejongisc.backend.common.exception.CustomException;
+import org.sejongisc.backend.common.exception.ErrorCode;
+import org.sejongisc.backend.common.sse.SseService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 라운드별 실시간 배당 SSE 스트림
+ * - 베팅 등록/취소 커밋 시 해당 라운드를 변경됨으로 표시만 하고,
+ *   flush 주기마다 변경된 라운드들을 한 번에 조회해 구독자에게 전송합니다.
+ *   (베팅이 아무리 몰려도 라운드당 전송은 flush 주기당 최대 1회)
+ * - 라운드가 마감되면 마지막 배당을 보내고 채널을 닫습니다.
+ */
+@Slf4j
+@Service
+public class BetOddsStreamService {
+
+  private static final String ODDS_EVENT = "odds";
+  private static final String PING_EVENT = "ping";
+  private static final String CHANNEL_PREFIX = "BET_ODDS:";
+  private static final long PING_SECONDS = 15;
+
+  private final BetRoundRepository betRoundRepository;
+  private final SseService sseService;
+  private final BetRoundStatsStore betRoundStatsStore;
+
+  private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+  private final Set<UUID> subscribedRounds = ConcurrentHashMap.newKeySet();
+  private final Set<UUID> dirtyRounds = ConcurrentHashMap.newKeySet();
+
+  public BetOddsStreamService(BetRoundRepository betRoundRepository,
+                              SseService sseService,
+                              BetRoundStatsStore betRoundStatsStore,
+                              @Value("${betting.odds-stream.flush-interval-ms:300}") long flushIntervalMs) {
+    this.betRoundRepository = betRoundRepository;
+    this.sseService = sseService;
+    this.betRoundStatsStore = betRoundStatsStore;
+    scheduler.scheduleWithFixedDelay(this::flush, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    scheduler.scheduleAtFixedRate(this::ping, PING_SECONDS, PING_SECONDS, TimeUnit.SECONDS);
+  }
+
+  /**
+   * 라운드 배당 구독 - 연결 즉시 현재 배당을 한 번 전송
+   */
+  public SseEmitter subscribe(UUID roundId) {
+    String channelId = channelId(roundId);
+    // 현재 배당 조회 전에 먼저 등록해, 그 사이 들어온 베팅도 다음 flush 에 반영되도록 함
+    SseEmitter emitter = sseService.subscribe(channelId);
+    subscribedRounds.add(roundId);
+
+    BetRound round = betRoundRepository.findById(roundId).orElse(null);
+    if (round == null) {
+      sseService.removeEmitter(channelId, emitter);
+      throw new CustomException(ErrorCode.BET_ROUND_NOT_FOUND);
+    }
+
+    try {
+      emitter.send(SseEmitter.event()
+          .name(ODDS_EVENT)
+          .data(BetOddsResponse.from(round, betRoundStatsStore.get(roundId)), MediaType.APPLICATION_JSON));
+    } catch (IOException e) {
+      sseService.removeEmitter(channelId, emitter);
+      throw new IllegalStateException("SSE_SEND_FAILED", e);
+    }
+
+    if (!round.isOpen()) {
+      sseService.removeEmitter(channelId, emitter);
+      emitter.complete();
+    }
+    return emitter;
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void onStatsChanged(BetRoundStatsChangedEvent event) {
+    if (subscribedRounds.contains(event.roundId())) {
+      dirtyRounds.add(event.roundId());
+    }
+  }
+
+  void flush() {
+    try {
+      if (dirtyRounds.isEmpty()) {
+        return;
+      }
+      List<UUID> roundIds = new ArrayList<>(dirtyRounds);
+      dirtyRounds.removeAll(roundIds);
+
+      for (BetRound round : betRoundRepository.findAllById(roundIds)) {
+        UUID roundId = round.getBetRoundID();
+        String channelId = channelId(roundId);
+        if (!sseService.hasSubscribers(channelId)) {
+          subscribedRounds.remove(roundId);
+          continue;
+        }
+        sseService.send(channelId, ODDS_EVENT, BetOddsResponse.from(round, betRoundStatsStore.get(roundId)));
+        if (!round.isOpen()) {
+          subscribedRounds.remove(roundId);
+          sseService.complete(channelId);
+        }
+      }
+    } catch (Exception e) {
+      log.error("배당 스트림 전송 실패", e);
+    }
+  }
+
+  private void ping() {
+    try {
+      for (UUID roundId : subscribedRounds) {
+        String channelId = channelId(roundId);
+        if (sseService.hasSubscribers(channelId)) {
+          sseService.send(channelId, PING_EVENT, "ok");
+        } else {
+          subscribedRounds.remove(roundId);
+        }
+      }
+    } catch (Exception e) {
+      log.error("배당 스트림 ping 실패", e);
+    }
+  }
+
+  private String channelId(UUID roundId) {
+    return CHANNEL_PREFIX + roundId;
+  }
+
+  @PreDestroy
+  public void cleanup() {
+    subscribedRounds.forEach(roundId -> sseService.complete(channelId(roundId)));
+    subscribedRounds.clear();
+
+    scheduler.shutdown();
+    try {
+      if (!scheduler.awaitTermination(5, TimeUnit.SECONDS)) {
+        scheduler.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      scheduler.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+  }
+}
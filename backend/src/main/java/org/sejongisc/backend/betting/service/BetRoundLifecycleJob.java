@@ -0,0 +1,43 @@
+package org.sejongisc.backend.betting.service;
+
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.Job;
+import org.quartz.JobDataMap;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 라운드별 오픈/마감/정산 실행 (BetRoundLifecycleScheduler 가 라운드마다 한 번씩 등록)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BetRoundLifecycleJob implements Job {
+
+  private final BettingService bettingService;
+  private final BetRoundSettlementService betRoundSettlementService;
+
+  @Override
+  public void execute(JobExecutionContext context) throws JobExecutionException {
+    JobDataMap data = context.getMergedJobDataMap();
+    UUID roundId = UUID.fromString(data.getString(BetRoundLifecycleScheduler.ROUND_ID));
+    BetRoundLifecycleScheduler.Action action =
+        BetRoundLifecycleScheduler.Action.valueOf(data.getString(BetRoundLifecycleScheduler.ACTION));
+    try {
+      switch (action) {
+        case OPEN -> bettingService.openBetRound(roundId);
+        case LOCK -> bettingService.closeBetRound(roundId);
+        case SETTLE -> {
+          // 마감 타이머가 누락된 경우(재시작 등)에도 마감 후 정산
+          bettingService.closeBetRound(roundId);
+          betRoundSettlementService.settleDue(roundId);
+        }
+      }
+    } catch (Exception e) {
+      log.error("BetRoundLifecycleJob failed: roundId={}, action={}", roundId, action, e);
+    }
+  }
+}
@@ -0,0 +1,151 @@
+package org.sejongisc.backend.betting.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.JobBuilder;
+import org.quartz.JobDetail;
+import org.quartz.JobKey;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.SimpleScheduleBuilder;
+import org.quartz.Trigger;
+import org.quartz.TriggerBuilder;
+import org.sejongisc.backend.betting.entity.BetRound;
+import org.sejongisc.backend.betting.repository.BetRoundRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 라운드별 생명주기 타이머 (오픈 / 마감 / 정산)
+ * - 라운드가 생성되면 openAt, lockAt, lockAt + 정산 지연 시각에 한 번씩 실행되는 Quartz 트리거를 등록
+ *   -> 고정 cron 으로 마감 대상 라운드를 조회하지 않고, 각 라운드가 자기 시각에 정확히 마감/정산됨
+ * - 시각은 bet_round 에 저장되어 있으므로, 기동 시 미정산 라운드 기준으로 트리거를 다시 등록 (재시작 후 복구)
+ * - 이미 지난 시각의 트리거는 등록 즉시 실행
+ * - 정산 재시도 한도를 넘긴 라운드는 하루 한 번 SETTLE 타이머를 다시 등록 (재시작 전까지 방치되지 않도록)
+ */
+@Slf4j
+@Component
+public class BetRoundLifecycleScheduler {
+
+  static final String JOB_GROUP = "bet-round-lifecycle";
+  static final String ROUND_ID = "roundId";
+  static final String ACTION = "action";
+
+  public enum Action {
+    OPEN,
+    LOCK,
+    SETTLE
+  }
+
+  private final Scheduler scheduler;
+  private final BetRoundRepository betRoundRepository;
+  private final Duration settleDelay;
+  private final int maxSettleAttempts;
+
+  public BetRoundLifecycleScheduler(
+      Scheduler scheduler,
+      BetRoundRepository betRoundRepository,
+      @Value("${betting.lifecycle.settle-delay:PT5M}") Duration settleDelay,
+      @Value("${betting.settlement.max-attempts:10}") int maxSettleAttempts
+  ) {
+    this.scheduler = scheduler;
+    this.betRoundRepository = betRoundRepository;
+    this.settleDelay = settleDelay;
+    this.maxSettleAttempts = maxSettleAttempts;
+  }
+
+  /**
+   * 기동 시 미정산 라운드의 타이머 복구
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void rebuild() {
+    List<BetRound> pending = betRoundRepository.findAllBySettleAtIsNullOrderByOpenAtDesc();
+    pending.forEach(this::register);
+    log.info("베팅 라운드 타이머 복구: {}건", pending.size());
+  }
+
+  /**
+   * 재시도 한도를 넘긴 정산 실패 라운드에 즉시 실행되는 SETTLE 타이머 재등록
+   * - 주기 재시도(BettingScheduler)는 한도 이내 라운드만 다시 정산하므로, 시세 지연 등이 해소된 라운드를 여기서 다시 정산
+   */
+  @Scheduled(cron = "${betting.lifecycle.exhausted-retry-cron:0 0 7 * * *}", zone = "Asia/Seoul")
+  public void rescheduleExhaustedSettlements() {
+    LocalDateTime now = LocalDateTime.now();
+    List<UUID> exhausted = betRoundRepository.findSettlementTargetIds(now, maxSettleAttempts, Integer.MAX_VALUE);
+    exhausted.forEach(roundId -> schedule(roundId, Action.SETTLE, now));
+    if (!exhausted.isEmpty()) {
+      log.warn("재시도 한도를 넘긴 정산 실패 라운드 재정산 등록: {}건 {}", exhausted.size(), exhausted);
+    }
+  }
+
+  /**
+   * 라운드 생성 트랜잭션 커밋 후 타이머 등록
+   */
+  public void registerAfterCommit(BetRound round) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          register(round);
+        }
+      });
+    } else {
+      register(round);
+    }
+  }
+
+  /**
+   * 라운드 상태에 맞는 타이머 등록 (같은 라운드/단계의 기존 타이머는 교체)
+   */
+  public void register(BetRound round) {
+    if (round.getSettleAt() != null || round.getLockAt() == null) {
+      return;
+    }
+    UUID roundId = round.getBetRoundID();
+    LocalDateTime now = LocalDateTime.now();
+    if (!round.isOpen() && round.getOpenAt() != null && round.getLockAt().isAfter(now)) {
+      schedule(roundId, Action.OPEN, round.getOpenAt());
+    }
+    if (round.isOpen() || round.getLockAt().isAfter(now)) {
+      schedule(roundId, Action.LOCK, round.getLockAt());
+    }
+    schedule(roundId, Action.SETTLE, round.getLockAt().plus(settleDelay));
+  }
+
+  private void schedule(UUID roundId, Action action, LocalDateTime at) {
+    JobKey key = jobKey(roundId, action);
+    JobDetail job = JobBuilder.newJob(BetRoundLifecycleJob.class)
+        .withIdentity(key)
+        .usingJobData(ROUND_ID, roundId.toString())
+        .usingJobData(ACTION, action.name())
+        .build();
+    Trigger trigger = TriggerBuilder.newTrigger()
+        .withIdentity(key.getName(), JOB_GROUP)
+        .forJob(job)
+        .startAt(Date.from(at.atZone(ZoneId.systemDefault()).toInstant()))
+        .withSchedule(SimpleScheduleBuilder.simpleSchedule().withMisfireHandlingInstructionFireNow())
+        .build();
+    try {
+      scheduler.scheduleJob(job, Set.of(trigger), true);
+      log.debug("베팅 라운드 타이머 등록: roundId={}, action={}, at={}", roundId, action, at);
+    } catch (SchedulerException e) {
+      // 재기동 시 복구 또는 관리자 수동 마감/정산 API 로 보완
+      log.error("베팅 라운드 타이머 등록 실패: roundId={}, action={}, at={}", roundId, action, at, e);
+    }
+  }
+
+  static JobKey jobKey(UUID roundId, Action action) {
+    return JobKey.jobKey(roundId + "-" + action.name(), JOB_GROUP);
+  }
+}
@@ -0,0 +1,227 @@
+package org.sejongisc.backend.betting.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.sejongisc.backend.betting.dto.BetRoundStats;
+import org.sejongisc.backend.betting.dto.BetSettlementFailureResponse;
+import org.sejongisc.backend.betting.dto.BetSettlementSummary;
+import org.sejongisc.backend.betting.entity.BetRound;
+import org.sejongisc.backend.betting.entity.BetStatus;
+import org.sejongisc.backend.betting.entity.UserBet;
+import org.sejongisc.backend.betting.repository.BetRoundRepository;
+import org.sejongisc.backend.betting.repository.UserBetRepository;
+import org.sejongisc.backend.common.exception.CustomException;
+import org.sejongisc.backend.common.exception.ErrorCode;
+import org.sejongisc.backend.point.entity.AccountName;
+import org.sejongisc.backend.point.service.AccountService;
+import org.sejongisc.backend.stock.entity.PriceData;
+import org.sejongisc.backend.stock.service.LatestPriceService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 라운드 단위 정산
+ * - 라운드마다 별도 트랜잭션(REQUIRES_NEW)으로 정산하므로, 한 라운드의 실패가 다른 라운드를 롤백시키지 않음
+ * - 정산 대상 라운드는 순서대로 하나씩 처리 (모든 라운드가 베팅 풀 대표 계정과 시스템 계정을 잠그므로 병렬로 돌려도 직렬화됨)
+ * - 실패한 라운드는 실패 횟수/사유를 기록하고, 주기적인 재시도에서 그 라운드만 다시 정산
+ * - 같은 라운드의 동시 정산(스케줄러 + 관리자 수동 실행)은 라운드 행 잠금 후 settleAt 재확인으로 방지
+ */
+@Slf4j
+@Service
+public class BetRoundSettlementService {
+
+  private static final int MAX_ERROR_LENGTH = 500;
+
+  private final BetRoundRepository betRoundRepository;
+  private final UserBetRepository userBetRepository;
+  private final AccountService accountService;
+  private final LatestPriceService latestPriceService;
+  private final BetSettlementEngine betSettlementEngine;
+  private final BetLeaderboardService betLeaderboardService;
+  private final BetHistoryService betHistoryService;
+  private final TransactionTemplate roundTransaction;
+  private final int maxAttempts;
+
+  public BetRoundSettlementService(
+      BetRoundRepository betRoundRepository,
+      UserBetRepository userBetRepository,
+      AccountService accountService,
+      LatestPriceService latestPriceService,
+      BetSettlementEngine betSettlementEngine,
+      BetLeaderboardService betLeaderboardService,
+      BetHistoryService betHistoryService,
+      PlatformTransactionManager transactionManager,
+      @Value("${betting.settlement.max-attempts:10}") int maxAttempts
+  ) {
+    this.betRoundRepository = betRoundRepository;
+    this.userBetRepository = userBetRepository;
+    this.accountService = accountService;
+    this.latestPriceService = latestPriceService;
+    this.betSettlementEngine = betSettlementEngine;
+    this.betLeaderboardService = betLeaderboardService;
+    this.betHistoryService = betHistoryService;
+    this.roundTransaction = new TransactionTemplate(transactionManager);
+    this.roundTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    this.maxAttempts = maxAttempts;
+  }
+
+  /**
+   * 정산 대상 라운드 전체 정산 (실패 횟수 제한 이내의 실패 라운드 포함)
+   */
+  public BetSettlementSummary settlePending() {
+    return settle(betRoundRepository.findSettlementTargetIds(LocalDateTime.now(), 0, maxAttempts));
+  }
+
+  /**
+   * 정산 시각이 된 라운드 정산 (라운드 타이머에서 호출, 이미 정산됐으면 건너뜀)
+   */
+  public BetSettlementSummary settleDue(UUID roundId) {
+    return settle(List.of(roundId));
+  }
+
+  /**
+   * 정산에 실패했던 라운드만 다시 정산
+   */
+  public BetSettlementSummary retryFailed() {
+    return settle(betRoundRepository.findSettlementTargetIds(LocalDateTime.now(), 1, maxAttempts));
+  }
+
+  private BetSettlementSummary settle(List<UUID> roundIds) {
+    if (roundIds.isEmpty()) {
+      return new BetSettlementSummary(List.of(), List.of());
+    }
+
+    prepare();
+
+    List<UUID> settled = new ArrayList<>();
+    List<BetSettlementSummary.Failure> failures = new ArrayList<>();
+    for (UUID roundId : roundIds) {
+      String error = settleIsolated(roundId);
+      if (error == null) {
+        settled.add(roundId);
+      } else {
+        failures.add(new BetSettlementSummary.Failure(roundId, error));
+      }
+    }
+    log.info("베팅 라운드 정산 완료: 성공 {}건, 실패 {}건", settled.size(), failures.size());
+    return new BetSettlementSummary(settled, failures);
+  }
+
+  /**
+   * 단일 라운드 정산 (관리자 수동 재시도, 실패 횟수 제한과 무관)
+   */
+  public BetSettlementSummary settleRound(UUID roundId) {
+    BetRound round = betRoundRepository.findById(roundId)
+        .orElseThrow(() -> new CustomException(ErrorCode.BET_ROUND_NOT_FOUND));
+    if (round.getSettleAt() != null) {
+      throw new CustomException(ErrorCode.BET_ROUND_ALREADY_SETTLED);
+    }
+    // 아직 오픈 전이거나 마감 시각 전인 라운드는 status 와 무관하게 정산하지 않음
+    if (round.isOpen() || round.getLockAt() == null || round.getLockAt().isAfter(LocalDateTime.now())) {
+      throw new CustomException(ErrorCode.BET_ROUND_NOT_CLOSED);
+    }
+
+    prepare();
+    String error = settleIsolated(roundId);
+    return error == null
+        ? new BetSettlementSummary(List.of(roundId), List.of())
+        : new BetSettlementSummary(List.of(), List.of(new BetSettlementSummary.Failure(roundId, error)));
+  }
+
+  /**
+   * 정산 실패 라운드 목록 (관리자 조회용)
+   */
+  public List<BetSettlementFailureResponse> getFailures() {
+    return betRoundRepository.findAllBySettleAtIsNullAndSettleAttemptsGreaterThanOrderBySettleFailedAtDesc(0).stream()
+        .map(BetSettlementFailureResponse::from)
+        .toList();
+  }
+
+  /**
+   * 라운드 정산 전 1회: 새 시세 반영, 베팅 풀 하위 계정 잔액을 대표 계정(stripe 0)으로 모음
+   * - 하위 계정 전체 잠금은 정산 묶음당 한 번만 필요하므로 라운드 트랜잭션과 분리해 먼저 실행
+   */
+  private void prepare() {
+    latestPriceService.refreshIfIngested();
+    roundTransaction.executeWithoutResult(status -> {
+      List<UUID> poolStripeIds = accountService.getStripedAccountIds(AccountName.BETTING_POOL);
+      betSettlementEngine.sweep(poolStripeIds.get(0), poolStripeIds);
+    });
+  }
+
+  /**
+   * 라운드 하나를 별도 트랜잭션에서 정산
+   *
+   * @return 실패 사유 (성공 시 null)
+   */
+  private String settleIsolated(UUID roundId) {
+    try {
+      roundTransaction.executeWithoutResult(status -> settleInTransaction(roundId));
+      return null;
+    } catch (Exception e) {
+      String error = truncate(e instanceof CustomException custom
+          ? custom.getErrorCode().name() + ": " + custom.getMessage()
+          : e.getClass().getSimpleName() + ": " + e.getMessage());
+      log.error("베팅 라운드 정산 실패: roundId={}, {}", roundId, error, e);
+      recordFailure(roundId, error);
+      return error;
+    }
+  }
+
+  private void settleInTransaction(UUID roundId) {
+    BetRound round = betRoundRepository.findByIdForSettlement(roundId)
+        .orElseThrow(() -> new CustomException(ErrorCode.BET_ROUND_NOT_FOUND));
+    if (round.getSettleAt() != null) {
+      log.info("이미 정산된 라운드 건너뜀: roundId={}", roundId);
+      return;
+    }
+
+    // 시세 누락 시 실패로 기록하고 다음 재시도에서 다시 정산
+    BigDecimal finalPrice = latestPriceService.getLatest(round.getSymbol())
+        .map(PriceData::getAdjustedClose)
+        .orElseThrow(() -> new CustomException(ErrorCode.PRICE_DATA_NOT_FOUND));
+
+    UUID poolAccountId = accountService.getStripedAccountIds(AccountName.BETTING_POOL).get(0);
+    UUID systemAccountId = accountService.getAccountByName(AccountName.SYSTEM_ISSUANCE).getAccountId();
+
+    List<UserBet> userBets = userBetRepository.findAllByRoundIn(List.of(round));
+    Map<UUID, UUID> userAccountIds = accountService.getUserAccountIds(userBets.stream()
+        .filter(bet -> bet.getBetStatus() == BetStatus.ACTIVE)
+        .map(UserBet::getUserId)
+        .collect(Collectors.toSet()));
+
+    // 배당 계산에 쓰이는 통계를 정산 대상 베팅 기준으로 확정
+    BetRoundStats stats = BetRoundStats.fromBets(userBets);
+    round.applyStats(stats.upBetCount(), stats.upTotalPoints(), stats.downBetCount(), stats.downTotalPoints());
+    round.settle(finalPrice);
+
+    betSettlementEngine.settle(round, userBets, userAccountIds, poolAccountId, systemAccountId);
+
+    // 커밋 후 리더보드 점수 반영, 이력 첫 페이지 캐시 비움
+    betLeaderboardService.recordAfterCommit(round.getSettleAt(), userBets);
+    betHistoryService.evictNewestAfterCommit(userBets.stream().map(UserBet::getUserId).toList());
+    log.info("베팅 라운드 정산: roundId={}, result={}, bets={}", roundId, round.getResultOption(), userBets.size());
+  }
+
+  private void recordFailure(UUID roundId, String error) {
+    try {
+      roundTransaction.executeWithoutResult(status ->
+          betRoundRepository.recordSettleFailure(roundId, error, LocalDateTime.now()));
+    } catch (Exception e) {
+      log.error("베팅 라운드 정산 실패 기록 실패: roundId={}", roundId, e);
+    }
+  }
+
+  private static String truncate(String error) {
+    return error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+  }
+}
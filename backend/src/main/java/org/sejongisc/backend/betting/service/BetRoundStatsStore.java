@@ -0,0 +1,212 @@
+package org.sejongisc.backend.betting.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.sejongisc.backend.betting.dto.BetRoundStats;
+import org.sejongisc.backend.betting.entity.BetOption;
+import org.sejongisc.backend.betting.entity.BetRound;
+import org.sejongisc.backend.betting.entity.BetStatus;
+import org.sejongisc.backend.betting.repository.BetRoundRepository;
+import org.sejongisc.backend.betting.repository.UserBetRepository;
+import org.sejongisc.backend.common.redis.RedisKey;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 베팅 라운드 실시간 통계 (Redis hash)
+ * - 베팅 등록/취소는 bet_round 행을 갱신하지 않고, 커밋 후 Redis 카운터만 원자적으로 증감합니다.
+ * - 실시간 화면(활성 라운드, 배당 스트림)은 Redis 값을 읽고, BetRound 에는 주기적으로 한 번에 기록합니다.
+ * - Redis 키가 없으면 (재시작, 만료 등) UserBet 기준으로 다시 집계해 채웁니다.
+ *   동시에 여러 베팅이 재구성하면 먼저 기록한 집계가 늦게 커밋된 베팅을 빠뜨렸을 수 있으므로, 기록에 진 쪽은 자기 증감을 다시 반영합니다.
+ * - 주기적 기록은 UserBet 기준 재집계 값을 BetRound 에 쓰고 Redis 카운터도 그 값으로 보정하므로, 카운터 오차는 기록 주기 안에서만 남습니다.
+ * - 마감 시에는 UserBet 기준 재집계 값을 BetRound 에 기록하므로, Redis 카운터 오차가 정산에 영향을 주지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BetRoundStatsStore {
+
+  private static final String UP_COUNT = "upCount";
+  private static final String UP_POINTS = "upPoints";
+  private static final String DOWN_COUNT = "downCount";
+  private static final String DOWN_POINTS = "downPoints";
+
+  // 키가 있을 때만 증감 (없으면 -1 을 반환하고, 호출 측에서 UserBet 기준으로 재구성)
+  static final RedisScript<Long> INCREMENT = new DefaultRedisScript<>("""
+      if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end
+      redis.call('HINCRBY', KEYS[1], ARGV[1], ARGV[2])
+      redis.call('HINCRBY', KEYS[1], ARGV[3], ARGV[4])
+      redis.call('PEXPIRE', KEYS[1], ARGV[5])
+      return 1
+      """, Long.class);
+
+  // 전체 값 기록 (ARGV[10] == '1' 이면 키가 없을 때만)
+  static final RedisScript<Long> WRITE = new DefaultRedisScript<>("""
+      if ARGV[10] == '1' and redis.call('EXISTS', KEYS[1]) == 1 then return 0 end
+      redis.call('HSET', KEYS[1], ARGV[1], ARGV[2], ARGV[3], ARGV[4], ARGV[5], ARGV[6], ARGV[7], ARGV[8])
+      redis.call('PEXPIRE', KEYS[1], ARGV[9])
+      return 1
+      """, Long.class);
+
+  private final RedisTemplate<String, Object> redisTemplate;
+  private final UserBetRepository userBetRepository;
+  private final BetRoundRepository betRoundRepository;
+
+  /**
+   * 베팅 등록(placed = true) / 취소(placed = false)를 커밋 후 카운터에 반영
+   */
+  public void recordAfterCommit(UUID roundId, BetOption option, int stake, boolean placed) {
+    Runnable record = () -> increment(roundId, option, placed ? 1 : -1, placed ? stake : -stake);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          record.run();
+        }
+      });
+    } else {
+      record.run();
+    }
+  }
+
+  /**
+   * 실시간 통계 조회 (Redis 장애 시 UserBet 기준 집계)
+   */
+  public BetRoundStats get(UUID roundId) {
+    try {
+      Map<Object, Object> hash = redisTemplate.opsForHash().entries(key(roundId));
+      if (!hash.isEmpty()) {
+        return new BetRoundStats(
+            (int) number(hash, UP_COUNT), number(hash, UP_POINTS),
+            (int) number(hash, DOWN_COUNT), number(hash, DOWN_POINTS));
+      }
+      return rebuild(roundId);
+    } catch (Exception e) {
+      log.warn("라운드 통계 Redis 조회 실패, DB 집계로 대체: roundId={}, {}", roundId, e.getMessage());
+      return countFromBets(roundId);
+    }
+  }
+
+  /**
+   * UserBet 기준 집계 (활성 베팅만)
+   */
+  public BetRoundStats countFromBets(UUID roundId) {
+    int upCount = 0;
+    long upPoints = 0;
+    int downCount = 0;
+    long downPoints = 0;
+    for (UserBetRepository.OptionStats row : userBetRepository.aggregateByOption(roundId, BetStatus.ACTIVE)) {
+      if (row.getOption() == BetOption.RISE) {
+        upCount = row.getBetCount().intValue();
+        upPoints = row.getTotalPoints();
+      } else {
+        downCount = row.getBetCount().intValue();
+        downPoints = row.getTotalPoints();
+      }
+    }
+    return new BetRoundStats(upCount, upPoints, downCount, downPoints);
+  }
+
+  /**
+   * 확정된 통계로 카운터를 덮어씀 (마감 시)
+   */
+  public void overwriteAfterCommit(UUID roundId, BetRoundStats stats) {
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        overwrite(roundId, stats);
+      }
+    });
+  }
+
+  /**
+   * 진행 중인 라운드의 통계를 UserBet 기준으로 재집계해 BetRound 에 기록하고 Redis 카운터를 보정 (라운드당 UPDATE 1회)
+   */
+  @Scheduled(fixedDelayString = "${betting.stats.flush-interval-ms:60000}")
+  @Transactional
+  public void flushOpenRounds() {
+    List<BetRound> openRounds = betRoundRepository.findAllByStatusTrue();
+    for (BetRound round : openRounds) {
+      UUID roundId = round.getBetRoundID();
+      BetRoundStats stats = countFromBets(roundId);
+      overwrite(roundId, stats);
+      if (stats.equals(BetRoundStats.of(round))) continue;
+      betRoundRepository.updateStats(roundId,
+          stats.upBetCount(), stats.upTotalPoints(), stats.downBetCount(), stats.downTotalPoints());
+    }
+  }
+
+  private void increment(UUID roundId, BetOption option, int countDelta, int pointsDelta) {
+    try {
+      Long result = incrementIfPresent(roundId, option, countDelta, pointsDelta);
+      if (result != null && result < 0) {
+        // 이미 커밋된 이번 베팅까지 포함해 재집계
+        BetRoundStats stats = countFromBets(roundId);
+        if (write(roundId, stats, true)) {
+          log.info("라운드 통계 재구성: roundId={}, stats={}", roundId, stats);
+        } else {
+          // 다른 재구성이 먼저 기록함: 그 집계는 이번 베팅 커밋 전에 읽혔을 수 있으므로 이번 증감을 다시 반영
+          incrementIfPresent(roundId, option, countDelta, pointsDelta);
+        }
+      }
+    } catch (Exception e) {
+      // 카운터 오차는 주기적 기록/마감 시 재집계로 보정됨
+      log.warn("라운드 통계 Redis 반영 실패: roundId={}, {}", roundId, e.getMessage());
+    }
+  }
+
+  private Long incrementIfPresent(UUID roundId, BetOption option, int countDelta, int pointsDelta) {
+    boolean rise = option == BetOption.RISE;
+    return redisTemplate.execute(INCREMENT, List.of(key(roundId)),
+        rise ? UP_COUNT : DOWN_COUNT, String.valueOf(countDelta),
+        rise ? UP_POINTS : DOWN_POINTS, String.valueOf(pointsDelta),
+        String.valueOf(RedisKey.BET_ROUND_STATS.getTtl().toMillis()));
+  }
+
+  private BetRoundStats rebuild(UUID roundId) {
+    BetRoundStats stats = countFromBets(roundId);
+    write(roundId, stats, true);
+    log.info("라운드 통계 재구성: roundId={}, stats={}", roundId, stats);
+    return stats;
+  }
+
+  private void overwrite(UUID roundId, BetRoundStats stats) {
+    try {
+      write(roundId, stats, false);
+    } catch (Exception e) {
+      log.warn("라운드 통계 Redis 기록 실패: roundId={}, {}", roundId, e.getMessage());
+    }
+  }
+
+  /**
+   * @return 기록 여부 (onlyIfAbsent 이고 키가 이미 있으면 false)
+   */
+  private boolean write(UUID roundId, BetRoundStats stats, boolean onlyIfAbsent) {
+    Long written = redisTemplate.execute(WRITE, List.of(key(roundId)),
+        UP_COUNT, String.valueOf(stats.upBetCount()),
+        UP_POINTS, String.valueOf(stats.upTotalPoints()),
+        DOWN_COUNT, String.valueOf(stats.downBetCount()),
+        DOWN_POINTS, String.valueOf(stats.downTotalPoints()),
+        String.valueOf(RedisKey.BET_ROUND_STATS.getTtl().toMillis()),
+        onlyIfAbsent ? "1" : "0");
+    return written != null && written == 1;
+  }
+
+  private static long number(Map<Object, Object> hash, String field) {
+    Object value = hash.get(field);
+    return value == null ? 0 : Long.parseLong(value.toString());
+  }
+
+  private static String key(UUID roundId) {
+    return RedisKey.BET_ROUND_STATS.getKey(roundId.toString());
+  }
+}
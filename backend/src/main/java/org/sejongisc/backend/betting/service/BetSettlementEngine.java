@@ -0,0 +1,216 @@
+package org.sejongisc.backend.betting.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.sejongisc.backend.betting.entity.BetOption;
+import org.sejongisc.backend.betting.entity.BetRound;
+import org.sejongisc.backend.betting.entity.BetStatus;
+import org.sejongisc.backend.betting.entity.UserBet;
+import org.sejongisc.backend.common.exception.CustomException;
+import org.sejongisc.backend.common.exception.ErrorCode;
+import org.sejongisc.backend.point.dto.AccountEntry;
+import org.sejongisc.backend.point.dto.PointTransactionRequest;
+import org.sejongisc.backend.point.entity.Account;
+import org.sejongisc.backend.point.entity.TransactionReason;
+import org.sejongisc.backend.point.service.AccountService;
+import org.sejongisc.backend.point.service.PointLedgerService;
+import org.springframework.stereotype.Component;
+
+/**
+ * 베팅 라운드 일괄 정산
+ * - 라운드의 모든 베팅 결과와 포인트 이동을 메모리에서 먼저 계산하고 (plan),
+ *   관련 계정을 잠근 뒤 PointLedgerService.processTransactions 로 한 번에 기록합니다. (apply)
+ * - 원장 기록/잔액 반영 규칙(합계 검증, 계정별 순증감 1회 반영, 버전 증가, 생성 시각)은 PointLedgerService 한 곳에서만 관리합니다.
+ * - 호출하는 트랜잭션 안에서 실행됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BetSettlementEngine {
+
+  static final int FREE_BET_REWARD = 10;
+
+  private final AccountService accountService;
+  private final PointLedgerService pointLedgerService;
+
+  /**
+   * 정산된 라운드(round.settle 이후)의 베팅 결과를 확정하고 포인트 이동을 반영
+   *
+   * @param userAccountIds 사용자 ID → 사용자 계정 ID (참여자 전원, 한 번에 미리 조회)
+   */
+  public SettlementPlan settle(BetRound round, List<UserBet> bets, Map<UUID, UUID> userAccountIds,
+                               UUID poolAccountId, UUID systemAccountId) {
+    SettlementPlan plan = plan(round, bets, userAccountIds, poolAccountId, systemAccountId);
+    apply(plan);
+    log.info("베팅 라운드 정산 완료: roundId={}, postings={}, residual={}",
+        round.getBetRoundID(), plan.postings().size(), plan.residual());
+    return plan;
+  }
+
+  /**
+   * 베팅별 결과(win/lose/draw)를 엔티티에 반영하고, 발생할 거래 목록과 계정별 순증감을 계산
+   */
+  static SettlementPlan plan(BetRound round, List<UserBet> bets, Map<UUID, UUID> userAccountIds,
+                             UUID poolAccountId, UUID systemAccountId) {
+    UUID roundId = round.getBetRoundID();
+    BetOption resultOption = round.getResultOption();
+    long winningPool = resultOption == BetOption.RISE ? round.getUpTotalPoints() : round.getDownTotalPoints();
+    long totalPool = round.getUpTotalPoints() + round.getDownTotalPoints();
+
+    List<Posting> postings = new ArrayList<>();
+    // 해당 라운드에서 풀에서 나갈 포인트 합
+    long paidFromPool = 0;
+
+    for (UserBet bet : bets) {
+      if (bet.getBetStatus() != BetStatus.ACTIVE) continue;
+
+      if (round.isDraw()) {
+        // 가격 변동이 없을 시 참여자 전원 원금 환불
+        if (!bet.isFree() && bet.getStakePoints() > 0) {
+          postings.add(new Posting(TransactionReason.BETTING_REFUND, roundId,
+              poolAccountId, userAccount(userAccountIds, bet), bet.getStakePoints()));
+          paidFromPool += bet.getStakePoints();
+        }
+        bet.draw();
+      } else if (bet.getOption() == resultOption) {
+        // 예측 성공 시 보상 포인트 지급 (무료 베팅은 시스템 계정에서 지급)
+        int reward = calculateReward(bet, totalPool, winningPool);
+        bet.win(reward);
+        if (reward <= 0) continue;
+
+        if (bet.isFree()) {
+          postings.add(new Posting(TransactionReason.BETTING_REWARD, roundId,
+              systemAccountId, userAccount(userAccountIds, bet), reward));
+        } else {
+          postings.add(new Posting(TransactionReason.BETTING_REWARD, roundId,
+              poolAccountId, userAccount(userAccountIds, bet), reward));
+          paidFromPool += reward;
+        }
+      } else {
+        // 예측 실패 시 포인트 소멸
+        bet.lose();
+      }
+    }
+
+    // 보상 소수점 처리 후 잔여금: 베팅 풀 -> 시스템 계정으로 이동
+    long residual = totalPool - paidFromPool;
+    if (residual > 0) {
+      postings.add(new Posting(TransactionReason.BETTING_RESIDUAL, roundId, poolAccountId, systemAccountId, residual));
+    }
+
+    Map<UUID, Long> deltas = new TreeMap<>();
+    for (Posting posting : postings) {
+      deltas.merge(posting.creditAccountId(), -posting.amount(), Long::sum);
+      deltas.merge(posting.debitAccountId(), posting.amount(), Long::sum);
+    }
+    deltas.values().removeIf(delta -> delta == 0);
+
+    return new SettlementPlan(roundId, List.copyOf(postings), deltas, residual);
+  }
+
+  /**
+   * 배당률에 따른 보상 계산
+   * - 무료: 맞추면 10P
+   * - 유료: 내 베팅액 * (전체 포인트 / 정답 측 포인트 합), 소수점 floor -> 남는 포인트는 시스템으로 이동됨
+   */
+  static int calculateReward(UserBet bet, long totalPool, long winningPool) {
+    if (bet.isFree()) {
+      return FREE_BET_REWARD;
+    }
+    // 호출 시점에 정답자 존재가 보장되지만 ArithmeticException 방지용
+    if (winningPool == 0) {
+      return 0;
+    }
+    double multiplier = (double) totalPool / winningPool;
+    return (int) Math.floor(bet.getStakePoints() * multiplier);
+  }
+
+  /**
+   * 분할된 베팅 풀의 하위 계정 잔액을 대표 계정으로 모음 (정산 전 1회)
+   * - 하위 계정을 모두 잠근 상태에서 잔액을 읽어, 한 거래(다중 분개)로 대표 계정에 이동
+   *
+   * @return 대표 계정으로 이동한 포인트 합
+   */
+  public long sweep(UUID primaryAccountId, List<UUID> stripeAccountIds) {
+    if (stripeAccountIds.size() <= 1) {
+      return 0;
+    }
+    Map<UUID, Account> stripes = accountService.lockAccounts(stripeAccountIds);
+    List<AccountEntry> entries = new ArrayList<>();
+    long moved = 0;
+    for (UUID accountId : stripeAccountIds) {
+      long balance = stripes.get(accountId).getBalance();
+      if (!accountId.equals(primaryAccountId) && balance != 0) {
+        // 취소 환불로 잔액이 음수인 하위 계정은 대표 계정에서 채워 넣음
+        entries.add(entry(stripes.get(accountId), -balance));
+        moved += balance;
+      }
+    }
+    if (entries.isEmpty()) {
+      return 0;
+    }
+    if (moved != 0) {
+      entries.add(entry(stripes.get(primaryAccountId), moved));
+    }
+
+    pointLedgerService.processTransactions(List.of(
+        new PointTransactionRequest(TransactionReason.BETTING_POOL_SWEEP, primaryAccountId, entries)));
+    log.info("베팅 풀 하위 계정 잔액 통합: moved={}", moved);
+    return moved;
+  }
+
+  /**
+   * 거래 목록을 원장 일괄 처리(PointLedgerService.processTransactions)로 반영
+   * - 관련 계정을 ID 순으로 먼저 잠가 동시 정산 간 교착 방지
+   */
+  private void apply(SettlementPlan plan) {
+    if (plan.postings().isEmpty()) {
+      return;
+    }
+    Set<UUID> accountIds = new TreeSet<>();
+    for (Posting posting : plan.postings()) {
+      accountIds.add(posting.creditAccountId());
+      accountIds.add(posting.debitAccountId());
+    }
+    Map<UUID, Account> accounts = accountService.lockAccounts(accountIds);
+
+    List<PointTransactionRequest> requests = new ArrayList<>(plan.postings().size());
+    for (Posting posting : plan.postings()) {
+      requests.add(PointTransactionRequest.of(posting.reason(), posting.refId(),
+          AccountEntry.credit(accounts.get(posting.creditAccountId()), posting.amount()),
+          AccountEntry.debit(accounts.get(posting.debitAccountId()), posting.amount())));
+    }
+    pointLedgerService.processTransactions(requests);
+  }
+
+  private static AccountEntry entry(Account account, long amount) {
+    return amount > 0 ? AccountEntry.debit(account, amount) : AccountEntry.credit(account, amount);
+  }
+
+  private static UUID userAccount(Map<UUID, UUID> userAccountIds, UserBet bet) {
+    UUID accountId = userAccountIds.get(bet.getUserId());
+    if (accountId == null) {
+      throw new CustomException(ErrorCode.ACCOUNT_NOT_FOUND);
+    }
+    return accountId;
+  }
+
+  /**
+   * 거래 한 건 (credit 계정 → debit 계정으로 amount 이동)
+   */
+  public record Posting(TransactionReason reason, UUID refId, UUID creditAccountId, UUID debitAccountId, long amount) {
+  }
+
+  /**
+   * @param deltas 계정 ID → 순증감 (0 인 계정은 제외)
+   */
+  public record SettlementPlan(UUID roundId, List<Posting> postings, Map<UUID, Long> deltas, long residual) {
+  }
+}
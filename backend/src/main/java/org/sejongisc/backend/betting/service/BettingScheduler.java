@@ -16,6 +16,7 @@ import java.time.ZoneId;
 public class BettingScheduler {
 
     private final BettingService bettingService;
+    private final BetRoundSettlementService betRoundSettlementService;
 
     @Scheduled(cron = "0 0 9 * * MON-FRI", zone = "Asia/Seoul")
     public void openScheduler() {
@@ -28,14 +29,12 @@ public class BettingScheduler {
         }
     }
 
-    @Scheduled(cron = "0 0 22 * * MON-FRI", zone = "Asia/Seoul")
-    public void closeScheduler() {
-        bettingService.closeBetRound();
-    }
+    // 마감/정산은 라운드 생성 시 등록되는 라운드별 타이머(BetRoundLifecycleScheduler)에서 실행
 
-    @Scheduled(cron = "0 5 22 * * MON-FRI", zone = "Asia/Seoul")
-    public void settleScheduler() {
-        bettingService.settleUserBets();
+    // 정산 실패 라운드만 재시도 (대상이 없으면 조회 1회로 종료)
+    @Scheduled(fixedDelayString = "${betting.settlement.retry-interval-ms:600000}", initialDelayString = "${betting.settlement.retry-interval-ms:600000}")
+    public void settleRetryScheduler() {
+        betRoundSettlementService.retryFailed();
     }
 
 }
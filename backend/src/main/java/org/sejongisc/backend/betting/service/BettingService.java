@@ -5,32 +5,33 @@ import lombok.extern.slf4j.Slf4j;
 import org.sejongisc.backend.activity.entity.ActivityType;
 import org.sejongisc.backend.activity.event.ActivityEvent;
 import org.sejongisc.backend.betting.dto.BetRoundResponse;
+import org.sejongisc.backend.betting.dto.BetRoundStats;
+import org.sejongisc.backend.betting.dto.BetSettlementSummary;
 import org.sejongisc.backend.betting.dto.PriceResponse;
 import org.sejongisc.backend.betting.dto.UserBetRequest;
 import org.sejongisc.backend.betting.entity.*;
+import org.sejongisc.backend.betting.event.BetRoundStatsChangedEvent;
 import org.sejongisc.backend.betting.repository.BetRoundRepository;
 import org.sejongisc.backend.betting.repository.UserBetRepository;
 import org.sejongisc.backend.common.exception.CustomException;
 import org.sejongisc.backend.common.exception.ErrorCode;
 import org.sejongisc.backend.common.annotation.OptimisticRetry;
 import org.sejongisc.backend.point.dto.AccountEntry;
-import org.sejongisc.backend.point.entity.Account;
 import org.sejongisc.backend.point.entity.AccountName;
 import org.sejongisc.backend.point.entity.TransactionReason;
 import org.sejongisc.backend.point.service.AccountService;
 import org.sejongisc.backend.point.service.PointLedgerService;
 import org.sejongisc.backend.stock.entity.PriceData;
 import org.sejongisc.backend.stock.repository.PriceDataRepository;
+import org.sejongisc.backend.stock.service.LatestPriceService;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.sejongisc.backend.betting.dto.UserBetResponse;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -42,19 +43,15 @@ public class BettingService {
     private final AccountService accountService;
     private final PointLedgerService pointLedgerService;
     private final PriceDataRepository priceDataRepository;
+    private final LatestPriceService latestPriceService;
     private final ApplicationEventPublisher eventPublisher;
+    private final BetRoundStatsStore betRoundStatsStore;
+    private final BetRoundSettlementService betRoundSettlementService;
+    private final BetRoundLifecycleScheduler betRoundLifecycleScheduler;
 
     private final Random random = new Random();
 
 
-    /**
-     * 전체 베팅 라운드 목록 조회
-     */
-    @Transactional(readOnly = true)
-    public List<BetRound> getAllBetRounds() {
-        return betRoundRepository.findAllByOrderBySettleAtDesc();
-    }
-
     /**
      * PriceData 기반 무작위 종목 선택 (기존 Stock 대체)
      */
@@ -67,7 +64,7 @@ public class BettingService {
                 return new CustomException(ErrorCode.STOCK_NOT_FOUND);
             });
 
-        PriceData latest = priceDataRepository.findTopByTickerOrderByDateDesc(randomTicker)
+        PriceData latest = latestPriceService.getLatest(randomTicker)
                 .orElseThrow(() -> new CustomException(ErrorCode.STOCK_NOT_FOUND));
 
         return PriceResponse.builder()
@@ -86,19 +83,6 @@ public class BettingService {
         return random.nextDouble() < 0.2;
     }
 
-    /**
-     * 사용자의 전체 베팅 내역 조회
-     */
-    @Transactional(readOnly = true)
-    public List<UserBetResponse> getAllMyBets(UUID userId) {
-        List<UserBet> userBets = userBetRepository.findAllByUserIdOrderByRound_SettleAtDesc(userId);
-
-        // Entity List -> DTO List 변환
-        return userBets.stream()
-                .map(UserBetResponse::from)
-                .toList();
-    }
-
     /**
      * 새로운 베팅 라운드 생성
      */
@@ -119,21 +103,58 @@ public class BettingService {
                 .previousClosePrice(price.getPreviousClosePrice())
                 .build();
 
-        betRound.open();
+        // 오픈 시각이 지났으면 바로 오픈, 아니면 오픈 타이머에서 오픈
+        if (!betRound.getOpenAt().isAfter(now)) {
+            betRound.open();
+        }
         betRoundRepository.save(betRound);
+        // 커밋 후 오픈/마감/정산 타이머 등록
+        betRoundLifecycleScheduler.registerAfterCommit(betRound);
         log.info("베팅 라운드 생성 완료: roundId={}, symbol={}", betRound.getBetRoundID(), betRound.getSymbol());
     }
 
     /**
-     * 종료 조건을 만족한 라운드 종료
+     * 라운드 오픈 (오픈 타이머)
+     */
+    @Transactional
+    public void openBetRound(UUID roundId) {
+        betRoundRepository.findById(roundId).ifPresent(round -> {
+            if (round.isOpen() || round.getSettleAt() != null || !LocalDateTime.now().isBefore(round.getLockAt())) {
+                return;
+            }
+            round.open();
+            log.info("베팅 라운드 오픈: roundId={}", roundId);
+        });
+    }
+
+    /**
+     * 종료 조건을 만족한 라운드 일괄 종료 (관리자 수동 실행)
      */
     @Transactional
     public void closeBetRound() {
         LocalDateTime now = LocalDateTime.now();
-        List<BetRound> toClose = betRoundRepository.findByStatusTrueAndLockAtLessThanEqual(now);
-        if (toClose.isEmpty()) return;
+        betRoundRepository.findByStatusTrueAndLockAtLessThanEqual(now).forEach(this::close);
+    }
+
+    /**
+     * 라운드 마감 (마감 타이머, 이미 마감됐으면 무시)
+     */
+    @Transactional
+    public void closeBetRound(UUID roundId) {
+        betRoundRepository.findById(roundId)
+            .filter(BetRound::isOpen)
+            .ifPresent(this::close);
+    }
 
-        toClose.forEach(BetRound::close);
+    private void close(BetRound round) {
+        round.close();
+        // 마감 시점 통계는 UserBet 기준으로 재집계해 한 번에 기록
+        BetRoundStats stats = betRoundStatsStore.countFromBets(round.getBetRoundID());
+        round.applyStats(stats.upBetCount(), stats.upTotalPoints(), stats.downBetCount(), stats.downTotalPoints());
+        betRoundStatsStore.overwriteAfterCommit(round.getBetRoundID(), stats);
+        // 배당 구독자에게 마감 상태 전달
+        eventPublisher.publishEvent(new BetRoundStatsChangedEvent(round.getBetRoundID()));
+        log.info("베팅 라운드 마감: roundId={}", round.getBetRoundID());
     }
 
     /**
@@ -169,12 +190,9 @@ public class BettingService {
         // 베팅 포인트 결정
         int stake = userBetRequest.isFree() ? 0 : userBetRequest.getStakePoints();
 
-        // 라운드 통계 업데이트
-        if (userBetRequest.getOption() == BetOption.RISE) {
-            betRoundRepository.incrementUpStats(betRound.getBetRoundID(), stake);
-        } else {
-            betRoundRepository.incrementDownStats(betRound.getBetRoundID(), stake);
-        }
+        // 라운드 통계 업데이트 (커밋 후 Redis 카운터에 반영)
+        betRoundStatsStore.recordAfterCommit(betRound.getBetRoundID(), userBetRequest.getOption(), stake, true);
+        eventPublisher.publishEvent(new BetRoundStatsChangedEvent(betRound.getBetRoundID()));
 
         // 사용자 포인트 차감 및 이력 생성 (유료 베팅인 경우)
         if (!userBetRequest.isFree() && stake > 0) {
@@ -182,7 +200,7 @@ public class BettingService {
                 TransactionReason.BETTING_STAKE,
                 userBetRequest.getRoundId(),
                 AccountEntry.credit(accountService.getUserAccount(userId), (long) stake),
-                AccountEntry.debit(accountService.getAccountByName(AccountName.BETTING_POOL), (long) stake)
+                AccountEntry.debit(accountService.getStripedAccount(AccountName.BETTING_POOL, userId), (long) stake)
             );
         }
 
@@ -227,7 +245,7 @@ public class BettingService {
     @Transactional(readOnly = true)
     public Optional<BetRoundResponse> getActiveRoundResponse(Scope type) {
         return betRoundRepository.findTopByStatusTrueAndScopeOrderByOpenAtDesc(type)
-                .map(BetRoundResponse::from);
+                .map(round -> BetRoundResponse.from(round, betRoundStatsStore.get(round.getBetRoundID())));
     }
 
     /**
@@ -261,153 +279,23 @@ public class BettingService {
             pointLedgerService.processTransaction(
                 TransactionReason.BETTING_CANCEL,
                 roundId,
-                AccountEntry.credit(accountService.getAccountByName(AccountName.BETTING_POOL), (long) stake),
+                AccountEntry.credit(accountService.getStripedAccount(AccountName.BETTING_POOL, userId), (long) stake),
                 AccountEntry.debit(accountService.getUserAccount(userId), (long) stake)
             );
         }
 
-        // 통계 차감
-        if (userBet.getOption() == BetOption.RISE) {
-            betRoundRepository.decrementUpStats(roundId, stake);
-        } else {
-            betRoundRepository.decrementDownStats(roundId, stake);
-        }
+        // 통계 차감 (커밋 후 Redis 카운터에 반영)
+        betRoundStatsStore.recordAfterCommit(roundId, userBet.getOption(), stake, false);
+        eventPublisher.publishEvent(new BetRoundStatsChangedEvent(roundId));
         log.info("사용자 베팅 취소 완료: userId={}, userBetId={}", userId, userBetId);
     }
 
 
     /**
      * 베팅 결과 정산
+     * - 라운드별 별도 트랜잭션으로 병렬 정산하며, 실패한 라운드는 기록 후 재시도 대상이 됨
      */
-    @Transactional
-    @OptimisticRetry
-    public void settleUserBets() {
-        LocalDateTime now = LocalDateTime.now();
-        Account poolAccount = accountService.getAccountByName(AccountName.BETTING_POOL);
-        Account systemAccount = accountService.getAccountByName(AccountName.SYSTEM_ISSUANCE);
-
-        // 정산 대상 활성 라운드 조회
-        List<BetRound> activeRounds =
-                betRoundRepository.findByStatusFalseAndSettleAtIsNullAndLockAtLessThanEqual(now);
-
-        // 활성 라운드의 전체 베팅 한 번에 조회
-        List<UserBet> allUserBets = userBetRepository.findAllByRoundIn(activeRounds);
-
-        // 라운드별 그룹화
-        Map<UUID, List<UserBet>> betMap = allUserBets.stream()
-            .collect(Collectors.groupingBy(bet -> bet.getRound().getBetRoundID()));
-
-        for (BetRound round : activeRounds) {
-            // PriceData를 이용해 시세 조회
-            Optional<PriceData> priceOpt = priceDataRepository.findTopByTickerOrderByDateDesc(round.getSymbol());
-            if (priceOpt.isEmpty()) {
-                log.warn("베팅 라운드 정산 실패: 시세 정보 누락으로 정산이 불가능합니다. symbol={}, roundId={}", round.getSymbol(), round.getBetRoundID());
-                continue;
-            }
-
-            PriceData price = priceOpt.get();
-            BigDecimal finalPrice = price.getAdjustedClose();
-
-            if (finalPrice == null) continue;
-
-            // 라운드 정산
-            round.settle(finalPrice);
-
-            // 현재 라운드의 베팅 리스트
-            List<UserBet> userBets = betMap.getOrDefault(round.getBetRoundID(), Collections.emptyList());
-            BetOption resultOption = round.getResultOption();
-            // 해당 라운드에서 나갈 포인트 합
-            long totalStake = 0;
-
-            for (UserBet bet : userBets) {
-                if (bet.getBetStatus() != BetStatus.ACTIVE) continue;
-
-                Account userAccount = accountService.getUserAccount(bet.getUserId());
-
-                if (round.isDraw()) {
-                    // 가격 변동이 없을 시 참여자 전원 원금 환불
-                    if (!bet.isFree() && bet.getStakePoints() > 0) {
-                        pointLedgerService.processTransaction(
-                            TransactionReason.BETTING_REFUND,
-                            round.getBetRoundID(),
-                            AccountEntry.credit(poolAccount, (long) bet.getStakePoints()),
-                            AccountEntry.debit(userAccount, (long) bet.getStakePoints())
-                        );
-                        totalStake += bet.getStakePoints();
-                    }
-                    bet.draw();
-                } else if (bet.getOption() == resultOption) {
-                    // 예측 성공 시 보상 포인트 지급
-                    int reward = calculateReward(bet);
-                    bet.win(reward);
-
-                    if (bet.isFree()) {
-                        // 무료 베팅: 시스템 -> 사용자 보상 지급
-                        pointLedgerService.processTransaction(
-                            TransactionReason.BETTING_REWARD,
-                            round.getBetRoundID(),
-                            AccountEntry.credit(systemAccount, (long) reward),
-                            AccountEntry.debit(userAccount, (long) reward)
-                        );
-                    }
-                    else {
-                        pointLedgerService.processTransaction(
-                            TransactionReason.BETTING_REWARD,
-                            round.getBetRoundID(),
-                            AccountEntry.credit(poolAccount, (long) reward),
-                            AccountEntry.debit(userAccount, (long) reward)
-                        );
-                        totalStake += reward;
-                    }
-                } else {
-                    // 예측 실패 시 포인트 소멸
-                    bet.lose();
-                }
-            }
-
-            // 보상 소수점 처리 후 잔여금: 베팅 풀 -> 시스템 게정으로 이동
-            long residual = round.getUpTotalPoints() + round.getDownTotalPoints() - totalStake;
-
-            if (residual > 0) {
-                pointLedgerService.processTransaction(
-                    TransactionReason.BETTING_RESIDUAL,
-                    round.getBetRoundID(),
-                    AccountEntry.credit(accountService.getAccountByName(AccountName.BETTING_POOL), residual),
-                    AccountEntry.debit(accountService.getAccountByName(AccountName.SYSTEM_ISSUANCE), residual)
-                );
-            }
-            log.info("베팅 라운드 정산 완료: roundId={}, residual={}", round.getBetRoundID(), residual);
-        }
-    }
-
-    /**
-     * 배당률에 따른 보상 계산
-     * - 무료: 맞추면 10P
-     * - 유료: 배당률 적용
-     */
-    private int calculateReward(UserBet bet) {
-        BetRound round = bet.getRound();
-
-        // 무료 베팅: 10 포인트
-        if (bet.isFree()) {
-            return 10;
-        }
-
-        long upPoints = round.getUpTotalPoints();
-        long downPoints = round.getDownTotalPoints();
-        long total = upPoints + downPoints;
-
-        long winning = (round.getResultOption() == BetOption.RISE) ? upPoints : downPoints;
-
-        // 호출 시점에 정답자 존재가 보장되지만 ArithmeticException 방지용
-        if (winning == 0) {
-            return 0;
-        }
-
-        // 배당률 계산: 내 베팅액 * (전체 포인트 / 정답 측 포인트 합)
-        double multiplier = (double) total / winning;
-
-        // 소수점 floor -> 남는 포인트는 시스템으로 이동됨
-        return (int) Math.floor(bet.getStakePoints() * multiplier);
+    public BetSettlementSummary settleUserBets() {
+        return betRoundSettlementService.settlePending();
     }
 }
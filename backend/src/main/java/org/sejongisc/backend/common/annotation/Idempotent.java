@@ -0,0 +1,13 @@
+package org.sejongisc.backend.common.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * Idempotency-Key 헤더 기반 중복 요청 방지 (ResponseEntity 를 반환하는 컨트롤러 메서드에 사용)
+ * - 같은 사용자가 같은 키로 다시 보낸 요청은 DB 를 거치지 않고 저장된 응답을 그대로 반환
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Idempotent {
+  long lockSeconds() default 30L; // 처리 중 상태 유지 시간 (초)
+}
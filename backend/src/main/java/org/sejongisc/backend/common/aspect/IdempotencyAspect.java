@@ -0,0 +1,206 @@
+package org.sejongisc.backend.common.aspect;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.sejongisc.backend.common.annotation.Idempotent;
+import org.sejongisc.backend.common.auth.dto.CustomUserDetails;
+import org.sejongisc.backend.common.exception.CustomException;
+import org.sejongisc.backend.common.exception.ErrorCode;
+import org.sejongisc.backend.common.redis.RedisKey;
+import org.springframework.core.ResolvableType;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * @Idempotent 처리
+ * - 키: IDEMPOTENCY:{userId}:{메서드명}:{Idempotency-Key}
+ * - 최초 요청은 SET NX 로 처리 중 상태를 선점하고, 성공 응답(상태 코드 + 본문)을 짧은 TTL 로 저장
+ * - 처리 중에 같은 키가 들어오면 409, 완료 후에는 저장된 응답을 재전송 (Idempotent-Replayed 헤더)
+ * - 같은 키로 다른 요청 본문을 보내면 422
+ * - 실패한 요청은 상태를 남기지 않아 같은 키로 다시 시도할 수 있음
+ * - Redis 장애 시(선점 / 저장된 상태 조회 모두)에는 중복 방지 없이 그대로 처리 (기존 중복 베팅 검증은 DB 제약으로 유지됨)
+ * - 컨트롤러 메서드에 적용되므로 서비스 빈의 @OptimisticRetry 재시도는 모두 이 aspect 안쪽의 한 번의 요청으로 처리됨
+ */
+@Aspect
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class IdempotencyAspect {
+
+  public static final String HEADER = "Idempotency-Key";
+  public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+  private static final Pattern KEY_PATTERN = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+  private static final String IN_PROGRESS = "P";
+  private static final String COMPLETED = "C";
+
+  private final RedisTemplate<String, Object> redisTemplate;
+  private final ObjectMapper objectMapper;
+
+  @Around("@annotation(idempotent)")
+  public Object handle(ProceedingJoinPoint joinPoint, Idempotent idempotent) throws Throwable {
+    String idempotencyKey = currentHeader();
+    CustomUserDetails user = currentUser();
+    if (idempotencyKey == null || user == null) {
+      return joinPoint.proceed();
+    }
+    if (!KEY_PATTERN.matcher(idempotencyKey).matches()) {
+      throw new CustomException(ErrorCode.INVALID_IDEMPOTENCY_KEY);
+    }
+
+    MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+    String key = RedisKey.IDEMPOTENCY.getKey(
+        user.getUserId() + ":" + signature.getMethod().getName() + ":" + idempotencyKey);
+    String fingerprint = fingerprint(joinPoint.getArgs());
+
+    Boolean acquired;
+    try {
+      acquired = redisTemplate.opsForValue().setIfAbsent(
+          key, write(new Record(IN_PROGRESS, fingerprint, 0, null)), Duration.ofSeconds(idempotent.lockSeconds()));
+    } catch (Exception e) {
+      log.warn("Idempotency-Key 선점 실패, 중복 방지 없이 처리: key={}, {}", key, e.getMessage());
+      return joinPoint.proceed();
+    }
+
+    if (!Boolean.TRUE.equals(acquired)) {
+      Record record;
+      try {
+        record = readRecord(key);
+      } catch (Exception e) {
+        log.warn("Idempotency-Key 상태 조회 실패, 중복 방지 없이 처리: key={}, {}", key, e.getMessage());
+        return joinPoint.proceed();
+      }
+      return replay(key, record, fingerprint, signature);
+    }
+
+    Object result;
+    try {
+      result = joinPoint.proceed();
+    } catch (Throwable e) {
+      release(key);
+      throw e;
+    }
+
+    store(key, fingerprint, result);
+    return result;
+  }
+
+  private Record readRecord(String key) throws Exception {
+    Object value = redisTemplate.opsForValue().get(key);
+    return value == null ? null : objectMapper.readValue(value.toString(), Record.class);
+  }
+
+  private Object replay(String key, Record record, String fingerprint, MethodSignature signature) throws Exception {
+    if (record == null) {
+      // 선점 직후 만료/해제된 경우: 클라이언트가 다시 시도하도록 처리 중으로 응답
+      throw new CustomException(ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+    }
+    if (!record.fingerprint().equals(fingerprint)) {
+      throw new CustomException(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+    }
+    if (IN_PROGRESS.equals(record.state())) {
+      throw new CustomException(ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+    }
+
+    log.info("Idempotency-Key 재전송: key={}", key);
+    Object body = null;
+    if (record.body() != null) {
+      ResolvableType bodyType = ResolvableType.forMethodReturnType(signature.getMethod()).getGeneric(0);
+      JavaType javaType = objectMapper.getTypeFactory().constructType(bodyType.getType());
+      body = objectMapper.readValue(record.body(), javaType);
+    }
+    return ResponseEntity.status(record.status())
+        .header(REPLAYED_HEADER, "true")
+        .body(body);
+  }
+
+  private void store(String key, String fingerprint, Object result) {
+    try {
+      if (!(result instanceof ResponseEntity<?> response) || !response.getStatusCode().is2xxSuccessful()) {
+        release(key);
+        return;
+      }
+      String body = response.getBody() == null ? null : objectMapper.writeValueAsString(response.getBody());
+      redisTemplate.opsForValue().set(key,
+          write(new Record(COMPLETED, fingerprint, response.getStatusCode().value(), body)),
+          RedisKey.IDEMPOTENCY.getTtl());
+    } catch (Exception e) {
+      // 저장 실패 시 처리 중 상태는 lockSeconds 후 만료됨
+      log.warn("Idempotency-Key 응답 저장 실패: key={}, {}", key, e.getMessage());
+    }
+  }
+
+  private void release(String key) {
+    try {
+      redisTemplate.delete(key);
+    } catch (Exception e) {
+      log.warn("Idempotency-Key 해제 실패: key={}, {}", key, e.getMessage());
+    }
+  }
+
+  /**
+   * 요청 인자(인증 정보 제외)의 SHA-256
+   */
+  private String fingerprint(Object[] args) throws Exception {
+    List<Object> payload = new ArrayList<>(args.length);
+    for (Object arg : args) {
+      if (!(arg instanceof CustomUserDetails)) {
+        payload.add(arg);
+      }
+    }
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-256")
+          .digest(objectMapper.writeValueAsString(payload).getBytes(StandardCharsets.UTF_8));
+      return HexFormat.of().formatHex(digest);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private String write(Record record) throws Exception {
+    return objectMapper.writeValueAsString(record);
+  }
+
+  private static String currentHeader() {
+    if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+      return null;
+    }
+    HttpServletRequest request = attributes.getRequest();
+    String value = request.getHeader(HEADER);
+    return value == null || value.isBlank() ? null : value.trim();
+  }
+
+  private static CustomUserDetails currentUser() {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails user) {
+      return user;
+    }
+    return null;
+  }
+
+  /**
+   * Redis 에 저장되는 처리 상태 (state: P = 처리 중, C = 완료)
+   */
+  record Record(String state, String fingerprint, int status, String body) {
+  }
+}
@@ -143,6 +143,7 @@ public class SecurityConfig {
         config.setAllowedHeaders(List.of("*"));
         config.setAllowCredentials(true);
         config.addExposedHeader("Authorization");
+        config.addExposedHeader("Idempotent-Replayed");
         config.setMaxAge(3600L);    // 캐시 시간(초)
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -10,10 +10,22 @@ public enum ErrorCode {
 
   INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "서버에 문제가 발생했습니다."),
 
+  INVALID_IDEMPOTENCY_KEY(HttpStatus.BAD_REQUEST, "Idempotency-Key 는 1~64자의 영문, 숫자, '-', '_' 만 사용할 수 있습니다."),
+
+  IDEMPOTENCY_REQUEST_IN_PROGRESS(HttpStatus.CONFLICT, "같은 요청이 처리 중입니다. 잠시 후 다시 시도해주세요."),
+
+  IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "이미 다른 요청에 사용된 Idempotency-Key 입니다."),
+
   // PRICE DATA
 
   PRICE_DATA_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 주식의 가격 데이터가 존재하지 않습니다."),
 
+  INVALID_PRICE_EXPORT_PARAMS(HttpStatus.BAD_REQUEST, "유효하지 않은 시세 내보내기 요청입니다. 티커(최대 500개)와 기간을 확인해주세요."),
+  INVALID_PRICE_INGEST_DATA(HttpStatus.BAD_REQUEST, "시세 적재 CSV 형식이 올바르지 않습니다. (ticker,date,open,high,low,close,volume,adjusted_close)"),
+  INVALID_CANDLE_PARAMS(HttpStatus.BAD_REQUEST, "유효하지 않은 캔들 조회 요청입니다. interval(1h, 4h, 1d, 1w)과 기간(최대 5000개 캔들)을 확인해주세요."),
+  INVALID_CORRELATION_PARAMS(HttpStatus.BAD_REQUEST, "유효하지 않은 상관관계 요청입니다. 티커(2~100개)와 기간(5~500 거래일)을 확인해주세요."),
+  INVALID_MARKET_SERIES_PARAMS(HttpStatus.BAD_REQUEST, "유효하지 않은 시장 지표 조회 요청입니다. 지표 컬럼과 기간을 확인해주세요."),
+
   // BACKTEST
 
   INVALID_BACKTEST_JSON_PARAMS(HttpStatus.BAD_REQUEST, "유효하지 않은 paramsJson 요청값 입니다."),
@@ -56,8 +68,12 @@ public enum ErrorCode {
 
   ACCOUNT_REQUIRED(HttpStatus.BAD_REQUEST, "계정 정보는 필수입니다."),
 
+  STRIPED_ACCOUNT_NOT_SINGLE(HttpStatus.INTERNAL_SERVER_ERROR, "분할 계정은 하위 계정 또는 합산 잔액으로 조회해야 합니다."),
+
   POINT_TRANSACTION_TOTAL_MISMATCH(HttpStatus.BAD_REQUEST, "포인트 거래 내역의 합계가 0이 아닙니다."),
 
+  LEDGER_RECONCILIATION_IN_PROGRESS(HttpStatus.CONFLICT, "포인트 원장 대사가 이미 진행 중입니다."),
+
   // AUTH
 
   UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "인증에 실패했습니다."),
@@ -85,6 +101,13 @@ public enum ErrorCode {
   EXECUTION_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 퀀트봇 실행 내역이 존재하지 않습니다."),
 
   XAI_REPORT_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 XAI 리포트가 존재하지 않습니다."),
+  INVALID_XAI_REPORT_SEARCH(HttpStatus.BAD_REQUEST, "리포트 검색에는 티커 또는 검색어가 필요합니다."),
+
+  INVALID_TRADE_LOG_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 매매 로그 커서입니다."),
+
+  INVALID_POSITION_HISTORY_RANGE(HttpStatus.BAD_REQUEST, "유효하지 않은 포지션 조회 기간입니다. date 또는 from/to(from <= to)를 지정해주세요."),
+
+  QUANT_ACCOUNT_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 퀀트 계정이 존재하지 않습니다."),
 
   // ASSET MANAGEMENT / KIWOOM
 
@@ -146,8 +169,12 @@ public enum ErrorCode {
 
   BET_ROUND_NOT_CLOSED(HttpStatus.CONFLICT, "닫히지 않은 배팅입니다."),
 
+  BET_ROUND_ALREADY_SETTLED(HttpStatus.CONFLICT, "이미 정산된 라운드입니다."),
+
   BET_ALREADY_PROCESSED(HttpStatus.CONFLICT, "이미 취소되었거나 처리된 베팅입니다."),
 
+  INVALID_BET_HISTORY_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 베팅 이력 커서입니다."),
+
   // BOARD
 
   POST_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 게시물을 찾을 수 없습니다."),
@@ -11,7 +11,10 @@ public enum RedisKey {
     EMAIL_VERIFY("EMAIL_VERIFY:", Duration.ofMinutes(3)),      // 이메일 인증 코드
     EMAIL_VERIFIED("EMAIL_VERIFIED:", Duration.ofDays(1)),     // 이메일 인증 완료 상태
     PASSWORD_RESET("PASSWORD_RESET:", Duration.ofMinutes(10)), // 비밀번호 재설정 토큰
-    PASSWORD_RESET_EMAIL("PASSWORD_RESET_EMAIL:", Duration.ofMinutes(3)); // 비밀번호 재설정 인증 코드
+    PASSWORD_RESET_EMAIL("PASSWORD_RESET_EMAIL:", Duration.ofMinutes(3)), // 비밀번호 재설정 인증 코드
+    BET_ROUND_STATS("BET_ROUND_STATS:", Duration.ofDays(14)), // 베팅 라운드 실시간 통계 (hash)
+    BET_LEADERBOARD("BET_LEADERBOARD:", Duration.ofDays(100)), // 베팅 리더보드 (sorted set, 기간별 키에만 TTL 적용)
+    IDEMPOTENCY("IDEMPOTENCY:", Duration.ofMinutes(10)); // Idempotency-Key 처리 결과
 
     private final String prefix;
     private final Duration ttl;
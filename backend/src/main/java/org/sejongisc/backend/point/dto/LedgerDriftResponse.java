@@ -0,0 +1,22 @@
+package org.sejongisc.backend.point.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.sejongisc.backend.point.entity.AccountBalanceCheckpoint;
+
+/**
+ * 잔액 불일치 계정 (관리자 조회용)
+ *
+ * @param drift     계정 잔액 - 원장 합계
+ * @param checkedAt 불일치가 확인된 마지막 대사 시각
+ */
+public record LedgerDriftResponse(
+  UUID accountId,
+  long drift,
+  LocalDateTime checkedAt
+) {
+
+  public static LedgerDriftResponse from(AccountBalanceCheckpoint checkpoint) {
+    return new LedgerDriftResponse(checkpoint.getAccountId(), checkpoint.getDrift(), checkpoint.getCheckedAt());
+  }
+}
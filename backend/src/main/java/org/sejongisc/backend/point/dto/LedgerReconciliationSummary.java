@@ -0,0 +1,22 @@
+package org.sejongisc.backend.point.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 원장 대사 실행 결과
+ *
+ * @param cutoff          이번 대사로 전진한 체크포인트 시각
+ * @param checkedAccounts 대사한 계정 수
+ * @param failedAccounts  오류로 대사하지 못한 계정 수 (다음 실행에서 다시 대사)
+ * @param totalDrift      불일치 금액 절댓값 합계
+ * @param drifts          잔액이 원장 합계와 다른 계정
+ */
+public record LedgerReconciliationSummary(
+  LocalDateTime cutoff,
+  int checkedAccounts,
+  int failedAccounts,
+  long totalDrift,
+  List<LedgerDriftResponse> drifts
+) {
+}
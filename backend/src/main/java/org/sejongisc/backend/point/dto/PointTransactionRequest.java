@@ -0,0 +1,26 @@
+package org.sejongisc.backend.point.dto;
+
+import java.util.List;
+import java.util.UUID;
+import org.sejongisc.backend.point.entity.TransactionReason;
+
+/**
+ * 일괄 처리용 포인트 거래 (PointLedgerService.processTransactions)
+ *
+ * @param reason  거래 발생 사유
+ * @param refId   외부 도메인의 참조 ID
+ * @param entries 거래에 참여하는 계정 & 각 계정별 증감 금액 (합계 0)
+ */
+public record PointTransactionRequest(
+  TransactionReason reason,
+  UUID refId,
+  List<AccountEntry> entries
+) {
+  public static PointTransactionRequest of(TransactionReason reason, UUID refId, AccountEntry... entries) {
+    return new PointTransactionRequest(reason, refId, List.of(entries));
+  }
+
+  public long sum() {
+    return entries.stream().mapToLong(AccountEntry::amount).sum();
+  }
+}
@@ -37,6 +37,9 @@ public class Account extends BasePostgresEntity {
   @Column(columnDefinition = "VARCHAR(255)", nullable = false)
   private AccountType type;
 
+  // 분할 계정의 하위 계정 번호 (0부터, 분할하지 않는 계정은 null)
+  private Integer stripe;
+
   @Column(nullable = false)
   private long balance;
 
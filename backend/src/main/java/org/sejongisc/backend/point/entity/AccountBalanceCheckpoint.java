@@ -0,0 +1,56 @@
+package org.sejongisc.backend.point.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.sejongisc.backend.common.entity.postgres.BasePostgresEntity;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 계정별 원장 잔액 체크포인트
+ * - ledgerBalance: checkpointAt 이전(포함)까지 생성된 분개 합계
+ * - drift: 마지막 대사 시점의 계정 잔액 - 원장 합계 (0 이 아니면 불일치)
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "account_balance_checkpoint")
+public class AccountBalanceCheckpoint extends BasePostgresEntity {
+  @Id
+  private UUID accountId;
+
+  @Column(nullable = false)
+  private long ledgerBalance;
+
+  @Column(nullable = false)
+  private LocalDateTime checkpointAt;
+
+  @Column(nullable = false)
+  private long drift;
+
+  @Column(nullable = false)
+  private LocalDateTime checkedAt;
+
+  /**
+   * 체크포인트를 cutoff 까지 전진시키고 대사 결과 기록
+   *
+   * @param ledgerDelta 기존 체크포인트 이후 ~ cutoff 까지 생성된 분개 합계
+   */
+  public void advance(long ledgerDelta, LocalDateTime cutoff, long drift, LocalDateTime checkedAt) {
+    this.ledgerBalance += ledgerDelta;
+    if (cutoff.isAfter(this.checkpointAt)) {
+      this.checkpointAt = cutoff;
+    }
+    this.drift = drift;
+    this.checkedAt = checkedAt;
+  }
+}
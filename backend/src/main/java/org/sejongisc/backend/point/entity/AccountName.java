@@ -1,7 +1,22 @@
 package org.sejongisc.backend.point.entity;
 
 public enum AccountName {
-  SYSTEM_ISSUANCE,
-  BETTING_POOL,
-  USER_ACCOUNT
+  SYSTEM_ISSUANCE(1),
+  BETTING_POOL(8), // 베팅 참여/취소가 몰리는 계정이라 사용자별로 나눠 기록
+  USER_ACCOUNT(1);
+
+  // 하위 계정(stripe) 수, 1이면 분할하지 않음
+  private final int stripes;
+
+  AccountName(int stripes) {
+    this.stripes = stripes;
+  }
+
+  public int stripes() {
+    return stripes;
+  }
+
+  public boolean isStriped() {
+    return stripes > 1;
+  }
 }
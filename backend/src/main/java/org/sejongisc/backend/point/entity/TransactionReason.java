@@ -8,6 +8,7 @@ public enum TransactionReason {
   BETTING_REFUND, // 베팅 환불
   BETTING_CANCEL, // 베팅 취소
   BETTING_RESIDUAL, // 베팅 잔여금 이동
+  BETTING_POOL_SWEEP, // 베팅 풀 하위 계정 잔액 통합
   SYSTEM_ADJUSTMENT, // 관리자 수동 조정
   MIGRATION // 마이그레이션
 }
@@ -0,0 +1,12 @@
+package org.sejongisc.backend.point.repository;
+
+import org.sejongisc.backend.point.entity.AccountBalanceCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface AccountBalanceCheckpointRepository extends JpaRepository<AccountBalanceCheckpoint, UUID> {
+
+  List<AccountBalanceCheckpoint> findAllByDriftNotOrderByCheckedAtDesc(long drift);
+}
@@ -3,8 +3,14 @@ package org.sejongisc.backend.point.repository;
 import org.sejongisc.backend.point.entity.Account;
 import org.sejongisc.backend.point.entity.AccountName;
 import org.sejongisc.backend.point.entity.AccountType;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -12,7 +18,34 @@ public interface AccountRepository extends JpaRepository<Account, UUID> {
 
   Optional<Account> findByAccountName(AccountName accountName);
 
+  Optional<Account> findByAccountNameAndStripe(AccountName accountName, Integer stripe);
+
+  List<Account> findAllByAccountNameOrderByStripeAsc(AccountName accountName);
+
   Optional<Account> findByOwnerIdAndType(UUID ownerId, AccountType accountType);
 
+  List<Account> findAllByOwnerIdInAndType(Collection<UUID> ownerIds, AccountType accountType);
+
   boolean existsByAccountName(AccountName accountName);
+
+  boolean existsByAccountNameAndStripe(AccountName accountName, Integer stripe);
+
+  /**
+   * 같은 이름의 계정(분할 계정이면 전체 하위 계정) 잔액 합계 (계정이 없으면 empty)
+   */
+  @Query("SELECT SUM(a.balance) FROM Account a WHERE a.accountName = :accountName")
+  Optional<Long> sumBalanceByAccountName(@Param("accountName") AccountName accountName);
+
+  /**
+   * 여러 계정을 ID 순으로 행 잠금 후 조회 (일괄 정산 간 교착 방지)
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT a FROM Account a WHERE a.accountId IN :accountIds ORDER BY a.accountId")
+  List<Account> findAllByIdForUpdate(@Param("accountIds") Collection<UUID> accountIds);
+
+  /**
+   * 전체 계정 ID (원장 대사 작업 분할용)
+   */
+  @Query("SELECT a.accountId FROM Account a ORDER BY a.accountId")
+  List<UUID> findAllAccountIds();
 }
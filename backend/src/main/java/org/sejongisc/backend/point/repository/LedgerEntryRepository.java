@@ -7,6 +7,9 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 public interface LedgerEntryRepository extends JpaRepository<LedgerEntry, UUID> {
@@ -20,4 +23,34 @@ public interface LedgerEntryRepository extends JpaRepository<LedgerEntry, UUID>
     "WHERE le.account.ownerId = :ownerId " +
     "ORDER BY le.createdDate DESC")
   Page<LedgerEntry> findAllByOwnerId(@Param("ownerId") UUID ownerId, Pageable pageable);
+
+  /**
+   * 계정 잔액과 마지막 체크포인트 이후 분개 합계를 한 쿼리(같은 스냅샷)로 조회
+   * - settledDelta: 체크포인트 이후 ~ cutoff 까지의 분개 합계 (다음 체크포인트에 누적)
+   * - recentDelta: cutoff 이후 분개 합계 (현재 잔액 비교에만 사용)
+   * - 체크포인트가 없는 계정은 전체 분개를 합산
+   */
+  @Query(value = """
+    SELECT a.account_id AS accountId,
+           a.balance AS balance,
+           CAST(COALESCE(c.ledger_balance, 0) AS bigint) AS checkpointBalance,
+           CAST(COALESCE(SUM(le.amount) FILTER (WHERE le.created_date <= :cutoff), 0) AS bigint) AS settledDelta,
+           CAST(COALESCE(SUM(le.amount) FILTER (WHERE le.created_date > :cutoff), 0) AS bigint) AS recentDelta
+    FROM account a
+    LEFT JOIN account_balance_checkpoint c ON c.account_id = a.account_id
+    LEFT JOIN ledger_entry le ON le.account_id = a.account_id
+      AND (c.checkpoint_at IS NULL OR le.created_date > c.checkpoint_at)
+    WHERE a.account_id IN (:accountIds)
+    GROUP BY a.account_id, a.balance, c.ledger_balance
+    """, nativeQuery = true)
+  List<AccountLedgerSnapshot> findLedgerSnapshots(@Param("accountIds") Collection<UUID> accountIds,
+                                                  @Param("cutoff") LocalDateTime cutoff);
+
+  interface AccountLedgerSnapshot {
+    UUID getAccountId();
+    Long getBalance();
+    Long getCheckpointBalance();
+    Long getSettledDelta();
+    Long getRecentDelta();
+  }
 }
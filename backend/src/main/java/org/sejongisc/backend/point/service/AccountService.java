@@ -11,7 +11,11 @@ import org.sejongisc.backend.point.repository.AccountRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -21,13 +25,57 @@ public class AccountService {
 
   /**
    * AccountName으로 계정 조회
+   * - 분할 계정은 하위 계정 하나가 잔액의 일부만 가지므로 getStripedAccount / getBalanceByName 을 사용
    */
   @Transactional(readOnly = true)
   public Account getAccountByName(AccountName accountName) {
+    if (accountName.isStriped()) {
+      throw new CustomException(ErrorCode.STRIPED_ACCOUNT_NOT_SINGLE);
+    }
     return accountRepository.findByAccountName(accountName)
       .orElseThrow(() -> new CustomException(ErrorCode.ACCOUNT_NOT_FOUND));
   }
 
+  /**
+   * AccountName의 잔액 (분할 계정이면 전체 하위 계정 잔액의 합)
+   */
+  @Transactional(readOnly = true)
+  public long getBalanceByName(AccountName accountName) {
+    return accountRepository.sumBalanceByAccountName(accountName)
+      .orElseThrow(() -> new CustomException(ErrorCode.ACCOUNT_NOT_FOUND));
+  }
+
+  /**
+   * 분할 계정 중 key(사용자 ID 등)에 해당하는 하위 계정 조회
+   * - 같은 key 는 항상 같은 하위 계정을 사용하고, 서로 다른 key 는 고르게 분산됨
+   */
+  @Transactional(readOnly = true)
+  public Account getStripedAccount(AccountName accountName, UUID key) {
+    return getStripeAccount(accountName, stripeOf(accountName, key));
+  }
+
+  /**
+   * 분할 계정의 전체 하위 계정 ID (stripe 순)
+   */
+  @Transactional(readOnly = true)
+  public List<UUID> getStripedAccountIds(AccountName accountName) {
+    List<UUID> accountIds = accountRepository.findAllByAccountNameOrderByStripeAsc(accountName).stream()
+      .map(Account::getAccountId)
+      .toList();
+    if (accountIds.isEmpty()) {
+      throw new CustomException(ErrorCode.ACCOUNT_NOT_FOUND);
+    }
+    return accountIds;
+  }
+
+  public static int stripeOf(AccountName accountName, UUID key) {
+    return stripeOf(key, accountName.stripes());
+  }
+
+  static int stripeOf(UUID key, int stripes) {
+    return Math.floorMod(key.hashCode(), stripes);
+  }
+
   /**
    * 사용자 계정 조회
    */
@@ -37,6 +85,40 @@ public class AccountService {
       .orElseThrow(() -> new CustomException(ErrorCode.ACCOUNT_NOT_FOUND));
   }
 
+  /**
+   * 여러 사용자의 계정 ID를 한 번에 조회 (사용자 ID → 계정 ID)
+   * - 하나라도 계정이 없으면 예외
+   */
+  @Transactional(readOnly = true)
+  public Map<UUID, UUID> getUserAccountIds(Collection<UUID> userIds) {
+    if (userIds.isEmpty()) {
+      return Map.of();
+    }
+    Map<UUID, UUID> accountIds = accountRepository.findAllByOwnerIdInAndType(userIds, AccountType.USER).stream()
+      .collect(Collectors.toMap(Account::getOwnerId, Account::getAccountId));
+    if (accountIds.size() != userIds.size()) {
+      throw new CustomException(ErrorCode.ACCOUNT_NOT_FOUND);
+    }
+    return accountIds;
+  }
+
+  /**
+   * 여러 계정을 행 잠금 후 한 번에 조회 (계정 ID → 계정)
+   * - 호출하는 트랜잭션이 끝날 때까지 잠금 유지, 하나라도 없으면 예외
+   */
+  @Transactional
+  public Map<UUID, Account> lockAccounts(Collection<UUID> accountIds) {
+    if (accountIds.isEmpty()) {
+      return Map.of();
+    }
+    Map<UUID, Account> accounts = accountRepository.findAllByIdForUpdate(accountIds).stream()
+      .collect(Collectors.toMap(Account::getAccountId, account -> account));
+    if (accounts.size() != accountIds.size()) {
+      throw new CustomException(ErrorCode.ACCOUNT_NOT_FOUND);
+    }
+    return accounts;
+  }
+
   /**
    * 사용자 계정 생성
    */
@@ -46,12 +128,34 @@ public class AccountService {
     return saveAccount(userId, AccountName.USER_ACCOUNT, AccountType.USER);
   }
 
+  /**
+   * 여러 사용자 계정을 한 번에 생성 (userIds 순서대로 반환)
+   */
+  @Transactional
+  public List<Account> createUserAccounts(Collection<UUID> userIds) {
+    if (userIds.isEmpty()) {
+      return List.of();
+    }
+    log.info("사용자 계정 일괄 생성: {}건", userIds.size());
+    return accountRepository.saveAll(userIds.stream()
+      .map(userId -> newAccount(userId, AccountName.USER_ACCOUNT, AccountType.USER, null))
+      .toList());
+  }
+
   /**
    * 시스템 계정 초기화
    * 존재 여부 확인 후 없으면 계정 생성
    */
   @Transactional
   public void initSystemAccount(AccountName name, AccountType type) {
+    if (name.isStriped()) {
+      for (int stripe = 0; stripe < name.stripes(); stripe++) {
+        if (!accountRepository.existsByAccountNameAndStripe(name, stripe)) {
+          saveAccount(null, name, type, stripe);
+        }
+      }
+      return;
+    }
     if (!accountRepository.existsByAccountName(name)) {
       saveAccount(null, name, type);
     }
@@ -61,11 +165,25 @@ public class AccountService {
    * Account 생성
    */
   private Account saveAccount(UUID ownerId, AccountName name, AccountType type) {
-    return accountRepository.save(Account.builder()
+    return saveAccount(ownerId, name, type, null);
+  }
+
+  private Account saveAccount(UUID ownerId, AccountName name, AccountType type, Integer stripe) {
+    return accountRepository.save(newAccount(ownerId, name, type, stripe));
+  }
+
+  private Account newAccount(UUID ownerId, AccountName name, AccountType type, Integer stripe) {
+    return Account.builder()
       .ownerId(ownerId)
       .accountName(name)
       .type(type)
+      .stripe(stripe)
       .balance(0L)
-      .build());
+      .build();
+  }
+
+  private Account getStripeAccount(AccountName accountName, int stripe) {
+    return accountRepository.findByAccountNameAndStripe(accountName, stripe)
+      .orElseThrow(() -> new CustomException(ErrorCode.ACCOUNT_NOT_FOUND));
   }
 }
@@ -0,0 +1,243 @@
+package org.sejongisc.backend.point.service;
+
+import static org.sejongisc.backend.admin.service.AdminDashboardService.ADMIN_CHANNEL;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.sejongisc.backend.common.exception.CustomException;
+import org.sejongisc.backend.common.exception.ErrorCode;
+import org.sejongisc.backend.common.sse.SseService;
+import org.sejongisc.backend.point.dto.LedgerDriftResponse;
+import org.sejongisc.backend.point.dto.LedgerReconciliationSummary;
+import org.sejongisc.backend.point.entity.AccountBalanceCheckpoint;
+import org.sejongisc.backend.point.repository.AccountBalanceCheckpointRepository;
+import org.sejongisc.backend.point.repository.AccountRepository;
+import org.sejongisc.backend.point.repository.LedgerEntryRepository;
+import org.sejongisc.backend.point.repository.LedgerEntryRepository.AccountLedgerSnapshot;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 포인트 원장 대사 (Account.balance == 해당 계정 LedgerEntry 합계 검증)
+ * - 계정별 체크포인트(원장 합계 + 시각) 이후에 생성된 분개만 합산하므로 전체 원장을 다시 읽지 않음
+ * - 계정 ID 를 구간으로 나눠 작업 풀에서 병렬 처리, 구간마다 별도 트랜잭션 (한 구간의 실패가 다른 구간에 영향 없음)
+ * - 잔액과 분개 합계는 한 쿼리에서 읽으므로 같은 스냅샷 기준으로 비교됨
+ * - 체크포인트는 now - settle-lag 까지만 전진 (생성 시각은 앞서지만 아직 커밋되지 않은 분개를 놓치지 않도록)
+ * - 불일치는 Micrometer 지표(point.ledger.drift.*)와 관리자 대시보드 SSE(ledgerDrift) 로 알림
+ */
+@Slf4j
+@Service
+public class LedgerReconciliationService {
+
+  static final String DRIFT_EVENT = "ledgerDrift";
+
+  private final AccountRepository accountRepository;
+  private final LedgerEntryRepository ledgerEntryRepository;
+  private final AccountBalanceCheckpointRepository checkpointRepository;
+  private final SseService sseService;
+  private final TransactionTemplate chunkTransaction;
+  private final ExecutorService workers;
+  private final int chunkSize;
+  private final Duration settleLag;
+
+  private final AtomicBoolean running = new AtomicBoolean();
+  private final AtomicLong driftedAccounts = new AtomicLong();
+  private final AtomicLong totalDrift = new AtomicLong();
+  private final Timer reconcileTimer;
+  private final Counter failedAccounts;
+
+  public LedgerReconciliationService(
+      AccountRepository accountRepository,
+      LedgerEntryRepository ledgerEntryRepository,
+      AccountBalanceCheckpointRepository checkpointRepository,
+      SseService sseService,
+      MeterRegistry meterRegistry,
+      PlatformTransactionManager transactionManager,
+      @Value("${point.reconcile.workers:4}") int workerCount,
+      @Value("${point.reconcile.chunk-size:500}") int chunkSize,
+      @Value("${point.reconcile.settle-lag:PT5M}") Duration settleLag
+  ) {
+    this.accountRepository = accountRepository;
+    this.ledgerEntryRepository = ledgerEntryRepository;
+    this.checkpointRepository = checkpointRepository;
+    this.sseService = sseService;
+    this.chunkTransaction = new TransactionTemplate(transactionManager);
+    this.chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    this.workers = Executors.newFixedThreadPool(Math.max(1, workerCount), new ReconcileThreadFactory());
+    this.chunkSize = Math.max(1, chunkSize);
+    this.settleLag = settleLag;
+
+    meterRegistry.gauge("point.ledger.drift.accounts", driftedAccounts);
+    meterRegistry.gauge("point.ledger.drift.amount", totalDrift);
+    this.reconcileTimer = Timer.builder("point.ledger.reconcile")
+        .description("포인트 원장 대사 소요 시간")
+        .register(meterRegistry);
+    this.failedAccounts = Counter.builder("point.ledger.reconcile.failed.accounts")
+        .description("오류로 대사하지 못한 계정 수")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 정기 원장 대사 (기본 매일 05:00)
+   */
+  @Scheduled(cron = "${point.reconcile.cron:0 0 5 * * *}", zone = "Asia/Seoul")
+  public void scheduledReconcile() {
+    try {
+      reconcile();
+    } catch (CustomException e) {
+      log.warn("원장 대사 건너뜀: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * 전체 계정 원장 대사 (동시에 하나만 실행)
+   */
+  public LedgerReconciliationSummary reconcile() {
+    if (!running.compareAndSet(false, true)) {
+      throw new CustomException(ErrorCode.LEDGER_RECONCILIATION_IN_PROGRESS);
+    }
+    try {
+      return reconcileTimer.record(this::reconcileAll);
+    } finally {
+      running.set(false);
+    }
+  }
+
+  /**
+   * 마지막 대사에서 잔액 불일치가 확인된 계정 (관리자 조회용)
+   */
+  public List<LedgerDriftResponse> getDrifts() {
+    return checkpointRepository.findAllByDriftNotOrderByCheckedAtDesc(0L).stream()
+        .map(LedgerDriftResponse::from)
+        .toList();
+  }
+
+  private LedgerReconciliationSummary reconcileAll() {
+    LocalDateTime checkedAt = LocalDateTime.now();
+    LocalDateTime cutoff = checkedAt.minus(settleLag);
+    List<UUID> accountIds = accountRepository.findAllAccountIds();
+
+    List<CompletableFuture<ChunkResult>> results = new ArrayList<>();
+    for (int from = 0; from < accountIds.size(); from += chunkSize) {
+      List<UUID> chunk = accountIds.subList(from, Math.min(from + chunkSize, accountIds.size()));
+      results.add(CompletableFuture.supplyAsync(() -> reconcileChunk(chunk, cutoff, checkedAt), workers));
+    }
+    CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).join();
+
+    int checked = 0;
+    int failed = 0;
+    List<LedgerDriftResponse> drifts = new ArrayList<>();
+    for (CompletableFuture<ChunkResult> result : results) {
+      ChunkResult chunkResult = result.join();
+      checked += chunkResult.checked();
+      failed += chunkResult.failed();
+      drifts.addAll(chunkResult.drifts());
+    }
+    drifts.sort(Comparator.comparingLong((LedgerDriftResponse drift) -> Math.abs(drift.drift())).reversed());
+    long driftAmount = drifts.stream().mapToLong(drift -> Math.abs(drift.drift())).sum();
+
+    driftedAccounts.set(drifts.size());
+    totalDrift.set(driftAmount);
+    failedAccounts.increment(failed);
+
+    LedgerReconciliationSummary summary = new LedgerReconciliationSummary(cutoff, checked, failed, driftAmount, drifts);
+    if (drifts.isEmpty()) {
+      log.info("원장 대사 완료: 계정 {}개, 실패 {}개, 불일치 없음", checked, failed);
+    } else {
+      log.error("원장 잔액 불일치: 계정 {}개, 불일치 금액 합계 {}", drifts.size(), driftAmount);
+      sseService.send(ADMIN_CHANNEL, DRIFT_EVENT, summary);
+    }
+    return summary;
+  }
+
+  /**
+   * 계정 구간 하나를 별도 트랜잭션에서 대사하고 체크포인트 전진
+   */
+  private ChunkResult reconcileChunk(List<UUID> accountIds, LocalDateTime cutoff, LocalDateTime checkedAt) {
+    try {
+      return chunkTransaction.execute(status -> {
+        Map<UUID, AccountBalanceCheckpoint> checkpoints = checkpointRepository.findAllById(accountIds).stream()
+            .collect(Collectors.toMap(AccountBalanceCheckpoint::getAccountId, Function.identity()));
+
+        List<AccountBalanceCheckpoint> created = new ArrayList<>();
+        List<LedgerDriftResponse> drifts = new ArrayList<>();
+        List<AccountLedgerSnapshot> snapshots = ledgerEntryRepository.findLedgerSnapshots(accountIds, cutoff);
+        for (AccountLedgerSnapshot snapshot : snapshots) {
+          long drift = driftOf(snapshot);
+          AccountBalanceCheckpoint checkpoint = checkpoints.get(snapshot.getAccountId());
+          if (checkpoint == null) {
+            created.add(AccountBalanceCheckpoint.builder()
+                .accountId(snapshot.getAccountId())
+                .ledgerBalance(snapshot.getSettledDelta())
+                .checkpointAt(cutoff)
+                .drift(drift)
+                .checkedAt(checkedAt)
+                .build());
+          } else {
+            checkpoint.advance(snapshot.getSettledDelta(), cutoff, drift, checkedAt);
+          }
+          if (drift != 0) {
+            log.warn("원장 잔액 불일치: accountId={}, balance={}, drift={}",
+                snapshot.getAccountId(), snapshot.getBalance(), drift);
+            drifts.add(new LedgerDriftResponse(snapshot.getAccountId(), drift, checkedAt));
+          }
+        }
+        checkpointRepository.saveAll(created);
+        return new ChunkResult(snapshots.size(), 0, drifts);
+      });
+    } catch (Exception e) {
+      log.error("원장 대사 실패: 계정 {}개", accountIds.size(), e);
+      return new ChunkResult(0, accountIds.size(), List.of());
+    }
+  }
+
+  /**
+   * 계정 잔액 - (체크포인트 원장 합계 + 체크포인트 이후 분개 합계)
+   */
+  static long driftOf(AccountLedgerSnapshot snapshot) {
+    long ledgerBalance = snapshot.getCheckpointBalance() + snapshot.getSettledDelta() + snapshot.getRecentDelta();
+    return snapshot.getBalance() - ledgerBalance;
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    workers.shutdown();
+  }
+
+  private record ChunkResult(int checked, int failed, List<LedgerDriftResponse> drifts) {
+  }
+
+  private static class ReconcileThreadFactory implements ThreadFactory {
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+      Thread thread = new Thread(runnable, "ledger-reconcile-" + sequence.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+}
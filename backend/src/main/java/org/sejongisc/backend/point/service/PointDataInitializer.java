@@ -3,6 +3,7 @@ package org.sejongisc.backend.point.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.sejongisc.backend.point.dto.AccountEntry;
+import org.sejongisc.backend.point.dto.PointTransactionRequest;
 import org.sejongisc.backend.point.entity.Account;
 import org.sejongisc.backend.point.entity.AccountName;
 import org.sejongisc.backend.point.entity.AccountType;
@@ -13,6 +14,7 @@ import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @Slf4j
@@ -59,26 +61,30 @@ public class PointDataInitializer implements CommandLineRunner {
     // 시스템 계정
     Account systemAccount = accountService.getAccountByName(AccountName.SYSTEM_ISSUANCE);
 
-    for (User user : users) {
-      try {
-        // 계정 생성
-        Account userAccount = accountService.createUserAccount(user.getUserId());
+    if (users.isEmpty()) {
+      return;
+    }
+
+    // 계정 일괄 생성
+    List<Account> userAccounts = accountService.createUserAccounts(
+      users.stream().map(User::getUserId).toList());
 
-        // 기존 포인트 마이그레이션
-        long point = user.getPoint();
-        if (point > 0) {
-          pointLedgerService.processTransaction(
-            TransactionReason.MIGRATION,
-            user.getUserId(),
-            AccountEntry.credit(systemAccount, point),
-            AccountEntry.debit(userAccount, point)
-          );
-          log.info("마이그레이션 완료: User={}, Point={}", user.getEmail(), point);
-        }
-      } catch (Exception e) {
-        log.error("유저 마이그레이션 실패: {}", user.getEmail(), e);
+    // 기존 포인트 마이그레이션 (포인트가 있는 사용자만, 하나의 배치로 기록)
+    List<PointTransactionRequest> migrations = new ArrayList<>();
+    for (int i = 0; i < users.size(); i++) {
+      User user = users.get(i);
+      long point = user.getPoint();
+      if (point > 0) {
+        migrations.add(PointTransactionRequest.of(
+          TransactionReason.MIGRATION,
+          user.getUserId(),
+          AccountEntry.credit(systemAccount, point),
+          AccountEntry.debit(userAccounts.get(i), point)
+        ));
       }
     }
+    pointLedgerService.processTransactions(migrations);
+    log.info("마이그레이션 완료: 계정 생성 {}건, 포인트 이전 {}건", userAccounts.size(), migrations.size());
   }
 
 }
@@ -5,6 +5,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.sejongisc.backend.common.exception.CustomException;
 import org.sejongisc.backend.common.exception.ErrorCode;
 import org.sejongisc.backend.point.dto.AccountEntry;
+import org.sejongisc.backend.point.dto.PointTransactionRequest;
+import org.sejongisc.backend.point.entity.Account;
 import org.sejongisc.backend.point.entity.LedgerEntry;
 import org.sejongisc.backend.point.entity.PointTransaction;
 import org.sejongisc.backend.point.entity.TransactionReason;
@@ -13,8 +15,10 @@ import org.sejongisc.backend.point.repository.TransactionalRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Slf4j
@@ -34,34 +38,69 @@ public class PointLedgerService {
    */
   @Transactional
   public void processTransaction(TransactionReason reason, UUID refId, AccountEntry... entries) {
-    List<AccountEntry> entryList = Arrays.asList(entries);
+    processTransactions(List.of(PointTransactionRequest.of(reason, refId, entries)));
+    log.info("포인트 거래 완료: reason={}, refId={}", reason, refId);
+  }
+
+  /**
+   * 여러 포인트 거래를 한 번에 처리하고 원장에 기록
+   * - 모든 거래를 먼저 검증한 뒤 기록 (하나라도 합계가 0이 아니면 아무것도 기록하지 않음)
+   * - 거래/분개는 saveAll 로 저장 (UUID 는 영속화 시 메모리에서 생성되므로 JDBC 배치 INSERT 로 묶임)
+   * - 계정 잔액은 계정별 순증감을 합산해 계정당 한 번만 반영 (버전 증가도 계정당 1회)
+   * - 베팅 라운드 정산(BetSettlementEngine)도 이 메서드로 기록하므로 원장 기록 규칙은 여기서만 관리
+   */
+  @Transactional
+  public void processTransactions(List<PointTransactionRequest> requests) {
+    if (requests.isEmpty()) {
+      return;
+    }
 
     // 분개 항목의 amount의 합이 0인지 검증
-    long sum = entryList.stream().mapToLong(AccountEntry::amount).sum();
-    if (sum != 0) {
-      throw new CustomException(ErrorCode.POINT_TRANSACTION_TOTAL_MISMATCH);
+    for (PointTransactionRequest request : requests) {
+      if (request.entries().isEmpty() || request.sum() != 0) {
+        throw new CustomException(ErrorCode.POINT_TRANSACTION_TOTAL_MISMATCH);
+      }
     }
 
-    // 트랜잭션 생성
-    PointTransaction transaction = transactionalRepository.save(
-      PointTransaction.builder()
-        .reason(reason)
-        .refId(refId)
-        .build()
-    );
+    List<PointTransaction> transactions = new ArrayList<>(requests.size());
+    List<LedgerEntry> ledgerEntries = new ArrayList<>();
+    Map<UUID, Account> accounts = new LinkedHashMap<>();
+    Map<UUID, Long> netDeltas = new LinkedHashMap<>();
+
+    for (PointTransactionRequest request : requests) {
+      // 트랜잭션 생성
+      PointTransaction transaction = PointTransaction.builder()
+        .reason(request.reason())
+        .refId(request.refId())
+        .build();
+      transactions.add(transaction);
 
-    for (AccountEntry entry : entryList) {
-      entry.account().updateBalance(entry.amount());
-      // 분개 생성
-      ledgerEntryRepository.save(LedgerEntry.builder()
-        .transaction(transaction)
-        .account(entry.account())
-        .amount(entry.amount())
-        .entryType(entry.entryType())
-        .build()
-      );
+      for (AccountEntry entry : request.entries()) {
+        // 분개 생성
+        ledgerEntries.add(LedgerEntry.builder()
+          .transaction(transaction)
+          .account(entry.account())
+          .amount(entry.amount())
+          .entryType(entry.entryType())
+          .build());
+        accounts.putIfAbsent(entry.account().getAccountId(), entry.account());
+        netDeltas.merge(entry.account().getAccountId(), entry.amount(), Long::sum);
+      }
     }
 
-    log.info("포인트 거래 완료: reason={}, refId={}", reason, refId);
+    transactionalRepository.saveAll(transactions);
+    ledgerEntryRepository.saveAll(ledgerEntries);
+
+    // 계정별 순증감 반영 (순증감이 0이면 잔액 변경 없음)
+    netDeltas.forEach((accountId, delta) -> {
+      if (delta != 0) {
+        accounts.get(accountId).updateBalance(delta);
+      }
+    });
+
+    if (requests.size() > 1) {
+      log.info("포인트 거래 일괄 처리 완료: 거래 {}건, 분개 {}건, 계정 {}개",
+        transactions.size(), ledgerEntries.size(), accounts.size());
+    }
   }
 }
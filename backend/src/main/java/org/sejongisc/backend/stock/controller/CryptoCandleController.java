@@ -0,0 +1,61 @@
+package org.sejongisc.backend.stock.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.sejongisc.backend.stock.dto.CandleInterval;
+import org.sejongisc.backend.stock.dto.CryptoCandle;
+import org.sejongisc.backend.stock.service.CryptoCandleService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/crypto")
+@RequiredArgsConstructor
+@Tag(name = "암호화폐 시세 API", description = "암호화폐 캔들 조회 API 제공")
+public class CryptoCandleController {
+
+  private final CryptoCandleService cryptoCandleService;
+
+  @Operation(
+      summary = "암호화폐 캔들 조회",
+      description = """
+          ## 인증(JWT): **필요**
+
+          ## 설명
+          - `crypto_price_data` 원본 시세를 요청한 단위의 캔들(OHLCV)로 묶어 반환합니다.
+          - 이미 마감된 캔들은 서버에 캐시되어 이후 요청에서는 최근 구간만 새로 집계합니다.
+          - 시각은 `crypto_price_data.date` 에 저장된 기준(타임존 없음)을 그대로 사용합니다.
+
+          ## 요청 파라미터 (QueryString)
+          - **`ticker`**: 코인 티커
+          - **`interval`**: `1h`, `4h`, `1d`, `1w` (주봉은 월요일 시작)
+          - **`from`**: 조회 시작 시각 (ISO, 예: 2026-01-01T00:00:00). 해당 캔들 시작 시각으로 내림
+          - **`to`** *(optional)*: 조회 종료 시각 (미포함, 기본: 현재 UTC 시각)
+          - 최대 5000개 캔들
+
+          ## 반환값 (List<CryptoCandle>)
+          - CryptoCandle = (openTime, open, high, low, close, volume), openTime 오름차순
+          - 데이터가 없는 구간의 캔들은 포함되지 않습니다.
+
+          ## 에러코드
+          - **`INVALID_CANDLE_PARAMS`**: interval 또는 기간이 올바르지 않습니다.
+          """
+  )
+  @GetMapping("/candles")
+  public List<CryptoCandle> getCandles(
+      @RequestParam String ticker,
+      @RequestParam String interval,
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
+  ) {
+    LocalDateTime end = to != null ? to : LocalDateTime.now(ZoneOffset.UTC);
+    return cryptoCandleService.getCandles(ticker, CandleInterval.from(interval), from, end);
+  }
+}
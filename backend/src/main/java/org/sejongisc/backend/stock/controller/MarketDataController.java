@@ -0,0 +1,120 @@
+package org.sejongisc.backend.stock.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.sejongisc.backend.stock.dto.MarketSeriesResponse;
+import org.sejongisc.backend.stock.dto.MarketSeriesSource;
+import org.sejongisc.backend.stock.service.MarketSeriesService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/market")
+@RequiredArgsConstructor
+@Tag(name = "시장 지표 API", description = "거시지표 / 시장 폭 / 섹터 수익률 시계열 조회 API 제공")
+public class MarketDataController {
+
+  private final MarketSeriesService marketSeriesService;
+
+  @Operation(
+      summary = "거시지표 시계열 조회",
+      description = """
+          ## 인증(JWT): **필요**
+
+          ## 설명
+          - `macroeconomic_indicators` 의 선택한 컬럼을 기간별로 반환합니다.
+          - 시계열은 서버 메모리에 캐시되며 파이프라인이 테이블을 갱신하면 다시 읽습니다.
+
+          ## 요청 파라미터 (QueryString)
+          - **`columns`** *(optional)*: 컬럼 목록 (예: `cpi,us10y,vix_close`, 기본: 전체)
+          - **`from`** *(optional)*: 조회 시작일 (yyyy-MM-dd, 기본: 처음부터)
+          - **`to`** *(optional)*: 조회 종료일 (포함, 기본: 오늘)
+
+          ## 반환값 (MarketSeriesResponse)
+          - **`series`**: 컬럼명 → { dates: [...], values: [...] }
+          - 값이 없는(null) 일자는 해당 컬럼의 배열에서 제외됩니다.
+
+          ## 에러코드
+          - **`INVALID_MARKET_SERIES_PARAMS`**: 지원하지 않는 컬럼이거나 기간이 올바르지 않습니다.
+          """
+  )
+  @GetMapping("/macro")
+  public MarketSeriesResponse getMacroSeries(
+      @RequestParam(required = false) List<String> columns,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+  ) {
+    return marketSeriesService.getSeries(MarketSeriesSource.MACRO, columns, from, endDate(to));
+  }
+
+  @Operation(
+      summary = "시장 폭 시계열 조회",
+      description = """
+          ## 인증(JWT): **필요**
+
+          ## 설명
+          - `market_breadth` 의 신고가-신저가 지수(`nh_nl_index`)와 200일선 상회 비율(`ma200_pct`)을 반환합니다.
+
+          ## 요청 파라미터 (QueryString)
+          - **`columns`** *(optional)*: `nh_nl_index`, `ma200_pct` (기본: 둘 다)
+          - **`from`** *(optional)*: 조회 시작일 (yyyy-MM-dd, 기본: 처음부터)
+          - **`to`** *(optional)*: 조회 종료일 (포함, 기본: 오늘)
+
+          ## 반환값 (MarketSeriesResponse)
+          - **`series`**: 컬럼명 → { dates: [...], values: [...] }
+
+          ## 에러코드
+          - **`INVALID_MARKET_SERIES_PARAMS`**: 지원하지 않는 컬럼이거나 기간이 올바르지 않습니다.
+          """
+  )
+  @GetMapping("/breadth")
+  public MarketSeriesResponse getBreadthSeries(
+      @RequestParam(required = false) List<String> columns,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+  ) {
+    return marketSeriesService.getSeries(MarketSeriesSource.BREADTH, columns, from, endDate(to));
+  }
+
+  @Operation(
+      summary = "섹터별 수익률 시계열 조회",
+      description = """
+          ## 인증(JWT): **필요**
+
+          ## 설명
+          - `sector_returns` 의 섹터별 수익률 또는 섹터 ETF 종가를 반환합니다.
+
+          ## 요청 파라미터 (QueryString)
+          - **`field`** *(optional)*: `return` 또는 `close` (기본: `return`)
+          - **`sectors`** *(optional)*: 섹터 목록 (기본: 전체 섹터)
+          - **`from`** *(optional)*: 조회 시작일 (yyyy-MM-dd, 기본: 처음부터)
+          - **`to`** *(optional)*: 조회 종료일 (포함, 기본: 오늘)
+
+          ## 반환값 (MarketSeriesResponse)
+          - **`series`**: 섹터명 → { dates: [...], values: [...] }
+
+          ## 에러코드
+          - **`INVALID_MARKET_SERIES_PARAMS`**: 지원하지 않는 field 또는 섹터이거나 기간이 올바르지 않습니다.
+          """
+  )
+  @GetMapping("/sectors")
+  public MarketSeriesResponse getSectorSeries(
+      @RequestParam(defaultValue = "return") String field,
+      @RequestParam(required = false) List<String> sectors,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+  ) {
+    return marketSeriesService.getSectorSeries(field, sectors, from, endDate(to));
+  }
+
+  private static LocalDate endDate(LocalDate to) {
+    return to != null ? to : LocalDate.now(ZoneId.of("Asia/Seoul"));
+  }
+}
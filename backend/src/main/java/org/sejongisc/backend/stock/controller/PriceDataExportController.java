@@ -0,0 +1,133 @@
+package org.sejongisc.backend.stock.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.zip.GZIPOutputStream;
+import lombok.RequiredArgsConstructor;
+import org.sejongisc.backend.stock.dto.PriceExportFormat;
+import org.sejongisc.backend.stock.dto.PriceExportRequest;
+import org.sejongisc.backend.stock.service.PriceDataExportService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/price-data")
+@RequiredArgsConstructor
+@Tag(name = "시세 데이터 API", description = "시세(OHLCV) 데이터 내보내기 API 제공")
+public class PriceDataExportController {
+
+  private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+  private final PriceDataExportService priceDataExportService;
+
+  // 내보내기 응답에만 적용되는 비동기 처리 제한 시간 (다른 비동기/SSE 요청은 기본값 유지)
+  @Value("${price-data.export.timeout:PT10M}")
+  private Duration exportTimeout;
+
+  @Operation(
+      summary = "시세 데이터 대량 내보내기",
+      description = """
+          ## 인증(JWT): **필요**
+
+          ## 설명
+          - 여러 티커의 일별 시세(OHLCV, 수정종가)를 기간 단위로 스트리밍 응답합니다.
+          - 서버는 DB 커서로 읽은 행을 바로 응답에 기록하므로 대용량 요청도 메모리 부담 없이 처리됩니다.
+          - `Accept-Encoding: gzip` 요청 시 gzip 으로 압축해 응답합니다.
+
+          ## 요청 파라미터 (QueryString)
+          - **`tickers`**: 티커 목록 (쉼표 구분, 최대 500개)
+          - **`from`**, **`to`**: 조회 기간 (yyyy-MM-dd, 양 끝 포함)
+          - **`format`** *(optional)*: `CSV`(기본) 또는 `BINARY`
+          - **`resumeAfterTicker`**, **`resumeAfterDate`** *(optional)*:
+            - 연결이 끊긴 경우 마지막으로 받은 행의 (ticker, date)를 지정하면 그 다음 행부터 이어서 응답합니다.
+
+          ## 응답 형식
+          - 모든 행은 (ticker, date) 오름차순입니다.
+          - `CSV`: `ticker,date,open,high,low,close,volume,adjusted_close` 헤더 포함
+          - `BINARY`: `SISCPX01` 헤더 뒤에 티커별 컬럼형 블록이 이어집니다. (Big Endian)
+            - `[ticker 길이 short][ticker UTF-8][행 수 n int][date epochDay int×n][open double×n][high][low][close][adjusted_close][volume long×n]`
+            - 누락 값은 double 은 NaN, volume 은 -1
+
+          ## 에러코드
+          - **`INVALID_PRICE_EXPORT_PARAMS`**: 티커/기간/이어받기 파라미터가 올바르지 않습니다.
+          """
+  )
+  @GetMapping("/export")
+  public ResponseEntity<StreamingResponseBody> exportPriceData(
+      @RequestParam List<String> tickers,
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+      @RequestParam(defaultValue = "CSV") PriceExportFormat format,
+      @RequestParam(required = false) String resumeAfterTicker,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate resumeAfterDate,
+      HttpServletRequest httpRequest
+  ) {
+    // 스트리밍 시작 전에 검증 (응답이 커밋된 뒤에는 에러 응답을 내려줄 수 없음)
+    PriceExportRequest request = new PriceExportRequest(
+        tickers, from, to, format, resumeAfterTicker, resumeAfterDate);
+    boolean gzip = acceptsGzip(httpRequest);
+    applyExportTimeout(httpRequest);
+
+    StreamingResponseBody body = outputStream -> {
+      if (gzip) {
+        GZIPOutputStream gzipStream = new GZIPOutputStream(outputStream, GZIP_BUFFER_SIZE);
+        priceDataExportService.export(request, gzipStream);
+        gzipStream.finish();
+      } else {
+        priceDataExportService.export(request, outputStream);
+      }
+    };
+
+    ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+        .contentType(MediaType.parseMediaType(request.format().getContentType()))
+        .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+            .filename("price_data_" + from + "_" + to + "." + request.format().getExtension())
+            .build()
+            .toString())
+        .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+    if (gzip) {
+      response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+    }
+    return response.body(body);
+  }
+
+  /**
+   * StreamingResponseBody 는 전역 비동기 제한 시간을 사용하므로, 이 요청의 비동기 처리 시작 직전에 제한 시간을 덮어씀
+   */
+  private void applyExportTimeout(HttpServletRequest httpRequest) {
+    long timeoutMillis = exportTimeout.toMillis();
+    WebAsyncUtils.getAsyncManager(httpRequest).registerCallableInterceptor(
+        PriceDataExportController.class.getName(),
+        new CallableProcessingInterceptor() {
+          @Override
+          public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+            if (request instanceof AsyncWebRequest asyncRequest) {
+              asyncRequest.setTimeout(timeoutMillis);
+            }
+          }
+        });
+  }
+
+  private boolean acceptsGzip(HttpServletRequest request) {
+    String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+    return acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+  }
+}
@@ -0,0 +1,126 @@
+package org.sejongisc.backend.stock.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.sejongisc.backend.stock.dto.AccountPnlResponse;
+import org.sejongisc.backend.stock.dto.PositionDto;
+import org.sejongisc.backend.stock.dto.QuantAccountResponse;
+import org.sejongisc.backend.stock.dto.TradeLogPage;
+import org.sejongisc.backend.stock.service.QuantAccountService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+@RestController
+@RequestMapping("/api/quant-bot/accounts")
+@RequiredArgsConstructor
+public class QuantAccountController {
+
+  private final QuantAccountService quantAccountService;
+
+  @GetMapping
+  @Operation(
+      summary = "퀀트 계정 목록",
+      description = """
+          ## 인증(JWT): **필요**
+          
+          ## 설명
+          - 파이프라인 계정(account_names) 목록을 반환합니다.
+          
+          ## 반환값 (List<QuantAccountResponse>)
+          - QuantAccountResponse = (id, accountCode, accountName, description, active)
+          """
+  )
+  public List<QuantAccountResponse> getAccounts() {
+    return quantAccountService.getAccounts();
+  }
+
+  @GetMapping("/{accountId}/logs")
+  @Operation(
+      summary = "계정별 매매 로그 조회",
+      description = """
+          ## 인증(JWT): **필요**
+          
+          ## 설명
+          - 지정한 계정의 매매 로그를 최신 체결 순으로 페이지 단위 조회합니다.
+          - 커서/페이지 크기/ETag 동작은 `/api/quant-bot/logs` 와 동일합니다.
+          
+          ## 요청 파라미터
+          - **`accountId`** *(Path)*: 계정 ID
+          - **`cursor`** *(optional)*: 이전 응답의 `nextCursor`
+          - **`size`** *(optional, 기본 50, 최대 200)*: 페이지 크기
+          
+          ## 반환값 (TradeLogPage)
+          
+          ## 에러코드
+          - **`QUANT_ACCOUNT_NOT_FOUND`**: 해당 퀀트 계정이 존재하지 않습니다.
+          - **`INVALID_TRADE_LOG_CURSOR`**: 커서 형식이 올바르지 않습니다.
+          """
+  )
+  public ResponseEntity<TradeLogPage> getTradeLogs(
+      @PathVariable Long accountId,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "50") int size,
+      WebRequest webRequest
+  ) {
+    // ETag 는 페이지 조회 전에 계산하므로 일치하면 페이지 쿼리 없이 304 로 응답
+    String eTag = quantAccountService.tradeLogETag(accountId, cursor, size);
+    if (webRequest.checkNotModified(eTag)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(CacheControl.noCache()).eTag(eTag).build();
+    }
+    return ResponseEntity.ok()
+        .cacheControl(CacheControl.noCache())
+        .eTag(eTag)
+        .body(quantAccountService.getTradeLogs(accountId, cursor, size));
+  }
+
+  @GetMapping("/{accountId}/positions")
+  @Operation(
+      summary = "계정별 보유 포지션",
+      description = """
+          ## 인증(JWT): **필요**
+          
+          ## 설명
+          - 계정의 종목별 마지막 체결 기준 보유 수량/평균단가와 최신 시세로 평가한 포지션을 반환합니다.
+          
+          ## 반환값 (List<PositionDto>)
+          - 보유 종목이 없으면 `204 No Content`
+          
+          ## 에러코드
+          - **`QUANT_ACCOUNT_NOT_FOUND`**: 해당 퀀트 계정이 존재하지 않습니다.
+          """
+  )
+  public ResponseEntity<List<PositionDto>> getPositions(@PathVariable Long accountId) {
+    List<PositionDto> positions = quantAccountService.getPositions(accountId);
+    if (positions.isEmpty()) {
+      return ResponseEntity.noContent().build();
+    }
+    return ResponseEntity.ok(positions);
+  }
+
+  @GetMapping("/{accountId}/pnl")
+  @Operation(
+      summary = "계정별 손익 요약",
+      description = """
+          ## 인증(JWT): **필요**
+          
+          ## 설명
+          - 계정의 누적 실현 손익, 평가 손익, 평가금액, 현금, 누적 수수료, 체결 건수를 반환합니다.
+          
+          ## 반환값 (AccountPnlResponse)
+          
+          ## 에러코드
+          - **`QUANT_ACCOUNT_NOT_FOUND`**: 해당 퀀트 계정이 존재하지 않습니다.
+          """
+  )
+  public AccountPnlResponse getPnl(@PathVariable Long accountId) {
+    return quantAccountService.getPnl(accountId);
+  }
+}
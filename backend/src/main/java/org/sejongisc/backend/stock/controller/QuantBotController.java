@@ -1,21 +1,36 @@
 package org.sejongisc.backend.stock.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import org.sejongisc.backend.stock.dto.HoldingDto;
+import org.sejongisc.backend.stock.dto.CorrelationMatrixResponse;
+import org.sejongisc.backend.stock.dto.PortfolioRiskResponse;
 import org.sejongisc.backend.stock.dto.PositionDto;
-import org.sejongisc.backend.stock.dto.TradeLogDto;
+import org.sejongisc.backend.stock.dto.PositionSnapshotResponse;
+import org.sejongisc.backend.stock.dto.TradeLogPage;
 import org.sejongisc.backend.stock.dto.XaiReportResponse;
+import org.sejongisc.backend.stock.dto.XaiReportSummary;
 import org.sejongisc.backend.stock.entity.XaiReport;
 import org.sejongisc.backend.stock.repository.projection.PortfolioOverviewProjection;
 import org.sejongisc.backend.stock.repository.projection.PortfolioSimpleProjection;
+import org.sejongisc.backend.stock.service.CorrelationService;
+import org.sejongisc.backend.stock.service.PortfolioRiskService;
+import org.sejongisc.backend.stock.service.PositionHistoryService;
 import org.sejongisc.backend.stock.service.QuantBotService;
+import org.sejongisc.backend.stock.service.XaiReportService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/quant-bot")
@@ -23,6 +38,9 @@ import org.springframework.web.bind.annotation.RestController;
 public class QuantBotController {
 
   private final QuantBotService quantBotService;
+  private final PortfolioRiskService portfolioRiskService;
+  private final CorrelationService correlationService;
+  private final XaiReportService xaiReportService;
 
   // 매매 로그
   @Operation(
@@ -31,22 +49,39 @@ public class QuantBotController {
           ## 인증(JWT): **필요**
           
           ## 설명
-          - 퀀트 봇이 기록한 모든 매매 로그를 조회합니다.
-          - 일반적으로 가장 최근 매매 내역부터 정렬된 리스트를 반환합니다.
+          - 퀀트 봇이 기록한 매매 로그를 최신 체결 순(fillDate, id 내림차순)으로 페이지 단위 조회합니다.
+          - 첫 페이지는 서버에 캐시되며 새 체결이 들어오면 갱신됩니다.
+          - 응답에 `ETag` 가 포함되며, `If-None-Match` 로 재요청 시 변경이 없으면 `304 Not Modified` 를 반환합니다.
           
-          ## 요청 파라미터
-          - **요청 파라미터 없음**
+          ## 요청 파라미터 (QueryString)
+          - **`cursor`** *(optional)*: 이전 응답의 `nextCursor`. 미제공 시 첫 페이지
+          - **`size`** *(optional, 기본 50, 최대 200)*: 페이지 크기
           
-          ## 반환값 (List<TradeLogDto>)
-          - **`TradeLogDto` 리스트**
-          - 각 요소는 개별 매매에 대한 로그 정보를 담습니다.
+          ## 반환값 (TradeLogPage)
+          - **`items`**: `TradeLogDto` 리스트
+          - **`nextCursor`**: 다음 페이지 커서 (마지막 페이지면 null)
+          - **`hasNext`**: 다음 페이지 존재 여부
+          
+          ## 에러코드
+          - **`INVALID_TRADE_LOG_CURSOR`**: 커서 형식이 올바르지 않습니다.
           
           """
   )
   @GetMapping("/logs")
-  public List<TradeLogDto> getTradeLogs(
+  public ResponseEntity<TradeLogPage> getTradeLogs(
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "50") int size,
+      WebRequest webRequest
   ) {
-    return quantBotService.getTradeLogs();
+    // ETag 는 페이지 조회 전에 계산하므로 일치하면 페이지 쿼리 없이 304 로 응답
+    String eTag = quantBotService.tradeLogETag(null, cursor, size);
+    if (webRequest.checkNotModified(eTag)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(CacheControl.noCache()).eTag(eTag).build();
+    }
+    return ResponseEntity.ok()
+        .cacheControl(CacheControl.noCache())
+        .eTag(eTag)
+        .body(quantBotService.getTradeLogs(cursor, size));
   }
 
   /*// 전체 종목별 보유 현황
@@ -106,6 +141,72 @@ public class QuantBotController {
     return ResponseEntity.ok(response);
   }
 
+  @Operation(
+      summary = "XAI 리포트 검색",
+      description = """
+          ## 인증(JWT): **필요**
+          
+          ## 설명
+          - 티커 및/또는 검색어로 XAI 리포트를 검색합니다. (최신 일자 순)
+          - 검색어는 리포트 본문 전문 검색(GIN 인덱스)으로 처리되며, `"정확한 구문"`, `-제외어`, `or` 를 지원합니다.
+          - 응답에는 본문이 포함되지 않으며, 본문은 `/reports/{reportId}` 로 조회합니다.
+          
+          ## 요청 파라미터 (QueryString)
+          - **`ticker`** *(optional)*: 티커
+          - **`keyword`** *(optional)*: 검색어 (ticker 와 keyword 중 하나는 필수)
+          - **`size`** *(optional, 기본 20, 최대 100)*: 최대 결과 수
+          
+          ## 반환값 (List<XaiReportSummary>)
+          - XaiReportSummary = (reportId, ticker, displayTicker, signal, price, date, createdAt)
+          
+          ## 에러코드
+          - **`INVALID_XAI_REPORT_SEARCH`**: 티커 또는 검색어가 필요합니다.
+          
+          """
+  )
+  @GetMapping("/reports/search")
+  public List<XaiReportSummary> searchReports(
+      @RequestParam(required = false) String ticker,
+      @RequestParam(required = false) String keyword,
+      @RequestParam(defaultValue = "" + XaiReportService.DEFAULT_SEARCH_SIZE) int size
+  ) {
+    return xaiReportService.search(ticker, keyword, size);
+  }
+
+  @Operation(
+      summary = "XAI 리포트 본문 조회",
+      description = """
+          ## 인증(JWT): **필요**
+          
+          ## 설명
+          - 리포트 ID 로 XAI 리포트 본문을 조회합니다.
+          - 리포트는 기록 후 변경되지 않으므로 응답에 `ETag` 와 장기 캐시 헤더가 포함되며,
+            `If-None-Match` 로 재요청 시 DB 조회 없이 `304 Not Modified` 를 반환합니다.
+          
+          ## 요청 파라미터 (Path)
+          - **`reportId`**: 리포트 ID (매매 로그의 `xaiReportId`)
+          
+          ## 반환값 (XaiReportResponse)
+          - (ticker, displayTicker, signal, price, date, report)
+          
+          ## 에러코드
+          - **`XAI_REPORT_NOT_FOUND`**: 해당 XAI 리포트가 존재하지 않습니다.
+          
+          """
+  )
+  @GetMapping("/reports/{reportId}")
+  public ResponseEntity<XaiReportResponse> getReport(@PathVariable Long reportId, WebRequest webRequest) {
+    String eTag = XaiReportService.eTag(reportId);
+    CacheControl cacheControl = CacheControl.maxAge(30, TimeUnit.DAYS).cachePrivate();
+    if (webRequest.checkNotModified(eTag)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(cacheControl).eTag(eTag).build();
+    }
+    return ResponseEntity.ok()
+        .cacheControl(cacheControl)
+        .eTag(eTag)
+        .body(xaiReportService.getReport(reportId));
+  }
+
   @GetMapping("/assets")
   @Operation(
           summary = "일별 전체 자산 변화 내역 반환",
@@ -154,6 +255,101 @@ public class QuantBotController {
     return ResponseEntity.ok(positions);
   }
 
+  @GetMapping("/positions/history")
+  @Operation(
+          summary = "과거 포지션 조회",
+          description = """
+          ## 인증(JWT): **필요**
+          
+          ## 설명
+          - 특정 일자 또는 기간의 보유 포지션을 일자별로 반환합니다.
+          - `date` 지정 시: 해당 일자(스냅샷이 없으면 그 이전 가장 최근 일자)의 포지션 1건
+          - `from`, `to` 지정 시: 기간 내 일자별 포지션. 일자 수가 `maxPoints` 를 넘으면 양 끝을 포함해 균등 간격으로 샘플링합니다.
+          
+          ## 요청 파라미터 (QueryString)
+          - **`date`** *(optional, yyyy-MM-dd)*: 기준일
+          - **`from`**, **`to`** *(optional, yyyy-MM-dd)*: 조회 기간 (date 미지정 시 필수)
+          - **`maxPoints`** *(optional, 기본 60, 최대 366)*: 기간 조회 시 최대 일자 수
+          
+          ## 반환값 (List<PositionSnapshotResponse>)
+          - PositionSnapshotResponse = (date: 스냅샷 일자, positions: List<PositionDto>)
+          - 일자 오름차순
+          
+          ## 에러코드
+          - **`INVALID_POSITION_HISTORY_RANGE`**: 기간 파라미터가 올바르지 않습니다.
+          """
+  )
+  public ResponseEntity<List<PositionSnapshotResponse>> getPositionHistory(
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+      @RequestParam(defaultValue = "" + PositionHistoryService.DEFAULT_MAX_POINTS) int maxPoints
+  ) {
+    if (date != null) {
+      return ResponseEntity.ok(List.of(quantBotService.getPositionsAsOf(date)));
+    }
+    return ResponseEntity.ok(quantBotService.getPositionHistory(from, to, maxPoints));
+  }
+
+  @GetMapping("/risk")
+  @Operation(
+          summary = "포트폴리오 리스크 지표",
+          description = """
+          ## 인증(JWT): **필요**
+          
+          ## 설명
+          - 일 배치로 미리 계산된 최신 리스크 지표를 반환합니다. (요청 시 계산하지 않음)
+          - 변동성: 최근 N일 일별 수익률의 연율화 표준편차
+          - VaR: 신뢰수준 기준 1일 손실 비율 (역사적 / 정규분포 가정), 양수일수록 손실
+          - 베타: 벤치마크 티커(price_data) 대비 베타
+          - 종목별 기여도: 전일 총자산 대비 비중 × 당일 종목 수익률
+          
+          ## 요청 파라미터
+          - **요청 파라미터 없음**
+          
+          ## 반환값 (PortfolioRiskResponse)
+          - 계산된 지표가 없으면 `204 No Content`
+          """
+  )
+  public ResponseEntity<PortfolioRiskResponse> getRisk() {
+    return portfolioRiskService.getLatest()
+        .map(ResponseEntity::ok)
+        .orElseGet(() -> ResponseEntity.noContent().build());
+  }
+
+  @GetMapping("/correlation")
+  @Operation(
+          summary = "종목 간 상관계수 / 공분산 행렬",
+          description = """
+          ## 인증(JWT): **필요**
+          
+          ## 설명
+          - 지정한 티커들(미지정 시 현재 보유 종목)의 최근 `window` 거래일 일별 수익률로 상관계수와 공분산 행렬을 계산합니다.
+          - 모든 티커에 종가가 존재하는 일자만 사용하며, 시세 데이터가 없는 티커는 결과에서 제외됩니다.
+          - 같은 (티커 집합, window) 요청은 새 시세가 적재될 때까지 캐시된 결과를 반환합니다.
+          
+          ## 요청 파라미터 (QueryString)
+          - **`tickers`** *(optional)*: 티커 목록 (쉼표 구분, 2~100개)
+          - **`window`** *(optional, 기본 60)*: 사용할 수익률 개수 (5~500)
+          
+          ## 반환값 (CorrelationMatrixResponse)
+          - `tickers`: 행/열 순서, `correlation`, `covariance`: 2차원 배열
+          
+          ## 에러코드
+          - **`INVALID_CORRELATION_PARAMS`**: 티커 수 또는 window 가 범위를 벗어났습니다.
+          - **`PRICE_DATA_NOT_FOUND`**: 계산에 필요한 시세 데이터가 부족합니다.
+          """
+  )
+  public CorrelationMatrixResponse getCorrelation(
+      @RequestParam(required = false) List<String> tickers,
+      @RequestParam(defaultValue = "" + CorrelationService.DEFAULT_WINDOW) int window
+  ) {
+    List<String> targets = tickers != null && !tickers.isEmpty()
+        ? tickers
+        : quantBotService.getPositions().stream().map(PositionDto::getTicker).toList();
+    return correlationService.getCorrelation(targets, window);
+  }
+
   @GetMapping("/portfolio-overview")
   @Operation(
           summary = "자산현황",
@@ -177,4 +373,3 @@ public class QuantBotController {
     return quantBotService.getPortfolioOverview();
   }
 }
-
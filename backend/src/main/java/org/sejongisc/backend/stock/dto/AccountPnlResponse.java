@@ -0,0 +1,27 @@
+package org.sejongisc.backend.stock.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 계정별 손익 요약
+ *
+ * @param realizedPnl     누적 실현 손익 (executions.pnl_realized 합계)
+ * @param unrealizedPnl   보유 종목 평가 손익 (최신 시세 기준)
+ * @param marketValue     보유 종목 평가금액 합계
+ * @param cash            마지막 체결 후 현금
+ * @param totalCommission 누적 수수료
+ */
+public record AccountPnlResponse(
+    Long accountId,
+    String accountCode,
+    String accountName,
+    long tradeCount,
+    LocalDate lastFillDate,
+    BigDecimal realizedPnl,
+    BigDecimal unrealizedPnl,
+    BigDecimal marketValue,
+    BigDecimal cash,
+    BigDecimal totalCommission
+) {
+}
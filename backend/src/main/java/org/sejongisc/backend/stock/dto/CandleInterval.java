@@ -0,0 +1,46 @@
+package org.sejongisc.backend.stock.dto;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Arrays;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.sejongisc.backend.common.exception.CustomException;
+import org.sejongisc.backend.common.exception.ErrorCode;
+
+/**
+ * 캔들 집계 단위 (crypto_price_data.date 기준, 주봉은 월요일 00:00 시작)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum CandleInterval {
+  H1("1h", Duration.ofHours(1)),
+  H4("4h", Duration.ofHours(4)),
+  D1("1d", Duration.ofDays(1)),
+  W1("1w", Duration.ofDays(7));
+
+  private final String code;
+  private final Duration duration;
+
+  public static CandleInterval from(String code) {
+    return Arrays.stream(values())
+        .filter(interval -> interval.code.equalsIgnoreCase(code))
+        .findFirst()
+        .orElseThrow(() -> new CustomException(ErrorCode.INVALID_CANDLE_PARAMS));
+  }
+
+  /**
+   * 시각이 속한 캔들의 시작 시각
+   */
+  public LocalDateTime bucketStart(LocalDateTime time) {
+    return switch (this) {
+      case H1 -> time.truncatedTo(ChronoUnit.HOURS);
+      case H4 -> time.truncatedTo(ChronoUnit.HOURS).withHour(time.getHour() - time.getHour() % 4);
+      case D1 -> time.truncatedTo(ChronoUnit.DAYS);
+      case W1 -> time.truncatedTo(ChronoUnit.DAYS).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    };
+  }
+}
@@ -0,0 +1,22 @@
+package org.sejongisc.backend.stock.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 티커 간 일별 수익률 상관계수 / 공분산 행렬
+ *
+ * @param tickers     행/열 순서 (수익률 데이터가 부족한 티커는 제외)
+ * @param window      사용한 수익률 개수 (거래일)
+ * @param asOf        마지막 수익률 일자
+ * @param correlation tickers × tickers 상관계수 행렬
+ * @param covariance  tickers × tickers 표본 공분산 행렬
+ */
+public record CorrelationMatrixResponse(
+    List<String> tickers,
+    int window,
+    LocalDate asOf,
+    double[][] correlation,
+    double[][] covariance
+) {
+}
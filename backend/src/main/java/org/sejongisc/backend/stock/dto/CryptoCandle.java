@@ -0,0 +1,17 @@
+package org.sejongisc.backend.stock.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 집계된 캔들 (openTime: 캔들 시작 시각)
+ */
+public record CryptoCandle(
+    LocalDateTime openTime,
+    BigDecimal open,
+    BigDecimal high,
+    BigDecimal low,
+    BigDecimal close,
+    BigDecimal volume
+) {
+}
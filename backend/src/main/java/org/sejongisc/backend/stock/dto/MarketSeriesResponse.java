@@ -0,0 +1,27 @@
+package org.sejongisc.backend.stock.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 시장 지표 시계열 (컬럼/섹터별 압축 배열)
+ *
+ * @param source 원천 테이블
+ * @param from   조회 시작일 (null 이면 처음부터)
+ * @param to     조회 종료일 (포함)
+ * @param series 시리즈명(컬럼 또는 섹터) → 값이 있는 일자만 담은 시계열
+ */
+public record MarketSeriesResponse(
+    String source,
+    LocalDate from,
+    LocalDate to,
+    Map<String, Series> series
+) {
+
+  /**
+   * dates[i] 의 값이 values[i]
+   */
+  public record Series(List<LocalDate> dates, double[] values) {
+  }
+}
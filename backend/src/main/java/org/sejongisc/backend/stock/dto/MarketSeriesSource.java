@@ -0,0 +1,47 @@
+package org.sejongisc.backend.stock.dto;
+
+import java.util.List;
+
+/**
+ * 시장 지표 시계열 원천 테이블과 조회 가능한 컬럼 화이트리스트
+ * - 컬럼명은 SQL 식별자로 그대로 사용되므로 여기 정의된 값만 허용합니다.
+ */
+public enum MarketSeriesSource {
+
+  MACRO("macroeconomic_indicators", null, List.of(
+      "cpi", "gdp", "ppi", "jolt", "cci", "interest_rate", "trade_balance", "core_cpi", "real_gdp",
+      "unemployment_rate", "consumer_sentiment", "ff_targetrate_upper", "ff_targetrate_lower", "pce",
+      "core_pce", "tradebalance_goods", "trade_import", "trade_export", "us10y", "us2y", "yield_spread",
+      "vix_close", "dxy_close", "wti_price", "gold_price", "credit_spread_hy")),
+  BREADTH("market_breadth", null, List.of("nh_nl_index", "ma200_pct")),
+  SECTOR("sector_returns", "sector", List.of("return", "close"));
+
+  private final String table;
+  private final String groupColumn;
+  private final List<String> columns;
+
+  MarketSeriesSource(String table, String groupColumn, List<String> columns) {
+    this.table = table;
+    this.groupColumn = groupColumn;
+    this.columns = columns;
+  }
+
+  public String table() {
+    return table;
+  }
+
+  /**
+   * 한 테이블 안에서 시계열을 나누는 컬럼 (섹터별 수익률 등), 없으면 null
+   */
+  public String groupColumn() {
+    return groupColumn;
+  }
+
+  public List<String> columns() {
+    return columns;
+  }
+
+  public boolean supports(String column) {
+    return columns.contains(column);
+  }
+}
@@ -0,0 +1,53 @@
+package org.sejongisc.backend.stock.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 일별 포트폴리오 리스크 지표 (사전 계산 값)
+ *
+ * @param volatility       연율화 변동성
+ * @param varHistorical    1일 역사적 VaR (손실 비율, 양수)
+ * @param varParametric    1일 모수적 VaR (손실 비율, 양수)
+ * @param beta             benchmarkTicker 대비 베타
+ * @param attributions     종목별 수익 기여도 (기여도 내림차순)
+ * @param volatilitySeries 일자별 이동 창 연율화 변동성 (오래된 순)
+ */
+public record PortfolioRiskResponse(
+    LocalDate date,
+    Integer windowDays,
+    Double confidence,
+    Double volatility,
+    Double varHistorical,
+    Double varParametric,
+    String benchmarkTicker,
+    Double beta,
+    LocalDateTime computedAt,
+    List<Attribution> attributions,
+    List<VolatilityPoint> volatilitySeries
+) {
+
+  /**
+   * @param weight       전일 총자산 대비 평가금액 비중
+   * @param tickerReturn 당일 종목 수익률
+   * @param contribution weight × tickerReturn
+   */
+  public record Attribution(
+      String ticker,
+      String displayTicker,
+      Double weight,
+      Double tickerReturn,
+      Double contribution
+  ) {
+  }
+
+  /**
+   * @param volatility date 까지 rollingWindowDays 개 수익률의 연율화 변동성
+   */
+  public record VolatilityPoint(
+      LocalDate date,
+      Double volatility
+  ) {
+  }
+}
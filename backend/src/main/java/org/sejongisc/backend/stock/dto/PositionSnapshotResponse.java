@@ -0,0 +1,13 @@
+package org.sejongisc.backend.stock.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 특정 일자의 포지션 스냅샷
+ */
+public record PositionSnapshotResponse(
+    LocalDate date,
+    List<PositionDto> positions
+) {
+}
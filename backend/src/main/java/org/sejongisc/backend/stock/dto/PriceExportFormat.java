@@ -0,0 +1,14 @@
+package org.sejongisc.backend.stock.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum PriceExportFormat {
+  CSV("text/csv", "csv"),        // 헤더 포함 CSV (ticker,date,open,high,low,close,volume,adjusted_close)
+  BINARY("application/octet-stream", "bin"); // 티커별 블록 단위 컬럼형 바이너리
+
+  private final String contentType;
+  private final String extension;
+}
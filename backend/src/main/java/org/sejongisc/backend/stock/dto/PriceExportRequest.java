@@ -0,0 +1,48 @@
+package org.sejongisc.backend.stock.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.sejongisc.backend.common.exception.CustomException;
+import org.sejongisc.backend.common.exception.ErrorCode;
+
+/**
+ * 시세 내보내기 요청
+ *
+ * @param resumeAfterTicker 이어받기 기준 티커 (이전 응답에서 마지막으로 받은 행)
+ * @param resumeAfterDate   이어받기 기준 일자 (resumeAfterTicker 와 함께 지정)
+ */
+public record PriceExportRequest(
+    List<String> tickers,
+    LocalDate from,
+    LocalDate to,
+    PriceExportFormat format,
+    String resumeAfterTicker,
+    LocalDate resumeAfterDate
+) {
+  public static final int MAX_TICKERS = 500;
+
+  public PriceExportRequest {
+    tickers = tickers == null ? List.of() : tickers.stream()
+        .filter(ticker -> ticker != null && !ticker.isBlank())
+        .map(String::trim)
+        .distinct()
+        .toList();
+
+    if (tickers.isEmpty() || tickers.size() > MAX_TICKERS) {
+      throw new CustomException(ErrorCode.INVALID_PRICE_EXPORT_PARAMS);
+    }
+    if (from == null || to == null || from.isAfter(to)) {
+      throw new CustomException(ErrorCode.INVALID_PRICE_EXPORT_PARAMS);
+    }
+    if ((resumeAfterTicker == null) != (resumeAfterDate == null)) {
+      throw new CustomException(ErrorCode.INVALID_PRICE_EXPORT_PARAMS);
+    }
+    if (format == null) {
+      format = PriceExportFormat.CSV;
+    }
+  }
+
+  public boolean isResume() {
+    return resumeAfterTicker != null;
+  }
+}
@@ -0,0 +1,21 @@
+package org.sejongisc.backend.stock.dto;
+
+import java.util.List;
+
+/**
+ * 시세 CSV 적재 결과
+ *
+ * @param copiedRows    COPY 로 스테이징 테이블에 적재된 행 수
+ * @param upsertedRows  price_data 에 반영(insert/update)된 행 수 (중복 행 제외)
+ * @param tickers       적재된 티커 목록
+ * @param elapsedMs     전체 소요 시간 (ms)
+ * @param rowsPerSecond 처리량 (copiedRows 기준)
+ */
+public record PriceIngestionResponse(
+    long copiedRows,
+    long upsertedRows,
+    List<String> tickers,
+    long elapsedMs,
+    long rowsPerSecond
+) {
+}
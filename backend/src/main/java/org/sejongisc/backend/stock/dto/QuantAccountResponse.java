@@ -0,0 +1,22 @@
+package org.sejongisc.backend.stock.dto;
+
+import org.sejongisc.backend.stock.entity.QuantAccount;
+
+public record QuantAccountResponse(
+    Long id,
+    String accountCode,
+    String accountName,
+    String description,
+    boolean active
+) {
+
+  public static QuantAccountResponse from(QuantAccount account) {
+    return new QuantAccountResponse(
+        account.getId(),
+        account.getAccountCode(),
+        account.getAccountName(),
+        account.getDescription(),
+        account.isActive()
+    );
+  }
+}
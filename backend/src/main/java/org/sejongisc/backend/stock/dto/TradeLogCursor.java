@@ -0,0 +1,36 @@
+package org.sejongisc.backend.stock.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+import org.sejongisc.backend.common.exception.CustomException;
+import org.sejongisc.backend.common.exception.ErrorCode;
+
+/**
+ * 매매 로그 커서 (마지막으로 받은 행의 fill_date, id)
+ * - 클라이언트에는 "yyyy-MM-dd:id" 를 URL-safe Base64 로 인코딩한 문자열로 전달합니다.
+ */
+public record TradeLogCursor(LocalDate fillDate, Long id) {
+
+  public static TradeLogCursor from(TradeLogDto last) {
+    return new TradeLogCursor(last.fillDate(), last.id());
+  }
+
+  public String encode() {
+    String raw = fillDate + ":" + id;
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static TradeLogCursor decode(String cursor) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      int separator = raw.lastIndexOf(':');
+      return new TradeLogCursor(
+          LocalDate.parse(raw.substring(0, separator)),
+          Long.parseLong(raw.substring(separator + 1))
+      );
+    } catch (RuntimeException e) {
+      throw new CustomException(ErrorCode.INVALID_TRADE_LOG_CURSOR);
+    }
+  }
+}
@@ -0,0 +1,17 @@
+package org.sejongisc.backend.stock.dto;
+
+import java.util.List;
+
+/**
+ * 매매 로그 페이지 (최신 체결 순)
+ *
+ * @param items      이번 페이지의 매매 로그
+ * @param nextCursor 다음 페이지 요청 시 전달할 커서 (마지막 페이지면 null)
+ * @param hasNext    다음 페이지 존재 여부
+ */
+public record TradeLogPage(
+    List<TradeLogDto> items,
+    String nextCursor,
+    boolean hasNext
+) {
+}
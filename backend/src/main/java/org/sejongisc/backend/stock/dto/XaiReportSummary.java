@@ -0,0 +1,19 @@
+package org.sejongisc.backend.stock.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * XAI 리포트 검색 결과 (본문 제외, 본문은 /reports/{reportId} 로 조회)
+ */
+public record XaiReportSummary(
+    Long reportId,
+    String ticker,
+    String displayTicker,
+    String signal,
+    BigDecimal price,
+    LocalDate date,
+    LocalDateTime createdAt
+) {
+}
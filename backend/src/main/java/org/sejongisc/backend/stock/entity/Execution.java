@@ -20,6 +20,8 @@ public class Execution {
   @Id
   @GeneratedValue(strategy = GenerationType.IDENTITY) // SERIAL
   private Long id;
+  // 체결 주체 계정 (account_names.id)
+  private Long accountId;
   private String ticker;
   private LocalDate signalDate;
   private BigDecimal signalPrice;
@@ -0,0 +1,34 @@
+package org.sejongisc.backend.stock.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일별 종목 수익 기여도 (contribution = weight × tickerReturn)
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "portfolio_risk_attribution")
+@IdClass(PortfolioRiskAttributionId.class)
+public class PortfolioRiskAttribution {
+
+  @Id
+  private LocalDate date;
+
+  @Id
+  private String ticker;
+
+  private Double weight;
+  private Double tickerReturn;
+  private Double contribution;
+}
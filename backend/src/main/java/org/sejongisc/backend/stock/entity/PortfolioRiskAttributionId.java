@@ -0,0 +1,32 @@
+package org.sejongisc.backend.stock.entity;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+public class PortfolioRiskAttributionId implements Serializable {
+  private LocalDate date;
+  private String ticker;
+
+  public PortfolioRiskAttributionId() {
+  }
+
+  public PortfolioRiskAttributionId(LocalDate date, String ticker) {
+    this.date = date;
+    this.ticker = ticker;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    PortfolioRiskAttributionId that = (PortfolioRiskAttributionId) o;
+    return Objects.equals(date, that.date) &&
+        Objects.equals(ticker, that.ticker);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(date, ticker);
+  }
+}
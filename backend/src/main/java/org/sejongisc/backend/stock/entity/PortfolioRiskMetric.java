@@ -0,0 +1,36 @@
+package org.sejongisc.backend.stock.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일별 포트폴리오 리스크 지표
+ * - volatility: 연율화 변동성, var*: 1일 VaR (포트폴리오 대비 손실 비율, 양수)
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "portfolio_risk_metrics")
+public class PortfolioRiskMetric {
+
+  @Id
+  private LocalDate date;
+
+  private Integer windowDays;
+  private Double confidence;
+  private Double volatility;
+  private Double varHistorical;
+  private Double varParametric;
+  private String benchmarkTicker;
+  private Double beta;
+  private LocalDateTime computedAt;
+}
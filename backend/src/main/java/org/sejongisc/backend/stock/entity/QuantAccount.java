@@ -0,0 +1,39 @@
+package org.sejongisc.backend.stock.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.OffsetDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * 퀀트 파이프라인 계정 (account_names, executions.account_id 참조 대상)
+ * - 파이프라인이 소유한 테이블이므로 백엔드에서는 읽기 전용으로 매핑합니다.
+ */
+@Entity
+@Immutable
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "account_names")
+public class QuantAccount {
+
+  @Id
+  private Long id;
+
+  private String accountCode;
+  private String accountName;
+
+  @Column(columnDefinition = "text")
+  private String description;
+
+  @Column(name = "is_active")
+  private boolean active;
+
+  private OffsetDateTime createdAt;
+  private OffsetDateTime updatedAt;
+}
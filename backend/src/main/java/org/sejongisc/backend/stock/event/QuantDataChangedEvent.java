@@ -0,0 +1,41 @@
+package org.sejongisc.backend.stock.event;
+
+import java.util.Set;
+
+/**
+ * AI 파이프라인 테이블 변경 이벤트 (Postgres NOTIFY quant_data_changed)
+ *
+ * @param tables 변경된 테이블명
+ * @param full   알림 유실 가능성이 있어 (리스너 재연결 등) 모든 테이블을 변경된 것으로 간주해야 하는지 여부
+ */
+public record QuantDataChangedEvent(Set<String> tables, boolean full) {
+
+  public static final String EXECUTIONS = "executions";
+  public static final String PORTFOLIO_SUMMARY = "portfolio_summary";
+  public static final String PORTFOLIO_POSITIONS = "portfolio_positions";
+  public static final String PRICE_DATA = "price_data";
+  public static final String COMPANY_NAMES = "company_names";
+  public static final String MACROECONOMIC_INDICATORS = "macroeconomic_indicators";
+  public static final String MARKET_BREADTH = "market_breadth";
+  public static final String SECTOR_RETURNS = "sector_returns";
+
+  public static QuantDataChangedEvent of(Set<String> tables) {
+    return new QuantDataChangedEvent(Set.copyOf(tables), false);
+  }
+
+  public static QuantDataChangedEvent all() {
+    return new QuantDataChangedEvent(Set.of(), true);
+  }
+
+  public boolean affects(String... candidates) {
+    if (full) {
+      return true;
+    }
+    for (String candidate : candidates) {
+      if (tables.contains(candidate)) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,353 @@
+package org.sejongisc.backend.stock.infrastructure;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.sejongisc.backend.stock.entity.PriceData;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 티커별 로컬 컬럼형 가격 파일 (선택 기능, price-store.enabled).
+ *
+ * 파일 구조 (Big Endian, 티커당 1개 파일)
+ * - 헤더 32 bytes: [magic int][version int][count int][capacity int][syncedThrough epochDay long][reserved]
+ * - 컬럼 영역 (각 capacity 칸): date(int) | open | high | low | close | adjusted_close (double) | volume(long)
+ *
+ * - 읽기는 FileChannel.map 으로 매핑한 버퍼를 PriceSlice 로 감싸 복사 없이 제공합니다.
+ * - 새 일자는 남은 capacity 안에서 제자리에 추가합니다. 읽기와 같은 매핑 버퍼에 행 데이터 → count → syncedThrough
+ *   순서로 release 쓰기하고, 읽는 쪽은 syncedThrough → count 순서로 acquire 읽기하므로
+ *   새 syncedThrough 를 본 읽기는 반드시 새 count 와 완성된 행을 봅니다.
+ *   capacity 가 부족하면 더 큰 파일을 임시 경로에 만든 뒤 원자적으로 교체합니다.
+ * - syncedThrough: 마지막 동기화 시점의 price_data 최신 일자. 이 날짜까지는 파일이 DB 와 동일합니다.
+ * - 과거 일자 정정은 추가만으로 반영할 수 없으므로 적재 시 evict 하고, 주기적인 대사(checksum 비교)로 놓친 정정을 찾아 재생성합니다.
+ */
+@Slf4j
+@Component
+public class ColumnarPriceStore {
+
+  static final int OPEN = 0;
+  static final int HIGH = 1;
+  static final int LOW = 2;
+  static final int CLOSE = 3;
+  static final int ADJUSTED_CLOSE = 4;
+  private static final int PRICE_COLUMNS = 5;
+
+  private static final int MAGIC = 0x53504331; // "SPC1"
+  private static final int VERSION = 1;
+  private static final int HEADER_SIZE = 32;
+  private static final int COUNT_OFFSET = 8;
+  private static final int CAPACITY_OFFSET = 12;
+  private static final int SYNCED_OFFSET = 16;
+  private static final int ROW_WIDTH = Integer.BYTES + PRICE_COLUMNS * Double.BYTES + Long.BYTES;
+  private static final int MIN_CAPACITY = 256;
+  private static final String FILE_EXTENSION = ".col";
+  private static final Pattern SAFE_TICKER = Pattern.compile("[A-Za-z0-9._^=-]{1,64}");
+  private static final VarHandle INT_HANDLE = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+  private static final VarHandle LONG_HANDLE = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+  private final boolean enabled;
+  private final Path rootLocation;
+  private final ConcurrentHashMap<String, MappedByteBuffer> mappings = new ConcurrentHashMap<>();
+
+  public ColumnarPriceStore(
+      @Value("${price-store.enabled:false}") boolean enabled,
+      @Value("${price-store.root-location:${user.dir}/price-store}") String rootLocation
+  ) {
+    this.enabled = enabled;
+    this.rootLocation = Paths.get(rootLocation).toAbsolutePath().normalize();
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * [from, to] 구간 조회
+   * - 파일이 없거나 to 가 syncedThrough 이후라면 (DB 에 더 최신 데이터가 있을 수 있으므로) empty 를 반환합니다.
+   */
+  public Optional<PriceSlice> slice(String ticker, LocalDate from, LocalDate to) {
+    if (!enabled || !isSafeTicker(ticker)) {
+      return Optional.empty();
+    }
+    MappedByteBuffer buffer = mappings.computeIfAbsent(ticker, this::map);
+    if (buffer == null) {
+      return Optional.empty();
+    }
+
+    // syncedThrough 를 먼저 읽어야 그 이전에 기록된 count 와 행이 보장됨
+    long syncedThrough = syncedThrough(buffer);
+    int count = count(buffer);
+    Layout layout = new Layout(buffer.getInt(CAPACITY_OFFSET));
+    if (to.toEpochDay() > syncedThrough) {
+      return Optional.empty();
+    }
+
+    int start = lowerBound(buffer, layout, count, from.toEpochDay());
+    int end = lowerBound(buffer, layout, count, to.toEpochDay() + 1);
+    return Optional.of(new PriceSlice(ticker, buffer, layout, start, end));
+  }
+
+  /**
+   * 파일에 저장된 마지막 일자
+   */
+  public Optional<LocalDate> lastDate(String ticker) {
+    if (!enabled || !isSafeTicker(ticker)) {
+      return Optional.empty();
+    }
+    MappedByteBuffer buffer = mappings.computeIfAbsent(ticker, this::map);
+    if (buffer == null) {
+      return Optional.empty();
+    }
+    int count = count(buffer);
+    if (count == 0) {
+      return Optional.empty();
+    }
+    Layout layout = new Layout(buffer.getInt(CAPACITY_OFFSET));
+    return Optional.of(LocalDate.ofEpochDay(buffer.getInt(layout.dateOffset(count - 1))));
+  }
+
+  /**
+   * 파일 전체 요약 (DB 집계와 비교해 과거 일자 정정을 찾는 대사용)
+   * - 합계에서 누락 값(NaN, -1)은 제외하므로 DB 의 SUM(null 제외) 과 같은 기준입니다.
+   */
+  public Optional<Checksum> checksum(String ticker) {
+    if (!enabled || !isSafeTicker(ticker)) {
+      return Optional.empty();
+    }
+    MappedByteBuffer buffer = mappings.computeIfAbsent(ticker, this::map);
+    if (buffer == null) {
+      return Optional.empty();
+    }
+    long syncedThrough = syncedThrough(buffer);
+    int count = count(buffer);
+    Layout layout = new Layout(buffer.getInt(CAPACITY_OFFSET));
+
+    double closeSum = 0;
+    double adjustedCloseSum = 0;
+    long volumeSum = 0;
+    for (int i = 0; i < count; i++) {
+      double close = buffer.getDouble(layout.priceOffset(CLOSE, i));
+      double adjustedClose = buffer.getDouble(layout.priceOffset(ADJUSTED_CLOSE, i));
+      long volume = buffer.getLong(layout.volumeOffset(i));
+      closeSum += Double.isNaN(close) ? 0 : close;
+      adjustedCloseSum += Double.isNaN(adjustedClose) ? 0 : adjustedClose;
+      volumeSum += volume < 0 ? 0 : volume;
+    }
+    return Optional.of(new Checksum(LocalDate.ofEpochDay(syncedThrough), count, closeSum, adjustedCloseSum, volumeSum));
+  }
+
+  /**
+   * 새 일자 추가 (파일이 없으면 생성)
+   * - rows 는 date 오름차순이어야 하며, 파일의 마지막 일자 이후 행만 반영합니다.
+   * - 쓰기는 동기화 배치에서만 발생하므로 단순히 직렬화합니다.
+   */
+  public synchronized void append(String ticker, List<PriceData> rows, LocalDate syncedThrough) {
+    if (!enabled || !isSafeTicker(ticker)) {
+      return;
+    }
+    MappedByteBuffer existing = mappings.computeIfAbsent(ticker, this::map);
+    int count = existing == null ? 0 : count(existing);
+    int capacity = existing == null ? 0 : existing.getInt(CAPACITY_OFFSET);
+    long lastDay = count == 0 ? Long.MIN_VALUE
+        : existing.getInt(new Layout(capacity).dateOffset(count - 1));
+
+    List<PriceData> newRows = rows.stream()
+        .filter(row -> row.getDate().toEpochDay() > lastDay)
+        .toList();
+
+    try {
+      if (existing != null && count + newRows.size() <= capacity) {
+        appendInPlace(existing, capacity, count, newRows, syncedThrough);
+      } else {
+        rewrite(ticker, existing, count, newRows, syncedThrough);
+      }
+    } catch (IOException e) {
+      log.error("컬럼형 가격 파일 쓰기 실패: ticker={}", ticker, e);
+      evict(ticker);
+    }
+  }
+
+  /**
+   * 파일 삭제 (과거 일자 정정 등 추가만으로 반영할 수 없는 변경이 생긴 경우, 다음 동기화 때 다시 생성)
+   */
+  public synchronized void evict(String ticker) {
+    if (!enabled || !isSafeTicker(ticker)) {
+      return;
+    }
+    mappings.remove(ticker);
+    try {
+      Files.deleteIfExists(resolve(ticker));
+    } catch (IOException e) {
+      log.warn("컬럼형 가격 파일 삭제 실패: ticker={}", ticker, e);
+    }
+  }
+
+  /**
+   * 읽기와 같은 매핑 버퍼에 제자리 추가
+   * - 행 데이터 → count → syncedThrough 순서로 release 쓰기 (읽는 쪽은 역순으로 acquire 읽기)
+   */
+  private void appendInPlace(MappedByteBuffer buffer, int capacity, int count, List<PriceData> newRows,
+      LocalDate syncedThrough) {
+    writeRows(buffer, new Layout(capacity), count, newRows);
+    INT_HANDLE.setRelease(buffer, COUNT_OFFSET, count + newRows.size());
+    LONG_HANDLE.setRelease(buffer, SYNCED_OFFSET, syncedThrough.toEpochDay());
+    buffer.force();
+  }
+
+  private void rewrite(String ticker, MappedByteBuffer existing, int count, List<PriceData> newRows,
+      LocalDate syncedThrough) throws IOException {
+    int total = count + newRows.size();
+    int capacity = MIN_CAPACITY;
+    while (capacity < total + total / 4) {
+      capacity *= 2;
+    }
+
+    Files.createDirectories(rootLocation);
+    Path target = resolve(ticker);
+    Path temp = Files.createTempFile(rootLocation, ticker + ".", ".tmp");
+    Layout layout = new Layout(capacity);
+
+    try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, layout.fileSize());
+      buffer.putInt(0, MAGIC);
+      buffer.putInt(4, VERSION);
+      buffer.putInt(CAPACITY_OFFSET, capacity);
+
+      if (existing != null && count > 0) {
+        Layout oldLayout = new Layout(existing.getInt(CAPACITY_OFFSET));
+        buffer.put(layout.dateOffset(0), existing, oldLayout.dateOffset(0), count * Integer.BYTES);
+        for (int column = 0; column < PRICE_COLUMNS; column++) {
+          buffer.put(layout.priceOffset(column, 0), existing, oldLayout.priceOffset(column, 0), count * Double.BYTES);
+        }
+        buffer.put(layout.volumeOffset(0), existing, oldLayout.volumeOffset(0), count * Long.BYTES);
+      }
+
+      writeRows(buffer, layout, count, newRows);
+      buffer.putLong(SYNCED_OFFSET, syncedThrough.toEpochDay());
+      buffer.putInt(COUNT_OFFSET, total);
+      buffer.force();
+    } catch (IOException e) {
+      Files.deleteIfExists(temp);
+      throw e;
+    }
+
+    Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    // 기존 매핑은 교체 전 파일을 가리키므로 제거 후 다음 조회 때 다시 매핑
+    mappings.remove(ticker);
+    log.debug("컬럼형 가격 파일 재작성: ticker={}, rows={}, capacity={}", ticker, total, capacity);
+  }
+
+  private void writeRows(ByteBuffer buffer, Layout layout, int fromIndex, List<PriceData> rows) {
+    int index = fromIndex;
+    for (PriceData row : rows) {
+      buffer.putInt(layout.dateOffset(index), (int) row.getDate().toEpochDay());
+      buffer.putDouble(layout.priceOffset(OPEN, index), toDouble(row.getOpen()));
+      buffer.putDouble(layout.priceOffset(HIGH, index), toDouble(row.getHigh()));
+      buffer.putDouble(layout.priceOffset(LOW, index), toDouble(row.getLow()));
+      buffer.putDouble(layout.priceOffset(CLOSE, index), toDouble(row.getClosePrice()));
+      buffer.putDouble(layout.priceOffset(ADJUSTED_CLOSE, index), toDouble(row.getAdjustedClose()));
+      buffer.putLong(layout.volumeOffset(index), row.getVolume() == null ? -1L : row.getVolume());
+      index++;
+    }
+  }
+
+  private MappedByteBuffer map(String ticker) {
+    Path path = resolve(ticker);
+    if (!Files.exists(path)) {
+      return null;
+    }
+    // 제자리 추가도 같은 버퍼로 하므로 읽기/쓰기로 매핑
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+      if (channel.size() < HEADER_SIZE || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+        log.warn("컬럼형 가격 파일 형식 불일치: ticker={}", ticker);
+        return null;
+      }
+      return buffer;
+    } catch (IOException e) {
+      log.warn("컬럼형 가격 파일 매핑 실패: ticker={}", ticker, e);
+      return null;
+    }
+  }
+
+  private static int count(ByteBuffer buffer) {
+    return (int) INT_HANDLE.getAcquire(buffer, COUNT_OFFSET);
+  }
+
+  private static long syncedThrough(ByteBuffer buffer) {
+    return (long) LONG_HANDLE.getAcquire(buffer, SYNCED_OFFSET);
+  }
+
+  // 정렬된 date 컬럼에서 epochDay 이상이 처음 나오는 위치
+  private int lowerBound(ByteBuffer buffer, Layout layout, int count, long epochDay) {
+    int low = 0;
+    int high = count;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (buffer.getInt(layout.dateOffset(mid)) < epochDay) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  private double toDouble(BigDecimal value) {
+    return value == null ? Double.NaN : value.doubleValue();
+  }
+
+  private boolean isSafeTicker(String ticker) {
+    return ticker != null && SAFE_TICKER.matcher(ticker).matches();
+  }
+
+  private Path resolve(String ticker) {
+    return rootLocation.resolve(ticker + FILE_EXTENSION);
+  }
+
+  /**
+   * 파일 요약 (행 수 + 컬럼 합계)
+   */
+  public record Checksum(LocalDate syncedThrough, long rowCount, double closeSum, double adjustedCloseSum,
+                         long volumeSum) {
+  }
+
+  /**
+   * capacity 기준 컬럼별 오프셋 계산
+   */
+  record Layout(int capacity) {
+
+    int dateOffset(int index) {
+      return HEADER_SIZE + index * Integer.BYTES;
+    }
+
+    int priceOffset(int column, int index) {
+      return HEADER_SIZE + capacity * Integer.BYTES + (column * capacity + index) * Double.BYTES;
+    }
+
+    int volumeOffset(int index) {
+      return HEADER_SIZE + capacity * (Integer.BYTES + PRICE_COLUMNS * Double.BYTES) + index * Long.BYTES;
+    }
+
+    long fileSize() {
+      return HEADER_SIZE + (long) capacity * ROW_WIDTH;
+    }
+  }
+}
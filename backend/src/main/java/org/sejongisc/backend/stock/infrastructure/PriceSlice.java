@@ -0,0 +1,68 @@
+package org.sejongisc.backend.stock.infrastructure;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import lombok.Getter;
+
+/**
+ * 컬럼형 가격 파일의 [start, end) 구간 뷰.
+ * - 메모리 매핑된 버퍼를 복사하지 않고 인덱스로 직접 읽습니다.
+ * - 누락 값: 가격은 NaN, 거래량은 -1
+ */
+public class PriceSlice {
+
+  @Getter
+  private final String ticker;
+  private final ByteBuffer buffer;
+  private final ColumnarPriceStore.Layout layout;
+  private final int start;
+  private final int size;
+
+  PriceSlice(String ticker, ByteBuffer buffer, ColumnarPriceStore.Layout layout, int start, int end) {
+    this.ticker = ticker;
+    this.buffer = buffer;
+    this.layout = layout;
+    this.start = start;
+    this.size = Math.max(0, end - start);
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  public LocalDate date(int index) {
+    return LocalDate.ofEpochDay(buffer.getInt(layout.dateOffset(start + index)));
+  }
+
+  public double open(int index) {
+    return price(ColumnarPriceStore.OPEN, index);
+  }
+
+  public double high(int index) {
+    return price(ColumnarPriceStore.HIGH, index);
+  }
+
+  public double low(int index) {
+    return price(ColumnarPriceStore.LOW, index);
+  }
+
+  public double close(int index) {
+    return price(ColumnarPriceStore.CLOSE, index);
+  }
+
+  public double adjustedClose(int index) {
+    return price(ColumnarPriceStore.ADJUSTED_CLOSE, index);
+  }
+
+  public long volume(int index) {
+    return buffer.getLong(layout.volumeOffset(start + index));
+  }
+
+  private double price(int column, int index) {
+    return buffer.getDouble(layout.priceOffset(column, start + index));
+  }
+}
@@ -0,0 +1,193 @@
+package org.sejongisc.backend.stock.infrastructure;
+
+import jakarta.annotation.PreDestroy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.sejongisc.backend.stock.event.QuantDataChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Postgres LISTEN quant_data_changed 수신기
+ * - 전용 스레드가 커넥션 하나를 점유한 채 알림을 기다리고, 받은 테이블명을 QuantDataChangedEvent 로 발행합니다.
+ * - LISTEN 커넥션은 계속 점유되므로 Hikari 풀이 아닌 DriverManager 로 직접 연 전용 커넥션을 사용합니다.
+ * - 연결이 끊기면 재연결 후, 그 사이 알림이 유실되었을 수 있으므로 전체 변경 이벤트를 발행합니다.
+ * - 알림이 유실되거나 트리거가 없는 환경을 위한 유일한 폴백으로, 주기적으로 테이블별 MAX(id)/MAX(date) 를 확인해
+ *   값이 바뀐 테이블만 담은 QuantDataChangedEvent 를 발행합니다. 캐시들은 이 이벤트만 구독하면 됩니다.
+ */
+@Slf4j
+@Component
+public class QuantDataChangeListener {
+
+  private static final String CHANNEL = "quant_data_changed";
+  private static final int POLL_TIMEOUT_MS = 10_000;
+  private static final long RECONNECT_DELAY_MS = 5_000;
+
+  // 테이블별 변경 감지 쿼리 (executions 는 id 증가, 나머지는 최신 일자로 판단)
+  private static final Map<String, String> WATERMARK_QUERIES = watermarkQueries();
+
+  private final DataSourceProperties dataSourceProperties;
+  private final ApplicationEventPublisher eventPublisher;
+  private final JdbcTemplate jdbcTemplate;
+  private final boolean enabled;
+  private final Map<String, String> lastWatermarks = new HashMap<>();
+
+  private volatile boolean running;
+  private Thread worker;
+
+  public QuantDataChangeListener(
+      DataSourceProperties dataSourceProperties,
+      ApplicationEventPublisher eventPublisher,
+      JdbcTemplate jdbcTemplate,
+      @Value("${quant-data.listen.enabled:true}") boolean enabled
+  ) {
+    this.dataSourceProperties = dataSourceProperties;
+    this.eventPublisher = eventPublisher;
+    this.jdbcTemplate = jdbcTemplate;
+    this.enabled = enabled;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void start() {
+    // LISTEN 비활성화 여부와 무관하게 폴링 기준값은 기동 시점에 잡아둠
+    pollWatermarks();
+    if (!enabled || running) {
+      return;
+    }
+    running = true;
+    worker = new Thread(this::listenLoop, "quant-data-listener");
+    worker.setDaemon(true);
+    worker.start();
+  }
+
+  @PreDestroy
+  public void stop() {
+    running = false;
+    if (worker != null) {
+      worker.interrupt();
+    }
+  }
+
+  private void listenLoop() {
+    boolean reconnect = false;
+    while (running) {
+      try (Connection connection = openConnection()) {
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        try (Statement statement = connection.createStatement()) {
+          statement.execute("LISTEN " + CHANNEL);
+        }
+        log.info("quant_data_changed LISTEN 시작");
+        if (reconnect) {
+          publish(QuantDataChangedEvent.all());
+        }
+        reconnect = true;
+
+        while (running) {
+          PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MS);
+          if (notifications == null || notifications.length == 0) {
+            continue;
+          }
+          Set<String> tables = new HashSet<>();
+          for (PGNotification notification : notifications) {
+            tables.add(notification.getParameter());
+          }
+          log.debug("quant_data_changed 수신: {}", tables);
+          publish(QuantDataChangedEvent.of(tables));
+        }
+      } catch (SQLException e) {
+        if (!running) {
+          return;
+        }
+        log.warn("quant_data_changed LISTEN 연결 실패, {}ms 후 재시도: {}", RECONNECT_DELAY_MS, e.getMessage());
+        try {
+          Thread.sleep(RECONNECT_DELAY_MS);
+        } catch (InterruptedException interrupted) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+      }
+    }
+  }
+
+  /**
+   * 테이블별 MAX(id)/MAX(date) 를 확인해 바뀐 테이블만 변경 이벤트로 발행
+   * - 처음 확인한 테이블은 기준값만 기록합니다.
+   * - NOTIFY 로 이미 처리된 변경도 한 번 더 발행될 수 있으나, 캐시 무효화는 멱등이라 문제없습니다.
+   */
+  @Scheduled(
+      fixedDelayString = "${quant-data.poll-interval-ms:300000}",
+      initialDelayString = "${quant-data.poll-interval-ms:300000}"
+  )
+  public synchronized void pollWatermarks() {
+    Set<String> changed = new HashSet<>();
+    for (Map.Entry<String, String> entry : WATERMARK_QUERIES.entrySet()) {
+      String table = entry.getKey();
+      String watermark;
+      try {
+        watermark = jdbcTemplate.queryForObject(entry.getValue(), String.class);
+      } catch (RuntimeException e) {
+        log.warn("{} 변경 확인 실패: {}", table, e.getMessage());
+        continue;
+      }
+      boolean seen = lastWatermarks.containsKey(table);
+      String previous = lastWatermarks.put(table, watermark);
+      if (seen && !Objects.equals(previous, watermark)) {
+        changed.add(table);
+      }
+    }
+    if (!changed.isEmpty()) {
+      log.debug("quant 테이블 변경 감지 (폴링): {}", changed);
+      publish(QuantDataChangedEvent.of(changed));
+    }
+  }
+
+  private static Map<String, String> watermarkQueries() {
+    Map<String, String> queries = new LinkedHashMap<>();
+    queries.put(QuantDataChangedEvent.EXECUTIONS, "select max(id)::text from executions");
+    for (String table : new String[] {
+        QuantDataChangedEvent.PRICE_DATA,
+        QuantDataChangedEvent.PORTFOLIO_SUMMARY,
+        QuantDataChangedEvent.PORTFOLIO_POSITIONS,
+        QuantDataChangedEvent.MACROECONOMIC_INDICATORS,
+        QuantDataChangedEvent.MARKET_BREADTH,
+        QuantDataChangedEvent.SECTOR_RETURNS
+    }) {
+      queries.put(table, "select max(date)::text from " + table);
+    }
+    return queries;
+  }
+
+  private Connection openConnection() throws SQLException {
+    return DriverManager.getConnection(
+        dataSourceProperties.determineUrl(),
+        dataSourceProperties.determineUsername(),
+        dataSourceProperties.determinePassword()
+    );
+  }
+
+  private void publish(QuantDataChangedEvent event) {
+    try {
+      eventPublisher.publishEvent(event);
+    } catch (RuntimeException e) {
+      // 리스너 예외로 수신 스레드가 종료되지 않도록 함
+      log.error("quant_data_changed 이벤트 처리 실패: {}", event.tables(), e);
+    }
+  }
+}
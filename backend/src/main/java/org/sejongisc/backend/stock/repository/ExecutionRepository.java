@@ -1,20 +1,26 @@
 package org.sejongisc.backend.stock.repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-import io.lettuce.core.dynamic.annotation.Param;
 import org.sejongisc.backend.stock.dto.HoldingDto;
 import org.sejongisc.backend.stock.dto.TradeLogDto;
 import org.sejongisc.backend.stock.entity.Execution;
+import org.sejongisc.backend.stock.repository.projection.AccountExecutionSummaryProjection;
+import org.sejongisc.backend.stock.repository.projection.AccountPositionProjection;
 import org.sejongisc.backend.stock.repository.projection.PortfolioOverviewProjection;
 import org.sejongisc.backend.stock.repository.projection.PortfolioSimpleProjection;
+import org.sejongisc.backend.stock.repository.projection.PositionHistoryProjection;
 import org.sejongisc.backend.stock.repository.projection.PositionProjection;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ExecutionRepository extends JpaRepository<Execution, Long> {
-  // 전체 매매로그 (최신 체결 순)
+  // 매매로그 첫 페이지 (최신 체결 순)
   @Query("""
       SELECT new org.sejongisc.backend.stock.dto.TradeLogDto(
           e.id,
@@ -34,7 +40,114 @@ public interface ExecutionRepository extends JpaRepository<Execution, Long> {
       LEFT JOIN e.xaiReport xr
       ORDER BY e.fillDate DESC, e.id DESC
       """)
-  List<TradeLogDto> findAllByOrderByFillDateDesc();
+  List<TradeLogDto> findLatestTradeLogs(Limit limit);
+
+  // 매매로그 다음 페이지 (커서 (fillDate, id) 이후, 최신 체결 순)
+  @Query("""
+      SELECT new org.sejongisc.backend.stock.dto.TradeLogDto(
+          e.id,
+          xr.id,
+          e.ticker,
+          e.ticker,
+          e.fillDate,
+          e.fillPrice,
+          e.qty,
+          e.side,
+          e.value,
+          e.positionQty,
+          e.avgPrice,
+          e.pnlRealized
+      )
+      FROM Execution e
+      LEFT JOIN e.xaiReport xr
+      WHERE e.fillDate < :fillDate OR (e.fillDate = :fillDate AND e.id < :id)
+      ORDER BY e.fillDate DESC, e.id DESC
+      """)
+  List<TradeLogDto> findTradeLogsBefore(@Param("fillDate") LocalDate fillDate, @Param("id") Long id, Limit limit);
+
+  // 계정별 매매로그 첫 페이지 (idx_executions_account_id_fill_date 사용)
+  @Query("""
+      SELECT new org.sejongisc.backend.stock.dto.TradeLogDto(
+          e.id,
+          xr.id,
+          e.ticker,
+          e.ticker,
+          e.fillDate,
+          e.fillPrice,
+          e.qty,
+          e.side,
+          e.value,
+          e.positionQty,
+          e.avgPrice,
+          e.pnlRealized
+      )
+      FROM Execution e
+      LEFT JOIN e.xaiReport xr
+      WHERE e.accountId = :accountId
+      ORDER BY e.fillDate DESC, e.id DESC
+      """)
+  List<TradeLogDto> findLatestTradeLogsByAccount(@Param("accountId") Long accountId, Limit limit);
+
+  // 계정별 매매로그 다음 페이지
+  @Query("""
+      SELECT new org.sejongisc.backend.stock.dto.TradeLogDto(
+          e.id,
+          xr.id,
+          e.ticker,
+          e.ticker,
+          e.fillDate,
+          e.fillPrice,
+          e.qty,
+          e.side,
+          e.value,
+          e.positionQty,
+          e.avgPrice,
+          e.pnlRealized
+      )
+      FROM Execution e
+      LEFT JOIN e.xaiReport xr
+      WHERE e.accountId = :accountId
+        AND (e.fillDate < :fillDate OR (e.fillDate = :fillDate AND e.id < :id))
+      ORDER BY e.fillDate DESC, e.id DESC
+      """)
+  List<TradeLogDto> findTradeLogsByAccountBefore(
+      @Param("accountId") Long accountId, @Param("fillDate") LocalDate fillDate, @Param("id") Long id, Limit limit);
+
+  // 계정별 종목 보유 현황 (종목별 마지막 체결 기준)
+  @Query(value = """
+        SELECT
+            latest.ticker AS ticker,
+            latest.position_qty AS positionQty,
+            latest.avg_price AS avgPrice
+        FROM (
+            SELECT DISTINCT ON (ticker) ticker, position_qty, avg_price
+            FROM executions
+            WHERE account_id = :accountId
+            ORDER BY ticker, fill_date DESC, id DESC
+        ) latest
+        WHERE latest.position_qty > 0
+        ORDER BY latest.ticker
+    """, nativeQuery = true)
+  List<AccountPositionProjection> findAccountPositions(@Param("accountId") Long accountId);
+
+  // 계정별 체결 집계
+  @Query(value = """
+        SELECT
+            COUNT(*) AS tradeCount,
+            COALESCE(SUM(pnl_realized), 0) AS realizedPnl,
+            COALESCE(SUM(commission), 0) AS totalCommission,
+            MAX(fill_date) AS lastFillDate,
+            (SELECT cash_after FROM executions
+                WHERE account_id = :accountId
+                ORDER BY fill_date DESC, id DESC LIMIT 1) AS cash
+        FROM executions
+        WHERE account_id = :accountId
+    """, nativeQuery = true)
+  AccountExecutionSummaryProjection getAccountExecutionSummary(@Param("accountId") Long accountId);
+
+  @Query("SELECT MAX(e.id) FROM Execution e")
+  Optional<Long> findMaxId();
+
 /*
   // 전체 종목별 보유 주식
   @Query("""
@@ -87,6 +200,32 @@ public interface ExecutionRepository extends JpaRepository<Execution, Long> {
     """, nativeQuery = true)
   List<PositionProjection> findAllPositions();
 
+  // 기준일 이전(포함) 가장 최근 포지션 일자
+  @Query(value = "SELECT MAX(date) FROM portfolio_positions WHERE date <= :date", nativeQuery = true)
+  Optional<LocalDate> findLatestPositionDateOnOrBefore(@Param("date") LocalDate date);
+
+  @Query(value = """
+        SELECT DISTINCT date
+        FROM portfolio_positions
+        WHERE date BETWEEN :from AND :to
+        ORDER BY date
+    """, nativeQuery = true)
+  List<LocalDate> findPositionDatesBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+  @Query(value = """
+        SELECT
+            date AS date,
+            ticker AS ticker,
+            position_qty AS positionQty,
+            avg_price AS avgPrice,
+            current_price AS currentPrice,
+            market_value AS marketPrice
+        FROM portfolio_positions
+            WHERE date IN (:dates) AND position_qty > 0
+        ORDER BY date, ticker
+    """, nativeQuery = true)
+  List<PositionHistoryProjection> findPositionsByDateIn(@Param("dates") Collection<LocalDate> dates);
+
   @Query(value = """
         SELECT
             (SELECT date FROM portfolio_summary ORDER BY date ASC LIMIT 1)            AS startDate,
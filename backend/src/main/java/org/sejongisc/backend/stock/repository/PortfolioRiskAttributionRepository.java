@@ -0,0 +1,20 @@
+package org.sejongisc.backend.stock.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.sejongisc.backend.stock.entity.PortfolioRiskAttribution;
+import org.sejongisc.backend.stock.entity.PortfolioRiskAttributionId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface PortfolioRiskAttributionRepository
+    extends JpaRepository<PortfolioRiskAttribution, PortfolioRiskAttributionId> {
+
+  List<PortfolioRiskAttribution> findByDateOrderByContributionDesc(LocalDate date);
+
+  @Modifying
+  @Query("DELETE FROM PortfolioRiskAttribution a WHERE a.date = :date")
+  void deleteByDate(@Param("date") LocalDate date);
+}
@@ -0,0 +1,11 @@
+package org.sejongisc.backend.stock.repository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import org.sejongisc.backend.stock.entity.PortfolioRiskMetric;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface PortfolioRiskMetricRepository extends JpaRepository<PortfolioRiskMetric, LocalDate> {
+
+  Optional<PortfolioRiskMetric> findTopByOrderByDateDesc();
+}
@@ -4,15 +4,18 @@ import org.sejongisc.backend.stock.entity.PriceData;
 import org.sejongisc.backend.stock.entity.PriceDataId;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface PriceDataRepository extends JpaRepository<PriceData, PriceDataId> {
     List<PriceData> findByTickerAndDateBetweenOrderByDateAsc(String ticker, LocalDate startDate, LocalDate endDate);
+    List<PriceData> findByTickerInAndDateBetweenOrderByDateAsc(Collection<String> tickers, LocalDate startDate, LocalDate endDate);
     List<PriceData> findByTicker(String ticker);
     Optional<PriceData> findTopByTickerOrderByDateDesc(String ticker);
     /**
@@ -27,4 +30,46 @@ public interface PriceDataRepository extends JpaRepository<PriceData, PriceDataI
         "AS subquery " +
         "ORDER BY RANDOM() LIMIT 1", nativeQuery = true)
     Optional<String> findRandomTicker();
-}
\ No newline at end of file
+
+    /**
+     * 여러 티커의 최신 시세를 한 번의 쿼리로 조회합니다.
+     * - DISTINCT ON (ticker) + ORDER BY ticker, date DESC 로 티커별 가장 최근 행만 남깁니다.
+     */
+    @Query(value = """
+        SELECT DISTINCT ON (ticker)
+            ticker, date, open, high, low, close, volume, adjusted_close
+        FROM price_data
+        WHERE ticker IN (:tickers)
+        ORDER BY ticker, date DESC
+        """, nativeQuery = true)
+    List<PriceData> findLatestByTickerIn(@Param("tickers") Collection<String> tickers);
+
+    /**
+     * 가장 최근 적재 일자 조회 (PK(date, ticker) 인덱스로 처리되어 가볍습니다)
+     */
+    @Query("SELECT MAX(p.date) FROM PriceData p")
+    Optional<LocalDate> findLatestDate();
+
+    /**
+     * 기준일까지의 티커별 행 수/컬럼 합계 (컬럼형 스토어 대사용, null 은 합계에서 제외)
+     */
+    @Query(value = """
+        SELECT ticker AS ticker,
+               COUNT(*) AS rowCount,
+               CAST(COALESCE(SUM(close), 0) AS double precision) AS closeSum,
+               CAST(COALESCE(SUM(adjusted_close), 0) AS double precision) AS adjustedCloseSum,
+               CAST(COALESCE(SUM(volume), 0) AS bigint) AS volumeSum
+        FROM price_data
+        WHERE date <= :through
+        GROUP BY ticker
+        """, nativeQuery = true)
+    List<TickerChecksum> summarizeThrough(@Param("through") LocalDate through);
+
+    interface TickerChecksum {
+        String getTicker();
+        Long getRowCount();
+        Double getCloseSum();
+        Double getAdjustedCloseSum();
+        Long getVolumeSum();
+    }
+}
@@ -0,0 +1,10 @@
+package org.sejongisc.backend.stock.repository;
+
+import java.util.List;
+import org.sejongisc.backend.stock.entity.QuantAccount;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface QuantAccountRepository extends JpaRepository<QuantAccount, Long> {
+
+  List<QuantAccount> findAllByOrderByIdAsc();
+}
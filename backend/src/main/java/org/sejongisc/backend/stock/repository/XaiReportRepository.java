@@ -2,8 +2,37 @@ package org.sejongisc.backend.stock.repository;
 
 import java.util.List;
 import org.sejongisc.backend.stock.entity.XaiReport;
+import org.sejongisc.backend.stock.repository.projection.XaiReportSummaryProjection;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface XaiReportRepository extends JpaRepository<XaiReport, Long> {
 
+  // 본문 전문 검색 (idx_xai_reports_report_fts 와 같은 식을 사용해야 인덱스를 탐)
+  @Query(value = """
+      SELECT x.id AS id, x.ticker AS ticker, x.signal AS signal, x.price AS price,
+             x.date AS date, x.created_at AS createdAt
+      FROM xai_reports x
+      WHERE to_tsvector('simple', coalesce(x.report, '')) @@ websearch_to_tsquery('simple', :keyword)
+        AND (CAST(:ticker AS text) IS NULL OR x.ticker = :ticker)
+      ORDER BY x.date DESC, x.id DESC
+      LIMIT :limit
+      """, nativeQuery = true)
+  List<XaiReportSummaryProjection> searchSummaries(
+      @Param("keyword") String keyword,
+      @Param("ticker") String ticker,
+      @Param("limit") int limit);
+
+  @Query(value = """
+      SELECT x.id AS id, x.ticker AS ticker, x.signal AS signal, x.price AS price,
+             x.date AS date, x.created_at AS createdAt
+      FROM xai_reports x
+      WHERE x.ticker = :ticker
+      ORDER BY x.date DESC, x.id DESC
+      LIMIT :limit
+      """, nativeQuery = true)
+  List<XaiReportSummaryProjection> findSummariesByTicker(
+      @Param("ticker") String ticker,
+      @Param("limit") int limit);
 }
@@ -0,0 +1,12 @@
+package org.sejongisc.backend.stock.repository.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public interface AccountExecutionSummaryProjection {
+    Long getTradeCount();
+    BigDecimal getRealizedPnl();
+    BigDecimal getTotalCommission();
+    LocalDate getLastFillDate();
+    BigDecimal getCash();
+}
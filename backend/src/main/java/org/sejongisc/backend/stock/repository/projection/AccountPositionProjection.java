@@ -0,0 +1,9 @@
+package org.sejongisc.backend.stock.repository.projection;
+
+import java.math.BigDecimal;
+
+public interface AccountPositionProjection {
+    String getTicker();
+    Integer getPositionQty();
+    BigDecimal getAvgPrice();
+}
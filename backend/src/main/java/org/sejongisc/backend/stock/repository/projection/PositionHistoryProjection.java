@@ -0,0 +1,7 @@
+package org.sejongisc.backend.stock.repository.projection;
+
+import java.time.LocalDate;
+
+public interface PositionHistoryProjection extends PositionProjection {
+    LocalDate getDate();
+}
@@ -0,0 +1,15 @@
+package org.sejongisc.backend.stock.repository.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 본문(report)을 제외한 리포트 목록용 projection
+public interface XaiReportSummaryProjection {
+    Long getId();
+    String getTicker();
+    String getSignal();
+    BigDecimal getPrice();
+    LocalDate getDate();
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,198 @@
+package org.sejongisc.backend.stock.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.IntStream;
+import lombok.RequiredArgsConstructor;
+import org.sejongisc.backend.common.exception.CustomException;
+import org.sejongisc.backend.common.exception.ErrorCode;
+import org.sejongisc.backend.stock.dto.CorrelationMatrixResponse;
+import org.sejongisc.backend.stock.entity.PriceData;
+import org.sejongisc.backend.stock.event.QuantDataChangedEvent;
+import org.sejongisc.backend.stock.repository.PriceDataRepository;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * 티커 간 상관계수 / 공분산
+ * - price_data 에서 모든 티커의 종가가 존재하는 일자만 맞춰 일별 수익률 행렬(double[티커][일자])을 만들고,
+ *   행 블록 단위로 병렬 계산합니다.
+ * - 결과는 (정렬된 티커 집합, window) 별로 캐시하고, 새 시세가 적재되면 비웁니다.
+ * - 같은 키의 동시 요청은 하나의 계산 결과를 함께 기다립니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class CorrelationService {
+
+  public static final int DEFAULT_WINDOW = 60;
+  private static final int MIN_WINDOW = 5;
+  private static final int MAX_WINDOW = 500;
+  private static final int MAX_TICKERS = 100;
+  private static final int ROW_BLOCK_SIZE = 8;
+  private static final int CACHE_MAX_ENTRIES = 128;
+
+  private final PriceDataRepository priceDataRepository;
+  private final LatestPriceService latestPriceService;
+
+  private final Map<CacheKey, CompletableFuture<CorrelationMatrixResponse>> cache = Collections.synchronizedMap(
+      new LinkedHashMap<>(32, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<CacheKey, CompletableFuture<CorrelationMatrixResponse>> eldest) {
+          return size() > CACHE_MAX_ENTRIES;
+        }
+      });
+
+  public CorrelationMatrixResponse getCorrelation(Collection<String> tickers, int window) {
+    List<String> sortedTickers = tickers == null ? List.of() : tickers.stream()
+        .filter(ticker -> ticker != null && !ticker.isBlank())
+        .map(String::trim)
+        .distinct()
+        .sorted()
+        .toList();
+    if (sortedTickers.size() < 2 || sortedTickers.size() > MAX_TICKERS
+        || window < MIN_WINDOW || window > MAX_WINDOW) {
+      throw new CustomException(ErrorCode.INVALID_CORRELATION_PARAMS);
+    }
+
+    // 맵 잠금 안에서는 빈 future 만 등록하고, 계산은 등록한 요청이 잠금 밖에서 수행
+    CacheKey key = new CacheKey(sortedTickers, window);
+    CompletableFuture<CorrelationMatrixResponse> created = new CompletableFuture<>();
+    CompletableFuture<CorrelationMatrixResponse> entry = cache.computeIfAbsent(key, k -> created);
+    if (entry == created) {
+      try {
+        created.complete(compute(sortedTickers, window));
+      } catch (RuntimeException e) {
+        // 실패 결과는 캐시하지 않음
+        cache.remove(key, created);
+        created.completeExceptionally(e);
+        throw e;
+      }
+    }
+    try {
+      return entry.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  @EventListener
+  public void onQuantDataChanged(QuantDataChangedEvent event) {
+    if (event.affects(QuantDataChangedEvent.PRICE_DATA)) {
+      cache.clear();
+    }
+  }
+
+  private CorrelationMatrixResponse compute(List<String> tickers, int window) {
+    LocalDate end = latestPriceService.getLatestIngestedDate()
+        .orElseThrow(() -> new CustomException(ErrorCode.PRICE_DATA_NOT_FOUND));
+    // 주말/휴장일을 고려해 넉넉한 달력 기간을 조회한 뒤 공통 거래일만 사용
+    LocalDate start = end.minusDays(window * 2L + 14);
+
+    Map<String, Map<LocalDate, Double>> closesByTicker = new HashMap<>();
+    for (PriceData price : priceDataRepository.findByTickerInAndDateBetweenOrderByDateAsc(tickers, start, end)) {
+      BigDecimal close = price.getAdjustedClose() != null ? price.getAdjustedClose() : price.getClosePrice();
+      if (close != null && close.signum() > 0) {
+        closesByTicker.computeIfAbsent(price.getTicker(), t -> new HashMap<>()).put(price.getDate(), close.doubleValue());
+      }
+    }
+
+    List<String> available = tickers.stream().filter(closesByTicker::containsKey).toList();
+    if (available.size() < 2) {
+      throw new CustomException(ErrorCode.PRICE_DATA_NOT_FOUND);
+    }
+
+    // 모든 티커에 종가가 있는 일자 중 최근 window + 1 일
+    TreeMap<LocalDate, Boolean> commonDates = new TreeMap<>();
+    closesByTicker.get(available.getFirst()).keySet().forEach(date -> commonDates.put(date, true));
+    for (String ticker : available) {
+      commonDates.keySet().retainAll(closesByTicker.get(ticker).keySet());
+    }
+    List<LocalDate> dates = new ArrayList<>(commonDates.keySet());
+    if (dates.size() < MIN_WINDOW + 1) {
+      throw new CustomException(ErrorCode.PRICE_DATA_NOT_FOUND);
+    }
+    dates = dates.subList(Math.max(0, dates.size() - window - 1), dates.size());
+
+    double[][] returns = new double[available.size()][dates.size() - 1];
+    for (int row = 0; row < available.size(); row++) {
+      Map<LocalDate, Double> closes = closesByTicker.get(available.get(row));
+      for (int col = 1; col < dates.size(); col++) {
+        returns[row][col - 1] = closes.get(dates.get(col)) / closes.get(dates.get(col - 1)) - 1.0;
+      }
+    }
+
+    double[][][] matrices = correlate(returns);
+    return new CorrelationMatrixResponse(available, dates.size() - 1, dates.getLast(), matrices[0], matrices[1]);
+  }
+
+  /**
+   * 수익률 행렬(double[자산][관측치])의 상관계수 / 표본 공분산 행렬
+   *
+   * @return [0]: 상관계수, [1]: 공분산
+   */
+  static double[][][] correlate(double[][] returns) {
+    int assets = returns.length;
+    int observations = returns[0].length;
+
+    // 행별 평균 제거 + 표준화 (정규화된 행끼리의 내적 = 상관계수)
+    double[][] centered = new double[assets][observations];
+    double[] norms = new double[assets];
+    for (int i = 0; i < assets; i++) {
+      double mean = 0.0;
+      for (double value : returns[i]) {
+        mean += value;
+      }
+      mean /= observations;
+      double sumSquares = 0.0;
+      for (int t = 0; t < observations; t++) {
+        double diff = returns[i][t] - mean;
+        centered[i][t] = diff;
+        sumSquares += diff * diff;
+      }
+      norms[i] = Math.sqrt(sumSquares);
+    }
+
+    double[][] correlation = new double[assets][assets];
+    double[][] covariance = new double[assets][assets];
+    int blocks = (assets + ROW_BLOCK_SIZE - 1) / ROW_BLOCK_SIZE;
+    // 각 블록은 자신의 행 i 에 대해 j >= i 만 계산하고 대칭 위치를 함께 채움 (블록 간 쓰기 위치가 겹치지 않음)
+    IntStream.range(0, blocks).parallel().forEach(block -> {
+      int from = block * ROW_BLOCK_SIZE;
+      int to = Math.min(from + ROW_BLOCK_SIZE, assets);
+      for (int i = from; i < to; i++) {
+        double[] x = centered[i];
+        for (int j = i; j < assets; j++) {
+          double[] y = centered[j];
+          double dot = 0.0;
+          for (int t = 0; t < observations; t++) {
+            dot += x[t] * y[t];
+          }
+          double cov = observations > 1 ? dot / (observations - 1) : Double.NaN;
+          double denominator = norms[i] * norms[j];
+          double corr = denominator == 0.0 ? Double.NaN : dot / denominator;
+          covariance[i][j] = cov;
+          covariance[j][i] = cov;
+          correlation[i][j] = corr;
+          correlation[j][i] = corr;
+        }
+      }
+    });
+    return new double[][][]{correlation, covariance};
+  }
+
+  private record CacheKey(List<String> tickers, int window) {
+  }
+}
@@ -0,0 +1,196 @@
+package org.sejongisc.backend.stock.service;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import org.sejongisc.backend.common.exception.CustomException;
+import org.sejongisc.backend.common.exception.ErrorCode;
+import org.sejongisc.backend.stock.dto.CandleInterval;
+import org.sejongisc.backend.stock.dto.CryptoCandle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * crypto_price_data 캔들 집계
+ * - 요청 구간을 DB 커서로 한 번 순회하면서 바로 캔들로 묶습니다. (원본 행을 메모리에 쌓지 않음)
+ * - 스캔 중 이후 시각의 행이 존재한 캔들은 닫힌 캔들이므로 (ticker, interval) 별로 캐시하고,
+ *   다음 요청에서는 캐시된 구간 이후만 다시 스캔합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class CryptoCandleService {
+
+  public static final int MAX_CANDLES = 5_000;
+  private static final int FETCH_SIZE = 5_000;
+  private static final int CACHE_MAX_KEYS = 256;
+
+  private static final String SELECT_SQL = """
+      SELECT date, open, high, low, close, volume
+      FROM crypto_price_data
+      WHERE ticker = ? AND date >= ? AND date < ?
+      ORDER BY date
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+
+  private final Map<CacheKey, ClosedCandles> closedCandles = Collections.synchronizedMap(
+      new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<CacheKey, ClosedCandles> eldest) {
+          return size() > CACHE_MAX_KEYS;
+        }
+      });
+
+  /**
+   * [from, to) 구간 캔들 (from 은 캔들 시작 시각으로 내림)
+   */
+  public List<CryptoCandle> getCandles(String ticker, CandleInterval interval, LocalDateTime from, LocalDateTime to) {
+    if (ticker == null || ticker.isBlank() || from == null || to == null || !from.isBefore(to)) {
+      throw new CustomException(ErrorCode.INVALID_CANDLE_PARAMS);
+    }
+    LocalDateTime start = interval.bucketStart(from);
+    if (Duration.between(start, to).dividedBy(interval.getDuration()) > MAX_CANDLES) {
+      throw new CustomException(ErrorCode.INVALID_CANDLE_PARAMS);
+    }
+
+    CacheKey key = new CacheKey(ticker, interval);
+    ClosedCandles cached = closedCandles.get(key);
+    List<CryptoCandle> result = new ArrayList<>();
+    LocalDateTime scanFrom = start;
+
+    if (cached != null && cached.covers(start)) {
+      LocalDateTime cachedEnd = cached.to().isBefore(to) ? cached.to() : to;
+      result.addAll(cached.candles().subMap(start, true, cachedEnd, false).values());
+      scanFrom = cached.to();
+    }
+
+    if (scanFrom.isBefore(to)) {
+      List<CryptoCandle> scanned = scan(ticker, interval, scanFrom, to);
+      result.addAll(scanned);
+      // 마지막 캔들은 이후 데이터가 있는지 알 수 없으므로 캐시하지 않음
+      if (scanned.size() > 1) {
+        cacheClosed(key, cached, scanFrom, scanned.subList(0, scanned.size() - 1), scanned.getLast().openTime());
+      }
+    }
+    return result;
+  }
+
+  private List<CryptoCandle> scan(String ticker, CandleInterval interval, LocalDateTime from, LocalDateTime to) {
+    CandleAccumulator accumulator = new CandleAccumulator(interval);
+    // PgJDBC 는 트랜잭션 안에서만 fetchSize 커서를 사용함
+    transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(connection -> {
+      PreparedStatement statement = connection.prepareStatement(SELECT_SQL);
+      statement.setFetchSize(FETCH_SIZE);
+      statement.setString(1, ticker);
+      statement.setTimestamp(2, Timestamp.valueOf(from));
+      statement.setTimestamp(3, Timestamp.valueOf(to));
+      return statement;
+    }, (RowCallbackHandler) accumulator::accept));
+    return accumulator.finish();
+  }
+
+  private void cacheClosed(CacheKey key, ClosedCandles cached, LocalDateTime scanFrom,
+      List<CryptoCandle> closed, LocalDateTime closedTo) {
+    NavigableMap<LocalDateTime, CryptoCandle> candles = new TreeMap<>();
+    LocalDateTime cachedFrom = scanFrom;
+    // 기존 캐시 구간과 이어지면 합쳐서 연속 구간 유지
+    if (cached != null && cached.to().equals(scanFrom)) {
+      candles.putAll(cached.candles());
+      cachedFrom = cached.from();
+    }
+    closed.forEach(candle -> candles.put(candle.openTime(), candle));
+    closedCandles.put(key, new ClosedCandles(cachedFrom, closedTo, Collections.unmodifiableNavigableMap(candles)));
+  }
+
+  private record CacheKey(String ticker, CandleInterval interval) {
+  }
+
+  /**
+   * [from, to) 구간의 닫힌 캔들 (데이터가 없는 캔들은 없음)
+   */
+  private record ClosedCandles(LocalDateTime from, LocalDateTime to, NavigableMap<LocalDateTime, CryptoCandle> candles) {
+
+    boolean covers(LocalDateTime time) {
+      return !time.isBefore(from) && time.isBefore(to);
+    }
+  }
+
+  /**
+   * 시각 오름차순 행을 받아 캔들로 묶음
+   */
+  private static class CandleAccumulator {
+
+    private final CandleInterval interval;
+    private final List<CryptoCandle> candles = new ArrayList<>();
+
+    private LocalDateTime bucket;
+    private BigDecimal open;
+    private BigDecimal high;
+    private BigDecimal low;
+    private BigDecimal close;
+    private BigDecimal volume;
+
+    CandleAccumulator(CandleInterval interval) {
+      this.interval = interval;
+    }
+
+    void accept(ResultSet rs) throws SQLException {
+      LocalDateTime time = rs.getTimestamp("date").toLocalDateTime();
+      LocalDateTime rowBucket = interval.bucketStart(time);
+      if (!rowBucket.equals(bucket)) {
+        flush();
+        bucket = rowBucket;
+        open = rs.getBigDecimal("open");
+        high = null;
+        low = null;
+        volume = BigDecimal.ZERO;
+      }
+      BigDecimal rowHigh = rs.getBigDecimal("high");
+      BigDecimal rowLow = rs.getBigDecimal("low");
+      BigDecimal rowClose = rs.getBigDecimal("close");
+      BigDecimal rowVolume = rs.getBigDecimal("volume");
+      if (open == null) {
+        open = rs.getBigDecimal("open");
+      }
+      if (rowHigh != null && (high == null || rowHigh.compareTo(high) > 0)) {
+        high = rowHigh;
+      }
+      if (rowLow != null && (low == null || rowLow.compareTo(low) < 0)) {
+        low = rowLow;
+      }
+      if (rowClose != null) {
+        close = rowClose;
+      }
+      if (rowVolume != null) {
+        volume = volume.add(rowVolume);
+      }
+    }
+
+    List<CryptoCandle> finish() {
+      flush();
+      return candles;
+    }
+
+    private void flush() {
+      if (bucket != null) {
+        candles.add(new CryptoCandle(bucket, open, high, low, close, volume));
+      }
+      close = null;
+    }
+  }
+}
@@ -0,0 +1,150 @@
+package org.sejongisc.backend.stock.service;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.sejongisc.backend.stock.entity.PriceData;
+import org.sejongisc.backend.stock.event.QuantDataChangedEvent;
+import org.sejongisc.backend.stock.repository.PriceDataRepository;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * 티커별 최신 시세 스냅샷.
+ *
+ * - 여러 티커의 최신 시세를 DISTINCT ON 쿼리 한 번으로 적재하고, 다음 적재 전까지 메모리에서 재사용합니다.
+ * - price_data 는 AI 파이프라인이 외부에서 적재하므로, 변경 알림 또는 MAX(date) 변화로 새 적재를 감지해 적재 세대를 올립니다.
+ * - 스냅샷 항목은 조회 시점의 적재 세대를 함께 저장하고, 세대가 같으면 시세 일자와 무관하게 그대로 사용합니다.
+ *   (거래 정지/상장 폐지/주간 갱신 종목처럼 최신 일자가 전체 최신 일자보다 과거인 종목도 매번 다시 읽지 않으며,
+ *   시세가 없는 티커도 다음 적재 전까지 다시 조회하지 않습니다.)
+ * - 같은 일자의 정정(UPDATE)은 MAX(date)가 바뀌지 않으므로 변경 알림으로만 반영됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LatestPriceService {
+
+  private final PriceDataRepository priceDataRepository;
+
+  private final ConcurrentHashMap<String, CachedPrice> snapshot = new ConcurrentHashMap<>();
+  private final AtomicReference<LocalDate> latestIngestedDate = new AtomicReference<>();
+  // 적재 감지마다 증가, 이전 세대에 캐시된 항목은 다음 조회 시 다시 읽음
+  private final AtomicLong generation = new AtomicLong();
+
+  public Optional<PriceData> getLatest(String ticker) {
+    if (ticker == null || ticker.isBlank()) {
+      return Optional.empty();
+    }
+    return Optional.ofNullable(getLatest(List.of(ticker)).get(ticker));
+  }
+
+  /**
+   * 티커 목록의 최신 시세 조회
+   * - 스냅샷에 없는 티커만 모아 한 번의 쿼리로 조회합니다.
+   * - 시세가 존재하지 않는 티커는 결과 Map 에 포함되지 않습니다.
+   */
+  public Map<String, PriceData> getLatest(Collection<String> tickers) {
+    if (tickers == null || tickers.isEmpty()) {
+      return Map.of();
+    }
+
+    // 조회 전에 읽은 세대로 저장: 조회 도중 적재가 감지되면 이번 결과는 다음 조회 때 다시 읽힘
+    long current = generation.get();
+    Map<String, PriceData> result = new HashMap<>();
+    Set<String> missing = new LinkedHashSet<>();
+
+    for (String ticker : tickers) {
+      if (ticker == null || ticker.isBlank()) {
+        continue;
+      }
+      CachedPrice cached = snapshot.get(ticker);
+      if (cached != null && cached.generation() == current) {
+        if (cached.price() != null) {
+          result.put(ticker, cached.price());
+        }
+      } else {
+        missing.add(ticker);
+      }
+    }
+
+    if (!missing.isEmpty()) {
+      Map<String, PriceData> loaded = new HashMap<>();
+      for (PriceData price : priceDataRepository.findLatestByTickerIn(missing)) {
+        loaded.put(price.getTicker(), price);
+      }
+      for (String ticker : missing) {
+        PriceData price = loaded.get(ticker);
+        snapshot.put(ticker, new CachedPrice(price, current));
+        if (price != null) {
+          result.put(ticker, price);
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * 새 적재 여부를 확인하고, 최신 일자가 바뀌었다면 스냅샷을 비웁니다.
+   *
+   * @return 스냅샷이 무효화되었는지 여부
+   */
+  public boolean refreshIfIngested() {
+    LocalDate latest = priceDataRepository.findLatestDate().orElse(null);
+    LocalDate previous = latestIngestedDate.getAndSet(latest);
+    if (Objects.equals(previous, latest)) {
+      return false;
+    }
+
+    invalidateAll();
+    log.info("최신 시세 스냅샷 무효화: latestDate {} -> {}", previous, latest);
+    return true;
+  }
+
+  /**
+   * 마지막으로 확인한 price_data 최신 일자 (아직 확인 전이면 한 번 조회)
+   */
+  public Optional<LocalDate> getLatestIngestedDate() {
+    if (latestIngestedDate.get() == null) {
+      refreshIfIngested();
+    }
+    return Optional.ofNullable(latestIngestedDate.get());
+  }
+
+  @EventListener
+  public void onQuantDataChanged(QuantDataChangedEvent event) {
+    // 같은 일자 정정도 반영되도록 최신 일자가 그대로여도 세대를 올림
+    if (event.affects(QuantDataChangedEvent.PRICE_DATA) && !refreshIfIngested()) {
+      invalidateAll();
+    }
+  }
+
+  public void invalidate(Collection<String> tickers) {
+    if (tickers == null) {
+      return;
+    }
+    tickers.forEach(snapshot::remove);
+  }
+
+  public void invalidateAll() {
+    generation.incrementAndGet();
+    snapshot.clear();
+  }
+
+  /**
+   * @param price      조회 시점의 최신 시세 (시세가 없는 티커는 null)
+   * @param generation 조회 시점의 적재 세대
+   */
+  private record CachedPrice(PriceData price, long generation) {
+  }
+}
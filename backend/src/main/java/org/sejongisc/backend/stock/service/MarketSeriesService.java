@@ -0,0 +1,201 @@
+package org.sejongisc.backend.stock.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.sejongisc.backend.common.exception.CustomException;
+import org.sejongisc.backend.common.exception.ErrorCode;
+import org.sejongisc.backend.stock.dto.MarketSeriesResponse;
+import org.sejongisc.backend.stock.dto.MarketSeriesSource;
+import org.sejongisc.backend.stock.event.QuantDataChangedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * 거시지표 / 시장 폭 / 섹터 수익률 시계열
+ * - (테이블, 컬럼[, 섹터]) 단위로 전체 이력을 한 번만 읽어 정렬된 배열로 메모리에 보관하고,
+ *   요청 기간은 이진 탐색으로 잘라 반환합니다.
+ * - 파이프라인이 테이블을 갱신하면 (NOTIFY 또는 QuantDataChangeListener 의 주기적 MAX(date) 확인) 해당 테이블의 시계열만 비웁니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MarketSeriesService {
+
+  private final JdbcTemplate jdbcTemplate;
+
+  private final Map<SeriesKey, CachedSeries> cache = new ConcurrentHashMap<>();
+  private final AtomicReference<List<String>> sectors = new AtomicReference<>();
+  private final Map<MarketSeriesSource, AtomicLong> versions = new EnumMap<>(Map.of(
+      MarketSeriesSource.MACRO, new AtomicLong(),
+      MarketSeriesSource.BREADTH, new AtomicLong(),
+      MarketSeriesSource.SECTOR, new AtomicLong()));
+
+  /**
+   * 거시지표 / 시장 폭처럼 한 테이블의 여러 컬럼을 조회
+   */
+  public MarketSeriesResponse getSeries(MarketSeriesSource source, Collection<String> columns,
+                                        LocalDate from, LocalDate to) {
+    List<String> requested = normalize(columns);
+    if (requested.isEmpty()) {
+      requested = source.columns();
+    }
+    validate(source, requested, from, to);
+
+    Map<String, MarketSeriesResponse.Series> result = new LinkedHashMap<>();
+    for (String column : requested) {
+      result.put(column, series(new SeriesKey(source, column, null)).slice(from, to));
+    }
+    return new MarketSeriesResponse(source.table(), from, to, result);
+  }
+
+  /**
+   * 섹터별 한 컬럼(return / close)을 조회 (sectorNames 가 비어 있으면 전체 섹터)
+   */
+  public MarketSeriesResponse getSectorSeries(String column, Collection<String> sectorNames,
+                                              LocalDate from, LocalDate to) {
+    MarketSeriesSource source = MarketSeriesSource.SECTOR;
+    validate(source, List.of(column), from, to);
+
+    List<String> known = sectors();
+    List<String> requested = normalize(sectorNames);
+    if (requested.isEmpty()) {
+      requested = known;
+    } else if (!known.containsAll(requested)) {
+      throw new CustomException(ErrorCode.INVALID_MARKET_SERIES_PARAMS);
+    }
+
+    Map<String, MarketSeriesResponse.Series> result = new LinkedHashMap<>();
+    for (String sector : requested) {
+      result.put(sector, series(new SeriesKey(source, column, sector)).slice(from, to));
+    }
+    return new MarketSeriesResponse(source.table(), from, to, result);
+  }
+
+  @EventListener
+  public void onQuantDataChanged(QuantDataChangedEvent event) {
+    if (event.affects(QuantDataChangedEvent.MACROECONOMIC_INDICATORS)) {
+      invalidate(MarketSeriesSource.MACRO);
+    }
+    if (event.affects(QuantDataChangedEvent.MARKET_BREADTH)) {
+      invalidate(MarketSeriesSource.BREADTH);
+    }
+    if (event.affects(QuantDataChangedEvent.SECTOR_RETURNS)) {
+      invalidate(MarketSeriesSource.SECTOR);
+    }
+  }
+
+  public void invalidate(MarketSeriesSource source) {
+    versions.get(source).incrementAndGet();
+    cache.keySet().removeIf(key -> key.source() == source);
+    if (source == MarketSeriesSource.SECTOR) {
+      sectors.set(null);
+    }
+    log.debug("{} 시계열 캐시 초기화", source.table());
+  }
+
+  private CachedSeries series(SeriesKey key) {
+    CachedSeries cached = cache.get(key);
+    if (cached != null) {
+      return cached;
+    }
+    // 적재 도중 무효화되면 오래된 시계열이 남지 않도록 버전이 그대로일 때만 저장
+    long version = versions.get(key.source()).get();
+    CachedSeries loaded = load(key);
+    if (versions.get(key.source()).get() == version) {
+      cache.putIfAbsent(key, loaded);
+    }
+    return loaded;
+  }
+
+  private CachedSeries load(SeriesKey key) {
+    MarketSeriesSource source = key.source();
+    String column = "\"" + key.column() + "\"";
+    StringBuilder sql = new StringBuilder("select date, ").append(column)
+        .append(" from ").append(source.table())
+        .append(" where ").append(column).append(" is not null");
+    List<Object> args = new ArrayList<>();
+    if (key.group() != null) {
+      sql.append(" and ").append(source.groupColumn()).append(" = ?");
+      args.add(key.group());
+    }
+    sql.append(" order by date");
+
+    List<LocalDate> dates = new ArrayList<>();
+    List<Double> values = new ArrayList<>();
+    jdbcTemplate.query(sql.toString(), rs -> {
+      dates.add(rs.getObject(1, LocalDate.class));
+      values.add(rs.getDouble(2));
+    }, args.toArray());
+
+    return new CachedSeries(
+        dates.toArray(LocalDate[]::new),
+        values.stream().mapToDouble(Double::doubleValue).toArray());
+  }
+
+  private List<String> sectors() {
+    List<String> current = sectors.get();
+    if (current == null) {
+      current = List.copyOf(jdbcTemplate.queryForList(
+          "select distinct sector from sector_returns order by sector", String.class));
+      sectors.set(current);
+    }
+    return current;
+  }
+
+  private void validate(MarketSeriesSource source, List<String> columns, LocalDate from, LocalDate to) {
+    if (to == null || (from != null && from.isAfter(to))) {
+      throw new CustomException(ErrorCode.INVALID_MARKET_SERIES_PARAMS);
+    }
+    for (String column : columns) {
+      if (!source.supports(column)) {
+        throw new CustomException(ErrorCode.INVALID_MARKET_SERIES_PARAMS);
+      }
+    }
+  }
+
+  private static List<String> normalize(Collection<String> values) {
+    if (values == null) {
+      return List.of();
+    }
+    return values.stream()
+        .filter(value -> value != null && !value.isBlank())
+        .map(String::trim)
+        .distinct()
+        .toList();
+  }
+
+  private record SeriesKey(MarketSeriesSource source, String column, String group) {
+  }
+
+  /**
+   * 일자 오름차순 전체 이력
+   */
+  record CachedSeries(LocalDate[] dates, double[] values) {
+
+    MarketSeriesResponse.Series slice(LocalDate from, LocalDate to) {
+      int start = from == null ? 0 : lowerBound(from);
+      int end = lowerBound(to.plusDays(1));
+      return new MarketSeriesResponse.Series(
+          Arrays.asList(dates).subList(start, end),
+          Arrays.copyOfRange(values, start, end));
+    }
+
+    // date 이상인 첫 위치
+    private int lowerBound(LocalDate date) {
+      int index = Arrays.binarySearch(dates, date);
+      return index >= 0 ? index : -index - 1;
+    }
+  }
+}
@@ -0,0 +1,300 @@
+package org.sejongisc.backend.stock.service;
+
+import jakarta.annotation.PreDestroy;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.sejongisc.backend.stock.dto.PortfolioRiskResponse;
+import org.sejongisc.backend.stock.entity.PortfolioRiskAttribution;
+import org.sejongisc.backend.stock.entity.PortfolioRiskMetric;
+import org.sejongisc.backend.stock.entity.PriceData;
+import org.sejongisc.backend.stock.event.QuantDataChangedEvent;
+import org.sejongisc.backend.stock.repository.ExecutionRepository;
+import org.sejongisc.backend.stock.repository.PortfolioRiskAttributionRepository;
+import org.sejongisc.backend.stock.repository.PortfolioRiskMetricRepository;
+import org.sejongisc.backend.stock.repository.PriceDataRepository;
+import org.sejongisc.backend.stock.repository.projection.PortfolioSimpleProjection;
+import org.sejongisc.backend.stock.repository.projection.PositionHistoryProjection;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 포트폴리오 리스크 배치
+ * - portfolio_summary 최근 windowDays 일 수익률로 변동성 / 역사적·모수적 VaR 를,
+ *   price_data 의 벤치마크 티커로 베타를, 최근 두 일자의 portfolio_positions 로 종목별 기여도를 계산합니다.
+ * - 각 지표는 한 번 읽은 데이터로 계산한 뒤 portfolio_risk_metrics / portfolio_risk_attribution 에 저장합니다.
+ * - 변동성은 rollingWindowDays 일 이동 창 시계열도 함께 계산해 응답에 포함합니다.
+ * - 파이프라인 적재 중 연달아 오는 변경 알림은 debounce 후 한 번만 재계산합니다.
+ * - 조회 API 는 마지막 계산 결과를 메모리에서 반환합니다.
+ */
+@Slf4j
+@Service
+public class PortfolioRiskService {
+
+  private final ExecutionRepository executionRepository;
+  private final PriceDataRepository priceDataRepository;
+  private final PortfolioRiskMetricRepository riskMetricRepository;
+  private final PortfolioRiskAttributionRepository riskAttributionRepository;
+  private final TickerNameDictionary tickerNameDictionary;
+  private final TransactionTemplate transactionTemplate;
+  private final String benchmarkTicker;
+  private final int windowDays;
+  private final int rollingWindowDays;
+  private final double confidence;
+  private final long debounceMs;
+
+  private final AtomicReference<PortfolioRiskResponse> latest = new AtomicReference<>();
+  private final ScheduledExecutorService debouncer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+    Thread thread = new Thread(runnable, "portfolio-risk-debounce");
+    thread.setDaemon(true);
+    return thread;
+  });
+  private final AtomicBoolean recomputePending = new AtomicBoolean();
+
+  public PortfolioRiskService(
+      ExecutionRepository executionRepository,
+      PriceDataRepository priceDataRepository,
+      PortfolioRiskMetricRepository riskMetricRepository,
+      PortfolioRiskAttributionRepository riskAttributionRepository,
+      TickerNameDictionary tickerNameDictionary,
+      TransactionTemplate transactionTemplate,
+      @Value("${quant-risk.benchmark-ticker:SPY}") String benchmarkTicker,
+      @Value("${quant-risk.window-days:60}") int windowDays,
+      @Value("${quant-risk.rolling-window-days:20}") int rollingWindowDays,
+      @Value("${quant-risk.confidence:0.95}") double confidence,
+      @Value("${quant-risk.debounce-ms:30000}") long debounceMs
+  ) {
+    this.executionRepository = executionRepository;
+    this.priceDataRepository = priceDataRepository;
+    this.riskMetricRepository = riskMetricRepository;
+    this.riskAttributionRepository = riskAttributionRepository;
+    this.tickerNameDictionary = tickerNameDictionary;
+    this.transactionTemplate = transactionTemplate;
+    this.benchmarkTicker = benchmarkTicker;
+    this.windowDays = windowDays;
+    this.rollingWindowDays = rollingWindowDays;
+    this.confidence = confidence;
+    this.debounceMs = debounceMs;
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    debouncer.shutdownNow();
+  }
+
+  /**
+   * 가장 최근 계산된 리스크 지표 (아직 없으면 저장된 마지막 결과를 조회)
+   */
+  public Optional<PortfolioRiskResponse> getLatest() {
+    PortfolioRiskResponse current = latest.get();
+    if (current != null) {
+      return Optional.of(current);
+    }
+    Optional<PortfolioRiskResponse> stored = riskMetricRepository.findTopByOrderByDateDesc()
+        .map(metric -> toResponse(metric,
+            riskAttributionRepository.findByDateOrderByContributionDesc(metric.getDate()),
+            volatilitySeries(executionRepository.findSimpleSummary())));
+    stored.ifPresent(response -> latest.compareAndSet(null, response));
+    return stored;
+  }
+
+  @Scheduled(cron = "${quant-risk.cron:0 30 8 * * *}", zone = "Asia/Seoul")
+  public void scheduledCompute() {
+    compute();
+  }
+
+  @EventListener
+  public void onQuantDataChanged(QuantDataChangedEvent event) {
+    if (event.affects(QuantDataChangedEvent.PORTFOLIO_SUMMARY, QuantDataChangedEvent.PORTFOLIO_POSITIONS)) {
+      scheduleRecompute();
+    }
+  }
+
+  // 대기 중인 재계산이 없을 때만 debounceMs 뒤로 예약 (그 사이 알림은 같은 재계산에 합쳐짐)
+  private void scheduleRecompute() {
+    if (!recomputePending.compareAndSet(false, true)) {
+      return;
+    }
+    debouncer.schedule(() -> {
+      // 계산 중 들어온 알림은 다음 재계산으로 예약되도록 먼저 해제
+      recomputePending.set(false);
+      try {
+        compute();
+      } catch (RuntimeException e) {
+        log.error("리스크 지표 재계산 실패", e);
+      }
+    }, debounceMs, TimeUnit.MILLISECONDS);
+  }
+
+  public synchronized Optional<PortfolioRiskResponse> compute() {
+    List<PortfolioSimpleProjection> summary = executionRepository.findSimpleSummary();
+    if (summary.size() < 3) {
+      log.info("리스크 지표 계산 생략: portfolio_summary 데이터 부족 ({}건)", summary.size());
+      return Optional.empty();
+    }
+
+    List<PortfolioSimpleProjection> window = summary.subList(Math.max(0, summary.size() - windowDays - 1), summary.size());
+    LocalDate asOf = window.getLast().getDate();
+    LocalDate previous = window.get(window.size() - 2).getDate();
+    double[] portfolioReturns = RiskCalculator.simpleReturns(totalAssets(window));
+
+    // 모두 메모리 상의 짧은 배열 계산이라 순차로 처리 (베타 / 기여도는 조회 1건씩)
+    PortfolioRiskMetric metric = PortfolioRiskMetric.builder()
+        .date(asOf)
+        .windowDays(portfolioReturns.length)
+        .confidence(confidence)
+        .volatility(finiteOrNull(RiskCalculator.annualizedVolatility(portfolioReturns)))
+        .varHistorical(finiteOrNull(RiskCalculator.historicalVaR(portfolioReturns, confidence)))
+        .varParametric(finiteOrNull(RiskCalculator.parametricVaR(portfolioReturns, confidence)))
+        .benchmarkTicker(benchmarkTicker)
+        .beta(finiteOrNull(computeBeta(window)))
+        .computedAt(LocalDateTime.now())
+        .build();
+    List<PortfolioRiskAttribution> attributionRows =
+        computeAttributions(previous, asOf, window.get(window.size() - 2).getTotalAsset());
+
+    transactionTemplate.executeWithoutResult(status -> {
+      riskMetricRepository.save(metric);
+      riskAttributionRepository.deleteByDate(asOf);
+      riskAttributionRepository.saveAll(attributionRows);
+    });
+
+    List<PortfolioRiskAttribution> sorted = new ArrayList<>(attributionRows);
+    sorted.sort((a, b) -> Double.compare(b.getContribution(), a.getContribution()));
+    PortfolioRiskResponse response = toResponse(metric, sorted, volatilitySeries(summary));
+    latest.set(response);
+    log.info("리스크 지표 계산 완료: date={}, volatility={}, varHistorical={}, varParametric={}, beta={}",
+        asOf, metric.getVolatility(), metric.getVarHistorical(), metric.getVarParametric(), metric.getBeta());
+    return Optional.of(response);
+  }
+
+  // 포트폴리오와 벤치마크가 모두 존재하는 일자만 맞춰 베타 계산
+  private double computeBeta(List<PortfolioSimpleProjection> window) {
+    LocalDate from = window.getFirst().getDate();
+    LocalDate to = window.getLast().getDate();
+    Map<LocalDate, Double> benchmarkCloses = new HashMap<>();
+    for (PriceData price : priceDataRepository.findByTickerAndDateBetweenOrderByDateAsc(benchmarkTicker, from, to)) {
+      BigDecimal close = price.getAdjustedClose() != null ? price.getAdjustedClose() : price.getClosePrice();
+      if (close != null) {
+        benchmarkCloses.put(price.getDate(), close.doubleValue());
+      }
+    }
+
+    List<Double> assetValues = new ArrayList<>();
+    List<Double> benchmarkValues = new ArrayList<>();
+    for (PortfolioSimpleProjection row : window) {
+      Double benchmarkClose = benchmarkCloses.get(row.getDate());
+      if (benchmarkClose != null && row.getTotalAsset() != null) {
+        assetValues.add(row.getTotalAsset().doubleValue());
+        benchmarkValues.add(benchmarkClose);
+      }
+    }
+    return RiskCalculator.beta(
+        RiskCalculator.simpleReturns(toArray(assetValues)),
+        RiskCalculator.simpleReturns(toArray(benchmarkValues)));
+  }
+
+  // 전일 비중 × 당일 종목 수익률 (두 일자 모두 보유한 종목만)
+  private List<PortfolioRiskAttribution> computeAttributions(LocalDate previous, LocalDate asOf, BigDecimal previousTotalAsset) {
+    if (previousTotalAsset == null || previousTotalAsset.signum() == 0) {
+      return List.of();
+    }
+    Map<String, PositionHistoryProjection> previousPositions = new HashMap<>();
+    Map<String, PositionHistoryProjection> currentPositions = new HashMap<>();
+    for (PositionHistoryProjection row : executionRepository.findPositionsByDateIn(List.of(previous, asOf))) {
+      (row.getDate().equals(asOf) ? currentPositions : previousPositions).put(row.getTicker(), row);
+    }
+
+    double totalAsset = previousTotalAsset.doubleValue();
+    List<PortfolioRiskAttribution> result = new ArrayList<>();
+    currentPositions.forEach((ticker, current) -> {
+      PositionHistoryProjection before = previousPositions.get(ticker);
+      if (before == null || before.getMarketPrice() == null
+          || before.getCurrentPrice() == null || current.getCurrentPrice() == null
+          || before.getCurrentPrice().signum() == 0) {
+        return;
+      }
+      double weight = before.getMarketPrice().doubleValue() / totalAsset;
+      double tickerReturn = current.getCurrentPrice().doubleValue() / before.getCurrentPrice().doubleValue() - 1.0;
+      result.add(PortfolioRiskAttribution.builder()
+          .date(asOf)
+          .ticker(ticker)
+          .weight(weight)
+          .tickerReturn(tickerReturn)
+          .contribution(weight * tickerReturn)
+          .build());
+    });
+    return result;
+  }
+
+  /**
+   * 최근 windowDays 일의 rollingWindowDays 일 이동 변동성 (총자산이 없는 일자는 제외)
+   */
+  private List<PortfolioRiskResponse.VolatilityPoint> volatilitySeries(List<PortfolioSimpleProjection> summary) {
+    List<PortfolioSimpleProjection> rows = summary.stream()
+        .filter(row -> row.getTotalAsset() != null)
+        .toList();
+    double[] rolling = RiskCalculator.rollingVolatility(
+        RiskCalculator.simpleReturns(totalAssets(rows)), rollingWindowDays);
+    // rolling[k] 의 마지막 수익률은 rows[k + rollingWindowDays] 일자의 수익률
+    List<PortfolioRiskResponse.VolatilityPoint> series = new ArrayList<>();
+    for (int k = Math.max(0, rolling.length - windowDays); k < rolling.length; k++) {
+      series.add(new PortfolioRiskResponse.VolatilityPoint(
+          rows.get(k + rollingWindowDays).getDate(), finiteOrNull(rolling[k])));
+    }
+    return series;
+  }
+
+  private PortfolioRiskResponse toResponse(PortfolioRiskMetric metric, List<PortfolioRiskAttribution> attributions,
+      List<PortfolioRiskResponse.VolatilityPoint> volatilitySeries) {
+    return new PortfolioRiskResponse(
+        metric.getDate(),
+        metric.getWindowDays(),
+        metric.getConfidence(),
+        metric.getVolatility(),
+        metric.getVarHistorical(),
+        metric.getVarParametric(),
+        metric.getBenchmarkTicker(),
+        metric.getBeta(),
+        metric.getComputedAt(),
+        attributions.stream()
+            .map(a -> new PortfolioRiskResponse.Attribution(
+                a.getTicker(),
+                tickerNameDictionary.displayName(a.getTicker()),
+                a.getWeight(),
+                a.getTickerReturn(),
+                a.getContribution()))
+            .toList(),
+        volatilitySeries
+    );
+  }
+
+  private double[] totalAssets(List<PortfolioSimpleProjection> rows) {
+    return rows.stream()
+        .filter(row -> row.getTotalAsset() != null)
+        .mapToDouble(row -> row.getTotalAsset().doubleValue())
+        .toArray();
+  }
+
+  private double[] toArray(List<Double> values) {
+    return values.stream().mapToDouble(Double::doubleValue).toArray();
+  }
+
+  private Double finiteOrNull(double value) {
+    return Double.isFinite(value) ? value : null;
+  }
+}
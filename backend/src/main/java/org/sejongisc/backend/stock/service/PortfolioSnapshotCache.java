@@ -0,0 +1,80 @@
+package org.sejongisc.backend.stock.service;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.sejongisc.backend.stock.event.QuantDataChangedEvent;
+import org.sejongisc.backend.stock.repository.ExecutionRepository;
+import org.sejongisc.backend.stock.repository.projection.PortfolioOverviewProjection;
+import org.sejongisc.backend.stock.repository.projection.PortfolioSimpleProjection;
+import org.sejongisc.backend.stock.repository.projection.PositionProjection;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 포트폴리오 대시보드 읽기 모델 캐시 (자산현황, 일별 자산 곡선, 최신 포지션)
+ * - portfolio_summary / portfolio_positions 는 하루 한 번 AI 파이프라인이 쓰므로 메모리 스냅샷으로 제공합니다.
+ * - quant_data_changed 알림(또는 QuantDataChangeListener 의 주기적 최신 일자 확인)을 받으면 스냅샷 전체를 다시 만들어 한 번에 교체합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PortfolioSnapshotCache {
+
+  private final ExecutionRepository executionRepository;
+
+  private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+  public PortfolioOverviewProjection getOverview() {
+    return current().overview();
+  }
+
+  public List<PortfolioSimpleProjection> getSummary() {
+    return current().summary();
+  }
+
+  public List<PositionProjection> getPositions() {
+    return current().positions();
+  }
+
+  @EventListener
+  public void onQuantDataChanged(QuantDataChangedEvent event) {
+    if (event.affects(QuantDataChangedEvent.PORTFOLIO_SUMMARY, QuantDataChangedEvent.PORTFOLIO_POSITIONS)) {
+      refresh();
+    }
+  }
+
+  public void refresh() {
+    snapshot.set(load());
+    log.debug("포트폴리오 스냅샷 갱신 완료");
+  }
+
+  private Snapshot current() {
+    Snapshot current = snapshot.get();
+    if (current != null) {
+      return current;
+    }
+    synchronized (this) {
+      if (snapshot.get() == null) {
+        snapshot.set(load());
+      }
+      return snapshot.get();
+    }
+  }
+
+  private Snapshot load() {
+    return new Snapshot(
+        executionRepository.getPortfolioOverview(),
+        List.copyOf(executionRepository.findSimpleSummary()),
+        List.copyOf(executionRepository.findAllPositions())
+    );
+  }
+
+  private record Snapshot(
+      PortfolioOverviewProjection overview,
+      List<PortfolioSimpleProjection> summary,
+      List<PositionProjection> positions
+  ) {
+  }
+}
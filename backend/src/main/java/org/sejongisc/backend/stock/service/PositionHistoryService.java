@@ -0,0 +1,117 @@
+package org.sejongisc.backend.stock.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.sejongisc.backend.common.exception.CustomException;
+import org.sejongisc.backend.common.exception.ErrorCode;
+import org.sejongisc.backend.stock.event.QuantDataChangedEvent;
+import org.sejongisc.backend.stock.repository.ExecutionRepository;
+import org.sejongisc.backend.stock.repository.projection.PositionHistoryProjection;
+import org.sejongisc.backend.stock.repository.projection.PositionProjection;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * 과거 일자 포지션 조회 (portfolio_positions)
+ * - 지난 일자의 스냅샷은 바뀌지 않으므로 일자별로 캐시합니다. (LRU, 최대 CACHE_MAX_DATES 일)
+ * - 기간 조회 시 일자 수가 maxPoints 를 넘으면 양 끝을 포함해 균등 간격으로 샘플링합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PositionHistoryService {
+
+  public static final int DEFAULT_MAX_POINTS = 60;
+  private static final int MAX_POINTS_LIMIT = 366;
+  private static final int CACHE_MAX_DATES = 1_000;
+
+  private final ExecutionRepository executionRepository;
+
+  private final Map<LocalDate, List<PositionProjection>> positionsByDate = Collections.synchronizedMap(
+      new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<LocalDate, List<PositionProjection>> eldest) {
+          return size() > CACHE_MAX_DATES;
+        }
+      });
+
+  /**
+   * 기준일 시점의 포지션 (기준일에 스냅샷이 없으면 그 이전 가장 최근 스냅샷)
+   *
+   * @return 스냅샷 일자 → 포지션 (스냅샷이 없으면 빈 Map)
+   */
+  public Map<LocalDate, List<PositionProjection>> getPositionsAsOf(LocalDate date) {
+    return executionRepository.findLatestPositionDateOnOrBefore(date)
+        .map(snapshotDate -> load(List.of(snapshotDate)))
+        .orElse(Map.of());
+  }
+
+  /**
+   * 기간 내 일자별 포지션 (일자 오름차순, 최대 maxPoints 일)
+   */
+  public Map<LocalDate, List<PositionProjection>> getPositionHistory(LocalDate from, LocalDate to, int maxPoints) {
+    if (from == null || to == null || from.isAfter(to) || maxPoints < 1) {
+      throw new CustomException(ErrorCode.INVALID_POSITION_HISTORY_RANGE);
+    }
+    List<LocalDate> dates = executionRepository.findPositionDatesBetween(from, to);
+    return load(downsample(dates, Math.min(maxPoints, MAX_POINTS_LIMIT)));
+  }
+
+  @EventListener
+  public void onQuantDataChanged(QuantDataChangedEvent event) {
+    // 파이프라인이 같은 일자를 다시 쓰는 경우를 대비해 변경 시 전체 비움
+    if (event.affects(QuantDataChangedEvent.PORTFOLIO_POSITIONS)) {
+      positionsByDate.clear();
+    }
+  }
+
+  /**
+   * 정렬된 일자 목록을 양 끝을 포함해 최대 maxPoints 개로 균등 샘플링
+   */
+  static List<LocalDate> downsample(List<LocalDate> dates, int maxPoints) {
+    int size = dates.size();
+    if (size <= maxPoints) {
+      return dates;
+    }
+    if (maxPoints == 1) {
+      return List.of(dates.getLast());
+    }
+    List<LocalDate> sampled = new ArrayList<>(maxPoints);
+    for (int i = 0; i < maxPoints; i++) {
+      int index = (int) Math.round((double) i * (size - 1) / (maxPoints - 1));
+      sampled.add(dates.get(index));
+    }
+    return sampled;
+  }
+
+  private Map<LocalDate, List<PositionProjection>> load(List<LocalDate> dates) {
+    Map<LocalDate, List<PositionProjection>> result = new LinkedHashMap<>();
+    List<LocalDate> missing = new ArrayList<>();
+    for (LocalDate date : dates) {
+      List<PositionProjection> cached = positionsByDate.get(date);
+      if (cached != null) {
+        result.put(date, cached);
+      } else {
+        result.put(date, null);
+        missing.add(date);
+      }
+    }
+
+    if (!missing.isEmpty()) {
+      Map<LocalDate, List<PositionProjection>> loaded = executionRepository.findPositionsByDateIn(missing).stream()
+          .collect(Collectors.groupingBy(PositionHistoryProjection::getDate,
+              Collectors.mapping(row -> (PositionProjection) row, Collectors.toList())));
+      for (LocalDate date : missing) {
+        List<PositionProjection> positions = List.copyOf(loaded.getOrDefault(date, List.of()));
+        positionsByDate.put(date, positions);
+        result.put(date, positions);
+      }
+    }
+    return result;
+  }
+}
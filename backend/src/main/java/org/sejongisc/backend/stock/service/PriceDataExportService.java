@@ -0,0 +1,215 @@
+package org.sejongisc.backend.stock.service;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.sejongisc.backend.stock.dto.PriceExportFormat;
+import org.sejongisc.backend.stock.dto.PriceExportRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * price_data 대량 내보내기.
+ *
+ * - JDBC 커서(fetchSize)로 읽은 행을 곧바로 응답 OutputStream 에 기록하므로 메모리 사용량이 일정합니다.
+ * - (ticker, date) 오름차순으로 내보내며, resumeAfter(ticker, date) 이후부터 이어받을 수 있습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PriceDataExportService {
+
+  private static final int FETCH_SIZE = 5_000;
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private static final String SELECT_SQL = """
+      SELECT ticker, date, open, high, low, close, volume, adjusted_close
+      FROM price_data
+      WHERE ticker = ANY (?) AND date BETWEEN ? AND ?
+      """;
+  private static final String RESUME_CONDITION = " AND (ticker, date) > (?, ?)";
+  private static final String ORDER_BY = " ORDER BY ticker, date";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * 요청 범위의 시세를 스트리밍으로 기록
+   * - PgJDBC 는 autocommit 이 꺼진 상태에서만 fetchSize 커서를 사용하므로 읽기 전용 트랜잭션 안에서 실행합니다.
+   *
+   * @return 기록한 행 수
+   */
+  @Transactional(readOnly = true)
+  public long export(PriceExportRequest request, OutputStream outputStream) throws IOException {
+    long startedAt = System.currentTimeMillis();
+    PriceRowWriter writer = request.format() == PriceExportFormat.BINARY
+        ? new ColumnarPriceRowWriter(outputStream)
+        : new CsvPriceRowWriter(outputStream);
+
+    String sql = SELECT_SQL + (request.isResume() ? RESUME_CONDITION : "") + ORDER_BY;
+    long[] rowCount = {0};
+
+    try {
+      jdbcTemplate.query(con -> {
+        PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        ps.setFetchSize(FETCH_SIZE);
+        ps.setArray(1, con.createArrayOf("varchar", request.tickers().toArray()));
+        ps.setDate(2, Date.valueOf(request.from()));
+        ps.setDate(3, Date.valueOf(request.to()));
+        if (request.isResume()) {
+          ps.setString(4, request.resumeAfterTicker());
+          ps.setDate(5, Date.valueOf(request.resumeAfterDate()));
+        }
+        return ps;
+      }, rs -> {
+        try {
+          writer.write(rs);
+          rowCount[0]++;
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      });
+    } catch (UncheckedIOException e) {
+      // 클라이언트 연결 종료 등 쓰기 실패
+      throw e.getCause();
+    }
+
+    writer.finish();
+    log.info("시세 내보내기 완료: tickers={}, format={}, rows={}, elapsedMs={}",
+        request.tickers().size(), request.format(), rowCount[0], System.currentTimeMillis() - startedAt);
+    return rowCount[0];
+  }
+
+  private interface PriceRowWriter {
+    void write(ResultSet rs) throws SQLException, IOException;
+
+    void finish() throws IOException;
+  }
+
+  /**
+   * CSV: ticker,date,open,high,low,close,volume,adjusted_close
+   */
+  private static class CsvPriceRowWriter implements PriceRowWriter {
+    private final OutputStream out;
+    private final StringBuilder line = new StringBuilder(128);
+
+    CsvPriceRowWriter(OutputStream outputStream) throws IOException {
+      this.out = new BufferedOutputStream(outputStream, BUFFER_SIZE);
+      out.write("ticker,date,open,high,low,close,volume,adjusted_close\n".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void write(ResultSet rs) throws SQLException, IOException {
+      line.setLength(0);
+      line.append(rs.getString(1)).append(',')
+          .append(rs.getDate(2).toLocalDate()).append(',');
+      appendDecimal(rs.getBigDecimal(3)).append(',');
+      appendDecimal(rs.getBigDecimal(4)).append(',');
+      appendDecimal(rs.getBigDecimal(5)).append(',');
+      appendDecimal(rs.getBigDecimal(6)).append(',');
+      long volume = rs.getLong(7);
+      if (!rs.wasNull()) {
+        line.append(volume);
+      }
+      line.append(',');
+      appendDecimal(rs.getBigDecimal(8)).append('\n');
+      out.write(line.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private StringBuilder appendDecimal(BigDecimal value) {
+      return value == null ? line : line.append(value.toPlainString());
+    }
+
+    @Override
+    public void finish() throws IOException {
+      out.flush();
+    }
+  }
+
+  /**
+   * 컬럼형 바이너리 (Big Endian)
+   * - 헤더: "SISCPX01" (8 bytes)
+   * - 블록(티커별, 최대 BLOCK_ROWS 행): [ticker 길이 short][ticker UTF-8][행 수 int]
+   *   [date epochDay int × n][open double × n][high][low][close][adjusted_close][volume long × n]
+   * - 누락 값: double 은 NaN, volume 은 -1
+   */
+  private static class ColumnarPriceRowWriter implements PriceRowWriter {
+    private static final byte[] MAGIC = "SISCPX01".getBytes(StandardCharsets.US_ASCII);
+    private static final int BLOCK_ROWS = 4_096;
+
+    private final DataOutputStream out;
+    private final int[] dates = new int[BLOCK_ROWS];
+    private final double[][] prices = new double[5][BLOCK_ROWS]; // open, high, low, close, adjusted_close
+    private final long[] volumes = new long[BLOCK_ROWS];
+    private String blockTicker;
+    private int size;
+
+    ColumnarPriceRowWriter(OutputStream outputStream) throws IOException {
+      this.out = new DataOutputStream(new BufferedOutputStream(outputStream, BUFFER_SIZE));
+      out.write(MAGIC);
+    }
+
+    @Override
+    public void write(ResultSet rs) throws SQLException, IOException {
+      String ticker = rs.getString(1);
+      if (size == BLOCK_ROWS || (blockTicker != null && !blockTicker.equals(ticker))) {
+        flushBlock();
+      }
+      blockTicker = ticker;
+
+      LocalDate date = rs.getDate(2).toLocalDate();
+      dates[size] = (int) date.toEpochDay();
+      prices[0][size] = toDouble(rs.getBigDecimal(3));
+      prices[1][size] = toDouble(rs.getBigDecimal(4));
+      prices[2][size] = toDouble(rs.getBigDecimal(5));
+      prices[3][size] = toDouble(rs.getBigDecimal(6));
+      long volume = rs.getLong(7);
+      volumes[size] = rs.wasNull() ? -1L : volume;
+      prices[4][size] = toDouble(rs.getBigDecimal(8));
+      size++;
+    }
+
+    private double toDouble(BigDecimal value) {
+      return value == null ? Double.NaN : value.doubleValue();
+    }
+
+    private void flushBlock() throws IOException {
+      if (size == 0) {
+        return;
+      }
+      byte[] tickerBytes = blockTicker.getBytes(StandardCharsets.UTF_8);
+      out.writeShort(tickerBytes.length);
+      out.write(tickerBytes);
+      out.writeInt(size);
+      for (int i = 0; i < size; i++) {
+        out.writeInt(dates[i]);
+      }
+      for (double[] column : prices) {
+        for (int i = 0; i < size; i++) {
+          out.writeDouble(column[i]);
+        }
+      }
+      for (int i = 0; i < size; i++) {
+        out.writeLong(volumes[i]);
+      }
+      size = 0;
+    }
+
+    @Override
+    public void finish() throws IOException {
+      flushBlock();
+      out.flush();
+    }
+  }
+}
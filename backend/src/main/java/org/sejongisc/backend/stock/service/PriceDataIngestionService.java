@@ -0,0 +1,139 @@
+package org.sejongisc.backend.stock.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.sejongisc.backend.common.exception.CustomException;
+import org.sejongisc.backend.common.exception.ErrorCode;
+import org.sejongisc.backend.stock.dto.PriceIngestionResponse;
+import org.sejongisc.backend.stock.infrastructure.ColumnarPriceStore;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 시세 CSV 대량 적재 (백필용).
+ *
+ * 1. 트랜잭션 범위 임시 테이블(ON COMMIT DROP)에 PgJDBC CopyManager 로 CSV 를 그대로 COPY
+ * 2. 한 번의 INSERT ... ON CONFLICT 로 price_data 에 upsert (같은 (ticker, date)가 여러 번 오면 마지막 행 우선)
+ * 3. 커밋 후 최신 시세 스냅샷 / 컬럼형 스토어에서 해당 티커 무효화
+ *
+ * CSV 헤더는 내보내기(/api/price-data/export)와 동일합니다: ticker,date,open,high,low,close,volume,adjusted_close
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PriceDataIngestionService {
+
+  // 대상 테이블과 컬럼 타입이 항상 같도록 LIKE 로 생성 (티커 길이, numeric 정밀도 등)
+  private static final String CREATE_STAGING_SQL =
+      "CREATE TEMP TABLE price_data_staging (LIKE price_data) ON COMMIT DROP";
+
+  // 같은 (ticker, date) 중 마지막 행을 고르기 위한 입력 순서
+  private static final String ADD_STAGING_SEQ_SQL =
+      "ALTER TABLE price_data_staging ADD COLUMN seq bigserial";
+
+  private static final String COPY_SQL = """
+      COPY price_data_staging (ticker, date, open, high, low, close, volume, adjusted_close)
+      FROM STDIN WITH (FORMAT csv, HEADER true)
+      """;
+
+  private static final String UPSERT_SQL = """
+      INSERT INTO price_data (ticker, date, open, high, low, close, volume, adjusted_close)
+      SELECT DISTINCT ON (ticker, date) ticker, date, open, high, low, close, volume, adjusted_close
+      FROM price_data_staging
+      ORDER BY ticker, date, seq DESC
+      ON CONFLICT (date, ticker) DO UPDATE SET
+          open = EXCLUDED.open,
+          high = EXCLUDED.high,
+          low = EXCLUDED.low,
+          close = EXCLUDED.close,
+          volume = EXCLUDED.volume,
+          adjusted_close = EXCLUDED.adjusted_close
+      """;
+
+  private static final String AFFECTED_TICKERS_SQL =
+      "SELECT ticker, MIN(date) AS min_date FROM price_data_staging GROUP BY ticker ORDER BY ticker";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final LatestPriceService latestPriceService;
+  private final ColumnarPriceStore columnarPriceStore;
+
+  public PriceIngestionResponse ingest(InputStream csv) {
+    long startedAt = System.currentTimeMillis();
+
+    IngestionResult result = transactionTemplate.execute(status ->
+        jdbcTemplate.execute((ConnectionCallback<IngestionResult>) connection -> load(connection, csv)));
+
+    invalidateCaches(result.minDateByTicker());
+
+    long elapsedMs = Math.max(System.currentTimeMillis() - startedAt, 1);
+    long rowsPerSecond = result.copiedRows() * 1000 / elapsedMs;
+    List<String> tickers = new ArrayList<>(result.minDateByTicker().keySet());
+    log.info("시세 CSV 적재 완료: copiedRows={}, upsertedRows={}, tickers={}, elapsedMs={}, rowsPerSecond={}",
+        result.copiedRows(), result.upsertedRows(), tickers.size(), elapsedMs, rowsPerSecond);
+
+    return new PriceIngestionResponse(
+        result.copiedRows(), result.upsertedRows(), tickers, elapsedMs, rowsPerSecond);
+  }
+
+  private IngestionResult load(Connection connection, InputStream csv) throws SQLException {
+    try (Statement statement = connection.createStatement()) {
+      statement.execute(CREATE_STAGING_SQL);
+      statement.execute(ADD_STAGING_SEQ_SQL);
+    }
+
+    CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+    long copiedRows;
+    try {
+      copiedRows = copyManager.copyIn(COPY_SQL, csv);
+    } catch (SQLException e) {
+      // 형식 오류 (컬럼 수, 날짜/숫자 파싱 실패, 필수 값 누락 등)
+      log.warn("시세 CSV COPY 실패: {}", e.getMessage());
+      throw new CustomException(ErrorCode.INVALID_PRICE_INGEST_DATA);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    long upsertedRows;
+    try (Statement statement = connection.createStatement()) {
+      upsertedRows = statement.executeUpdate(UPSERT_SQL);
+    }
+
+    Map<String, LocalDate> minDateByTicker = new LinkedHashMap<>();
+    try (Statement statement = connection.createStatement();
+        var resultSet = statement.executeQuery(AFFECTED_TICKERS_SQL)) {
+      while (resultSet.next()) {
+        minDateByTicker.put(resultSet.getString("ticker"), resultSet.getDate("min_date").toLocalDate());
+      }
+    }
+    return new IngestionResult(copiedRows, upsertedRows, minDateByTicker);
+  }
+
+  private void invalidateCaches(Map<String, LocalDate> minDateByTicker) {
+    latestPriceService.invalidate(minDateByTicker.keySet());
+    latestPriceService.refreshIfIngested();
+
+    // 컬럼형 스토어는 추가만 가능하므로, 이미 저장된 구간을 덮어쓴 티커만 파일을 제거해 다음 동기화 때 재생성
+    minDateByTicker.forEach((ticker, minDate) -> columnarPriceStore.lastDate(ticker)
+        .filter(lastDate -> !minDate.isAfter(lastDate))
+        .ifPresent(lastDate -> columnarPriceStore.evict(ticker)));
+  }
+
+  private record IngestionResult(long copiedRows, long upsertedRows, Map<String, LocalDate> minDateByTicker) {
+  }
+}
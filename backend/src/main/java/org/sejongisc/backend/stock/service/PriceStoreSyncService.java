@@ -0,0 +1,133 @@
+package org.sejongisc.backend.stock.service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.sejongisc.backend.stock.entity.PriceData;
+import org.sejongisc.backend.stock.infrastructure.ColumnarPriceStore;
+import org.sejongisc.backend.stock.repository.PriceDataRepository;
+import org.sejongisc.backend.stock.repository.PriceDataRepository.TickerChecksum;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * price_data → 로컬 컬럼형 스토어 동기화
+ * - 티커별로 파일의 마지막 일자 이후 행만 읽어 추가합니다.
+ * - 과거 일자 정정은 추가만으로 반영되지 않으므로, 주기적으로 파일 요약과 DB 집계를 비교해 다른 티커를 재생성합니다.
+ *   (적재 API 를 거치지 않고 파이프라인이 직접 과거 행을 고친 경우)
+ * - price-store.enabled 가 false 이면 아무 작업도 하지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PriceStoreSyncService {
+
+  // 파일이 없는 티커를 처음 만들 때의 조회 시작일
+  private static final LocalDate FULL_SYNC_FROM = LocalDate.of(1900, 1, 1);
+  // 합계 비교 허용 오차 (DB numeric 합계와 파일 double 합계의 반올림 차이)
+  private static final double SUM_TOLERANCE = 1e-6;
+
+  private final ColumnarPriceStore columnarPriceStore;
+  private final PriceDataRepository priceDataRepository;
+
+  @Scheduled(cron = "${price-store.sync-cron:0 30 7 * * *}", zone = "Asia/Seoul")
+  public void scheduledSync() {
+    if (!columnarPriceStore.isEnabled()) {
+      return;
+    }
+    syncAll();
+  }
+
+  public void syncAll() {
+    LocalDate syncedThrough = priceDataRepository.findLatestDate().orElse(null);
+    if (syncedThrough == null) {
+      return;
+    }
+
+    List<String> tickers = priceDataRepository.findDistinctTickers();
+    long start = System.currentTimeMillis();
+    int appended = 0;
+    for (String ticker : tickers) {
+      try {
+        appended += syncTicker(ticker, syncedThrough);
+      } catch (Exception e) {
+        log.error("컬럼형 가격 스토어 동기화 실패: ticker={}", ticker, e);
+      }
+    }
+    log.info("컬럼형 가격 스토어 동기화 완료: tickers={}, appendedRows={}, syncedThrough={}, elapsedMs={}",
+        tickers.size(), appended, syncedThrough, System.currentTimeMillis() - start);
+  }
+
+  /**
+   * 단일 티커 동기화
+   *
+   * @return 추가된 행 수
+   */
+  public int syncTicker(String ticker, LocalDate syncedThrough) {
+    LocalDate from = columnarPriceStore.lastDate(ticker)
+        .map(last -> last.plusDays(1))
+        .orElse(FULL_SYNC_FROM);
+
+    List<PriceData> rows = from.isAfter(syncedThrough)
+        ? List.of()
+        : priceDataRepository.findByTickerAndDateBetweenOrderByDateAsc(ticker, from, syncedThrough);
+    // 새 행이 없어도 syncedThrough 는 갱신해야 최신 구간 조회가 스토어를 사용할 수 있음
+    columnarPriceStore.append(ticker, rows, syncedThrough);
+    return rows.size();
+  }
+
+  @Scheduled(cron = "${price-store.reconcile-cron:0 0 6 * * SUN}", zone = "Asia/Seoul")
+  public void scheduledReconcile() {
+    if (!columnarPriceStore.isEnabled()) {
+      return;
+    }
+    reconcileAll();
+  }
+
+  /**
+   * 파일 요약과 DB 집계가 다른 티커를 찾아 재생성
+   * - 비교 기준은 최신 적재일이므로 먼저 동기화한 뒤, 같은 syncedThrough 를 가진 파일만 비교합니다.
+   *
+   * @return 재생성한 티커 수
+   */
+  public int reconcileAll() {
+    syncAll();
+    LocalDate syncedThrough = priceDataRepository.findLatestDate().orElse(null);
+    if (syncedThrough == null) {
+      return 0;
+    }
+
+    int rebuilt = 0;
+    for (TickerChecksum expected : priceDataRepository.summarizeThrough(syncedThrough)) {
+      String ticker = expected.getTicker();
+      Optional<ColumnarPriceStore.Checksum> actual = columnarPriceStore.checksum(ticker);
+      if (actual.isEmpty() || !actual.get().syncedThrough().equals(syncedThrough) || matches(expected, actual.get())) {
+        continue;
+      }
+      log.warn("컬럼형 가격 파일 불일치로 재생성: ticker={}, expectedRows={}, actualRows={}",
+          ticker, expected.getRowCount(), actual.get().rowCount());
+      columnarPriceStore.evict(ticker);
+      try {
+        syncTicker(ticker, syncedThrough);
+        rebuilt++;
+      } catch (Exception e) {
+        log.error("컬럼형 가격 파일 재생성 실패: ticker={}", ticker, e);
+      }
+    }
+    log.info("컬럼형 가격 스토어 대사 완료: syncedThrough={}, rebuiltTickers={}", syncedThrough, rebuilt);
+    return rebuilt;
+  }
+
+  static boolean matches(TickerChecksum expected, ColumnarPriceStore.Checksum actual) {
+    return expected.getRowCount() == actual.rowCount()
+        && expected.getVolumeSum() == actual.volumeSum()
+        && closeEnough(expected.getCloseSum(), actual.closeSum())
+        && closeEnough(expected.getAdjustedCloseSum(), actual.adjustedCloseSum());
+  }
+
+  private static boolean closeEnough(double expected, double actual) {
+    return Math.abs(expected - actual) <= SUM_TOLERANCE * Math.max(1.0, Math.abs(expected));
+  }
+}
@@ -0,0 +1,174 @@
+package org.sejongisc.backend.stock.service;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.sejongisc.backend.common.exception.CustomException;
+import org.sejongisc.backend.common.exception.ErrorCode;
+import org.sejongisc.backend.stock.dto.AccountPnlResponse;
+import org.sejongisc.backend.stock.dto.PositionDto;
+import org.sejongisc.backend.stock.dto.QuantAccountResponse;
+import org.sejongisc.backend.stock.dto.TradeLogPage;
+import org.sejongisc.backend.stock.entity.PriceData;
+import org.sejongisc.backend.stock.entity.QuantAccount;
+import org.sejongisc.backend.stock.event.QuantDataChangedEvent;
+import org.sejongisc.backend.stock.repository.ExecutionRepository;
+import org.sejongisc.backend.stock.repository.QuantAccountRepository;
+import org.sejongisc.backend.stock.repository.projection.AccountExecutionSummaryProjection;
+import org.sejongisc.backend.stock.repository.projection.AccountPositionProjection;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 계정(account_names)별 매매 로그 / 포지션 / 손익
+ * - 포지션과 손익은 계정별로 집계 결과를 캐시하고, 새 체결이나 시세 적재 시 비웁니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class QuantAccountService {
+
+  // 없는 accountId 요청으로 계정 목록을 다시 읽는 최소 간격 (반복 요청으로 인한 DB 조회 방지)
+  private static final Duration MISS_REFRESH_INTERVAL = Duration.ofMinutes(1);
+
+  private final QuantAccountRepository quantAccountRepository;
+  private final ExecutionRepository executionRepository;
+  private final QuantBotService quantBotService;
+  private final LatestPriceService latestPriceService;
+  private final TickerNameDictionary tickerNameDictionary;
+
+  private final AtomicReference<Map<Long, QuantAccount>> accounts = new AtomicReference<>();
+  private final ConcurrentHashMap<Long, AccountAggregate> aggregates = new ConcurrentHashMap<>();
+  private final AtomicLong lastMissRefreshAt = new AtomicLong();
+
+  public List<QuantAccountResponse> getAccounts() {
+    return currentAccounts().values().stream()
+        .map(QuantAccountResponse::from)
+        .toList();
+  }
+
+  public TradeLogPage getTradeLogs(Long accountId, String cursor, int size) {
+    getAccount(accountId);
+    return quantBotService.getTradeLogs(accountId, cursor, size);
+  }
+
+  public String tradeLogETag(Long accountId, String cursor, int size) {
+    getAccount(accountId);
+    return quantBotService.tradeLogETag(accountId, cursor, size);
+  }
+
+  public List<PositionDto> getPositions(Long accountId) {
+    return aggregate(accountId).positions();
+  }
+
+  public AccountPnlResponse getPnl(Long accountId) {
+    return aggregate(accountId).pnl();
+  }
+
+  @EventListener
+  public void onQuantDataChanged(QuantDataChangedEvent event) {
+    if (event.affects(QuantDataChangedEvent.EXECUTIONS, QuantDataChangedEvent.PRICE_DATA)) {
+      aggregates.clear();
+    }
+  }
+
+  // 계정 목록 갱신 (account_names 는 트리거 대상이 아니므로 주기적으로 갱신)
+  @Scheduled(cron = "0 0 * * * *", zone = "Asia/Seoul")
+  public void refreshAccounts() {
+    accounts.set(quantAccountRepository.findAllByOrderByIdAsc().stream()
+        .collect(Collectors.toMap(QuantAccount::getId, Function.identity(),
+            (existing, replacement) -> existing, LinkedHashMap::new)));
+  }
+
+  private QuantAccount getAccount(Long accountId) {
+    QuantAccount account = currentAccounts().get(accountId);
+    if (account == null && tryMissRefresh()) {
+      // 새로 등록된 계정일 수 있으므로 다시 적재 (MISS_REFRESH_INTERVAL 에 한 번만)
+      refreshAccounts();
+      account = accounts.get().get(accountId);
+    }
+    if (account == null) {
+      throw new CustomException(ErrorCode.QUANT_ACCOUNT_NOT_FOUND);
+    }
+    return account;
+  }
+
+  private boolean tryMissRefresh() {
+    long now = System.currentTimeMillis();
+    long previous = lastMissRefreshAt.get();
+    return now - previous >= MISS_REFRESH_INTERVAL.toMillis() && lastMissRefreshAt.compareAndSet(previous, now);
+  }
+
+  private Map<Long, QuantAccount> currentAccounts() {
+    if (accounts.get() == null) {
+      refreshAccounts();
+    }
+    return accounts.get();
+  }
+
+  private AccountAggregate aggregate(Long accountId) {
+    QuantAccount account = getAccount(accountId);
+    return aggregates.computeIfAbsent(accountId, id -> loadAggregate(account));
+  }
+
+  private AccountAggregate loadAggregate(QuantAccount account) {
+    List<AccountPositionProjection> rows = executionRepository.findAccountPositions(account.getId());
+    Map<String, PriceData> latestPrices = latestPriceService.getLatest(
+        rows.stream().map(AccountPositionProjection::getTicker).toList());
+
+    List<PositionDto> positions = rows.stream()
+        .map(row -> {
+          PriceData latest = latestPrices.get(row.getTicker());
+          // 시세가 없는 종목은 평균 매입가로 평가 (손익 0)
+          BigDecimal currentPrice = latest != null && latest.getClosePrice() != null
+              ? latest.getClosePrice()
+              : row.getAvgPrice();
+          return new PositionDto(
+              row.getTicker(),
+              tickerNameDictionary.displayName(row.getTicker()),
+              row.getPositionQty(),
+              row.getAvgPrice(),
+              currentPrice,
+              null,   // marketPrice (setPnl 에서 계산)
+              null,   // pnl
+              null    // pnlRate
+          ).setPnl();
+        })
+        .toList();
+
+    BigDecimal marketValue = positions.stream()
+        .map(PositionDto::getMarketPrice)
+        .reduce(BigDecimal.ZERO, BigDecimal::add);
+    BigDecimal unrealizedPnl = positions.stream()
+        .map(PositionDto::getPnl)
+        .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+    AccountExecutionSummaryProjection summary = executionRepository.getAccountExecutionSummary(account.getId());
+    AccountPnlResponse pnl = new AccountPnlResponse(
+        account.getId(),
+        account.getAccountCode(),
+        account.getAccountName(),
+        summary.getTradeCount() == null ? 0 : summary.getTradeCount(),
+        summary.getLastFillDate(),
+        summary.getRealizedPnl(),
+        unrealizedPnl,
+        marketValue,
+        summary.getCash(),
+        summary.getTotalCommission()
+    );
+    return new AccountAggregate(positions, pnl);
+  }
+
+  private record AccountAggregate(List<PositionDto> positions, AccountPnlResponse pnl) {
+  }
+}
@@ -1,23 +1,32 @@
 package org.sejongisc.backend.stock.service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.util.HexFormat;
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 import lombok.RequiredArgsConstructor;
 import org.sejongisc.backend.common.exception.CustomException;
 import org.sejongisc.backend.common.exception.ErrorCode;
 import org.sejongisc.backend.stock.dto.PositionDto;
+import org.sejongisc.backend.stock.dto.PositionSnapshotResponse;
+import org.sejongisc.backend.stock.dto.TradeLogCursor;
 import org.sejongisc.backend.stock.dto.TradeLogDto;
+import org.sejongisc.backend.stock.dto.TradeLogPage;
 import org.sejongisc.backend.stock.dto.XaiReportResponse;
-import org.sejongisc.backend.stock.entity.CompanyName;
 import org.sejongisc.backend.stock.entity.Execution;
 import org.sejongisc.backend.stock.entity.XaiReport;
-import org.sejongisc.backend.stock.repository.CompanyNameRepository;
+import org.sejongisc.backend.stock.event.QuantDataChangedEvent;
 import org.sejongisc.backend.stock.repository.ExecutionRepository;
 import org.sejongisc.backend.stock.repository.projection.PortfolioOverviewProjection;
 import org.sejongisc.backend.stock.repository.projection.PortfolioSimpleProjection;
 import org.sejongisc.backend.stock.repository.projection.PositionProjection;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,21 +35,98 @@ import org.springframework.transaction.annotation.Transactional;
 public class QuantBotService {
 
   private final ExecutionRepository executionRepository;
-  private final CompanyNameRepository companyNameRepository;
+  private final TickerNameDictionary tickerNameDictionary;
+  private final PortfolioSnapshotCache portfolioSnapshotCache;
+  private final PositionHistoryService positionHistoryService;
 
-  // 매매 로그
-  public List<TradeLogDto> getTradeLogs() {
-    List<TradeLogDto> logs = executionRepository.findAllByOrderByFillDateDesc();
-    Map<String, String> tickerNameMap = getTickerNameMap(
-        logs.stream().map(TradeLogDto::ticker).collect(Collectors.toSet())
-    );
+  private static final int MAX_TRADE_LOG_PAGE_SIZE = 200;
+
+  // 첫 페이지 캐시 ((계정, pageSize) → 페이지), 새 체결 감지 시 비움
+  private final ConcurrentHashMap<TradeLogPageKey, TradeLogPage> newestTradeLogPages = new ConcurrentHashMap<>();
+  private final AtomicReference<Long> lastExecutionId = new AtomicReference<>();
+
+  // 매매 로그 (커서 기반 페이지네이션)
+  public TradeLogPage getTradeLogs(String cursor, int size) {
+    return getTradeLogs(null, cursor, size);
+  }
+
+  /**
+   * 매매 로그 (accountId 가 null 이면 전체 계정)
+   */
+  public TradeLogPage getTradeLogs(Long accountId, String cursor, int size) {
+    int pageSize = Math.clamp(size, 1, MAX_TRADE_LOG_PAGE_SIZE);
+    if (cursor == null || cursor.isBlank()) {
+      // 첫 페이지는 새 체결이 들어올 때까지 캐시 (회사명은 조회 시점의 사전으로 매핑)
+      return withDisplayTickers(newestTradeLogPages.computeIfAbsent(
+          new TradeLogPageKey(accountId, pageSize), key -> loadTradeLogPage(accountId, null, pageSize)));
+    }
+    return withDisplayTickers(loadTradeLogPage(accountId, TradeLogCursor.decode(cursor), pageSize));
+  }
+
+  /**
+   * 매매 로그 페이지 ETag (페이지 조회 전에 계산)
+   * - executions 는 추가만 되므로 (계정, 커서, pageSize, MAX(id), 회사명 사전) 이 같으면 페이지 내용도 같음
+   * - MAX(id) 는 PK 인덱스 끝만 읽으므로 304 응답 시 페이지 쿼리를 생략할 수 있음
+   */
+  public String tradeLogETag(Long accountId, String cursor, int size) {
+    int pageSize = Math.clamp(size, 1, MAX_TRADE_LOG_PAGE_SIZE);
+    String normalizedCursor = cursor == null || cursor.isBlank() ? "" : TradeLogCursor.decode(cursor).encode();
+    // 캐시된 첫 페이지가 ETag 의 MAX(id) 보다 오래된 내용으로 응답되지 않도록 함께 확인
+    Long latestId = observeLatestExecution();
+    String payload = accountId + "|" + normalizedCursor + "|" + pageSize + "|"
+        + latestId + "|" + tickerNameDictionary.fingerprint();
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-256").digest(payload.getBytes(StandardCharsets.UTF_8));
+      return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  @EventListener
+  public void onQuantDataChanged(QuantDataChangedEvent event) {
+    if (event.affects(QuantDataChangedEvent.EXECUTIONS)) {
+      newestTradeLogPages.clear();
+    }
+  }
+
+  // ETag 계산 시 확인한 MAX(id) 가 바뀌었으면 첫 페이지 캐시 무효화 (알림보다 먼저 새 체결을 본 경우)
+  private Long observeLatestExecution() {
+    Long latestId = executionRepository.findMaxId().orElse(null);
+    Long previousId = lastExecutionId.getAndSet(latestId);
+    if (!Objects.equals(previousId, latestId)) {
+      newestTradeLogPages.clear();
+    }
+    return latestId;
+  }
 
-    return logs.stream()
+  private TradeLogPage loadTradeLogPage(Long accountId, TradeLogCursor cursor, int pageSize) {
+    // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+    Limit limit = Limit.of(pageSize + 1);
+    List<TradeLogDto> rows;
+    if (accountId == null) {
+      rows = cursor == null
+          ? executionRepository.findLatestTradeLogs(limit)
+          : executionRepository.findTradeLogsBefore(cursor.fillDate(), cursor.id(), limit);
+    } else {
+      rows = cursor == null
+          ? executionRepository.findLatestTradeLogsByAccount(accountId, limit)
+          : executionRepository.findTradeLogsByAccountBefore(accountId, cursor.fillDate(), cursor.id(), limit);
+    }
+
+    boolean hasNext = rows.size() > pageSize;
+    List<TradeLogDto> items = hasNext ? List.copyOf(rows.subList(0, pageSize)) : rows;
+    String nextCursor = hasNext ? TradeLogCursor.from(items.getLast()).encode() : null;
+    return new TradeLogPage(items, nextCursor, hasNext);
+  }
+
+  private TradeLogPage withDisplayTickers(TradeLogPage page) {
+    List<TradeLogDto> items = page.items().stream()
         .map(log -> new TradeLogDto(
             log.id(),
             log.xaiReportId(),
             log.ticker(),
-            toDisplayTicker(log.ticker(), tickerNameMap),
+            tickerNameDictionary.displayName(log.ticker()),
             log.fillDate(),
             log.fillPrice(),
             log.qty(),
@@ -51,6 +137,7 @@ public class QuantBotService {
             log.pnlRealized()
         ))
         .toList();
+    return new TradeLogPage(items, page.nextCursor(), page.hasNext());
   }
 
   /*// 종목별 보유 현황
@@ -69,9 +156,7 @@ public class QuantBotService {
       throw new CustomException(ErrorCode.XAI_REPORT_NOT_FOUND);
     }
 
-    String displayTicker = companyNameRepository.findByTicker(xaiReport.getTicker())
-        .map(CompanyName::getCompanyName)
-        .orElse(xaiReport.getTicker());
+    String displayTicker = tickerNameDictionary.displayName(xaiReport.getTicker());
 
     return new XaiReportResponse(
         xaiReport.getTicker(),
@@ -84,21 +169,38 @@ public class QuantBotService {
   }
 
   //현재 자산 변화 기록 조회
-  @Transactional(readOnly = true)
   public List<PortfolioSimpleProjection> getAssets(){
-    return executionRepository.findSimpleSummary();
+    return portfolioSnapshotCache.getSummary();
   }
 
   public List<PositionDto> getPositions() {
-    List<PositionProjection> rows = executionRepository.findAllPositions();
-    Map<String, String> tickerNameMap = getTickerNameMap(
-        rows.stream().map(PositionProjection::getTicker).collect(Collectors.toSet())
-    );
+    return toPositionDtos(portfolioSnapshotCache.getPositions());
+  }
+
+  // 기준일 시점 포지션 (스냅샷이 없으면 빈 positions)
+  public PositionSnapshotResponse getPositionsAsOf(LocalDate date) {
+    return positionHistoryService.getPositionsAsOf(date).entrySet().stream()
+        .findFirst()
+        .map(entry -> new PositionSnapshotResponse(entry.getKey(), toPositionDtos(entry.getValue())))
+        .orElseGet(() -> new PositionSnapshotResponse(date, List.of()));
+  }
+
+  // 기간 내 일자별 포지션 (넓은 기간은 maxPoints 개 일자로 샘플링)
+  public List<PositionSnapshotResponse> getPositionHistory(LocalDate from, LocalDate to, int maxPoints) {
+    return positionHistoryService.getPositionHistory(from, to, maxPoints).entrySet().stream()
+        .map(entry -> new PositionSnapshotResponse(entry.getKey(), toPositionDtos(entry.getValue())))
+        .toList();
+  }
 
+  public PortfolioOverviewProjection getPortfolioOverview() {
+    return portfolioSnapshotCache.getOverview();
+  }
+
+  private List<PositionDto> toPositionDtos(List<PositionProjection> rows) {
     return rows.stream()
             .map(p -> new PositionDto(
                     p.getTicker(),
-                    toDisplayTicker(p.getTicker(), tickerNameMap),
+                    tickerNameDictionary.displayName(p.getTicker()),
                     p.getPositionQty(),
                     p.getAvgPrice(),
                     p.getCurrentPrice(),
@@ -109,32 +211,6 @@ public class QuantBotService {
             .toList();
   }
 
-  public PortfolioOverviewProjection getPortfolioOverview() {
-    return executionRepository.getPortfolioOverview();
-  }
-
-  private Map<String, String> getTickerNameMap(Set<String> tickers) {
-    if (tickers == null || tickers.isEmpty()) {
-      return Map.of();
-    }
-
-    Set<String> validTickers = tickers.stream()
-        .filter(ticker -> ticker != null && !ticker.isBlank())
-        .collect(Collectors.toSet());
-
-    if (validTickers.isEmpty()) {
-      return Map.of();
-    }
-
-    return companyNameRepository.findByTickerIn(validTickers).stream()
-        .collect(Collectors.toMap(CompanyName::getTicker, CompanyName::getCompanyName, (existing, replacement) -> existing));
-  }
-
-  private String toDisplayTicker(String ticker, Map<String, String> tickerNameMap) {
-    if (ticker == null || ticker.isBlank()) {
-      return ticker;
-    }
-    return tickerNameMap.getOrDefault(ticker, ticker);
+  private record TradeLogPageKey(Long accountId, int pageSize) {
   }
 }
-
@@ -0,0 +1,168 @@
+package org.sejongisc.backend.stock.service;
+
+import java.util.Arrays;
+
+/**
+ * 포트폴리오 리스크 지표 계산 (일별 수익률 배열 기준)
+ * - VaR 는 손실을 양수로 표현합니다. (예: 0.021 → 1일 2.1% 손실)
+ */
+public final class RiskCalculator {
+
+  public static final int TRADING_DAYS_PER_YEAR = 252;
+
+  private RiskCalculator() {
+  }
+
+  /**
+   * 연속된 값의 단순 수익률 (values[i] / values[i-1] - 1)
+   */
+  public static double[] simpleReturns(double[] values) {
+    if (values.length < 2) {
+      return new double[0];
+    }
+    double[] returns = new double[values.length - 1];
+    for (int i = 1; i < values.length; i++) {
+      returns[i - 1] = values[i] / values[i - 1] - 1.0;
+    }
+    return returns;
+  }
+
+  public static double mean(double[] values) {
+    double sum = 0.0;
+    for (double value : values) {
+      sum += value;
+    }
+    return values.length == 0 ? Double.NaN : sum / values.length;
+  }
+
+  /**
+   * 표본 표준편차
+   */
+  public static double stdDev(double[] values) {
+    if (values.length < 2) {
+      return Double.NaN;
+    }
+    double mean = mean(values);
+    double sumSquares = 0.0;
+    for (double value : values) {
+      double diff = value - mean;
+      sumSquares += diff * diff;
+    }
+    return Math.sqrt(sumSquares / (values.length - 1));
+  }
+
+  public static double annualizedVolatility(double[] returns) {
+    return stdDev(returns) * Math.sqrt(TRADING_DAYS_PER_YEAR);
+  }
+
+  /**
+   * 이동 창 연율화 변동성: result[k] 는 returns[k .. k + window - 1] 의 변동성
+   * - 창을 한 칸씩 밀면서 합 / 제곱합만 갱신하므로 O(n)
+   */
+  public static double[] rollingVolatility(double[] returns, int window) {
+    if (window < 2 || returns.length < window) {
+      return new double[0];
+    }
+    double[] result = new double[returns.length - window + 1];
+    double sum = 0.0;
+    double sumSquares = 0.0;
+    for (int i = 0; i < returns.length; i++) {
+      sum += returns[i];
+      sumSquares += returns[i] * returns[i];
+      if (i >= window) {
+        sum -= returns[i - window];
+        sumSquares -= returns[i - window] * returns[i - window];
+      }
+      if (i >= window - 1) {
+        double variance = Math.max(0.0, (sumSquares - sum * sum / window) / (window - 1));
+        result[i - window + 1] = Math.sqrt(variance) * Math.sqrt(TRADING_DAYS_PER_YEAR);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * 역사적 VaR: 수익률 분포의 (1 - confidence) 하위 분위수의 손실
+   */
+  public static double historicalVaR(double[] returns, double confidence) {
+    if (returns.length == 0) {
+      return Double.NaN;
+    }
+    double[] sorted = returns.clone();
+    Arrays.sort(sorted);
+    int index = (int) Math.floor((1.0 - confidence) * sorted.length);
+    index = Math.min(Math.max(index, 0), sorted.length - 1);
+    return -sorted[index];
+  }
+
+  /**
+   * 모수적(정규분포) VaR: -(μ - z·σ)
+   */
+  public static double parametricVaR(double[] returns, double confidence) {
+    if (returns.length < 2) {
+      return Double.NaN;
+    }
+    double z = normalInverse(confidence);
+    return -(mean(returns) - z * stdDev(returns));
+  }
+
+  /**
+   * 베타: Cov(asset, benchmark) / Var(benchmark), 두 배열은 같은 일자로 정렬되어 있어야 함
+   */
+  public static double beta(double[] asset, double[] benchmark) {
+    int n = Math.min(asset.length, benchmark.length);
+    if (n < 2) {
+      return Double.NaN;
+    }
+    double assetMean = 0.0;
+    double benchmarkMean = 0.0;
+    for (int i = 0; i < n; i++) {
+      assetMean += asset[i];
+      benchmarkMean += benchmark[i];
+    }
+    assetMean /= n;
+    benchmarkMean /= n;
+
+    double covariance = 0.0;
+    double variance = 0.0;
+    for (int i = 0; i < n; i++) {
+      double benchmarkDiff = benchmark[i] - benchmarkMean;
+      covariance += (asset[i] - assetMean) * benchmarkDiff;
+      variance += benchmarkDiff * benchmarkDiff;
+    }
+    return variance == 0.0 ? Double.NaN : covariance / variance;
+  }
+
+  /**
+   * 표준정규분포 역함수 (Acklam 근사, 상대오차 약 1.15e-9)
+   */
+  static double normalInverse(double p) {
+    if (p <= 0.0 || p >= 1.0) {
+      throw new IllegalArgumentException("p must be in (0, 1): " + p);
+    }
+    final double[] a = {-3.969683028665376e+01, 2.209460984245205e+02, -2.759285104469687e+02,
+        1.383577518672690e+02, -3.066479806614716e+01, 2.506628277459239e+00};
+    final double[] b = {-5.447609879822406e+01, 1.615858368580409e+02, -1.556989798598866e+02,
+        6.680131188771972e+01, -1.328068155288572e+01};
+    final double[] c = {-7.784894002430293e-03, -3.223964580411365e-01, -2.400758277161838e+00,
+        -2.549732539343734e+00, 4.374664141464968e+00, 2.938163982698783e+00};
+    final double[] d = {7.784695709041462e-03, 3.224671290700398e-01, 2.445134137142996e+00,
+        3.754408661907416e+00};
+    final double low = 0.02425;
+
+    if (p < low) {
+      double q = Math.sqrt(-2 * Math.log(p));
+      return (((((c[0] * q + c[1]) * q + c[2]) * q + c[3]) * q + c[4]) * q + c[5])
+          / ((((d[0] * q + d[1]) * q + d[2]) * q + d[3]) * q + 1);
+    }
+    if (p > 1 - low) {
+      double q = Math.sqrt(-2 * Math.log(1 - p));
+      return -(((((c[0] * q + c[1]) * q + c[2]) * q + c[3]) * q + c[4]) * q + c[5])
+          / ((((d[0] * q + d[1]) * q + d[2]) * q + d[3]) * q + 1);
+    }
+    double q = p - 0.5;
+    double r = q * q;
+    return (((((a[0] * r + a[1]) * r + a[2]) * r + a[3]) * r + a[4]) * r + a[5]) * q
+        / (((((b[0] * r + b[1]) * r + b[2]) * r + b[3]) * r + b[4]) * r + 1);
+  }
+}
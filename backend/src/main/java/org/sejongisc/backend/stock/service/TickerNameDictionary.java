@@ -0,0 +1,89 @@
+package org.sejongisc.backend.stock.service;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.sejongisc.backend.stock.entity.CompanyName;
+import org.sejongisc.backend.stock.event.QuantDataChangedEvent;
+import org.sejongisc.backend.stock.repository.CompanyNameRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 티커 → 회사명 사전
+ * - company_names 전체를 불변 Map 으로 미리 적재하고, 갱신 시 새 Map 을 만들어 참조만 원자적으로 교체합니다.
+ * - 조회는 DB 접근 없이 현재 Map 에서만 이루어집니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TickerNameDictionary {
+
+  private final CompanyNameRepository companyNameRepository;
+
+  private final AtomicReference<Map<String, String>> names = new AtomicReference<>();
+  private volatile int fingerprint;
+
+  /**
+   * 화면 표시용 이름 (사전에 없으면 티커 그대로)
+   */
+  public String displayName(String ticker) {
+    if (ticker == null || ticker.isBlank()) {
+      return ticker;
+    }
+    return current().getOrDefault(ticker, ticker);
+  }
+
+  /**
+   * 사전 내용의 지문 (매매 로그 ETag 계산용, 인스턴스 간에도 동일)
+   */
+  public int fingerprint() {
+    current();
+    return fingerprint;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void onApplicationReady() {
+    refresh();
+  }
+
+  @EventListener
+  public void onQuantDataChanged(QuantDataChangedEvent event) {
+    if (event.affects(QuantDataChangedEvent.COMPANY_NAMES)) {
+      refresh();
+    }
+  }
+
+  // 알림이 유실된 경우를 위한 폴백
+  @Scheduled(cron = "0 0 * * * *", zone = "Asia/Seoul")
+  public void scheduledRefresh() {
+    refresh();
+  }
+
+  public void refresh() {
+    Map<String, String> loaded = companyNameRepository.findAll().stream()
+        .filter(companyName -> companyName.getCompanyName() != null)
+        .collect(Collectors.toUnmodifiableMap(
+            CompanyName::getTicker, CompanyName::getCompanyName, (existing, replacement) -> existing));
+    fingerprint = loaded.hashCode();
+    names.set(loaded);
+    log.debug("회사명 사전 갱신 완료: {}건", loaded.size());
+  }
+
+  private Map<String, String> current() {
+    Map<String, String> current = names.get();
+    if (current == null) {
+      synchronized (this) {
+        if (names.get() == null) {
+          refresh();
+        }
+      }
+      current = names.get();
+    }
+    return current;
+  }
+}
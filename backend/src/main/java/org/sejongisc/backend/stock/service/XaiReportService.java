@@ -0,0 +1,73 @@
+package org.sejongisc.backend.stock.service;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.sejongisc.backend.common.exception.CustomException;
+import org.sejongisc.backend.common.exception.ErrorCode;
+import org.sejongisc.backend.stock.dto.XaiReportResponse;
+import org.sejongisc.backend.stock.dto.XaiReportSummary;
+import org.sejongisc.backend.stock.entity.XaiReport;
+import org.sejongisc.backend.stock.repository.XaiReportRepository;
+import org.sejongisc.backend.stock.repository.projection.XaiReportSummaryProjection;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * XAI 리포트 검색 / 본문 조회
+ * - 검색은 본문을 제외한 요약만 반환하고, 본문은 리포트 ID 로 따로 조회합니다.
+ * - 리포트는 한 번 기록되면 바뀌지 않으므로 본문 ETag 는 리포트 ID 만으로 정합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class XaiReportService {
+
+  public static final int DEFAULT_SEARCH_SIZE = 20;
+  private static final int MAX_SEARCH_SIZE = 100;
+
+  private final XaiReportRepository xaiReportRepository;
+  private final TickerNameDictionary tickerNameDictionary;
+
+  @Transactional(readOnly = true)
+  public List<XaiReportSummary> search(String ticker, String keyword, int size) {
+    String normalizedTicker = ticker == null || ticker.isBlank() ? null : ticker.trim();
+    String normalizedKeyword = keyword == null || keyword.isBlank() ? null : keyword.trim();
+    if (normalizedTicker == null && normalizedKeyword == null) {
+      throw new CustomException(ErrorCode.INVALID_XAI_REPORT_SEARCH);
+    }
+    int limit = Math.min(Math.max(size, 1), MAX_SEARCH_SIZE);
+
+    List<XaiReportSummaryProjection> rows = normalizedKeyword == null
+        ? xaiReportRepository.findSummariesByTicker(normalizedTicker, limit)
+        : xaiReportRepository.searchSummaries(normalizedKeyword, normalizedTicker, limit);
+
+    return rows.stream()
+        .map(row -> new XaiReportSummary(
+            row.getId(),
+            row.getTicker(),
+            tickerNameDictionary.displayName(row.getTicker()),
+            row.getSignal(),
+            row.getPrice(),
+            row.getDate(),
+            row.getCreatedAt()))
+        .toList();
+  }
+
+  @Transactional(readOnly = true)
+  public XaiReportResponse getReport(Long reportId) {
+    XaiReport report = xaiReportRepository.findById(reportId)
+        .orElseThrow(() -> new CustomException(ErrorCode.XAI_REPORT_NOT_FOUND));
+
+    return new XaiReportResponse(
+        report.getTicker(),
+        tickerNameDictionary.displayName(report.getTicker()),
+        report.getSignal(),
+        report.getPrice(),
+        report.getDate(),
+        report.getReport()
+    );
+  }
+
+  public static String eTag(Long reportId) {
+    return "\"xai-report-" + reportId + "\"";
+  }
+}
@@ -0,0 +1,4 @@
+-- 라운드별 정산 실패 기록 (실패한 라운드만 따로 재시도)
+alter table bet_round add column if not exists settle_attempts integer not null default 0;
+alter table bet_round add column if not exists settle_error varchar(500);
+alter table bet_round add column if not exists settle_failed_at timestamp(6);
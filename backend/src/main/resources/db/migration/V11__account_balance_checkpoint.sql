@@ -0,0 +1,17 @@
+-- 계정별 원장 잔액 체크포인트 (대사 작업이 마지막 체크포인트 이후 분개만 합산하도록)
+-- ledger_balance: checkpoint_at 이전(포함)까지 생성된 분개 합계
+-- drift: 마지막 대사 시점의 account.balance - 원장 합계 (0 이 아니면 불일치)
+create table if not exists account_balance_checkpoint (
+  account_id uuid primary key references account(account_id) on delete cascade,
+  ledger_balance bigint not null,
+  checkpoint_at timestamp(6) not null,
+  drift bigint not null default 0,
+  checked_at timestamp(6) not null,
+  created_date timestamp(6) not null,
+  updated_date timestamp(6) not null
+);
+
+create index if not exists idx_account_balance_checkpoint_drift on account_balance_checkpoint (account_id) where drift <> 0;
+
+-- 체크포인트 이후 분개 구간 합산용
+create index if not exists idx_ledger_entry_account_created on ledger_entry (account_id, created_date);
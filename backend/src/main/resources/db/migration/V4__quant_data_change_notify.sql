@@ -0,0 +1,35 @@
+-- AI 파이프라인이 쓰는 테이블 변경 시 quant_data_changed 채널로 테이블명을 NOTIFY
+-- (문장 단위 트리거라 대량 적재도 문장당 1회만 발생)
+create or replace function notify_quant_data_changed() returns trigger
+language plpgsql as $$
+begin
+  perform pg_notify('quant_data_changed', tg_table_name);
+  return null;
+end;
+$$;
+
+-- 파이프라인 테이블은 schema.sql 로 별도 생성되므로 존재하는 테이블에만 트리거 생성
+-- (트리거가 없는 테이블은 백엔드의 주기적 폴링으로 갱신됨)
+do $$
+declare
+  target text;
+begin
+  foreach target in array array['executions', 'portfolio_summary', 'portfolio_positions', 'price_data', 'company_names']
+  loop
+    if to_regclass(target) is null then
+      continue;
+    end if;
+    -- 트리거 생성에는 테이블 소유권이 필요하므로 백엔드 계정이 소유(또는 소유 롤의 멤버)하지 않으면 건너뜀
+    -- (이 경우 파이프라인 schema.sql 에서 트리거를 만들거나, 백엔드의 주기적 폴링으로 갱신됨)
+    if not pg_has_role((select relowner from pg_class where oid = to_regclass(target)), 'USAGE') then
+      raise notice 'skip trg_%_notify: % is not owned by %', target, target, current_user;
+      continue;
+    end if;
+    execute format('drop trigger if exists trg_%1$s_notify on %1$I', target);
+    execute format(
+      'create trigger trg_%1$s_notify after insert or update or delete or truncate on %1$I '
+        || 'for each statement execute function notify_quant_data_changed()',
+      target);
+  end loop;
+end;
+$$;
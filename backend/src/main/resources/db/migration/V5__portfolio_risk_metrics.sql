@@ -0,0 +1,22 @@
+-- 퀀트봇 포트폴리오 일별 리스크 지표 (PortfolioRiskService 배치 결과)
+create table if not exists portfolio_risk_metrics (
+  date date primary key,
+  window_days integer not null,
+  confidence double precision not null,
+  volatility double precision,
+  var_historical double precision,
+  var_parametric double precision,
+  benchmark_ticker varchar(255),
+  beta double precision,
+  computed_at timestamp not null
+);
+
+-- 종목별 수익 기여도 (전일 비중 × 당일 종목 수익률)
+create table if not exists portfolio_risk_attribution (
+  date date not null,
+  ticker varchar(255) not null,
+  weight double precision not null,
+  ticker_return double precision not null,
+  contribution double precision not null,
+  primary key (date, ticker)
+);
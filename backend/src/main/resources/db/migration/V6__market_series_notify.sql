@@ -0,0 +1,25 @@
+-- 거시지표 / 시장 폭 / 섹터 수익률 테이블도 quant_data_changed 채널로 변경을 알림
+-- (notify_quant_data_changed 함수는 V4 에서 생성)
+do $$
+declare
+  target text;
+begin
+  foreach target in array array['macroeconomic_indicators', 'market_breadth', 'sector_returns']
+  loop
+    if to_regclass(target) is null then
+      continue;
+    end if;
+    -- 트리거 생성에는 테이블 소유권이 필요하므로 백엔드 계정이 소유(또는 소유 롤의 멤버)하지 않으면 건너뜀
+    -- (이 경우 파이프라인 schema.sql 에서 트리거를 만들거나, 백엔드의 주기적 폴링으로 갱신됨)
+    if not pg_has_role((select relowner from pg_class where oid = to_regclass(target)), 'USAGE') then
+      raise notice 'skip trg_%_notify: % is not owned by %', target, target, current_user;
+      continue;
+    end if;
+    execute format('drop trigger if exists trg_%1$s_notify on %1$I', target);
+    execute format(
+      'create trigger trg_%1$s_notify after insert or update or delete or truncate on %1$I '
+        || 'for each statement execute function notify_quant_data_changed()',
+      target);
+  end loop;
+end;
+$$;
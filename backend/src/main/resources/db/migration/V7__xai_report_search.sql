@@ -0,0 +1,20 @@
+-- XAI 리포트 본문 전문 검색용 GIN 인덱스 (한/영 혼용 텍스트라 형태소 분석 없는 simple 구성 사용)
+-- 조회 쿼리의 to_tsvector('simple', coalesce(report, '')) 식과 동일해야 인덱스를 탐
+-- 일반(non-concurrent) 인덱스 생성이므로 생성 중에는 xai_reports 쓰기(파이프라인 적재)가 막힘
+-- (Flyway 트랜잭션 안에서는 create index concurrently 를 쓸 수 없음)
+do $$
+begin
+  if to_regclass('xai_reports') is null then
+    return;
+  end if;
+  -- 인덱스 생성에는 테이블 소유권이 필요하므로 백엔드 계정이 소유(또는 소유 롤의 멤버)하지 않으면 건너뜀
+  -- (이 경우 파이프라인 schema.sql 에서 같은 인덱스를 만들어야 하며, 없으면 검색은 순차 스캔으로 동작)
+  if not pg_has_role((select relowner from pg_class where oid = to_regclass('xai_reports')), 'USAGE') then
+    raise notice 'skip xai_reports search indexes: xai_reports is not owned by %', current_user;
+    return;
+  end if;
+  execute 'create index if not exists idx_xai_reports_report_fts on xai_reports '
+    || 'using gin (to_tsvector(''simple'', coalesce(report, '''')))';
+  execute 'create index if not exists idx_xai_reports_ticker_date on xai_reports (ticker, date desc, id desc)';
+end;
+$$;
@@ -0,0 +1,7 @@
+-- 경합이 잦은 플랫폼 계정(BETTING_POOL)을 여러 하위 계정(stripe)으로 분할
+-- 분할 대상이 아닌 계정은 stripe 가 null
+alter table account add column if not exists stripe integer;
+
+update account set stripe = 0 where account_name = 'BETTING_POOL' and stripe is null;
+
+create unique index if not exists uk_account_name_stripe on account (account_name, stripe) where stripe is not null;
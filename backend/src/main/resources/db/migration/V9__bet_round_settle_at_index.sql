@@ -0,0 +1,2 @@
+-- 라운드 이력 keyset 페이지네이션 (settle_at desc) 및 정산 대기 라운드 조회용
+create index if not exists idx_bet_round_settle_at on bet_round (settle_at desc nulls first);
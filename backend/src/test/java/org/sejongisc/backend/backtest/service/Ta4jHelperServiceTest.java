@@ -3,6 +3,7 @@ package org.sejongisc.backend.backtest.service;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.InjectMocks;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.sejongisc.backend.backtest.dto.StrategyCondition;
@@ -10,10 +11,14 @@ import org.sejongisc.backend.backtest.dto.StrategyOperand;
 import org.sejongisc.backend.common.exception.CustomException;
 import org.sejongisc.backend.common.exception.ErrorCode;
 import org.sejongisc.backend.stock.entity.PriceData;
+import org.sejongisc.backend.stock.infrastructure.ColumnarPriceStore;
+import org.sejongisc.backend.stock.infrastructure.PriceSlice;
+import org.ta4j.core.Bar;
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.Rule;
 
 import java.math.BigDecimal;
+import java.nio.file.Path;
 import java.time.LocalDate;
 
 import java.util.HashMap;
@@ -123,4 +128,75 @@ class Ta4jHelperServiceTest {
                 .isInstanceOf(CustomException.class)
                 .hasMessage(ErrorCode.BACKTEST_INDICATOR_NOT_FOUND.getMessage());
     }
+
+    @Test
+    @DisplayName("createBarSeries - OHLC 중 하나라도 없는 일자는 건너뛰고, 거래량 누락은 0으로 처리")
+    void createBarSeries_skipsRowsWithMissingOhlc() {
+        // given
+        LocalDate start = LocalDate.of(2024, 1, 2);
+        List<PriceData> priceDataList = List.of(
+                priceData(start, "10", "11", "9", "10.5", 100L),
+                priceData(start.plusDays(1), null, "12", "10", "11", 200L),    // 시가 누락
+                priceData(start.plusDays(2), "11", null, "10.5", "11.2", 300L), // 고가 누락
+                priceData(start.plusDays(3), "11", "11.5", null, "11.2", 300L), // 저가 누락
+                priceData(start.plusDays(4), "11", "11.5", "10.5", null, 300L), // 종가 누락
+                priceData(start.plusDays(5), "11", "11.5", "10.5", "11.2", null) // 거래량 누락
+        );
+
+        // when
+        BarSeries series = ta4jHelperService.createBarSeries(priceDataList);
+
+        // then
+        assertThat(series.getBarCount()).isEqualTo(2);
+        assertThat(series.getBar(0).getEndTime().toLocalDate()).isEqualTo(start);
+        assertThat(series.getBar(1).getEndTime().toLocalDate()).isEqualTo(start.plusDays(5));
+        assertThat(series.getBar(1).getVolume().doubleValue()).isZero();
+    }
+
+    @Test
+    @DisplayName("createBarSeries - 가격 스토어 경로와 DB 경로가 누락값이 있어도 같은 BarSeries를 만듦")
+    void storeAndDatabasePathsBuildTheSameSeriesWithMissingValues(@TempDir Path root) {
+        // given
+        LocalDate start = LocalDate.of(2024, 1, 2);
+        List<PriceData> rows = List.of(
+                priceData(start, "10", "11", "9", "10.5", 100L),
+                priceData(start.plusDays(1), "10.5", "12", "10", null, 200L),   // 종가 누락 → 두 경로 모두 건너뜀
+                priceData(start.plusDays(2), "11", "11.5", "10.5", "11.2", null) // 거래량 누락 → 0
+        );
+        ColumnarPriceStore store = new ColumnarPriceStore(true, root.toString());
+        store.append("AAPL", rows, start.plusDays(2));
+        PriceSlice slice = store.slice("AAPL", start, start.plusDays(2)).orElseThrow();
+
+        // when
+        BarSeries fromDatabase = ta4jHelperService.createBarSeries(rows);
+        BarSeries fromStore = ta4jHelperService.createBarSeries(slice);
+
+        // then
+        assertThat(fromDatabase.getBarCount()).isEqualTo(2);
+        assertThat(fromStore.getBarCount()).isEqualTo(fromDatabase.getBarCount());
+        for (int i = 0; i < fromDatabase.getBarCount(); i++) {
+            Bar expected = fromDatabase.getBar(i);
+            Bar actual = fromStore.getBar(i);
+            assertThat(actual.getEndTime()).isEqualTo(expected.getEndTime());
+            assertThat(actual.getOpenPrice().doubleValue()).isEqualTo(expected.getOpenPrice().doubleValue());
+            assertThat(actual.getHighPrice().doubleValue()).isEqualTo(expected.getHighPrice().doubleValue());
+            assertThat(actual.getLowPrice().doubleValue()).isEqualTo(expected.getLowPrice().doubleValue());
+            assertThat(actual.getClosePrice().doubleValue()).isEqualTo(expected.getClosePrice().doubleValue());
+            assertThat(actual.getVolume().doubleValue()).isEqualTo(expected.getVolume().doubleValue());
+        }
+        assertThat(fromDatabase.getBar(1).getVolume().doubleValue()).isZero();
+    }
+
+    private static PriceData priceData(LocalDate date, String open, String high, String low, String close, Long volume) {
+        return PriceData.builder()
+                .ticker("AAPL")
+                .date(date)
+                .open(open == null ? null : new BigDecimal(open))
+                .high(high == null ? null : new BigDecimal(high))
+                .low(low == null ? null : new BigDecimal(low))
+                .closePrice(close == null ? null : new BigDecimal(close))
+                .adjustedClose(close == null ? null : new BigDecimal(close))
+                .volume(volume)
+                .build();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,50 @@
+package org.sejongisc.backend.betting.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.sejongisc.backend.betting.entity.BetOption;
+import org.sejongisc.backend.betting.entity.BetStatus;
+import org.sejongisc.backend.betting.entity.UserBet;
+
+class BetRoundStatsTest {
+
+  @Test
+  void countsOnlyActiveBets() {
+    UserBet cancelled = bet(BetOption.RISE, 500);
+    cancelled.cancel();
+
+    BetRoundStats stats = BetRoundStats.fromBets(List.of(
+        bet(BetOption.RISE, 100), bet(BetOption.RISE, 0), bet(BetOption.FALL, 300), cancelled));
+
+    assertThat(stats).isEqualTo(new BetRoundStats(2, 100, 1, 300));
+  }
+
+  @Test
+  void multiplierIsTotalOverOptionPool() {
+    BetRoundStats stats = new BetRoundStats(2, 100, 1, 300);
+
+    assertThat(stats.multiplier(BetOption.RISE)).isEqualByComparingTo(BigDecimal.valueOf(4.0));
+    assertThat(stats.multiplier(BetOption.FALL).doubleValue()).isEqualTo(400.0 / 300);
+  }
+
+  @Test
+  void emptyOptionPoolDefaultsToOne() {
+    BetRoundStats stats = new BetRoundStats(0, 0, 1, 300);
+
+    assertThat(stats.multiplier(BetOption.RISE)).isEqualByComparingTo(BigDecimal.ONE);
+  }
+
+  private static UserBet bet(BetOption option, int stake) {
+    return UserBet.builder()
+        .userId(UUID.randomUUID())
+        .option(option)
+        .isFree(stake == 0)
+        .stakePoints(stake)
+        .betStatus(BetStatus.ACTIVE)
+        .build();
+  }
+}
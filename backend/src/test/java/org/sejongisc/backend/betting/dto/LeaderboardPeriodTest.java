@@ -0,0 +1,38 @@
+package org.sejongisc.backend.betting.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import org.junit.jupiter.api.Test;
+import org.sejongisc.backend.common.exception.CustomException;
+
+class LeaderboardPeriodTest {
+
+  @Test
+  void bucketsByMonthAndIsoWeek() {
+    LocalDate date = LocalDate.of(2027, 1, 1); // ISO 2026-W53
+
+    assertThat(LeaderboardPeriod.ALL.bucket(date)).isEqualTo("ALL");
+    assertThat(LeaderboardPeriod.MONTHLY.bucket(date)).isEqualTo("MONTHLY:2027-01");
+    assertThat(LeaderboardPeriod.WEEKLY.bucket(date)).isEqualTo("WEEKLY:2026-W53");
+  }
+
+  @Test
+  void rangeCoversWholePeriod() {
+    LocalDate date = LocalDate.of(2026, 10, 18); // 일요일
+
+    assertThat(LeaderboardPeriod.WEEKLY.start(date)).isEqualTo(LocalDate.of(2026, 10, 12));
+    assertThat(LeaderboardPeriod.WEEKLY.end(date)).isEqualTo(LocalDate.of(2026, 10, 19));
+    assertThat(LeaderboardPeriod.MONTHLY.start(date)).isEqualTo(LocalDate.of(2026, 10, 1));
+    assertThat(LeaderboardPeriod.MONTHLY.end(date)).isEqualTo(LocalDate.of(2026, 11, 1));
+    assertThat(LeaderboardPeriod.ALL.start(date)).isNull();
+  }
+
+  @Test
+  void parsesCaseInsensitively() {
+    assertThat(LeaderboardPeriod.from("weekly")).isEqualTo(LeaderboardPeriod.WEEKLY);
+    assertThat(LeaderboardPeriod.from(null)).isEqualTo(LeaderboardPeriod.ALL);
+    assertThatThrownBy(() -> LeaderboardPeriod.from("DAILY")).isInstanceOf(CustomException.class);
+  }
+}
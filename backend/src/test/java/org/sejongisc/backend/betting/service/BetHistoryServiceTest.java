@@ -0,0 +1,117 @@
+package org.sejongisc.backend.betting.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.sejongisc.backend.betting.dto.BetHistoryCursor;
+import org.sejongisc.backend.betting.dto.BetHistoryPage;
+import org.sejongisc.backend.betting.dto.BetRoundHistoryResponse;
+import org.sejongisc.backend.betting.entity.BetRound;
+import org.sejongisc.backend.betting.entity.BetStatus;
+import org.sejongisc.backend.betting.entity.MarketType;
+import org.sejongisc.backend.betting.entity.Scope;
+import org.sejongisc.backend.betting.repository.BetRoundRepository;
+import org.sejongisc.backend.betting.repository.UserBetRepository;
+import org.sejongisc.backend.common.exception.CustomException;
+import org.springframework.data.domain.Limit;
+
+class BetHistoryServiceTest {
+
+  private BetRoundRepository betRoundRepository;
+  private UserBetRepository userBetRepository;
+  private BetHistoryService service;
+
+  @BeforeEach
+  void setUp() {
+    betRoundRepository = mock(BetRoundRepository.class);
+    userBetRepository = mock(UserBetRepository.class);
+    service = new BetHistoryService(betRoundRepository, userBetRepository, mock(BetRoundStatsStore.class));
+  }
+
+  @Test
+  void firstPagePrependsUnsettledRoundsAndCachesSettledPart() {
+    LocalDateTime base = LocalDateTime.of(2026, 10, 1, 22, 5);
+    BetRound locked = round(null);
+    given(betRoundRepository.findAllBySettleAtIsNullOrderByOpenAtDesc()).willReturn(List.of(locked));
+    given(betRoundRepository.findSettled(any(Limit.class)))
+        .willReturn(List.of(round(base), round(base.minusDays(1)), round(base.minusDays(2))));
+
+    BetHistoryPage<BetRoundHistoryResponse> first = service.getRoundHistory(null, 2);
+    service.getRoundHistory(null, 2);
+
+    assertThat(first.items()).hasSize(3);
+    assertThat(first.items().getFirst().getBetRoundId()).isEqualTo(locked.getBetRoundID());
+    assertThat(first.hasNext()).isTrue();
+    assertThat(BetHistoryCursor.decode(first.nextCursor()).settleAt()).isEqualTo(base.minusDays(1));
+    verify(betRoundRepository, times(1)).findSettled(any(Limit.class));
+    verify(betRoundRepository, times(2)).findAllBySettleAtIsNullOrderByOpenAtDesc();
+  }
+
+  @Test
+  void settlementEvictsOnlyFirstPage() {
+    LocalDateTime base = LocalDateTime.of(2026, 10, 1, 22, 5);
+    given(betRoundRepository.findSettled(any(Limit.class))).willReturn(List.of(round(base)));
+    BetHistoryCursor cursor = new BetHistoryCursor(base, UUID.randomUUID());
+    given(betRoundRepository.findSettledBefore(any(), any(), any(Limit.class)))
+        .willReturn(List.of(round(base.minusDays(1))));
+
+    service.getRoundHistory(null, 20);
+    service.getRoundHistory(cursor.encode(), 20);
+    service.evictNewestAfterCommit(List.of());
+    service.getRoundHistory(null, 20);
+    service.getRoundHistory(cursor.encode(), 20);
+
+    verify(betRoundRepository, times(2)).findSettled(any(Limit.class));
+    verify(betRoundRepository, times(1)).findSettledBefore(any(), any(), any(Limit.class));
+  }
+
+  @Test
+  void myHistoryFiltersByScopeAndStatusAndCachesPerFilter() {
+    UUID userId = UUID.randomUUID();
+    given(userBetRepository.findSettledByUserId(eq(userId), any(), any(), any(Limit.class))).willReturn(List.of());
+    given(userBetRepository.findUnsettledByUserId(eq(userId), any(), any())).willReturn(List.of());
+
+    List<BetStatus> visible = List.of(BetStatus.ACTIVE, BetStatus.CLOSED);
+    service.getMyBetHistory(userId, Scope.DAILY, visible, null, 20);
+    service.getMyBetHistory(userId, Scope.DAILY, visible, null, 20);
+    service.getMyBetHistory(userId, null, null, null, 20);
+
+    verify(userBetRepository, times(1)).findSettledByUserId(
+        eq(userId), eq(EnumSet.of(Scope.DAILY)), eq(EnumSet.of(BetStatus.ACTIVE, BetStatus.CLOSED)), any(Limit.class));
+    verify(userBetRepository, times(1)).findSettledByUserId(
+        eq(userId), eq(EnumSet.allOf(Scope.class)), eq(EnumSet.allOf(BetStatus.class)), any(Limit.class));
+    verify(userBetRepository, times(2)).findUnsettledByUserId(
+        eq(userId), eq(EnumSet.of(Scope.DAILY)), eq(EnumSet.of(BetStatus.ACTIVE, BetStatus.CLOSED)));
+  }
+
+  @Test
+  void rejectsMalformedCursor() {
+    assertThatThrownBy(() -> service.getRoundHistory("not-a-cursor", 20))
+        .isInstanceOf(CustomException.class);
+  }
+
+  private static BetRound round(LocalDateTime settleAt) {
+    return BetRound.builder()
+        .betRoundID(UUID.randomUUID())
+        .scope(Scope.DAILY)
+        .title("round")
+        .symbol("AAPL")
+        .market(MarketType.US)
+        .previousClosePrice(BigDecimal.TEN)
+        .settleAt(settleAt)
+        .build();
+  }
+}
@@ -0,0 +1,69 @@
+package org.sejongisc.backend.betting.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.sejongisc.backend.betting.entity.BetStatus;
+import org.sejongisc.backend.betting.repository.UserBetRepository;
+import org.sejongisc.backend.user.repository.UserRepository;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisKeyCommands;
+import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.connection.RedisZSetCommands.ZAddArgs;
+import org.springframework.data.redis.connection.zset.Tuple;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+
+class BetLeaderboardServiceTest {
+
+  @SuppressWarnings("unchecked")
+  private final RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
+  private final UserBetRepository userBetRepository = mock(UserBetRepository.class);
+  private final RedisConnection connection = mock(RedisConnection.class);
+  private final RedisKeyCommands keyCommands = mock(RedisKeyCommands.class);
+  private final RedisZSetCommands zSetCommands = mock(RedisZSetCommands.class);
+  private final BetLeaderboardService service =
+      new BetLeaderboardService(redisTemplate, userBetRepository, mock(UserRepository.class));
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void rebuildWritesAllMembersWithOneZaddIntoUniqueTempKeys() {
+    given(connection.keyCommands()).willReturn(keyCommands);
+    given(connection.zSetCommands()).willReturn(zSetCommands);
+    given(redisTemplate.execute(any(RedisCallback.class)))
+        .willAnswer(invocation -> invocation.<RedisCallback<?>>getArgument(0).doInRedis(connection));
+    List<UserBetRepository.UserNetPoints> rows = List.of(netPoints(120), netPoints(-30));
+    given(userBetRepository.sumNetPointsByUser(eq(BetStatus.CLOSED), any(), any())).willReturn(rows);
+
+    service.rebuildAll();
+    service.rebuildAll();
+
+    ArgumentCaptor<byte[]> tempKeys = ArgumentCaptor.forClass(byte[].class);
+    ArgumentCaptor<Set<Tuple>> members = ArgumentCaptor.forClass(Set.class);
+    // 기간 3개 × 재구성 2회, 기간마다 ZADD 한 번
+    verify(zSetCommands, times(6)).zAdd(tempKeys.capture(), members.capture(), any(ZAddArgs.class));
+    assertThat(members.getAllValues()).allSatisfy(set -> assertThat(set).hasSize(2));
+    assertThat(tempKeys.getAllValues().stream().map(key -> new String(key, StandardCharsets.UTF_8)))
+        .doesNotHaveDuplicates()
+        .allSatisfy(key -> assertThat(key).contains(":rebuild:"));
+  }
+
+  private static UserBetRepository.UserNetPoints netPoints(long net) {
+    UserBetRepository.UserNetPoints row = mock(UserBetRepository.UserNetPoints.class);
+    UUID userId = UUID.randomUUID();
+    given(row.getUserId()).willReturn(userId);
+    given(row.getNetPoints()).willReturn(net);
+    return row;
+  }
+}
@@ -0,0 +1,115 @@
+package org.sejongisc.backend.betting.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.quartz.JobDetail;
+import org.quartz.Scheduler;
+import org.quartz.Trigger;
+import org.sejongisc.backend.betting.entity.BetRound;
+import org.sejongisc.backend.betting.entity.MarketType;
+import org.sejongisc.backend.betting.entity.Scope;
+import org.sejongisc.backend.betting.repository.BetRoundRepository;
+
+class BetRoundLifecycleSchedulerTest {
+
+  private final Scheduler scheduler = mock(Scheduler.class);
+  private final BetRoundRepository betRoundRepository = mock(BetRoundRepository.class);
+  private final BetRoundLifecycleScheduler lifecycle =
+      new BetRoundLifecycleScheduler(scheduler, betRoundRepository, Duration.ofMinutes(5), 10);
+
+  @Test
+  void openRoundGetsLockAndSettleTimers() throws Exception {
+    LocalDateTime lockAt = LocalDateTime.now().plusHours(3);
+    BetRound round = round(LocalDateTime.now().minusHours(1), lockAt, true);
+
+    lifecycle.register(round);
+
+    Map<String, Date> scheduled = captureSchedules(2);
+    assertThat(scheduled).containsOnlyKeys("LOCK", "SETTLE");
+    assertThat(scheduled.get("LOCK")).isEqualTo(toDate(lockAt));
+    assertThat(scheduled.get("SETTLE")).isEqualTo(toDate(lockAt.plusMinutes(5)));
+  }
+
+  @Test
+  void futureRoundAlsoGetsOpenTimer() throws Exception {
+    LocalDateTime openAt = LocalDateTime.now().plusHours(1);
+    BetRound round = round(openAt, openAt.plusHours(13), false);
+
+    lifecycle.register(round);
+
+    Map<String, Date> scheduled = captureSchedules(3);
+    assertThat(scheduled).containsOnlyKeys("OPEN", "LOCK", "SETTLE");
+    assertThat(scheduled.get("OPEN")).isEqualTo(toDate(openAt));
+  }
+
+  @Test
+  void lockedUnsettledRoundOnlyGetsSettleTimer() throws Exception {
+    BetRound round = round(LocalDateTime.now().minusHours(14), LocalDateTime.now().minusHours(1), false);
+
+    lifecycle.register(round);
+
+    assertThat(captureSchedules(1)).containsOnlyKeys("SETTLE");
+  }
+
+  @Test
+  void exhaustedRoundsGetImmediateSettleTimer() throws Exception {
+    UUID exhausted = UUID.randomUUID();
+    given(betRoundRepository.findSettlementTargetIds(any(), eq(10), eq(Integer.MAX_VALUE))).willReturn(List.of(exhausted));
+
+    lifecycle.rescheduleExhaustedSettlements();
+
+    Map<String, Date> scheduled = captureSchedules(1);
+    assertThat(scheduled).containsOnlyKeys("SETTLE");
+    assertThat(scheduled.get("SETTLE")).isBeforeOrEqualTo(new Date());
+  }
+
+  @SuppressWarnings("unchecked")
+  private Map<String, Date> captureSchedules(int expected) throws Exception {
+    ArgumentCaptor<JobDetail> jobs = ArgumentCaptor.forClass(JobDetail.class);
+    ArgumentCaptor<Set<? extends Trigger>> triggers = ArgumentCaptor.forClass(Set.class);
+    verify(scheduler, times(expected)).scheduleJob(jobs.capture(), triggers.capture(), eq(true));
+    Map<String, Date> scheduled = new HashMap<>();
+    List<JobDetail> details = jobs.getAllValues();
+    for (int i = 0; i < details.size(); i++) {
+      String action = details.get(i).getJobDataMap().getString(BetRoundLifecycleScheduler.ACTION);
+      scheduled.put(action, triggers.getAllValues().get(i).iterator().next().getStartTime());
+    }
+    return scheduled;
+  }
+
+  private static Date toDate(LocalDateTime at) {
+    return Date.from(at.atZone(ZoneId.systemDefault()).toInstant());
+  }
+
+  private static BetRound round(LocalDateTime openAt, LocalDateTime lockAt, boolean open) {
+    return BetRound.builder()
+        .betRoundID(UUID.randomUUID())
+        .scope(Scope.DAILY)
+        .title("round")
+        .symbol("AAPL")
+        .market(MarketType.US)
+        .previousClosePrice(BigDecimal.TEN)
+        .openAt(openAt)
+        .lockAt(lockAt)
+        .status(open)
+        .build();
+  }
+}
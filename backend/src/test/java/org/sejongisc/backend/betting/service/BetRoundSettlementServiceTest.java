@@ -0,0 +1,129 @@
+package org.sejongisc.backend.betting.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.sejongisc.backend.betting.dto.BetSettlementSummary;
+import org.sejongisc.backend.betting.entity.BetRound;
+import org.sejongisc.backend.betting.entity.MarketType;
+import org.sejongisc.backend.betting.entity.Scope;
+import org.sejongisc.backend.betting.repository.BetRoundRepository;
+import org.sejongisc.backend.betting.repository.UserBetRepository;
+import org.sejongisc.backend.common.exception.CustomException;
+import org.sejongisc.backend.common.exception.ErrorCode;
+import org.sejongisc.backend.point.entity.Account;
+import org.sejongisc.backend.point.entity.AccountName;
+import org.sejongisc.backend.point.service.AccountService;
+import org.sejongisc.backend.stock.entity.PriceData;
+import org.sejongisc.backend.stock.service.LatestPriceService;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class BetRoundSettlementServiceTest {
+
+  private final BetRoundRepository betRoundRepository = mock(BetRoundRepository.class);
+  private final UserBetRepository userBetRepository = mock(UserBetRepository.class);
+  private final AccountService accountService = mock(AccountService.class);
+  private final LatestPriceService latestPriceService = mock(LatestPriceService.class);
+  private final BetSettlementEngine engine = mock(BetSettlementEngine.class);
+  private BetRoundSettlementService service;
+
+  @BeforeEach
+  void setUp() {
+    service = new BetRoundSettlementService(betRoundRepository, userBetRepository, accountService,
+        latestPriceService, engine, mock(BetLeaderboardService.class), mock(BetHistoryService.class),
+        mock(PlatformTransactionManager.class), 10);
+
+    UUID poolId = UUID.randomUUID();
+    given(accountService.getStripedAccountIds(AccountName.BETTING_POOL)).willReturn(List.of(poolId));
+    given(accountService.getAccountByName(AccountName.SYSTEM_ISSUANCE))
+        .willReturn(Account.builder().accountId(UUID.randomUUID()).build());
+    given(accountService.getUserAccountIds(anySet())).willReturn(Map.of());
+    given(userBetRepository.findAllByRoundIn(anyList())).willReturn(List.of());
+  }
+
+  @Test
+  void failingRoundDoesNotBlockOthersAndIsRecorded() {
+    BetRound ok = closedRound("AAPL");
+    BetRound missingPrice = closedRound("MSFT");
+    given(betRoundRepository.findSettlementTargetIds(any(), eq(0), anyInt()))
+        .willReturn(List.of(ok.getBetRoundID(), missingPrice.getBetRoundID()));
+    given(betRoundRepository.findByIdForSettlement(ok.getBetRoundID())).willReturn(Optional.of(ok));
+    given(betRoundRepository.findByIdForSettlement(missingPrice.getBetRoundID())).willReturn(Optional.of(missingPrice));
+    given(latestPriceService.getLatest("AAPL"))
+        .willReturn(Optional.of(PriceData.builder().adjustedClose(BigDecimal.valueOf(110)).build()));
+    given(latestPriceService.getLatest("MSFT")).willReturn(Optional.empty());
+
+    BetSettlementSummary summary = service.settlePending();
+
+    assertThat(summary.settledRoundIds()).containsExactly(ok.getBetRoundID());
+    assertThat(summary.failures()).extracting(BetSettlementSummary.Failure::roundId)
+        .containsExactly(missingPrice.getBetRoundID());
+    assertThat(ok.getSettleAt()).isNotNull();
+    assertThat(missingPrice.getSettleAt()).isNull();
+    verify(betRoundRepository).recordSettleFailure(eq(missingPrice.getBetRoundID()), contains("PRICE_DATA_NOT_FOUND"), any());
+    verify(betRoundRepository, never()).recordSettleFailure(eq(ok.getBetRoundID()), any(), any());
+  }
+
+  @Test
+  void skipsRoundAlreadySettledConcurrently() {
+    BetRound round = closedRound("AAPL");
+    round.settle(BigDecimal.valueOf(90));
+    given(betRoundRepository.findSettlementTargetIds(any(), eq(0), anyInt())).willReturn(List.of(round.getBetRoundID()));
+    given(betRoundRepository.findByIdForSettlement(round.getBetRoundID())).willReturn(Optional.of(round));
+
+    BetSettlementSummary summary = service.settlePending();
+
+    assertThat(summary.failures()).isEmpty();
+    verify(engine, never()).settle(any(), anyList(), any(), any(), any());
+  }
+
+  @Test
+  void adminSettleRejectsRoundBeforeLockTime() {
+    BetRound round = BetRound.builder()
+        .betRoundID(UUID.randomUUID())
+        .scope(Scope.DAILY)
+        .title("AAPL round")
+        .symbol("AAPL")
+        .market(MarketType.US)
+        .previousClosePrice(BigDecimal.valueOf(100))
+        .openAt(LocalDateTime.now().plusHours(1))
+        .lockAt(LocalDateTime.now().plusHours(14))
+        .status(false)
+        .build();
+    given(betRoundRepository.findById(round.getBetRoundID())).willReturn(Optional.of(round));
+
+    assertThatThrownBy(() -> service.settleRound(round.getBetRoundID()))
+        .isInstanceOf(CustomException.class)
+        .extracting("errorCode").isEqualTo(ErrorCode.BET_ROUND_NOT_CLOSED);
+    verify(engine, never()).settle(any(), anyList(), any(), any(), any());
+  }
+
+  private static BetRound closedRound(String symbol) {
+    return BetRound.builder()
+        .betRoundID(UUID.randomUUID())
+        .scope(Scope.DAILY)
+        .title(symbol + " round")
+        .symbol(symbol)
+        .market(MarketType.US)
+        .previousClosePrice(BigDecimal.valueOf(100))
+        .build();
+  }
+}
@@ -0,0 +1,83 @@
+package org.sejongisc.backend.betting.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.sejongisc.backend.betting.entity.BetOption;
+import org.sejongisc.backend.betting.entity.BetRound;
+import org.sejongisc.backend.betting.entity.BetStatus;
+import org.sejongisc.backend.betting.entity.MarketType;
+import org.sejongisc.backend.betting.entity.Scope;
+import org.sejongisc.backend.betting.repository.BetRoundRepository;
+import org.sejongisc.backend.betting.repository.UserBetRepository;
+import org.springframework.data.redis.core.RedisTemplate;
+
+class BetRoundStatsStoreTest {
+
+  @SuppressWarnings("unchecked")
+  private final RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
+  private final UserBetRepository userBetRepository = mock(UserBetRepository.class);
+  private final BetRoundRepository betRoundRepository = mock(BetRoundRepository.class);
+  private final BetRoundStatsStore store = new BetRoundStatsStore(redisTemplate, userBetRepository, betRoundRepository);
+
+  @Test
+  void reappliesDeltaWhenAnotherRebuildWroteFirst() {
+    UUID roundId = UUID.randomUUID();
+    given(redisTemplate.execute(eq(BetRoundStatsStore.INCREMENT), anyList(), any(Object[].class)))
+        .willReturn(-1L, 1L);
+    given(redisTemplate.execute(eq(BetRoundStatsStore.WRITE), anyList(), any(Object[].class))).willReturn(0L);
+    given(userBetRepository.aggregateByOption(roundId, BetStatus.ACTIVE)).willReturn(List.of());
+
+    store.recordAfterCommit(roundId, BetOption.RISE, 100, true);
+
+    verify(redisTemplate, times(2)).execute(eq(BetRoundStatsStore.INCREMENT), anyList(), any(Object[].class));
+    verify(redisTemplate, times(1)).execute(eq(BetRoundStatsStore.WRITE), anyList(), any(Object[].class));
+  }
+
+  @Test
+  void doesNotReapplyDeltaWhenOwnRebuildWins() {
+    UUID roundId = UUID.randomUUID();
+    given(redisTemplate.execute(eq(BetRoundStatsStore.INCREMENT), anyList(), any(Object[].class))).willReturn(-1L);
+    given(redisTemplate.execute(eq(BetRoundStatsStore.WRITE), anyList(), any(Object[].class))).willReturn(1L);
+    given(userBetRepository.aggregateByOption(roundId, BetStatus.ACTIVE)).willReturn(List.of());
+
+    store.recordAfterCommit(roundId, BetOption.FALL, 100, true);
+
+    verify(redisTemplate, times(1)).execute(eq(BetRoundStatsStore.INCREMENT), anyList(), any(Object[].class));
+  }
+
+  @Test
+  void flushWritesRecountedStatsToRoundAndRedis() {
+    BetRound round = BetRound.builder()
+        .betRoundID(UUID.randomUUID())
+        .scope(Scope.DAILY)
+        .title("round")
+        .symbol("AAPL")
+        .market(MarketType.US)
+        .previousClosePrice(BigDecimal.TEN)
+        .status(true)
+        .build();
+    UserBetRepository.OptionStats rise = mock(UserBetRepository.OptionStats.class);
+    given(rise.getOption()).willReturn(BetOption.RISE);
+    given(rise.getBetCount()).willReturn(2L);
+    given(rise.getTotalPoints()).willReturn(300L);
+    given(betRoundRepository.findAllByStatusTrue()).willReturn(List.of(round));
+    given(userBetRepository.aggregateByOption(round.getBetRoundID(), BetStatus.ACTIVE)).willReturn(List.of(rise));
+
+    store.flushOpenRounds();
+
+    verify(betRoundRepository).updateStats(round.getBetRoundID(), 2, 300L, 0, 0L);
+    verify(redisTemplate).execute(eq(BetRoundStatsStore.WRITE), anyList(),
+        eq("upCount"), eq("2"), eq("upPoints"), eq("300"), eq("downCount"), eq("0"), eq("downPoints"), eq("0"),
+        any(), eq("0"));
+  }
+}
@@ -0,0 +1,206 @@
+package org.sejongisc.backend.betting.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.sejongisc.backend.betting.entity.BetOption;
+import org.sejongisc.backend.betting.entity.BetRound;
+import org.sejongisc.backend.betting.entity.BetStatus;
+import org.sejongisc.backend.betting.entity.MarketType;
+import org.sejongisc.backend.betting.entity.Scope;
+import org.sejongisc.backend.betting.entity.UserBet;
+import org.sejongisc.backend.point.dto.AccountEntry;
+import org.sejongisc.backend.point.dto.PointTransactionRequest;
+import org.sejongisc.backend.point.entity.Account;
+import org.sejongisc.backend.point.entity.EntryType;
+import org.sejongisc.backend.point.entity.TransactionReason;
+import org.sejongisc.backend.point.service.AccountService;
+import org.sejongisc.backend.point.service.PointLedgerService;
+
+class BetSettlementEngineTest {
+
+  private static final UUID POOL = UUID.randomUUID();
+  private static final UUID SYSTEM = UUID.randomUUID();
+
+  private final AccountService accountService = mock(AccountService.class);
+  private final PointLedgerService pointLedgerService = mock(PointLedgerService.class);
+  private final BetSettlementEngine engine = new BetSettlementEngine(accountService, pointLedgerService);
+
+  @Test
+  void paysWinnersByOddsAndMovesResidualToSystem() {
+    BetRound round = settledRound(BetOption.RISE, 300, 200);
+    UUID alice = UUID.randomUUID();
+    UUID bob = UUID.randomUUID();
+    UUID carol = UUID.randomUUID();
+    UserBet aliceBet = bet(round, alice, BetOption.RISE, 100, false);
+    UserBet bobBet = bet(round, bob, BetOption.RISE, 200, false);
+    UserBet carolBet = bet(round, carol, BetOption.FALL, 200, false);
+    Map<UUID, UUID> accounts = Map.of(alice, UUID.randomUUID(), bob, UUID.randomUUID(), carol, UUID.randomUUID());
+
+    BetSettlementEngine.SettlementPlan plan = BetSettlementEngine.plan(
+        round, List.of(aliceBet, bobBet, carolBet), accounts, POOL, SYSTEM);
+
+    // 배당 500/300: 100 -> 166, 200 -> 333, 잔여 1
+    assertThat(aliceBet.getPayoutPoints()).isEqualTo(166);
+    assertThat(bobBet.getPayoutPoints()).isEqualTo(333);
+    assertThat(carolBet.getPayoutPoints()).isZero();
+    assertThat(plan.residual()).isEqualTo(1);
+    assertThat(plan.deltas()).containsEntry(POOL, -500L)
+        .containsEntry(SYSTEM, 1L)
+        .containsEntry(accounts.get(alice), 166L)
+        .containsEntry(accounts.get(bob), 333L)
+        .doesNotContainKey(accounts.get(carol));
+    assertThat(plan.deltas().values().stream().mapToLong(Long::longValue).sum()).isZero();
+  }
+
+  @Test
+  void refundsStakesOnDraw() {
+    BetRound round = settledRound(null, 100, 50);
+    UUID alice = UUID.randomUUID();
+    UUID bob = UUID.randomUUID();
+    UserBet aliceBet = bet(round, alice, BetOption.RISE, 100, false);
+    UserBet bobBet = bet(round, bob, BetOption.FALL, 50, false);
+    Map<UUID, UUID> accounts = Map.of(alice, UUID.randomUUID(), bob, UUID.randomUUID());
+
+    BetSettlementEngine.SettlementPlan plan = BetSettlementEngine.plan(
+        round, List.of(aliceBet, bobBet), accounts, POOL, SYSTEM);
+
+    assertThat(plan.postings()).extracting(BetSettlementEngine.Posting::reason)
+        .containsOnly(TransactionReason.BETTING_REFUND);
+    assertThat(plan.residual()).isZero();
+    assertThat(plan.deltas()).containsEntry(POOL, -150L).doesNotContainKey(SYSTEM);
+    assertThat(aliceBet.getBetStatus()).isEqualTo(BetStatus.CLOSED);
+  }
+
+  @Test
+  void freeWinnerIsPaidBySystemAndInactiveBetsAreSkipped() {
+    BetRound round = settledRound(BetOption.FALL, 0, 0);
+    UUID alice = UUID.randomUUID();
+    UUID bob = UUID.randomUUID();
+    UserBet freeBet = bet(round, alice, BetOption.FALL, 0, true);
+    UserBet cancelled = bet(round, bob, BetOption.FALL, 0, true);
+    cancelled.cancel();
+
+    BetSettlementEngine.SettlementPlan plan = BetSettlementEngine.plan(
+        round, List.of(freeBet, cancelled), Map.of(alice, UUID.randomUUID()), POOL, SYSTEM);
+
+    assertThat(plan.postings()).singleElement()
+        .satisfies(posting -> {
+          assertThat(posting.creditAccountId()).isEqualTo(SYSTEM);
+          assertThat(posting.amount()).isEqualTo(BetSettlementEngine.FREE_BET_REWARD);
+        });
+    assertThat(cancelled.getBetStatus()).isEqualTo(BetStatus.DELETED);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void settleRecordsPostingsThroughLedgerServiceWithLockedAccounts() {
+    BetRound round = settledRound(BetOption.RISE, 100, 100);
+    UUID alice = UUID.randomUUID();
+    UUID bob = UUID.randomUUID();
+    Account aliceAccount = account(0);
+    Account bobAccount = account(0);
+    Account pool = account(200);
+    Account system = account(0);
+    given(accountService.lockAccounts(anyCollection())).willReturn(accounts(aliceAccount, bobAccount, pool, system));
+
+    engine.settle(round,
+        List.of(bet(round, alice, BetOption.RISE, 100, false), bet(round, bob, BetOption.FALL, 100, false)),
+        Map.of(alice, aliceAccount.getAccountId(), bob, bobAccount.getAccountId()),
+        pool.getAccountId(), system.getAccountId());
+
+    ArgumentCaptor<List<PointTransactionRequest>> captor = ArgumentCaptor.forClass(List.class);
+    verify(pointLedgerService).processTransactions(captor.capture());
+    assertThat(captor.getValue()).singleElement().satisfies(request -> {
+      assertThat(request.reason()).isEqualTo(TransactionReason.BETTING_REWARD);
+      assertThat(request.refId()).isEqualTo(round.getBetRoundID());
+      assertThat(request.sum()).isZero();
+      assertThat(request.entries()).extracting(AccountEntry::account, AccountEntry::amount, AccountEntry::entryType)
+          .containsExactly(
+              tuple(pool, -200L, EntryType.CREDIT),
+              tuple(aliceAccount, 200L, EntryType.DEBIT));
+    });
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void sweepMovesStripeBalancesIntoPrimaryInOneTransaction() {
+    Account primary = account(50);
+    Account positive = account(30);
+    Account negative = account(-10);
+    Account empty = account(0);
+    List<UUID> stripeIds = Stream.of(primary, positive, negative, empty).map(Account::getAccountId).toList();
+    given(accountService.lockAccounts(stripeIds)).willReturn(accounts(primary, positive, negative, empty));
+
+    long moved = engine.sweep(primary.getAccountId(), stripeIds);
+
+    assertThat(moved).isEqualTo(20);
+    ArgumentCaptor<List<PointTransactionRequest>> captor = ArgumentCaptor.forClass(List.class);
+    verify(pointLedgerService).processTransactions(captor.capture());
+    assertThat(captor.getValue()).singleElement().satisfies(request -> {
+      assertThat(request.reason()).isEqualTo(TransactionReason.BETTING_POOL_SWEEP);
+      assertThat(request.sum()).isZero();
+      assertThat(request.entries()).extracting(AccountEntry::account, AccountEntry::amount)
+          .containsExactly(
+              tuple(positive, -30L),
+              tuple(negative, 10L),
+              tuple(primary, 20L));
+    });
+  }
+
+  @Test
+  void sweepSkipsWhenPoolIsNotStriped() {
+    assertThat(engine.sweep(POOL, List.of(POOL))).isZero();
+    verify(pointLedgerService, never()).processTransactions(anyList());
+  }
+
+  private static Account account(long balance) {
+    return Account.builder().accountId(UUID.randomUUID()).balance(balance).build();
+  }
+
+  private static Map<UUID, Account> accounts(Account... accounts) {
+    return Stream.of(accounts).collect(Collectors.toMap(Account::getAccountId, Function.identity()));
+  }
+
+  private static BetRound settledRound(BetOption result, long upPoints, long downPoints) {
+    return BetRound.builder()
+        .betRoundID(UUID.randomUUID())
+        .scope(Scope.DAILY)
+        .title("test")
+        .symbol("AAPL")
+        .market(MarketType.US)
+        .previousClosePrice(BigDecimal.TEN)
+        .settleAt(LocalDateTime.now())
+        .resultOption(result)
+        .upTotalPoints(upPoints)
+        .downTotalPoints(downPoints)
+        .build();
+  }
+
+  private static UserBet bet(BetRound round, UUID userId, BetOption option, int stake, boolean free) {
+    return UserBet.builder()
+        .round(round)
+        .userId(userId)
+        .option(option)
+        .isFree(free)
+        .stakePoints(stake)
+        .betStatus(BetStatus.ACTIVE)
+        .build();
+  }
+}
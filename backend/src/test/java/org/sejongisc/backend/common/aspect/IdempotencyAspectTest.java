@@ -0,0 +1,146 @@
+package org.sejongisc.backend.common.aspect;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.sejongisc.backend.common.annotation.Idempotent;
+import org.sejongisc.backend.common.auth.dto.CustomUserDetails;
+import org.sejongisc.backend.common.exception.CustomException;
+import org.sejongisc.backend.common.exception.ErrorCode;
+import org.sejongisc.backend.user.entity.User;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+class IdempotencyAspectTest {
+
+  private final Map<String, Object> store = new HashMap<>();
+  private final Idempotent idempotent = Target.class.getDeclaredMethods()[0].getAnnotation(Idempotent.class);
+  private ValueOperations<String, Object> ops;
+  private IdempotencyAspect aspect;
+  private MockHttpServletRequest request;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
+    ops = mock(ValueOperations.class);
+    given(redisTemplate.opsForValue()).willReturn(ops);
+    given(ops.setIfAbsent(anyString(), any(), any(Duration.class)))
+        .willAnswer(inv -> store.putIfAbsent(inv.getArgument(0), inv.getArgument(1)) == null);
+    given(ops.get(anyString())).willAnswer(inv -> store.get(inv.getArgument(0)));
+    doAnswer(inv -> store.put(inv.getArgument(0), inv.getArgument(1)))
+        .when(ops).set(anyString(), any(), any(Duration.class));
+    given(redisTemplate.delete(anyString())).willAnswer(inv -> store.remove(inv.getArgument(0)) != null);
+    aspect = new IdempotencyAspect(redisTemplate, new ObjectMapper());
+
+    request = new MockHttpServletRequest();
+    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    CustomUserDetails user = new CustomUserDetails(User.builder().userId(UUID.randomUUID()).name("tester").build());
+    SecurityContextHolder.getContext().setAuthentication(
+        new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+  }
+
+  @AfterEach
+  void tearDown() {
+    RequestContextHolder.resetRequestAttributes();
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  void replaysStoredResponseWithoutProceeding() throws Throwable {
+    request.addHeader(IdempotencyAspect.HEADER, "bet-1");
+    ProceedingJoinPoint joinPoint = joinPoint("RISE");
+
+    Object first = aspect.handle(joinPoint, idempotent);
+    Object second = aspect.handle(joinPoint, idempotent);
+
+    verify(joinPoint, times(1)).proceed();
+    assertThat(((ResponseEntity<?>) second).getBody()).isEqualTo(((ResponseEntity<?>) first).getBody());
+    assertThat(((ResponseEntity<?>) second).getHeaders().getFirst(IdempotencyAspect.REPLAYED_HEADER)).isEqualTo("true");
+  }
+
+  @Test
+  void rejectsSameKeyWithDifferentPayload() throws Throwable {
+    request.addHeader(IdempotencyAspect.HEADER, "bet-1");
+    aspect.handle(joinPoint("RISE"), idempotent);
+
+    assertThatThrownBy(() -> aspect.handle(joinPoint("FALL"), idempotent))
+        .isInstanceOf(CustomException.class)
+        .extracting("errorCode").isEqualTo(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+  }
+
+  @Test
+  void failedRequestReleasesKey() throws Throwable {
+    request.addHeader(IdempotencyAspect.HEADER, "bet-1");
+    ProceedingJoinPoint failing = joinPoint("RISE");
+    given(failing.proceed()).willThrow(new CustomException(ErrorCode.BET_ROUND_CLOSED));
+
+    assertThatThrownBy(() -> aspect.handle(failing, idempotent)).isInstanceOf(CustomException.class);
+    assertThat(store).isEmpty();
+  }
+
+  @Test
+  void proceedsWhenStoredStateCannotBeRead() throws Throwable {
+    request.addHeader(IdempotencyAspect.HEADER, "bet-1");
+    ProceedingJoinPoint joinPoint = joinPoint("RISE");
+    aspect.handle(joinPoint, idempotent);
+    given(ops.get(anyString())).willThrow(new RedisConnectionFailureException("connection refused"));
+
+    Object second = aspect.handle(joinPoint, idempotent);
+
+    verify(joinPoint, times(2)).proceed();
+    assertThat(((ResponseEntity<?>) second).getHeaders().containsKey(IdempotencyAspect.REPLAYED_HEADER)).isFalse();
+  }
+
+  @Test
+  void proceedsWithoutHeader() throws Throwable {
+    ProceedingJoinPoint joinPoint = joinPoint("RISE");
+
+    aspect.handle(joinPoint, idempotent);
+    aspect.handle(joinPoint, idempotent);
+
+    verify(joinPoint, times(2)).proceed();
+    assertThat(store).isEmpty();
+  }
+
+  private static ProceedingJoinPoint joinPoint(String option) throws Throwable {
+    ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+    MethodSignature signature = mock(MethodSignature.class);
+    given(signature.getMethod()).willReturn(Target.class.getDeclaredMethods()[0]);
+    given(joinPoint.getSignature()).willReturn(signature);
+    given(joinPoint.getArgs()).willReturn(new Object[]{option});
+    given(joinPoint.proceed()).willAnswer(inv -> ResponseEntity.ok(Map.of("option", option, "id", UUID.randomUUID().toString())));
+    return joinPoint;
+  }
+
+  static class Target {
+    @Idempotent
+    ResponseEntity<Map<String, String>> place(String option) {
+      return ResponseEntity.ok(Map.of("option", option));
+    }
+  }
+}
@@ -0,0 +1,34 @@
+package org.sejongisc.backend.point.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.sejongisc.backend.point.entity.AccountName;
+
+class AccountStripeTest {
+
+  @Test
+  void sameUserAlwaysMapsToSameStripe() {
+    UUID userId = UUID.randomUUID();
+
+    int stripe = AccountService.stripeOf(AccountName.BETTING_POOL, userId);
+
+    assertThat(AccountService.stripeOf(AccountName.BETTING_POOL, userId)).isEqualTo(stripe);
+    assertThat(stripe).isBetween(0, AccountName.BETTING_POOL.stripes() - 1);
+  }
+
+  @Test
+  void usersSpreadEvenlyAcrossStripes() {
+    int stripes = AccountName.BETTING_POOL.stripes();
+    int[] counts = new int[stripes];
+    int users = 16_000;
+    for (int i = 0; i < users; i++) {
+      counts[AccountService.stripeOf(AccountName.BETTING_POOL, UUID.randomUUID())]++;
+    }
+
+    for (int count : counts) {
+      assertThat(count).isBetween(users / stripes * 8 / 10, users / stripes * 12 / 10);
+    }
+  }
+}
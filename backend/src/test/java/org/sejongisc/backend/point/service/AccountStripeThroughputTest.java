@@ -0,0 +1,182 @@
+package org.sejongisc.backend.point.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.sejongisc.backend.point.dto.AccountEntry;
+import org.sejongisc.backend.point.entity.Account;
+import org.sejongisc.backend.point.entity.AccountName;
+import org.sejongisc.backend.point.entity.AccountType;
+import org.sejongisc.backend.point.entity.TransactionReason;
+import org.sejongisc.backend.point.repository.AccountRepository;
+import org.sejongisc.backend.point.repository.LedgerEntryRepository;
+import org.sejongisc.backend.point.repository.TransactionalRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * 베팅 풀 계정 분할(stripe) 전후의 베팅 처리량을 실제 PostgreSQL + @Version 낙관적 락으로 비교 (Docker 가 없으면 건너뜀)
+ * - 베팅 1건 = BettingService 와 같은 PointLedgerService.processTransaction (사용자 → 풀 계정) 트랜잭션
+ * - 스레드마다 서로 다른 사용자를 쓰므로 충돌은 풀 계정 행에서만 발생하고, 충돌 시 트랜잭션 전체를 재시도
+ */
+@DataJpaTest(properties = {
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.flyway.enabled=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AccountStripeThroughputTest {
+
+  @Container
+  @ServiceConnection
+  static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+  // Hikari 기본 풀(10) 안에서 동시 실행
+  private static final int THREADS = 8;
+  private static final int USERS_PER_THREAD = 4;
+  private static final int BETS_PER_THREAD = 50;
+  private static final long STAKE = 10L;
+  private static final UUID ROUND_ID = UUID.randomUUID();
+
+  @Configuration
+  @EnableJpaAuditing
+  @EntityScan(basePackageClasses = Account.class)
+  @EnableJpaRepositories(basePackageClasses = AccountRepository.class)
+  @Import({AccountService.class, PointLedgerService.class})
+  static class Config {
+  }
+
+  @Autowired
+  private AccountService accountService;
+  @Autowired
+  private PointLedgerService pointLedgerService;
+  @Autowired
+  private AccountRepository accountRepository;
+  @Autowired
+  private LedgerEntryRepository ledgerEntryRepository;
+  @Autowired
+  private TransactionalRepository transactionalRepository;
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  private TransactionTemplate transactionTemplate;
+  private List<UUID> userIds;
+
+  @BeforeEach
+  void setUp() {
+    transactionTemplate = new TransactionTemplate(transactionManager);
+    userIds = new ArrayList<>();
+    for (int i = 0; i < THREADS * USERS_PER_THREAD; i++) {
+      userIds.add(UUID.randomUUID());
+    }
+  }
+
+  @Test
+  void stripedPoolCommitsMoreBetsPerSecond() throws Exception {
+    // 워밍업 (커넥션 / JIT)
+    run(userId -> accountService.getStripedAccount(AccountName.BETTING_POOL, userId));
+
+    // 분할 전: 모든 베팅이 하나의 풀 계정 행을 갱신
+    Result singleRow = run(userId -> accountRepository.findByAccountNameAndStripe(AccountName.BETTING_POOL, 0)
+        .orElseThrow());
+    Result striped = run(userId -> accountService.getStripedAccount(AccountName.BETTING_POOL, userId));
+
+    String measured = String.format("1 stripe: %.1f bets/s (재시도 %d), %d stripes: %.1f bets/s (재시도 %d)",
+        singleRow.betsPerSecond(), singleRow.retries(),
+        AccountName.BETTING_POOL.stripes(), striped.betsPerSecond(), striped.retries());
+    assertThat(striped.retries()).as(measured).isLessThan(singleRow.retries());
+    assertThat(striped.betsPerSecond()).as(measured).isGreaterThan(singleRow.betsPerSecond());
+  }
+
+  @Test
+  void summedBalanceCoversAllStripes() throws Exception {
+    run(userId -> accountService.getStripedAccount(AccountName.BETTING_POOL, userId));
+
+    long totalStake = (long) THREADS * BETS_PER_THREAD * STAKE;
+    assertThat(accountService.getBalanceByName(AccountName.BETTING_POOL)).isEqualTo(totalStake);
+    assertThat(accountService.getBalanceByName(AccountName.USER_ACCOUNT)).isEqualTo(-totalStake);
+  }
+
+  /**
+   * 초기화한 원장에 THREADS 개 스레드로 베팅을 동시에 기록하고 처리량 / 재시도 횟수를 측정
+   *
+   * @param poolAccount 사용자 ID → 베팅 금액을 받을 풀 하위 계정
+   */
+  private Result run(Function<UUID, Account> poolAccount) throws Exception {
+    ledgerEntryRepository.deleteAllInBatch();
+    transactionalRepository.deleteAllInBatch();
+    accountRepository.deleteAllInBatch();
+    accountService.initSystemAccount(AccountName.BETTING_POOL, AccountType.PLATFORM);
+    accountService.createUserAccounts(userIds);
+
+    AtomicLong retries = new AtomicLong();
+    CountDownLatch start = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int t = 0; t < THREADS; t++) {
+        List<UUID> ownUsers = userIds.subList(t * USERS_PER_THREAD, (t + 1) * USERS_PER_THREAD);
+        futures.add(executor.submit(() -> {
+          start.await();
+          for (int i = 0; i < BETS_PER_THREAD; i++) {
+            UUID userId = ownUsers.get(i % USERS_PER_THREAD);
+            while (true) {
+              try {
+                // 재시도마다 새 트랜잭션에서 계정을 다시 읽어 최신 버전으로 갱신
+                transactionTemplate.executeWithoutResult(status -> pointLedgerService.processTransaction(
+                    TransactionReason.BETTING_STAKE,
+                    ROUND_ID,
+                    AccountEntry.credit(accountService.getUserAccount(userId), STAKE),
+                    AccountEntry.debit(poolAccount.apply(userId), STAKE)));
+                break;
+              } catch (ObjectOptimisticLockingFailureException e) {
+                retries.incrementAndGet();
+              }
+            }
+          }
+          return null;
+        }));
+      }
+
+      long startedAt = System.nanoTime();
+      start.countDown();
+      for (Future<?> future : futures) {
+        future.get(2, TimeUnit.MINUTES);
+      }
+      double seconds = (System.nanoTime() - startedAt) / 1e9;
+      return new Result(THREADS * BETS_PER_THREAD / seconds, retries.get());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private record Result(double betsPerSecond, long retries) {
+  }
+}
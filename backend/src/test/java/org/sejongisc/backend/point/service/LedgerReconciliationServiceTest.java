@@ -0,0 +1,181 @@
+package org.sejongisc.backend.point.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.sejongisc.backend.common.sse.SseService;
+import org.sejongisc.backend.point.dto.LedgerReconciliationSummary;
+import org.sejongisc.backend.point.entity.AccountBalanceCheckpoint;
+import org.sejongisc.backend.point.repository.AccountBalanceCheckpointRepository;
+import org.sejongisc.backend.point.repository.AccountRepository;
+import org.sejongisc.backend.point.repository.LedgerEntryRepository;
+import org.sejongisc.backend.point.repository.LedgerEntryRepository.AccountLedgerSnapshot;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class LedgerReconciliationServiceTest {
+
+  private final AccountRepository accountRepository = mock(AccountRepository.class);
+  private final LedgerEntryRepository ledgerEntryRepository = mock(LedgerEntryRepository.class);
+  private final AccountBalanceCheckpointRepository checkpointRepository = mock(AccountBalanceCheckpointRepository.class);
+  private final SseService sseService = mock(SseService.class);
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private LedgerReconciliationService service;
+
+  @BeforeEach
+  void setUp() {
+    service = new LedgerReconciliationService(accountRepository, ledgerEntryRepository, checkpointRepository,
+        sseService, meterRegistry, mock(PlatformTransactionManager.class), 2, 2, Duration.ofMinutes(5));
+  }
+
+  @AfterEach
+  void tearDown() {
+    service.shutdown();
+  }
+
+  @Test
+  void advancesCheckpointsAndReportsDrift() {
+    UUID balanced = UUID.randomUUID();
+    UUID drifted = UUID.randomUUID();
+    UUID fresh = UUID.randomUUID();
+    AccountBalanceCheckpoint balancedCheckpoint = checkpoint(balanced, 100L);
+    AccountBalanceCheckpoint driftedCheckpoint = checkpoint(drifted, 50L);
+
+    given(accountRepository.findAllAccountIds()).willReturn(List.of(balanced, drifted, fresh));
+    given(checkpointRepository.findAllById(anyIterable())).willAnswer(inv -> {
+      Iterable<UUID> ids = inv.getArgument(0);
+      return List.of(balancedCheckpoint, driftedCheckpoint).stream()
+          .filter(checkpoint -> contains(ids, checkpoint.getAccountId()))
+          .toList();
+    });
+    List<AccountLedgerSnapshot> snapshots = List.of(
+        new Snapshot(balanced, 130L, 100L, 20L, 10L),
+        new Snapshot(drifted, 80L, 50L, 20L, 0L),
+        new Snapshot(fresh, 40L, 0L, 40L, 0L));
+    given(ledgerEntryRepository.findLedgerSnapshots(anyCollection(), any())).willAnswer(inv -> {
+      Collection<UUID> ids = inv.getArgument(0);
+      return snapshots.stream().filter(snapshot -> ids.contains(snapshot.getAccountId())).toList();
+    });
+
+    LedgerReconciliationSummary summary = service.reconcile();
+
+    assertThat(summary.checkedAccounts()).isEqualTo(3);
+    assertThat(summary.failedAccounts()).isZero();
+    assertThat(summary.totalDrift()).isEqualTo(10L);
+    assertThat(summary.drifts()).singleElement()
+        .satisfies(drift -> {
+          assertThat(drift.accountId()).isEqualTo(drifted);
+          assertThat(drift.drift()).isEqualTo(10L);
+        });
+
+    // cutoff 이전 분개만 체크포인트에 누적
+    assertThat(balancedCheckpoint.getLedgerBalance()).isEqualTo(120L);
+    assertThat(balancedCheckpoint.getCheckpointAt()).isEqualTo(summary.cutoff());
+    assertThat(balancedCheckpoint.getDrift()).isZero();
+    assertThat(driftedCheckpoint.getLedgerBalance()).isEqualTo(70L);
+    assertThat(driftedCheckpoint.getDrift()).isEqualTo(10L);
+    // 체크포인트가 없던 계정은 새로 생성
+    verify(checkpointRepository).saveAll(argThat((List<AccountBalanceCheckpoint> created) ->
+        created.size() == 1
+            && created.get(0).getAccountId().equals(fresh)
+            && created.get(0).getLedgerBalance() == 40L));
+
+    assertThat(meterRegistry.get("point.ledger.drift.accounts").gauge().value()).isEqualTo(1.0);
+    assertThat(meterRegistry.get("point.ledger.drift.amount").gauge().value()).isEqualTo(10.0);
+    verify(sseService).send(anyString(), eq(LedgerReconciliationService.DRIFT_EVENT), eq(summary));
+  }
+
+  @Test
+  void failingChunkDoesNotBlockOthers() {
+    UUID ok = UUID.randomUUID();
+    UUID broken = UUID.randomUUID();
+    UUID other = UUID.randomUUID();
+    given(accountRepository.findAllAccountIds()).willReturn(List.of(ok, other, broken));
+    given(checkpointRepository.findAllById(anyIterable())).willReturn(List.of());
+    given(ledgerEntryRepository.findLedgerSnapshots(anyCollection(), any())).willAnswer(inv -> {
+      Collection<UUID> ids = inv.getArgument(0);
+      if (ids.contains(broken)) {
+        throw new IllegalStateException("DB 오류");
+      }
+      return List.of(new Snapshot(ok, 10L, 0L, 10L, 0L), new Snapshot(other, 0L, 0L, 0L, 0L));
+    });
+
+    LedgerReconciliationSummary summary = service.reconcile();
+
+    assertThat(summary.checkedAccounts()).isEqualTo(2);
+    assertThat(summary.failedAccounts()).isEqualTo(1);
+    assertThat(summary.drifts()).isEmpty();
+    assertThat(meterRegistry.get("point.ledger.reconcile.failed.accounts").counter().count()).isEqualTo(1.0);
+    verify(sseService, never()).send(anyString(), anyString(), any());
+  }
+
+  @Test
+  void driftIsBalanceMinusLedgerSinceCheckpoint() {
+    assertThat(LedgerReconciliationService.driftOf(new Snapshot(UUID.randomUUID(), 100L, 60L, 30L, 10L))).isZero();
+    assertThat(LedgerReconciliationService.driftOf(new Snapshot(UUID.randomUUID(), 90L, 60L, 30L, 10L))).isEqualTo(-10L);
+  }
+
+  private static AccountBalanceCheckpoint checkpoint(UUID accountId, long ledgerBalance) {
+    return AccountBalanceCheckpoint.builder()
+        .accountId(accountId)
+        .ledgerBalance(ledgerBalance)
+        .checkpointAt(LocalDateTime.now().minusDays(1))
+        .checkedAt(LocalDateTime.now().minusDays(1))
+        .build();
+  }
+
+  private static boolean contains(Iterable<UUID> ids, UUID id) {
+    for (UUID candidate : ids) {
+      if (candidate.equals(id)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private record Snapshot(UUID accountId, long balance, long checkpointBalance, long settledDelta, long recentDelta)
+      implements AccountLedgerSnapshot {
+
+    @Override
+    public UUID getAccountId() {
+      return accountId;
+    }
+
+    @Override
+    public Long getBalance() {
+      return balance;
+    }
+
+    @Override
+    public Long getCheckpointBalance() {
+      return checkpointBalance;
+    }
+
+    @Override
+    public Long getSettledDelta() {
+      return settledDelta;
+    }
+
+    @Override
+    public Long getRecentDelta() {
+      return recentDelta;
+    }
+  }
+}
@@ -0,0 +1,126 @@
+package org.sejongisc.backend.point.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.sejongisc.backend.common.exception.CustomException;
+import org.sejongisc.backend.common.exception.ErrorCode;
+import org.sejongisc.backend.point.dto.AccountEntry;
+import org.sejongisc.backend.point.dto.PointTransactionRequest;
+import org.sejongisc.backend.point.entity.Account;
+import org.sejongisc.backend.point.entity.AccountName;
+import org.sejongisc.backend.point.entity.AccountType;
+import org.sejongisc.backend.point.entity.LedgerEntry;
+import org.sejongisc.backend.point.entity.PointTransaction;
+import org.sejongisc.backend.point.entity.TransactionReason;
+import org.sejongisc.backend.point.repository.LedgerEntryRepository;
+import org.sejongisc.backend.point.repository.TransactionalRepository;
+
+class PointLedgerServiceTest {
+
+  private TransactionalRepository transactionalRepository;
+  private LedgerEntryRepository ledgerEntryRepository;
+  private PointLedgerService service;
+
+  @BeforeEach
+  void setUp() {
+    transactionalRepository = mock(TransactionalRepository.class);
+    ledgerEntryRepository = mock(LedgerEntryRepository.class);
+    service = new PointLedgerService(transactionalRepository, ledgerEntryRepository);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void batchWritesAllRowsOnceAndAppliesNetDeltaPerAccount() {
+    Account system = spy(account(AccountName.SYSTEM_ISSUANCE, AccountType.SYSTEM, 0L));
+    Account alice = spy(account(AccountName.USER_ACCOUNT, AccountType.USER, 0L));
+    Account bob = spy(account(AccountName.USER_ACCOUNT, AccountType.USER, 0L));
+
+    service.processTransactions(List.of(
+      PointTransactionRequest.of(TransactionReason.SIGNUP_REWARD, UUID.randomUUID(),
+        AccountEntry.credit(system, 100L), AccountEntry.debit(alice, 100L)),
+      PointTransactionRequest.of(TransactionReason.SIGNUP_REWARD, UUID.randomUUID(),
+        AccountEntry.credit(system, 100L), AccountEntry.debit(bob, 100L)),
+      PointTransactionRequest.of(TransactionReason.MIGRATION, UUID.randomUUID(),
+        AccountEntry.credit(system, 50L), AccountEntry.debit(alice, 50L))
+    ));
+
+    ArgumentCaptor<List<PointTransaction>> transactions = ArgumentCaptor.forClass(List.class);
+    ArgumentCaptor<List<LedgerEntry>> entries = ArgumentCaptor.forClass(List.class);
+    verify(transactionalRepository, times(1)).saveAll(transactions.capture());
+    verify(ledgerEntryRepository, times(1)).saveAll(entries.capture());
+    assertThat(transactions.getValue()).hasSize(3);
+    assertThat(entries.getValue()).hasSize(6);
+
+    verify(system, times(1)).updateBalance(-250L);
+    verify(alice, times(1)).updateBalance(150L);
+    verify(bob, times(1)).updateBalance(100L);
+    assertThat(system.getBalance() + alice.getBalance() + bob.getBalance()).isZero();
+  }
+
+  @Test
+  void offsettingEntriesLeaveBalanceUntouched() {
+    Account alice = spy(account(AccountName.USER_ACCOUNT, AccountType.USER, 100L));
+    Account pool = spy(account(AccountName.BETTING_POOL, AccountType.PLATFORM, 0L));
+
+    service.processTransactions(List.of(
+      PointTransactionRequest.of(TransactionReason.BETTING_STAKE, UUID.randomUUID(),
+        AccountEntry.credit(alice, 30L), AccountEntry.debit(pool, 30L)),
+      PointTransactionRequest.of(TransactionReason.BETTING_CANCEL, UUID.randomUUID(),
+        AccountEntry.credit(pool, 30L), AccountEntry.debit(alice, 30L))
+    ));
+
+    verify(alice, never()).updateBalance(any());
+    verify(pool, never()).updateBalance(any());
+    assertThat(alice.getBalance()).isEqualTo(100L);
+  }
+
+  @Test
+  void unbalancedRequestRejectsWholeBatchBeforeWriting() {
+    Account system = spy(account(AccountName.SYSTEM_ISSUANCE, AccountType.SYSTEM, 0L));
+    Account alice = spy(account(AccountName.USER_ACCOUNT, AccountType.USER, 0L));
+
+    assertThatThrownBy(() -> service.processTransactions(List.of(
+      PointTransactionRequest.of(TransactionReason.SIGNUP_REWARD, UUID.randomUUID(),
+        AccountEntry.credit(system, 100L), AccountEntry.debit(alice, 100L)),
+      PointTransactionRequest.of(TransactionReason.SIGNUP_REWARD, UUID.randomUUID(),
+        AccountEntry.credit(system, 100L), AccountEntry.debit(alice, 90L))
+    )))
+      .isInstanceOf(CustomException.class)
+      .extracting("errorCode")
+      .isEqualTo(ErrorCode.POINT_TRANSACTION_TOTAL_MISMATCH);
+
+    verify(transactionalRepository, never()).saveAll(anyList());
+    verify(ledgerEntryRepository, never()).saveAll(anyList());
+    verify(alice, never()).updateBalance(any());
+  }
+
+  @Test
+  void emptyBatchIsNoOp() {
+    service.processTransactions(List.of());
+
+    verify(transactionalRepository, never()).saveAll(anyList());
+    verify(ledgerEntryRepository, never()).saveAll(anyList());
+  }
+
+  private static Account account(AccountName name, AccountType type, long balance) {
+    return Account.builder()
+      .accountId(UUID.randomUUID())
+      .accountName(name)
+      .type(type)
+      .balance(balance)
+      .build();
+  }
+}
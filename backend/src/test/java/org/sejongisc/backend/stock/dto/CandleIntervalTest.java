@@ -0,0 +1,29 @@
+package org.sejongisc.backend.stock.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+import org.sejongisc.backend.common.exception.CustomException;
+
+class CandleIntervalTest {
+
+  // 2026-10-15 (목) 13:47:12
+  private final LocalDateTime time = LocalDateTime.of(2026, 10, 15, 13, 47, 12);
+
+  @Test
+  void bucketStartAlignsToIntervalBoundary() {
+    assertThat(CandleInterval.H1.bucketStart(time)).isEqualTo(LocalDateTime.of(2026, 10, 15, 13, 0));
+    assertThat(CandleInterval.H4.bucketStart(time)).isEqualTo(LocalDateTime.of(2026, 10, 15, 12, 0));
+    assertThat(CandleInterval.D1.bucketStart(time)).isEqualTo(LocalDateTime.of(2026, 10, 15, 0, 0));
+    assertThat(CandleInterval.W1.bucketStart(time)).isEqualTo(LocalDateTime.of(2026, 10, 12, 0, 0));
+  }
+
+  @Test
+  void parsesIntervalCodes() {
+    assertThat(CandleInterval.from("4h")).isEqualTo(CandleInterval.H4);
+    assertThat(CandleInterval.from("1W")).isEqualTo(CandleInterval.W1);
+    assertThatThrownBy(() -> CandleInterval.from("15m")).isInstanceOf(CustomException.class);
+  }
+}
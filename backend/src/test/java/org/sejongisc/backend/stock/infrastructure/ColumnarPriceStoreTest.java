@@ -0,0 +1,154 @@
+package org.sejongisc.backend.stock.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.sejongisc.backend.stock.entity.PriceData;
+
+class ColumnarPriceStoreTest {
+
+  private static final LocalDate START = LocalDate.of(2024, 1, 1);
+
+  @TempDir
+  Path root;
+
+  private ColumnarPriceStore store;
+
+  @BeforeEach
+  void setUp() {
+    store = new ColumnarPriceStore(true, root.toString());
+  }
+
+  @Test
+  void roundTripsValuesAndMissingMarkers() {
+    List<PriceData> rows = List.of(
+        row(START, 10.5, 1_000L),
+        PriceData.builder().ticker("AAPL").date(START.plusDays(1))
+            .open(new BigDecimal("11")).high(new BigDecimal("12")).low(new BigDecimal("10"))
+            .build());
+    store.append("AAPL", rows, START.plusDays(1));
+
+    PriceSlice slice = store.slice("AAPL", START, START.plusDays(1)).orElseThrow();
+
+    assertThat(slice.size()).isEqualTo(2);
+    assertThat(slice.date(0)).isEqualTo(START);
+    assertThat(slice.open(0)).isEqualTo(10.5);
+    assertThat(slice.close(0)).isEqualTo(10.5);
+    assertThat(slice.volume(0)).isEqualTo(1_000L);
+    assertThat(slice.close(1)).isNaN();
+    assertThat(slice.adjustedClose(1)).isNaN();
+    assertThat(slice.volume(1)).isEqualTo(-1L);
+
+    // 새 인스턴스(디스크에서 다시 매핑)도 같은 값을 읽음
+    PriceSlice reopened = new ColumnarPriceStore(true, root.toString())
+        .slice("AAPL", START, START.plusDays(1)).orElseThrow();
+    assertThat(reopened.size()).isEqualTo(2);
+    assertThat(reopened.high(1)).isEqualTo(12.0);
+  }
+
+  @Test
+  void sliceBeyondSyncedThroughFallsBackToDatabase() {
+    store.append("AAPL", rows(START, 5), START.plusDays(4));
+
+    assertThat(store.slice("AAPL", START, START.plusDays(4))).isPresent();
+    assertThat(store.slice("AAPL", START, START.plusDays(5))).isEmpty();
+    assertThat(store.slice("MSFT", START, START)).isEmpty();
+  }
+
+  @Test
+  void appendInPlaceAddsOnlyNewerRowsAndAdvancesSyncedThrough() throws Exception {
+    store.append("AAPL", rows(START, 5), START.plusDays(4));
+    long fileSize = Files.size(root.resolve("AAPL.col"));
+
+    // 이미 있는 일자(START+3, START+4)는 무시하고 이후 일자만 추가
+    store.append("AAPL", rows(START.plusDays(3), 5), START.plusDays(7));
+
+    assertThat(Files.size(root.resolve("AAPL.col"))).isEqualTo(fileSize);
+    assertThat(store.lastDate("AAPL")).contains(START.plusDays(7));
+    PriceSlice slice = store.slice("AAPL", START, START.plusDays(7)).orElseThrow();
+    assertThat(slice.size()).isEqualTo(8);
+    for (int i = 0; i < slice.size(); i++) {
+      assertThat(slice.date(i)).isEqualTo(START.plusDays(i));
+    }
+    assertThat(slice.close(7)).isEqualTo(price(START.plusDays(7)));
+  }
+
+  @Test
+  void growsByRewritingWhenCapacityIsExceeded() throws Exception {
+    store.append("AAPL", rows(START, 200), START.plusDays(199));
+    long smallFile = Files.size(root.resolve("AAPL.col"));
+
+    store.append("AAPL", rows(START.plusDays(200), 300), START.plusDays(499));
+
+    assertThat(Files.size(root.resolve("AAPL.col"))).isGreaterThan(smallFile);
+    PriceSlice slice = store.slice("AAPL", START, START.plusDays(499)).orElseThrow();
+    assertThat(slice.size()).isEqualTo(500);
+    assertThat(slice.date(0)).isEqualTo(START);
+    assertThat(slice.close(199)).isEqualTo(price(START.plusDays(199)));
+    assertThat(slice.close(499)).isEqualTo(price(START.plusDays(499)));
+    assertThat(slice.volume(250)).isEqualTo(250L);
+    try (var files = Files.list(root)) {
+      assertThat(files.filter(path -> path.toString().endsWith(".tmp"))).isEmpty();
+    }
+  }
+
+  @Test
+  void checksumIgnoresMissingValues() {
+    store.append("AAPL", List.of(
+        row(START, 10.0, 100L),
+        PriceData.builder().ticker("AAPL").date(START.plusDays(1)).build(),
+        row(START.plusDays(2), 12.0, 300L)), START.plusDays(2));
+
+    ColumnarPriceStore.Checksum checksum = store.checksum("AAPL").orElseThrow();
+
+    assertThat(checksum.syncedThrough()).isEqualTo(START.plusDays(2));
+    assertThat(checksum.rowCount()).isEqualTo(3);
+    assertThat(checksum.closeSum()).isEqualTo(22.0);
+    assertThat(checksum.volumeSum()).isEqualTo(400L);
+  }
+
+  @Test
+  void evictRemovesFile() {
+    store.append("AAPL", rows(START, 3), START.plusDays(2));
+
+    store.evict("AAPL");
+
+    assertThat(Files.exists(root.resolve("AAPL.col"))).isFalse();
+    assertThat(store.slice("AAPL", START, START)).isEmpty();
+  }
+
+  private static List<PriceData> rows(LocalDate from, int count) {
+    List<PriceData> rows = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      LocalDate date = from.plusDays(i);
+      rows.add(row(date, price(date), date.toEpochDay() - START.toEpochDay()));
+    }
+    return rows;
+  }
+
+  private static double price(LocalDate date) {
+    return 100 + (date.toEpochDay() - START.toEpochDay()) * 0.5;
+  }
+
+  private static PriceData row(LocalDate date, double price, long volume) {
+    BigDecimal value = BigDecimal.valueOf(price);
+    return PriceData.builder()
+        .ticker("AAPL")
+        .date(date)
+        .open(value)
+        .high(value)
+        .low(value)
+        .closePrice(value)
+        .adjustedClose(value)
+        .volume(volume)
+        .build();
+  }
+}
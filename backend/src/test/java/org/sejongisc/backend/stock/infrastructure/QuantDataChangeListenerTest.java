@@ -0,0 +1,65 @@
+package org.sejongisc.backend.stock.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.sejongisc.backend.stock.event.QuantDataChangedEvent;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+class QuantDataChangeListenerTest {
+
+  private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+  private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+  private final QuantDataChangeListener listener =
+      new QuantDataChangeListener(new DataSourceProperties(), eventPublisher, jdbcTemplate, false);
+
+  @Test
+  void firstPollOnlyRecordsBaseline() {
+    given(jdbcTemplate.queryForObject(anyString(), eq(String.class))).willReturn("2026-03-02");
+
+    listener.pollWatermarks();
+    listener.pollWatermarks();
+
+    verify(eventPublisher, never()).publishEvent(any(Object.class));
+  }
+
+  @Test
+  void publishesOnlyTablesWhoseWatermarkChanged() {
+    given(jdbcTemplate.queryForObject(anyString(), eq(String.class))).willReturn("2026-03-02");
+    given(jdbcTemplate.queryForObject(startsWith("select max(id)"), eq(String.class))).willReturn("10", "11");
+
+    listener.pollWatermarks();
+    listener.pollWatermarks();
+
+    ArgumentCaptor<QuantDataChangedEvent> event = ArgumentCaptor.forClass(QuantDataChangedEvent.class);
+    verify(eventPublisher).publishEvent(event.capture());
+    assertThat(event.getValue().full()).isFalse();
+    assertThat(event.getValue().tables()).containsExactly(QuantDataChangedEvent.EXECUTIONS);
+  }
+
+  @Test
+  void failedQueryDoesNotPublishOrResetBaseline() {
+    given(jdbcTemplate.queryForObject(anyString(), eq(String.class))).willReturn("2026-03-02");
+    given(jdbcTemplate.queryForObject(startsWith("select max(id)"), eq(String.class)))
+        .willReturn("10")
+        .willThrow(new IllegalStateException("connection refused"))
+        .willReturn("10");
+
+    listener.pollWatermarks();
+    listener.pollWatermarks();
+    listener.pollWatermarks();
+
+    verify(eventPublisher, never()).publishEvent(any(Object.class));
+  }
+}
@@ -0,0 +1,140 @@
+package org.sejongisc.backend.stock.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.sejongisc.backend.stock.dto.CorrelationMatrixResponse;
+import org.sejongisc.backend.stock.entity.PriceData;
+import org.sejongisc.backend.stock.event.QuantDataChangedEvent;
+import org.sejongisc.backend.stock.repository.PriceDataRepository;
+
+class CorrelationServiceTest {
+
+  private static final LocalDate END = LocalDate.of(2026, 3, 13);
+
+  @Test
+  void correlatesPerfectlyLinkedSeries() {
+    double[] base = {0.01, -0.02, 0.015, 0.003, -0.007, 0.012};
+    double[][] returns = new double[3][base.length];
+    for (int t = 0; t < base.length; t++) {
+      returns[0][t] = base[t];
+      returns[1][t] = 2 * base[t] + 0.001;   // 양의 완전 상관
+      returns[2][t] = -base[t];              // 음의 완전 상관
+    }
+
+    double[][][] result = CorrelationService.correlate(returns);
+    double[][] correlation = result[0];
+    double[][] covariance = result[1];
+
+    assertThat(correlation[0][0]).isCloseTo(1.0, within(1e-12));
+    assertThat(correlation[0][1]).isCloseTo(1.0, within(1e-12));
+    assertThat(correlation[0][2]).isCloseTo(-1.0, within(1e-12));
+    assertThat(covariance[1][0]).isCloseTo(2 * covariance[0][0], within(1e-15));
+  }
+
+  @Test
+  void parallelBlocksProduceSymmetricMatrix() {
+    Random random = new Random(42);
+    double[][] returns = new double[37][120];
+    for (double[] row : returns) {
+      for (int t = 0; t < row.length; t++) {
+        row[t] = random.nextGaussian() * 0.01;
+      }
+    }
+
+    double[][] correlation = CorrelationService.correlate(returns)[0];
+
+    for (int i = 0; i < returns.length; i++) {
+      assertThat(correlation[i][i]).isCloseTo(1.0, within(1e-12));
+      for (int j = 0; j < returns.length; j++) {
+        assertThat(correlation[i][j]).isEqualTo(correlation[j][i]);
+        assertThat(correlation[i][j]).isBetween(-1.0 - 1e-12, 1.0 + 1e-12);
+      }
+    }
+  }
+
+  @Test
+  void concurrentMissesComputeOnce() throws Exception {
+    PriceDataRepository priceDataRepository = mock(PriceDataRepository.class);
+    LatestPriceService latestPriceService = mock(LatestPriceService.class);
+    CorrelationService correlationService = new CorrelationService(priceDataRepository, latestPriceService);
+    CountDownLatch entered = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    when(latestPriceService.getLatestIngestedDate()).thenReturn(Optional.of(END));
+    when(priceDataRepository.findByTickerInAndDateBetweenOrderByDateAsc(anyCollection(), any(), any()))
+        .thenAnswer(invocation -> {
+          entered.countDown();
+          release.await(5, TimeUnit.SECONDS);
+          return prices();
+        });
+
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<CorrelationMatrixResponse>> results = new ArrayList<>();
+      results.add(executor.submit(() -> correlationService.getCorrelation(List.of("AAA", "BBB"), 5)));
+      assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+      for (int i = 0; i < 7; i++) {
+        results.add(executor.submit(() -> correlationService.getCorrelation(List.of("BBB", "AAA"), 5)));
+      }
+      release.countDown();
+
+      CorrelationMatrixResponse first = results.getFirst().get(5, TimeUnit.SECONDS);
+      for (Future<CorrelationMatrixResponse> result : results) {
+        assertThat(result.get(5, TimeUnit.SECONDS)).isSameAs(first);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    verify(priceDataRepository, times(1)).findByTickerInAndDateBetweenOrderByDateAsc(anyCollection(), any(), any());
+  }
+
+  @Test
+  void recomputesAfterPriceDataChanged() {
+    PriceDataRepository priceDataRepository = mock(PriceDataRepository.class);
+    LatestPriceService latestPriceService = mock(LatestPriceService.class);
+    CorrelationService correlationService = new CorrelationService(priceDataRepository, latestPriceService);
+    when(latestPriceService.getLatestIngestedDate()).thenReturn(Optional.of(END));
+    when(priceDataRepository.findByTickerInAndDateBetweenOrderByDateAsc(anyCollection(), any(), any()))
+        .thenReturn(prices());
+
+    correlationService.getCorrelation(List.of("AAA", "BBB"), 5);
+    correlationService.getCorrelation(List.of("AAA", "BBB"), 5);
+    correlationService.onQuantDataChanged(QuantDataChangedEvent.of(Set.of(QuantDataChangedEvent.PRICE_DATA)));
+    correlationService.getCorrelation(List.of("AAA", "BBB"), 5);
+
+    verify(priceDataRepository, times(2)).findByTickerInAndDateBetweenOrderByDateAsc(anyCollection(), any(), any());
+  }
+
+  private static List<PriceData> prices() {
+    List<PriceData> prices = new ArrayList<>();
+    Random random = new Random(7);
+    double a = 100;
+    double b = 50;
+    for (int day = 9; day >= 0; day--) {
+      a *= 1 + random.nextGaussian() * 0.01;
+      b *= 1 + random.nextGaussian() * 0.01;
+      prices.add(PriceData.builder().ticker("AAA").date(END.minusDays(day)).closePrice(BigDecimal.valueOf(a)).build());
+      prices.add(PriceData.builder().ticker("BBB").date(END.minusDays(day)).closePrice(BigDecimal.valueOf(b)).build());
+    }
+    return prices;
+  }
+}
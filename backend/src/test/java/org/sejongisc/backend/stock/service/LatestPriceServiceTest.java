@@ -0,0 +1,113 @@
+package org.sejongisc.backend.stock.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.sejongisc.backend.stock.entity.PriceData;
+import org.sejongisc.backend.stock.event.QuantDataChangedEvent;
+import org.sejongisc.backend.stock.repository.PriceDataRepository;
+
+@ExtendWith(MockitoExtension.class)
+class LatestPriceServiceTest {
+  @Mock
+  private PriceDataRepository priceDataRepository;
+
+  @InjectMocks
+  private LatestPriceService latestPriceService;
+
+  @Test
+  void loadsMissingTickersInOneQueryAndReusesSnapshot() {
+    LocalDate today = LocalDate.of(2026, 10, 16);
+    when(priceDataRepository.findLatestDate()).thenReturn(Optional.of(today));
+    when(priceDataRepository.findLatestByTickerIn(anyCollection()))
+        .thenReturn(List.of(price("AAPL", today), price("MSFT", today)));
+
+    latestPriceService.refreshIfIngested();
+    Map<String, PriceData> first = latestPriceService.getLatest(List.of("AAPL", "MSFT"));
+    Map<String, PriceData> second = latestPriceService.getLatest(List.of("AAPL", "MSFT"));
+
+    assertThat(first).containsOnlyKeys("AAPL", "MSFT");
+    assertThat(second).containsOnlyKeys("AAPL", "MSFT");
+    verify(priceDataRepository, times(1)).findLatestByTickerIn(anyCollection());
+  }
+
+  @Test
+  void invalidatesSnapshotWhenNewDayIsIngested() {
+    LocalDate yesterday = LocalDate.of(2026, 10, 15);
+    LocalDate today = LocalDate.of(2026, 10, 16);
+    when(priceDataRepository.findLatestDate())
+        .thenReturn(Optional.of(yesterday))
+        .thenReturn(Optional.of(today));
+    when(priceDataRepository.findLatestByTickerIn(anyCollection()))
+        .thenReturn(List.of(price("AAPL", yesterday)))
+        .thenReturn(List.of(price("AAPL", today)));
+
+    latestPriceService.refreshIfIngested();
+    assertThat(latestPriceService.getLatest("AAPL")).get().extracting(PriceData::getDate).isEqualTo(yesterday);
+
+    assertThat(latestPriceService.refreshIfIngested()).isTrue();
+    assertThat(latestPriceService.getLatest("AAPL")).get().extracting(PriceData::getDate).isEqualTo(today);
+    verify(priceDataRepository, times(2)).findLatestByTickerIn(anyCollection());
+  }
+
+  @Test
+  void servesTickersBehindLatestDateAndMissingTickersFromSnapshot() {
+    LocalDate today = LocalDate.of(2026, 10, 16);
+    LocalDate halted = LocalDate.of(2026, 9, 1);
+    when(priceDataRepository.findLatestDate()).thenReturn(Optional.of(today));
+    when(priceDataRepository.findLatestByTickerIn(anyCollection())).thenReturn(List.of(price("HALT", halted)));
+
+    latestPriceService.refreshIfIngested();
+    latestPriceService.getLatest(List.of("HALT", "NONE"));
+    Map<String, PriceData> second = latestPriceService.getLatest(List.of("HALT", "NONE"));
+
+    assertThat(second).containsOnlyKeys("HALT");
+    verify(priceDataRepository, times(1)).findLatestByTickerIn(anyCollection());
+  }
+
+  @Test
+  void priceDataNotificationInvalidatesSameDateCorrections() {
+    LocalDate today = LocalDate.of(2026, 10, 16);
+    PriceData corrected = PriceData.builder()
+        .ticker("AAPL")
+        .date(today)
+        .closePrice(BigDecimal.ONE)
+        .adjustedClose(BigDecimal.ONE)
+        .build();
+    when(priceDataRepository.findLatestDate()).thenReturn(Optional.of(today));
+    when(priceDataRepository.findLatestByTickerIn(anyCollection()))
+        .thenReturn(List.of(price("AAPL", today)))
+        .thenReturn(List.of(corrected));
+
+    latestPriceService.refreshIfIngested();
+    latestPriceService.getLatest("AAPL");
+    latestPriceService.onQuantDataChanged(QuantDataChangedEvent.of(Set.of(QuantDataChangedEvent.PRICE_DATA)));
+
+    assertThat(latestPriceService.getLatest("AAPL")).get()
+        .extracting(PriceData::getClosePrice).isEqualTo(BigDecimal.ONE);
+    verify(priceDataRepository, times(2)).findLatestByTickerIn(anyCollection());
+  }
+
+  private PriceData price(String ticker, LocalDate date) {
+    return PriceData.builder()
+        .ticker(ticker)
+        .date(date)
+        .closePrice(BigDecimal.TEN)
+        .adjustedClose(BigDecimal.TEN)
+        .build();
+  }
+}
@@ -0,0 +1,70 @@
+package org.sejongisc.backend.stock.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.sejongisc.backend.common.exception.CustomException;
+import org.sejongisc.backend.stock.dto.MarketSeriesResponse;
+import org.sejongisc.backend.stock.dto.MarketSeriesSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+class MarketSeriesServiceTest {
+
+  private static final MarketSeriesService.CachedSeries SERIES = new MarketSeriesService.CachedSeries(
+      new LocalDate[] {
+          LocalDate.of(2026, 1, 2), LocalDate.of(2026, 1, 5), LocalDate.of(2026, 1, 6), LocalDate.of(2026, 1, 9)
+      },
+      new double[] {1.0, 2.0, 3.0, 4.0});
+
+  @Test
+  void sliceIncludesBothEndsOfRange() {
+    MarketSeriesResponse.Series slice = SERIES.slice(LocalDate.of(2026, 1, 5), LocalDate.of(2026, 1, 6));
+
+    assertThat(slice.dates()).containsExactly(LocalDate.of(2026, 1, 5), LocalDate.of(2026, 1, 6));
+    assertThat(slice.values()).containsExactly(2.0, 3.0);
+  }
+
+  @Test
+  void sliceBetweenObservationsUsesNearestInnerDates() {
+    MarketSeriesResponse.Series slice = SERIES.slice(LocalDate.of(2026, 1, 3), LocalDate.of(2026, 1, 8));
+
+    assertThat(slice.values()).containsExactly(2.0, 3.0);
+  }
+
+  @Test
+  void sliceWithoutStartReturnsWholeHistoryUpToEnd() {
+    MarketSeriesResponse.Series slice = SERIES.slice(null, LocalDate.of(2026, 12, 31));
+
+    assertThat(slice.values()).containsExactly(1.0, 2.0, 3.0, 4.0);
+  }
+
+  @Test
+  void sliceOutsideHistoryIsEmpty() {
+    MarketSeriesResponse.Series slice = SERIES.slice(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31));
+
+    assertThat(slice.dates()).isEmpty();
+    assertThat(slice.values()).isEmpty();
+  }
+
+  @Test
+  void rejectsColumnsOutsideWhitelist() {
+    MarketSeriesService service = new MarketSeriesService(mock(JdbcTemplate.class));
+
+    assertThatThrownBy(() -> service.getSeries(
+        MarketSeriesSource.MACRO, List.of("cpi; drop table users"), null, LocalDate.of(2026, 1, 1)))
+        .isInstanceOf(CustomException.class);
+  }
+
+  @Test
+  void rejectsReversedRange() {
+    MarketSeriesService service = new MarketSeriesService(mock(JdbcTemplate.class));
+
+    assertThatThrownBy(() -> service.getSeries(
+        MarketSeriesSource.BREADTH, List.of(), LocalDate.of(2026, 2, 1), LocalDate.of(2026, 1, 1)))
+        .isInstanceOf(CustomException.class);
+  }
+}
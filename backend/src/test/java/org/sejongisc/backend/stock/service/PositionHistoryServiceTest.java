@@ -0,0 +1,68 @@
+package org.sejongisc.backend.stock.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.sejongisc.backend.common.exception.CustomException;
+import org.sejongisc.backend.stock.repository.ExecutionRepository;
+
+@ExtendWith(MockitoExtension.class)
+class PositionHistoryServiceTest {
+  @Mock
+  private ExecutionRepository executionRepository;
+
+  @InjectMocks
+  private PositionHistoryService positionHistoryService;
+
+  @Test
+  void downsampleKeepsEndpointsAndLimitsCount() {
+    LocalDate start = LocalDate.of(2026, 1, 1);
+    List<LocalDate> dates = IntStream.range(0, 250).mapToObj(start::plusDays).toList();
+
+    List<LocalDate> sampled = PositionHistoryService.downsample(dates, 10);
+
+    assertThat(sampled).hasSize(10).doesNotHaveDuplicates().isSorted();
+    assertThat(sampled.getFirst()).isEqualTo(dates.getFirst());
+    assertThat(sampled.getLast()).isEqualTo(dates.getLast());
+  }
+
+  @Test
+  void downsampleReturnsAllDatesWhenWithinLimit() {
+    List<LocalDate> dates = List.of(LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 2));
+
+    assertThat(PositionHistoryService.downsample(dates, 60)).isEqualTo(dates);
+  }
+
+  @Test
+  void servesRepeatedDatesFromCache() {
+    LocalDate from = LocalDate.of(2026, 3, 2);
+    LocalDate to = LocalDate.of(2026, 3, 3);
+    when(executionRepository.findPositionDatesBetween(from, to)).thenReturn(List.of(from, to));
+    when(executionRepository.findPositionsByDateIn(anyCollection())).thenReturn(List.of());
+
+    positionHistoryService.getPositionHistory(from, to, 60);
+    var second = positionHistoryService.getPositionHistory(from, to, 60);
+
+    assertThat(second).containsOnlyKeys(from, to);
+    verify(executionRepository, times(1)).findPositionsByDateIn(anyCollection());
+  }
+
+  @Test
+  void rejectsInvertedRange() {
+    assertThatThrownBy(() -> positionHistoryService.getPositionHistory(
+        LocalDate.of(2026, 3, 3), LocalDate.of(2026, 3, 2), 60))
+        .isInstanceOf(CustomException.class);
+  }
+}
@@ -0,0 +1,170 @@
+package org.sejongisc.backend.stock.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.sejongisc.backend.stock.dto.PriceExportFormat;
+import org.sejongisc.backend.stock.dto.PriceExportRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+class PriceDataExportServiceTest {
+
+  private static final LocalDate FROM = LocalDate.of(2024, 1, 1);
+  private static final LocalDate TO = LocalDate.of(2024, 1, 31);
+
+  private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+  private final Connection connection = mock(Connection.class);
+  private final PriceDataExportService service = new PriceDataExportService(jdbcTemplate);
+
+  @Test
+  void csvWritesHeaderAndLeavesMissingValuesEmpty() throws Exception {
+    streamRows(
+        new Row("AAPL", LocalDate.of(2024, 1, 2), "185.5", "186.1", "183.9", "185.6", 1000L, "185.2"),
+        new Row("AAPL", LocalDate.of(2024, 1, 3), "184.2", "185.0", "182.7", null, null, null));
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    long rows = service.export(request(PriceExportFormat.CSV, null, null), out);
+
+    assertThat(rows).isEqualTo(2);
+    assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("""
+        ticker,date,open,high,low,close,volume,adjusted_close
+        AAPL,2024-01-02,185.5,186.1,183.9,185.6,1000,185.2
+        AAPL,2024-01-03,184.2,185.0,182.7,,,
+        """);
+  }
+
+  @Test
+  void binaryWritesOneColumnarBlockPerTicker() throws Exception {
+    LocalDate day = LocalDate.of(2024, 1, 2);
+    streamRows(
+        new Row("AAPL", day, "1", "2", "0.5", "1.5", 10L, "1.4"),
+        new Row("AAPL", day.plusDays(1), "1.5", "2.5", "1", "2", null, null),
+        new Row("MSFT", day, "3", "4", "2", "3.5", 20L, "3.4"));
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    service.export(request(PriceExportFormat.BINARY, null, null), out);
+
+    DataInputStream in = new DataInputStream(new ByteArrayInputStream(out.toByteArray()));
+    assertThat(new String(in.readNBytes(8), StandardCharsets.US_ASCII)).isEqualTo("SISCPX01");
+
+    assertThat(readTicker(in)).isEqualTo("AAPL");
+    assertThat(in.readInt()).isEqualTo(2);
+    assertThat(in.readInt()).isEqualTo((int) day.toEpochDay());
+    assertThat(in.readInt()).isEqualTo((int) day.plusDays(1).toEpochDay());
+    double[][] columns = new double[5][2];
+    for (double[] column : columns) {
+      column[0] = in.readDouble();
+      column[1] = in.readDouble();
+    }
+    assertThat(columns[0]).containsExactly(1.0, 1.5);
+    assertThat(columns[3]).containsExactly(1.5, 2.0);
+    assertThat(columns[4][0]).isEqualTo(1.4);
+    assertThat(columns[4][1]).isNaN();
+    assertThat(in.readLong()).isEqualTo(10L);
+    assertThat(in.readLong()).isEqualTo(-1L);
+
+    assertThat(readTicker(in)).isEqualTo("MSFT");
+    assertThat(in.readInt()).isEqualTo(1);
+    in.skipNBytes(4 + 5 * 8 + 8);
+    assertThat(in.read()).isEqualTo(-1);
+  }
+
+  @Test
+  void resumeAddsKeysetConditionAfterLastRow() throws Exception {
+    PreparedStatement ps = captureStatement(request(PriceExportFormat.CSV, "AAPL", LocalDate.of(2024, 1, 15)));
+
+    ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+    verify(connection).prepareStatement(sql.capture(), anyInt(), anyInt());
+    assertThat(sql.getValue()).contains("AND (ticker, date) > (?, ?)").endsWith("ORDER BY ticker, date");
+    verify(ps).setString(4, "AAPL");
+    verify(ps).setDate(5, Date.valueOf(LocalDate.of(2024, 1, 15)));
+  }
+
+  @Test
+  void firstRequestHasNoKeysetCondition() throws Exception {
+    PreparedStatement ps = captureStatement(request(PriceExportFormat.CSV, null, null));
+
+    ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+    verify(connection).prepareStatement(sql.capture(), anyInt(), anyInt());
+    assertThat(sql.getValue()).doesNotContain("(ticker, date) >");
+    verify(ps, never()).setString(eq(4), anyString());
+  }
+
+  private PreparedStatement captureStatement(PriceExportRequest request) throws Exception {
+    PreparedStatement ps = mock(PreparedStatement.class);
+    given(connection.prepareStatement(anyString(), anyInt(), anyInt())).willReturn(ps);
+    doAnswer(inv -> {
+      inv.<PreparedStatementCreator>getArgument(0).createPreparedStatement(connection);
+      return null;
+    }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+
+    service.export(request, new ByteArrayOutputStream());
+    return ps;
+  }
+
+  private void streamRows(Row... rows) throws Exception {
+    Row[] current = new Row[1];
+    ResultSet rs = mock(ResultSet.class);
+    given(rs.getString(1)).willAnswer(inv -> current[0].ticker());
+    given(rs.getDate(2)).willAnswer(inv -> Date.valueOf(current[0].date()));
+    given(rs.getBigDecimal(anyInt())).willAnswer(inv -> current[0].decimal(inv.getArgument(0)));
+    given(rs.getLong(7)).willAnswer(inv -> current[0].volume() == null ? 0L : current[0].volume());
+    given(rs.wasNull()).willAnswer(inv -> current[0].volume() == null);
+
+    doAnswer(inv -> {
+      RowCallbackHandler handler = inv.getArgument(1);
+      for (Row row : rows) {
+        current[0] = row;
+        handler.processRow(rs);
+      }
+      return null;
+    }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+  }
+
+  private static String readTicker(DataInputStream in) throws Exception {
+    return new String(in.readNBytes(in.readShort()), StandardCharsets.UTF_8);
+  }
+
+  private static PriceExportRequest request(PriceExportFormat format, String resumeTicker, LocalDate resumeDate) {
+    return new PriceExportRequest(List.of("AAPL", "MSFT"), FROM, TO, format, resumeTicker, resumeDate);
+  }
+
+  private record Row(String ticker, LocalDate date, String open, String high, String low, String close,
+                     Long volume, String adjustedClose) {
+
+    BigDecimal decimal(int column) {
+      String value = switch (column) {
+        case 3 -> open;
+        case 4 -> high;
+        case 5 -> low;
+        case 6 -> close;
+        case 8 -> adjustedClose;
+        default -> throw new IllegalArgumentException("column " + column);
+      };
+      return value == null ? null : new BigDecimal(value);
+    }
+  }
+}
@@ -0,0 +1,143 @@
+package org.sejongisc.backend.stock.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.sejongisc.backend.common.exception.CustomException;
+import org.sejongisc.backend.common.exception.ErrorCode;
+import org.sejongisc.backend.stock.dto.PriceIngestionResponse;
+import org.sejongisc.backend.stock.infrastructure.ColumnarPriceStore;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * 스테이징 COPY → upsert 를 실제 PostgreSQL 에서 검증 (Docker 가 없으면 건너뜀)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class PriceDataIngestionServiceTest {
+
+  @Container
+  static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+  private static final LocalDate JAN_2 = LocalDate.of(2024, 1, 2);
+  private static final LocalDate JAN_3 = LocalDate.of(2024, 1, 3);
+  private static final String LONG_TICKER = "VERY.LONG.TICKER.NAME.EXCHANGE";
+
+  private final LatestPriceService latestPriceService = mock(LatestPriceService.class);
+  private final ColumnarPriceStore columnarPriceStore = mock(ColumnarPriceStore.class);
+  private JdbcTemplate jdbcTemplate;
+  private PriceDataIngestionService service;
+
+  @BeforeEach
+  void setUp() {
+    DriverManagerDataSource dataSource = new DriverManagerDataSource(
+        POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+    jdbcTemplate = new JdbcTemplate(dataSource);
+    jdbcTemplate.execute("""
+        CREATE TABLE IF NOT EXISTS price_data (
+            adjusted_close numeric(38, 2),
+            close numeric(38, 2),
+            date date,
+            high numeric(38, 2),
+            low numeric(38, 2),
+            open numeric(38, 2),
+            volume bigint,
+            ticker varchar(255),
+            per numeric(18, 6),
+            pbr numeric(18, 6),
+            amount numeric(38, 2),
+            CONSTRAINT price_data_pkey PRIMARY KEY (date, ticker)
+        )
+        """);
+    jdbcTemplate.execute("TRUNCATE price_data");
+    jdbcTemplate.update("INSERT INTO price_data (ticker, date, close, volume) VALUES ('AAPL', ?, 100, 5)", JAN_2);
+
+    service = new PriceDataIngestionService(jdbcTemplate,
+        new TransactionTemplate(new DataSourceTransactionManager(dataSource)), latestPriceService, columnarPriceStore);
+  }
+
+  @Test
+  void upsertsLastDuplicateAndEvictsOverwrittenStoreFiles() {
+    // AAPL 파일은 1/5 까지 저장되어 있어 1/2 정정이 반영되려면 재생성 필요, 긴 티커는 파일 없음
+    given(columnarPriceStore.lastDate("AAPL")).willReturn(Optional.of(LocalDate.of(2024, 1, 5)));
+    given(columnarPriceStore.lastDate(LONG_TICKER)).willReturn(Optional.empty());
+
+    PriceIngestionResponse response = service.ingest(csv("""
+        ticker,date,open,high,low,close,volume,adjusted_close
+        AAPL,2024-01-02,1,2,0.5,101.5,10,101.5
+        AAPL,2024-01-03,1,2,0.5,102,10,102
+        AAPL,2024-01-03,1,2,0.5,103,20,103
+        %s,2024-01-03,5,6,4,5.5,,
+        """.formatted(LONG_TICKER)));
+
+    assertThat(response.copiedRows()).isEqualTo(4);
+    assertThat(response.upsertedRows()).isEqualTo(3);
+    assertThat(response.tickers()).containsExactly("AAPL", LONG_TICKER);
+
+    assertThat(close("AAPL", JAN_2)).isEqualByComparingTo("101.5");
+    assertThat(close("AAPL", JAN_3)).isEqualByComparingTo("103");
+    assertThat(jdbcTemplate.queryForObject(
+        "SELECT volume FROM price_data WHERE ticker = 'AAPL' AND date = ?", Long.class, JAN_3)).isEqualTo(20L);
+    assertThat(close(LONG_TICKER, JAN_3)).isEqualByComparingTo("5.5");
+    assertThat(jdbcTemplate.queryForObject(
+        "SELECT volume FROM price_data WHERE ticker = ?", Long.class, LONG_TICKER)).isNull();
+
+    verify(latestPriceService).invalidate(Set.of("AAPL", LONG_TICKER));
+    verify(latestPriceService).refreshIfIngested();
+    verify(columnarPriceStore).evict("AAPL");
+    verify(columnarPriceStore, never()).evict(LONG_TICKER);
+  }
+
+  @Test
+  void appendOnlyNewerDatesKeepsStoreFile() {
+    given(columnarPriceStore.lastDate("AAPL")).willReturn(Optional.of(JAN_2));
+
+    service.ingest(csv("""
+        ticker,date,open,high,low,close,volume,adjusted_close
+        AAPL,2024-01-03,1,2,0.5,102,10,102
+        """));
+
+    verify(columnarPriceStore, never()).evict("AAPL");
+  }
+
+  @Test
+  void malformedCsvRollsBackWholeBatch() {
+    assertThatThrownBy(() -> service.ingest(csv("""
+        ticker,date,open,high,low,close,volume,adjusted_close
+        AAPL,2024-01-03,1,2,0.5,102,10,102
+        AAPL,not-a-date,1,2,0.5,102,10,102
+        """)))
+        .isInstanceOf(CustomException.class)
+        .extracting("errorCode")
+        .isEqualTo(ErrorCode.INVALID_PRICE_INGEST_DATA);
+
+    assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM price_data", Long.class)).isEqualTo(1L);
+    verify(latestPriceService, never()).refreshIfIngested();
+  }
+
+  private BigDecimal close(String ticker, LocalDate date) {
+    return jdbcTemplate.queryForObject(
+        "SELECT close FROM price_data WHERE ticker = ? AND date = ?", BigDecimal.class, ticker, date);
+  }
+
+  private static ByteArrayInputStream csv(String content) {
+    return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,80 @@
+package org.sejongisc.backend.stock.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.sejongisc.backend.stock.infrastructure.ColumnarPriceStore;
+import org.sejongisc.backend.stock.repository.PriceDataRepository;
+import org.sejongisc.backend.stock.repository.PriceDataRepository.TickerChecksum;
+
+class PriceStoreSyncServiceTest {
+
+  private static final LocalDate LATEST = LocalDate.of(2024, 3, 29);
+
+  private final ColumnarPriceStore store = mock(ColumnarPriceStore.class);
+  private final PriceDataRepository repository = mock(PriceDataRepository.class);
+  private final PriceStoreSyncService service = new PriceStoreSyncService(store, repository);
+
+  @Test
+  void reconcileRebuildsOnlyTickersWhoseFileDiffersFromDatabase() {
+    given(repository.findLatestDate()).willReturn(Optional.of(LATEST));
+    given(repository.findDistinctTickers()).willReturn(List.of());
+    given(store.lastDate(anyString())).willReturn(Optional.empty());
+    given(repository.summarizeThrough(LATEST)).willReturn(List.of(
+        checksum("AAPL", 100, 1_000.0, 5_000L),
+        checksum("MSFT", 100, 2_000.0, 5_000L),
+        checksum("NVDA", 100, 3_000.0, 5_000L)));
+    given(store.checksum("AAPL")).willReturn(Optional.of(
+        new ColumnarPriceStore.Checksum(LATEST, 100, 1_000.0 + 1e-9, 1_000.0, 5_000L)));
+    // 과거 종가 정정이 반영되지 않은 파일
+    given(store.checksum("MSFT")).willReturn(Optional.of(
+        new ColumnarPriceStore.Checksum(LATEST, 100, 1_990.0, 2_000.0, 5_000L)));
+    // 아직 최신 적재일까지 동기화되지 않은 파일은 비교하지 않음
+    given(store.checksum("NVDA")).willReturn(Optional.of(
+        new ColumnarPriceStore.Checksum(LATEST.minusDays(1), 99, 2_970.0, 2_970.0, 4_950L)));
+
+    int rebuilt = service.reconcileAll();
+
+    assertThat(rebuilt).isEqualTo(1);
+    verify(store).evict("MSFT");
+    verify(store, never()).evict("AAPL");
+    verify(store, never()).evict("NVDA");
+  }
+
+  private static TickerChecksum checksum(String ticker, long rows, double closeSum, long volumeSum) {
+    return new TickerChecksum() {
+      @Override
+      public String getTicker() {
+        return ticker;
+      }
+
+      @Override
+      public Long getRowCount() {
+        return rows;
+      }
+
+      @Override
+      public Double getCloseSum() {
+        return closeSum;
+      }
+
+      @Override
+      public Double getAdjustedCloseSum() {
+        return closeSum;
+      }
+
+      @Override
+      public Long getVolumeSum() {
+        return volumeSum;
+      }
+    };
+  }
+}
@@ -0,0 +1,85 @@
+package org.sejongisc.backend.stock.service;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.sejongisc.backend.common.exception.CustomException;
+import org.sejongisc.backend.stock.entity.QuantAccount;
+import org.sejongisc.backend.stock.event.QuantDataChangedEvent;
+import org.sejongisc.backend.stock.repository.ExecutionRepository;
+import org.sejongisc.backend.stock.repository.QuantAccountRepository;
+import org.sejongisc.backend.stock.repository.projection.AccountExecutionSummaryProjection;
+
+@ExtendWith(MockitoExtension.class)
+class QuantAccountServiceTest {
+
+  private static final Long ACCOUNT_ID = 1L;
+
+  @Mock
+  private QuantAccountRepository quantAccountRepository;
+  @Mock
+  private ExecutionRepository executionRepository;
+  @Mock
+  private QuantBotService quantBotService;
+  @Mock
+  private LatestPriceService latestPriceService;
+  @Mock
+  private TickerNameDictionary tickerNameDictionary;
+
+  @InjectMocks
+  private QuantAccountService quantAccountService;
+
+  @BeforeEach
+  void setUp() {
+    QuantAccount account = new QuantAccount(ACCOUNT_ID, "MAIN", "메인 계정", null, true, null, null);
+    when(quantAccountRepository.findAllByOrderByIdAsc()).thenReturn(List.of(account));
+  }
+
+  @Test
+  void servesRepeatedAggregateFromCache() {
+    stubAggregate();
+
+    quantAccountService.getPnl(ACCOUNT_ID);
+    quantAccountService.getPositions(ACCOUNT_ID);
+
+    verify(executionRepository, times(1)).findAccountPositions(ACCOUNT_ID);
+  }
+
+  @Test
+  void reloadsAggregateAfterExecutionsChanged() {
+    stubAggregate();
+
+    quantAccountService.getPnl(ACCOUNT_ID);
+    quantAccountService.onQuantDataChanged(QuantDataChangedEvent.of(Set.of(QuantDataChangedEvent.EXECUTIONS)));
+    quantAccountService.getPnl(ACCOUNT_ID);
+
+    verify(executionRepository, times(2)).findAccountPositions(ACCOUNT_ID);
+  }
+
+  @Test
+  void unknownAccountRefreshesAccountsAtMostOncePerInterval() {
+    assertThatThrownBy(() -> quantAccountService.getPnl(99L)).isInstanceOf(CustomException.class);
+    assertThatThrownBy(() -> quantAccountService.getPnl(99L)).isInstanceOf(CustomException.class);
+    assertThatThrownBy(() -> quantAccountService.getPnl(99L)).isInstanceOf(CustomException.class);
+
+    // 최초 적재 1회 + 미스 재적재 1회
+    verify(quantAccountRepository, times(2)).findAllByOrderByIdAsc();
+  }
+
+  private void stubAggregate() {
+    when(executionRepository.findAccountPositions(ACCOUNT_ID)).thenReturn(List.of());
+    when(executionRepository.getAccountExecutionSummary(ACCOUNT_ID))
+        .thenReturn(mock(AccountExecutionSummaryProjection.class));
+  }
+}
@@ -0,0 +1,68 @@
+package org.sejongisc.backend.stock.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+class RiskCalculatorTest {
+
+  @Test
+  void simpleReturnsFromValues() {
+    double[] returns = RiskCalculator.simpleReturns(new double[]{100, 110, 99});
+
+    assertThat(returns).containsExactly(new double[]{0.10, -0.10}, within(1e-12));
+  }
+
+  @Test
+  void rollingVolatilityMatchesWindowedVolatility() {
+    double[] returns = {0.01, -0.02, 0.015, 0.003, -0.007, 0.02, -0.01};
+
+    double[] rolling = RiskCalculator.rollingVolatility(returns, 4);
+
+    assertThat(rolling).hasSize(4);
+    for (int k = 0; k < rolling.length; k++) {
+      double expected = RiskCalculator.annualizedVolatility(Arrays.copyOfRange(returns, k, k + 4));
+      assertThat(rolling[k]).isCloseTo(expected, within(1e-12));
+    }
+    assertThat(RiskCalculator.rollingVolatility(returns, 8)).isEmpty();
+  }
+
+  @Test
+  void historicalVaRUsesLowerQuantileLoss() {
+    double[] returns = new double[100];
+    for (int i = 0; i < returns.length; i++) {
+      returns[i] = (i - 50) / 1000.0; // -0.050 ~ 0.049
+    }
+
+    // 하위 5% 분위수: -0.045 → 손실 0.045
+    assertThat(RiskCalculator.historicalVaR(returns, 0.95)).isCloseTo(0.045, within(1e-12));
+  }
+
+  @Test
+  void parametricVaRMatchesNormalQuantile() {
+    double[] returns = {0.01, -0.01, 0.01, -0.01};
+    double sigma = RiskCalculator.stdDev(returns);
+
+    assertThat(RiskCalculator.parametricVaR(returns, 0.95)).isCloseTo(1.6448536 * sigma, within(1e-6));
+  }
+
+  @Test
+  void betaOfScaledSeriesIsScale() {
+    double[] benchmark = {0.01, -0.02, 0.015, 0.003, -0.007};
+    double[] asset = new double[benchmark.length];
+    for (int i = 0; i < benchmark.length; i++) {
+      asset[i] = 1.5 * benchmark[i] + 0.001;
+    }
+
+    assertThat(RiskCalculator.beta(asset, benchmark)).isCloseTo(1.5, within(1e-12));
+  }
+
+  @Test
+  void normalInverseIsAccurate() {
+    assertThat(RiskCalculator.normalInverse(0.5)).isCloseTo(0.0, within(1e-9));
+    assertThat(RiskCalculator.normalInverse(0.975)).isCloseTo(1.959963985, within(1e-8));
+    assertThat(RiskCalculator.normalInverse(0.01)).isCloseTo(-2.326347874, within(1e-8));
+  }
+}
@@ -0,0 +1,48 @@
+package org.sejongisc.backend.stock.service;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.sejongisc.backend.common.exception.CustomException;
+import org.sejongisc.backend.stock.repository.XaiReportRepository;
+
+@ExtendWith(MockitoExtension.class)
+class XaiReportServiceTest {
+  @Mock
+  private XaiReportRepository xaiReportRepository;
+
+  @Mock
+  private TickerNameDictionary tickerNameDictionary;
+
+  @InjectMocks
+  private XaiReportService xaiReportService;
+
+  @Test
+  void searchRequiresTickerOrKeyword() {
+    assertThatThrownBy(() -> xaiReportService.search(" ", null, 20))
+        .isInstanceOf(CustomException.class);
+  }
+
+  @Test
+  void tickerOnlySearchSkipsFullTextQuery() {
+    xaiReportService.search("AAPL", null, 20);
+
+    verify(xaiReportRepository).findSummariesByTicker("AAPL", 20);
+    verify(xaiReportRepository, never()).searchSummaries(anyString(), anyString(), anyInt());
+  }
+
+  @Test
+  void clampsSearchSize() {
+    xaiReportService.search(null, "실적 개선", 1000);
+
+    verify(xaiReportRepository).searchSummaries("실적 개선", null, 100);
+  }
+}
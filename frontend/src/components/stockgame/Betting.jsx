@@ -2,14 +2,20 @@ import styles from './Betting.module.css';
 import icon1 from '../../assets/at_icon_1.png';
 import StockInfoItem from './StockInfoItem';
 import { useState, useEffect } from 'react';
-import { dailyBet, weeklyBet } from '../../utils/bettingInfo';
 import {
-  getDailyBetHistory,
-  getWeeklyBetHistory,
-} from '../../utils/bettingHistory';
+  dailyBet,
+  weeklyBet,
+  connectBetOddsStream,
+} from '../../utils/bettingInfo';
+import { getLatestBet } from '../../utils/bettingHistory';
 import { api } from '../../utils/axios';
 import { toast } from 'react-toastify';
 
+// 같은 클릭에서 발생한 재시도(토큰 갱신 등)는 서버에서 한 번만 처리되도록 요청마다 키 발급
+const idempotencyHeaders = () => ({
+  headers: { 'Idempotency-Key': crypto.randomUUID() },
+});
+
 const Betting = ({ period }) => {
   const [isBetting, setIsBetting] = useState('none');
   const [data, setData] = useState(null);
@@ -20,18 +26,37 @@ const Betting = ({ period }) => {
       if (period === 'daily') {
         const res = await dailyBet();
         setData(res);
-        const history = await getDailyBetHistory();
-        setUserBets(history && history.length > 0 ? history[0] : null);
       } else {
         const res = await weeklyBet();
         setData(res);
-        const history = await getWeeklyBetHistory();
-        setUserBets(history && history.length > 0 ? history[0] : null);
       }
+      setUserBets(await getLatestBet(period));
     }
     fetchData();
   }, [period]);
 
+  // 라운드 배당 실시간 반영
+  const roundId = data?.betRoundId;
+  useEffect(() => {
+    if (!roundId) return;
+    const eventSource = connectBetOddsStream(roundId, (odds) => {
+      setData((prev) =>
+        prev && prev.betRoundId === odds.roundId
+          ? {
+              ...prev,
+              upBetCount: odds.upBetCount,
+              downBetCount: odds.downBetCount,
+              upTotalPoints: odds.upTotalPoints,
+              downTotalPoints: odds.downTotalPoints,
+              expectedUpReward: odds.upMultiplier,
+              expectedDownReward: odds.downMultiplier,
+            }
+          : prev
+      );
+    });
+    return () => eventSource.close();
+  }, [roundId]);
+
   // userBets 또는 data가 바뀔 때 베팅 여부 체크
   useEffect(() => {
     if (!data || !userBets) {
@@ -53,11 +78,7 @@ const Betting = ({ period }) => {
     const updatedData =
       period === 'daily' ? await dailyBet() : await weeklyBet();
     setData(updatedData);
-    const history =
-      period === 'daily'
-        ? await getDailyBetHistory()
-        : await getWeeklyBetHistory();
-    setUserBets(history && history.length > 0 ? history[0] : null);
+    setUserBets(await getLatestBet(period));
   };
 
   const onClickUpBet = async () => {
@@ -70,7 +91,7 @@ const Betting = ({ period }) => {
           option: 'RISE',
           stakePoints: 0,
           isFree: true,
-        });
+        }, idempotencyHeaders());
         await update();
         toast.success('베팅이 완료되었습니다.');
         return res;
@@ -96,7 +117,7 @@ const Betting = ({ period }) => {
           option: 'FALL',
           stakePoints: 0,
           isFree: true,
-        });
+        }, idempotencyHeaders());
         await update();
         toast.success('베팅이 완료되었습니다.');
         return res;
@@ -115,7 +136,10 @@ const Betting = ({ period }) => {
   const onClickCancelBet = async () => {
     if (confirm('베팅을 취소하시겠습니까?')) {
       try {
-        await api.delete(`/api/user-bets/${userBets.userBetId}`);
+        await api.delete(
+          `/api/user-bets/${userBets.userBetId}`,
+          idempotencyHeaders()
+        );
         await update();
         toast.success('베팅이 취소되었습니다.');
       } catch {
@@ -3,13 +3,15 @@ import icon1 from '../../assets/at_icon_1.png';
 import StockInfoItem from './StockInfoItem';
 import Pagination from './Pagination';
 import { useState, useEffect } from 'react';
-import {
-  getDailyBetHistory,
-  getWeeklyBetHistory,
-} from '../../utils/bettingHistory';
+import { getBetHistoryPage } from '../../utils/bettingHistory';
+
+// 서버에서 한 번에 가져오는 베팅 수 (화면 4페이지 분량)
+const HISTORY_PAGE_SIZE = 20;
 
 const BettingHistory = ({ type }) => {
   const [data, setData] = useState([]);
+  const [cursor, setCursor] = useState(null);
+  const [hasNext, setHasNext] = useState(false);
   const [currentPage, setCurrentPage] = useState(1);
   const [loading, setLoading] = useState(false);
   const [error, setError] = useState(null);
@@ -20,13 +22,10 @@ const BettingHistory = ({ type }) => {
       setLoading(true);
       setError(null);
       try {
-        if (type === 'daily') {
-          const res = await getDailyBetHistory();
-          setData(res);
-        } else {
-          const res = await getWeeklyBetHistory();
-          setData(res);
-        }
+        const page = await getBetHistoryPage(type, null, HISTORY_PAGE_SIZE);
+        setData(page ? page.items : []);
+        setCursor(page?.nextCursor ?? null);
+        setHasNext(page?.hasNext ?? false);
       } catch (err) {
         setError(err.message || '데이터를 불러오는데 실패했습니다.');
         setData([]);
@@ -42,7 +41,9 @@ const BettingHistory = ({ type }) => {
     setCurrentPage(1);
   }, [type]);
 
-  const totalPages = Math.ceil(data.length / itemsPerPage);
+  // 아직 불러오지 않은 이력이 있으면 다음 페이지 버튼을 하나 더 노출
+  const totalPages =
+    Math.ceil(data.length / itemsPerPage) + (hasNext ? 1 : 0);
 
   // 현재 페이지에 해당하는 데이터만 slice
   const currentData = data.slice(
@@ -50,7 +51,15 @@ const BettingHistory = ({ type }) => {
     currentPage * itemsPerPage
   );
 
-  const handlePageChange = (page) => {
+  // 불러온 범위를 넘는 페이지로 이동할 때만 다음 서버 페이지 조회
+  const handlePageChange = async (page) => {
+    if (page * itemsPerPage > data.length && hasNext) {
+      const next = await getBetHistoryPage(type, cursor, HISTORY_PAGE_SIZE);
+      if (!next) return;
+      setData((prev) => [...prev, ...next.items]);
+      setCursor(next.nextCursor);
+      setHasNext(next.hasNext);
+    }
     setCurrentPage(page);
   };
 
@@ -16,6 +16,9 @@ import {
   ResponsiveContainer,
 } from 'recharts';
 
+// 매매 로그 한 번에 불러오는 개수 (나머지는 '더 보기' 로 이어서 조회)
+const LOG_PAGE_SIZE = 50;
+
 // --- Summary Cards: /api/quant-bot/portfolio-overview 사용 ---
 function SummaryCards({ overview, loading, error }) {
   let cumulativeReturnText = '-';
@@ -388,6 +391,10 @@ export default function QuantTradingDashboard() {
   const [availableDates, setAvailableDates] = useState([]); // ['2025-11-26', ...]
   const [selectedDate, setSelectedDate] = useState('ALL'); // 'ALL' 또는 특정 날짜
 
+  // ✅ 매매 로그 페이지 상태 (다음 페이지 커서, null 이면 마지막 페이지)
+  const [logsCursor, setLogsCursor] = useState(null);
+  const [logsLoading, setLogsLoading] = useState(false);
+
   // --- 0️⃣ 포트폴리오 요약 API ---
   useEffect(() => {
     const fetchOverview = async () => {
@@ -484,37 +491,49 @@ export default function QuantTradingDashboard() {
   }, []);
 
   // --- 2️⃣ 매매 로그 API ---
-  useEffect(() => {
-    const fetchLogs = async () => {
-      // console.log('📌 [logs] 요청 시작 → GET /api/quant-bot/logs');
-
-      try {
-        const res = await api.get('/api/quant-bot/logs');
+  // 커서 기반 페이지 응답({ items, nextCursor, hasNext })을 한 페이지씩 조회 (cursor 가 없으면 첫 페이지)
+  const fetchLogs = async (cursor = null) => {
+    // console.log('📌 [logs] 요청 시작 → GET /api/quant-bot/logs');
 
-        // console.log('📌 [logs] 응답 코드:', res.status);
-        // console.log('📌 [logs] 응답 데이터:', res.data);
+    setLogsLoading(true);
+    try {
+      const res = await api.get('/api/quant-bot/logs', {
+        params: { size: LOG_PAGE_SIZE, ...(cursor ? { cursor } : {}) },
+      });
 
-        if (Array.isArray(res.data)) {
-          setTrades(res.data);
+      // console.log('📌 [logs] 응답 코드:', res.status);
+      // console.log('📌 [logs] 응답 데이터:', res.data);
 
-          // fillDate 기준으로 유니크 날짜 리스트 생성
-          const dates = Array.from(
-            new Set(res.data.map((t) => t.fillDate).filter(Boolean))
-          ).sort((a, b) => a.localeCompare(b));
+      if (!Array.isArray(res.data?.items)) {
+        console.warn('⚠️ logs 응답 형식이 올바르지 않음:', res.data);
+        return;
+      }
 
-          setAvailableDates(dates);
-        } else {
-          console.warn('⚠️ logs 응답이 배열이 아님:', res.data);
-          setTrades([]);
-          setAvailableDates([]);
-        }
-      } catch (err) {
-        console.error('❌ [logs] 요청 실패:', err);
+      const pageItems = res.data.items;
+      setTrades((prev) => (cursor ? [...prev, ...pageItems] : pageItems));
+      setLogsCursor(res.data.hasNext ? res.data.nextCursor : null);
+
+      // fillDate 기준으로 유니크 날짜 리스트 갱신 (지금까지 불러온 로그 기준)
+      setAvailableDates((prev) =>
+        Array.from(
+          new Set([
+            ...(cursor ? prev : []),
+            ...pageItems.map((t) => t.fillDate).filter(Boolean),
+          ])
+        ).sort((a, b) => a.localeCompare(b))
+      );
+    } catch (err) {
+      console.error('❌ [logs] 요청 실패:', err);
+      if (!cursor) {
         setTrades([]);
         setAvailableDates([]);
       }
-    };
+    } finally {
+      setLogsLoading(false);
+    }
+  };
 
+  useEffect(() => {
     fetchLogs();
   }, []);
 
@@ -637,6 +656,17 @@ export default function QuantTradingDashboard() {
             onReportClick={handleReportClick}
           />
         ))}
+
+        {logsCursor && (
+          <button
+            type="button"
+            className="history-more"
+            disabled={logsLoading}
+            onClick={() => fetchLogs(logsCursor)}
+          >
+            {logsLoading ? '불러오는 중...' : '이전 매매 로그 더 보기'}
+          </button>
+        )}
       </div>
 
       {/* 모달 */}
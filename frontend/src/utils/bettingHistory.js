@@ -1,26 +1,39 @@
 import { api } from '../utils/axios.js';
 import { toast } from 'react-toastify';
 
-const betHistory = async () => {
+// 커서 기반 페이지 조회 (첫 페이지에는 정산 전 라운드의 베팅이 앞에 포함됨)
+// - scope: 'DAILY' | 'WEEKLY', status: 쉼표로 구분한 베팅 상태 (미지정 시 전체)
+export const getMyBetHistoryPage = async (
+  cursor = null,
+  size = 20,
+  { scope, status } = {}
+) => {
+  const res = await api.get('/api/user-bets/history', {
+    params: { cursor: cursor ?? undefined, size, scope, status },
+  });
+  return res.data;
+};
+
+const SCOPE_BY_PERIOD = { daily: 'DAILY', weekly: 'WEEKLY' };
+// 취소(DELETED)된 베팅은 서버에서 제외
+const VISIBLE_STATUS = 'ACTIVE,CLOSED';
+
+// 일간/주간 베팅 이력 한 페이지 ({ items, nextCursor, hasNext }, 실패 시 null)
+export const getBetHistoryPage = async (period, cursor = null, size = 20) => {
   try {
-    const res = await api.get('/api/user-bets/history');
     // 백엔드에서 최신순으로 정렬된 데이터 반환
-    const filterdRes = res.data.filter((r) => r.betStatus !== 'DELETED');
-    return filterdRes;
+    return await getMyBetHistoryPage(cursor, size, {
+      scope: SCOPE_BY_PERIOD[period],
+      status: VISIBLE_STATUS,
+    });
   } catch {
     toast.error('오류가 발생했습니다. 다시 시도해주세요.');
     return null;
   }
 };
 
-export const getDailyBetHistory = async () => {
-  const data = await betHistory();
-  if (!data) return [];
-  return data.filter((item) => item.roundTitle.includes('DAILY'));
-};
-
-export const getWeeklyBetHistory = async () => {
-  const data = await betHistory();
-  if (!data) return [];
-  return data.filter((item) => item.roundTitle.includes('WEEKLY'));
+// 일간/주간 가장 최근 베팅 (현재 라운드 참여 여부 확인용)
+export const getLatestBet = async (period) => {
+  const page = await getBetHistoryPage(period, null, 1);
+  return page && page.items.length > 0 ? page.items[0] : null;
 };
@@ -20,3 +20,26 @@ export const weeklyBet = async () => {
     return null;
   }
 };
+
+// 라운드 실시간 배당 SSE 연결
+export const connectBetOddsStream = (roundId, onMessage) => {
+  const baseURL = api.defaults.baseURL;
+  const eventSource = new EventSource(
+    `${baseURL}/api/bet-rounds/${roundId}/odds/stream`,
+    { withCredentials: true }
+  );
+
+  eventSource.addEventListener('odds', (event) => {
+    const odds = JSON.parse(event.data);
+    onMessage?.(odds);
+    if (!odds.open) {
+      eventSource.close();
+    }
+  });
+
+  eventSource.onerror = () => {
+    eventSource.close();
+  };
+
+  return eventSource;
+};
@@ -6,6 +6,7 @@ const POINT_REASON_LABELS = {
   BETTING_REFUND: '베팅 환불',
   BETTING_CANCEL: '베팅 취소',
   BETTING_RESIDUAL: '베팅 잔액 정산',
+  BETTING_POOL_SWEEP: '베팅 풀 정리',
   SYSTEM_ADJUSTMENT: '관리자 조정',
   MIGRATION: '데이터 이전',
 };